@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.opensearch.security.support.Base64Helper;
+import org.opensearch.security.user.User;
+
+/**
+ * Serialization of the user object, which is put into the thread context of every request sent to another node.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class Base64HelperBenchmark {
+
+    @Param({ "1", "10", "100" })
+    int backendRoleCount;
+
+    @Param({ "false", "true" })
+    boolean userAttributes;
+
+    @Param({ "false", "true" })
+    boolean jdkSerialization;
+
+    private User user;
+    private String serialized;
+
+    @Setup
+    public void setup() {
+        user = SecurityConfigFixtures.user(0, backendRoleCount, userAttributes);
+        user.addSecurityRoles(user.getRoles());
+        serialized = Base64Helper.serializeObject(user, jdkSerialization);
+    }
+
+    @Benchmark
+    public String serialize() {
+        return Base64Helper.serializeObject(user, jdkSerialization);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return Base64Helper.deserializeObject(serialized, jdkSerialization);
+    }
+}
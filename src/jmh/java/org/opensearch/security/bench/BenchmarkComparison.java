@@ -0,0 +1,155 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares two JMH result files in JSON format and writes a markdown report.
+ *
+ * Usage: {@code BenchmarkComparison <baseline.json> <current.json> <report.md> <threshold>}
+ *
+ * A benchmark is reported as a regression if it is slower than the baseline by more than the threshold (in percent)
+ * and the difference is larger than the combined error of both measurements. If the threshold is not negative and
+ * there are regressions, the process exits with status 1.
+ */
+public final class BenchmarkComparison {
+
+    private BenchmarkComparison() {}
+
+    public static void main(final String[] args) throws IOException {
+        if (args.length != 4) {
+            System.err.println("Usage: BenchmarkComparison <baseline.json> <current.json> <report.md> <threshold>");
+            System.exit(2);
+        }
+
+        final Map<String, Result> baseline = read(new File(args[0]));
+        final Map<String, Result> current = read(new File(args[1]));
+        final double threshold = Double.parseDouble(args[3]);
+
+        final StringBuilder report = new StringBuilder();
+        report.append("# Benchmark comparison\n\n");
+        report.append("| Benchmark | Baseline | Current | Change | |\n");
+        report.append("|---|---:|---:|---:|---|\n");
+
+        int regressions = 0;
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            final Result now = entry.getValue();
+            final Result before = baseline.get(entry.getKey());
+            if (before == null) {
+                report.append(row(entry.getKey(), "-", now.format(), "-", "new"));
+                continue;
+            }
+
+            // positive if the current run is slower, independent of the benchmark mode
+            final double change = (now.higherIsBetter ? before.score - now.score : now.score - before.score) / before.score;
+            final boolean significant = Math.abs(now.score - before.score) > now.error + before.error;
+            String verdict = "";
+            if (significant && change * 100 > Math.max(threshold, 0)) {
+                verdict = "slower";
+                if (threshold >= 0) {
+                    verdict = "**regression**";
+                    regressions++;
+                }
+            } else if (significant && change < 0) {
+                verdict = "faster";
+            }
+            final String formattedChange = String.format(Locale.ROOT, "%+.1f%%", change * 100);
+            report.append(row(entry.getKey(), before.format(), now.format(), formattedChange, verdict));
+        }
+        for (String removed : baseline.keySet()) {
+            if (!current.containsKey(removed)) {
+                report.append(row(removed, baseline.get(removed).format(), "-", "-", "removed"));
+            }
+        }
+
+        if (threshold >= 0) {
+            report.append(String.format(Locale.ROOT, "\n%d regression(s) above the threshold of %.1f%%.\n", regressions, threshold));
+        }
+
+        final File reportFile = new File(args[2]);
+        Files.writeString(reportFile.toPath(), report.toString(), StandardCharsets.UTF_8);
+
+        report.append("\nReport written to ").append(reportFile).append('\n');
+        System.out.print(report);
+
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static String row(final String... columns) {
+        return "| " + String.join(" | ", columns) + " |\n";
+    }
+
+    /**
+     * Reads the results of a JMH run, keyed by benchmark name and parameters.
+     */
+    private static Map<String, Result> read(final File file) throws IOException {
+        final Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode benchmark : new ObjectMapper().readTree(file)) {
+            final StringBuilder key = new StringBuilder(benchmark.get("benchmark").asText().replace("org.opensearch.security.", ""));
+            final JsonNode params = benchmark.get("params");
+            if (params != null) {
+                // sorted, so the key does not depend on the order of the parameters
+                final Map<String, String> sortedParams = new TreeMap<>();
+                for (Iterator<Map.Entry<String, JsonNode>> it = params.fields(); it.hasNext();) {
+                    final Map.Entry<String, JsonNode> param = it.next();
+                    sortedParams.put(param.getKey(), param.getValue().asText());
+                }
+                key.append(' ').append(sortedParams);
+            }
+
+            final JsonNode metric = benchmark.get("primaryMetric");
+            final double error = metric.get("scoreError").asDouble();
+            results.put(
+                key.toString(),
+                new Result(
+                    metric.get("score").asDouble(),
+                    Double.isNaN(error) ? 0 : error,
+                    metric.get("scoreUnit").asText(),
+                    "thrpt".equals(benchmark.get("mode").asText())
+                )
+            );
+        }
+        return results;
+    }
+
+    private static final class Result {
+        private final double score;
+        private final double error;
+        private final String unit;
+        private final boolean higherIsBetter;
+
+        private Result(final double score, final double error, final String unit, final boolean higherIsBetter) {
+            this.score = score;
+            this.error = error;
+            this.unit = unit;
+            this.higherIsBetter = higherIsBetter;
+        }
+
+        private String format() {
+            return String.format(Locale.ROOT, "%.3f +- %.3f %s", score, error, unit);
+        }
+    }
+}
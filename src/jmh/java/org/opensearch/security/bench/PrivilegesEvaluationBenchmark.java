@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.bench;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.ImmutableSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.security.bench.SecurityConfigFixtures.PatternShape;
+import org.opensearch.security.resolver.IndexResolverReplacer.Resolved;
+import org.opensearch.security.securityconf.ConfigModelV7;
+import org.opensearch.security.securityconf.SecurityRoles;
+import org.opensearch.security.user.User;
+
+/**
+ * The index and cluster privilege checks which {@code PrivilegesEvaluator.evaluate()} performs for every request,
+ * against a cluster state with the given number of indices.
+ *
+ * The evaluator itself needs a running node; these benchmarks call the checks it delegates to with the roles of a
+ * mapped user, which is where the time of the evaluation is spent.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class PrivilegesEvaluationBenchmark {
+
+    private static final String[] SEARCH = { "indices:data/read/search" };
+
+    @Param({ "10", "100", "1000" })
+    int roleCount;
+
+    @Param({ "100", "1000", "10000" })
+    int indexCount;
+
+    @Param({ "EXACT", "PREFIX", "WILDCARD", "REGEX" })
+    PatternShape shape;
+
+    @Param({ "false", "true" })
+    boolean userAttributes;
+
+    private ClusterService clusterService;
+    private IndexNameExpressionResolver resolver;
+    private User user;
+    private SecurityRoles securityRoles;
+    private Resolved singleIndex;
+    private Resolved allowedIndices;
+    private Resolved deniedIndex;
+
+    @Setup
+    public void setup() throws Exception {
+        final ConfigModelV7 configModel = SecurityConfigFixtures.configModel(roleCount, shape, userAttributes);
+        clusterService = SecurityConfigFixtures.clusterService(indexCount, userAttributes);
+        resolver = new IndexNameExpressionResolver(new ThreadContext(Settings.EMPTY));
+
+        // a user with up to 10 mapped roles, each of which grants access to one of the requested indices
+        final int first = Math.min(roleCount, 100) / 2;
+        final int mappedRoleCount = Math.min(10, roleCount - first);
+        user = SecurityConfigFixtures.user(first, mappedRoleCount, userAttributes);
+        securityRoles = configModel.getSecurityRoles().filter(configModel.mapSecurityRoles(user, null));
+
+        final String index = SecurityConfigFixtures.indexName(first, 0, userAttributes);
+        singleIndex = resolved(ImmutableSet.of(index));
+
+        final ImmutableSet.Builder<String> allowed = ImmutableSet.builder();
+        for (int i = 0; i < mappedRoleCount; i++) {
+            allowed.add(SecurityConfigFixtures.indexName(first + i, 0, userAttributes));
+        }
+        allowedIndices = resolved(allowed.build());
+
+        deniedIndex = resolved(ImmutableSet.of(SecurityConfigFixtures.indexName((first + 50) % 100, 0, userAttributes)));
+    }
+
+    @Benchmark
+    public boolean singleIndexAllowed() {
+        return securityRoles.get(singleIndex, user, SEARCH, resolver, clusterService);
+    }
+
+    @Benchmark
+    public boolean indicesAcrossRoles() {
+        return securityRoles.impliesTypePermGlobal(allowedIndices, user, SEARCH, resolver, clusterService);
+    }
+
+    @Benchmark
+    public boolean indexDenied() {
+        return securityRoles.get(deniedIndex, user, SEARCH, resolver, clusterService)
+            || securityRoles.impliesTypePermGlobal(deniedIndex, user, SEARCH, resolver, clusterService);
+    }
+
+    @Benchmark
+    public Set<String> reduceToPermittedIndices() {
+        return securityRoles.reduce(Resolved._LOCAL_ALL, user, SEARCH, resolver, clusterService);
+    }
+
+    @Benchmark
+    public boolean clusterPermission() {
+        return securityRoles.impliesClusterPermissionPermission("indices:data/read/msearch");
+    }
+
+    private static Resolved resolved(final ImmutableSet<String> indices) {
+        return new Resolved(ImmutableSet.of(), indices, indices, ImmutableSet.of(), SearchRequest.DEFAULT_INDICES_OPTIONS);
+    }
+}
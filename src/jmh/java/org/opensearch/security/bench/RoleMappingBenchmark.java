@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.bench;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.security.bench.SecurityConfigFixtures.PatternShape;
+import org.opensearch.security.securityconf.ConfigModelV7;
+import org.opensearch.security.securityconf.DynamicConfigModel;
+import org.opensearch.security.securityconf.SecurityRoles;
+import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
+import org.opensearch.security.securityconf.impl.v7.ActionGroupsV7;
+import org.opensearch.security.securityconf.impl.v7.RoleMappingsV7;
+import org.opensearch.security.securityconf.impl.v7.RoleV7;
+import org.opensearch.security.securityconf.impl.v7.TenantV7;
+import org.opensearch.security.support.ReverseDnsCache;
+import org.opensearch.security.user.User;
+
+/**
+ * Mapping of users to security roles and tenants, and building the config model from the configuration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class RoleMappingBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    int roleCount;
+
+    @Param({ "1", "10" })
+    int backendRoleCount;
+
+    @Param({ "PREFIX" })
+    PatternShape shape;
+
+    @Param({ "false", "true" })
+    boolean userAttributes;
+
+    private SecurityDynamicConfiguration<RoleV7> roles;
+    private SecurityDynamicConfiguration<RoleMappingsV7> rolesMapping;
+    private SecurityDynamicConfiguration<ActionGroupsV7> actionGroups;
+    private SecurityDynamicConfiguration<TenantV7> tenants;
+    private DynamicConfigModel dynamicConfigModel;
+    private ConfigModelV7 configModel;
+    private User user;
+    private Set<String> mappedRoles;
+    private TransportAddress caller;
+
+    @Setup
+    public void setup() throws Exception {
+        roles = SecurityConfigFixtures.roles(roleCount, shape, userAttributes);
+        rolesMapping = SecurityConfigFixtures.rolesMapping(roleCount);
+        actionGroups = SecurityConfigFixtures.actionGroups();
+        tenants = SecurityConfigFixtures.tenants();
+        dynamicConfigModel = SecurityConfigFixtures.dynamicConfigModel();
+        configModel = buildConfigModel();
+        user = SecurityConfigFixtures.user(roleCount / 2, backendRoleCount, userAttributes);
+        caller = new TransportAddress(TransportAddress.META_ADDRESS, 9300);
+        mappedRoles = configModel.mapSecurityRoles(user, caller);
+    }
+
+    @Benchmark
+    public Set<String> mapSecurityRoles() {
+        return configModel.mapSecurityRoles(user, caller);
+    }
+
+    @Benchmark
+    public SecurityRoles filterSecurityRoles() {
+        return configModel.getSecurityRoles().filter(mappedRoles);
+    }
+
+    @Benchmark
+    public Map<String, Boolean> mapTenants() {
+        return configModel.mapTenants(user, mappedRoles);
+    }
+
+    @Benchmark
+    public ConfigModelV7 buildConfigModel() {
+        return new ConfigModelV7(
+            roles,
+            rolesMapping,
+            actionGroups,
+            tenants,
+            dynamicConfigModel,
+            Settings.EMPTY,
+            new ReverseDnsCache(Settings.EMPTY)
+        );
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.bench;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.AliasMetadata;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.DefaultObjectMapper;
+import org.opensearch.security.securityconf.ConfigModelV7;
+import org.opensearch.security.securityconf.DynamicConfigModel;
+import org.opensearch.security.securityconf.impl.CType;
+import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
+import org.opensearch.security.securityconf.impl.v7.ActionGroupsV7;
+import org.opensearch.security.securityconf.impl.v7.RoleMappingsV7;
+import org.opensearch.security.securityconf.impl.v7.RoleV7;
+import org.opensearch.security.securityconf.impl.v7.TenantV7;
+import org.opensearch.security.support.ReverseDnsCache;
+import org.opensearch.security.user.User;
+
+import org.mockito.Mockito;
+
+/**
+ * Generates security configurations and cluster states of configurable size for the benchmarks.
+ *
+ * The configurations are serialized to JSON and parsed with {@link SecurityDynamicConfiguration#fromJson}, just like
+ * configurations loaded from the security index. All generated names are deterministic, so runs are reproducible.
+ *
+ * Role {@code role_<i>} grants read access to the indices of the pattern {@code logs-<i % 100>-*} (or, with user
+ * attribute substitution, {@code logs-${attr.internal.team}-<i % 100>-*}) and is mapped to the backend role
+ * {@code team_<i>}. With user attribute substitution, the generated indices and users use the team name
+ * {@value #TEAM}.
+ */
+public final class SecurityConfigFixtures {
+
+    public static final String TEAM_ATTRIBUTE = "attr.internal.team";
+    public static final String TEAM = "blue";
+
+    private SecurityConfigFixtures() {}
+
+    /**
+     * The shapes of the index patterns in the generated roles.
+     */
+    public enum PatternShape {
+        /** index names without wildcards */
+        EXACT,
+        /** patterns with a single trailing wildcard */
+        PREFIX,
+        /** patterns with several wildcards */
+        WILDCARD,
+        /** regular expressions */
+        REGEX;
+
+        String pattern(final String prefix, final int i) {
+            switch (this) {
+                case EXACT:
+                    return prefix + "-" + i + "-000001";
+                case PREFIX:
+                    return prefix + "-" + i + "-*";
+                case WILDCARD:
+                    return "*" + prefix + "-" + i + "-0*1";
+                case REGEX:
+                    return "/" + prefix + "-" + i + "-[0-9]+/";
+                default:
+                    throw new IllegalStateException();
+            }
+        }
+    }
+
+    public static ConfigModelV7 configModel(final int roleCount, final PatternShape shape, final boolean userAttributes) throws Exception {
+        return new ConfigModelV7(
+            roles(roleCount, shape, userAttributes),
+            rolesMapping(roleCount),
+            actionGroups(),
+            tenants(),
+            dynamicConfigModel(),
+            Settings.EMPTY,
+            new ReverseDnsCache(Settings.EMPTY)
+        );
+    }
+
+    public static SecurityDynamicConfiguration<RoleV7> roles(final int roleCount, final PatternShape shape, final boolean userAttributes)
+        throws Exception {
+        final Map<String, Object> roles = config("roles");
+        for (int i = 0; i < roleCount; i++) {
+            final String prefix = userAttributes ? "logs-${" + TEAM_ATTRIBUTE + "}" : "logs";
+            final Map<String, Object> indexPermission = new LinkedHashMap<>();
+            indexPermission.put("index_patterns", List.of(shape.pattern(prefix, i % 100), "metrics-" + i));
+            indexPermission.put("allowed_actions", List.of("read_only", "indices:admin/mappings/get"));
+
+            final Map<String, Object> role = new LinkedHashMap<>();
+            role.put("cluster_permissions", List.of("cluster_composite_ops_ro"));
+            role.put("index_permissions", List.of(indexPermission));
+            role.put(
+                "tenant_permissions",
+                List.of(Map.of("tenant_patterns", List.of("tenant_" + (i % 10)), "allowed_actions", List.of("kibana_all_read")))
+            );
+            roles.put("role_" + i, role);
+        }
+        return parse(roles, CType.ROLES);
+    }
+
+    public static SecurityDynamicConfiguration<RoleMappingsV7> rolesMapping(final int roleCount) throws Exception {
+        final Map<String, Object> rolesMapping = config("rolesmapping");
+        for (int i = 0; i < roleCount; i++) {
+            final Map<String, Object> mapping = new LinkedHashMap<>();
+            mapping.put("backend_roles", List.of("team_" + i));
+            mapping.put("users", i % 10 == 0 ? List.of("user_" + i + "*") : List.of("user_" + i));
+            mapping.put("hosts", i % 20 == 0 ? List.of("10." + (i % 256) + ".0.0/16") : List.of());
+            // every tenth mapping requires a combination of backend roles
+            mapping.put("and_backend_roles", i % 10 == 5 ? List.of("team_" + i, "dept_*") : List.of());
+            rolesMapping.put("role_" + i, mapping);
+        }
+        return parse(rolesMapping, CType.ROLESMAPPING);
+    }
+
+    public static SecurityDynamicConfiguration<ActionGroupsV7> actionGroups() throws Exception {
+        final Map<String, Object> actionGroups = config("actiongroups");
+        actionGroups.put("read_only", Map.of("allowed_actions", List.of("indices:data/read*", "indices:admin/resolve/index")));
+        actionGroups.put(
+            "cluster_composite_ops_ro",
+            Map.of("allowed_actions", List.of("indices:data/read/mget", "indices:data/read/msearch"))
+        );
+        actionGroups.put("kibana_all_read", Map.of("allowed_actions", List.of("kibana:saved_objects/*/read")));
+        return parse(actionGroups, CType.ACTIONGROUPS);
+    }
+
+    public static SecurityDynamicConfiguration<TenantV7> tenants() throws Exception {
+        final Map<String, Object> tenants = config("tenants");
+        for (int i = 0; i < 10; i++) {
+            tenants.put("tenant_" + i, Map.of("description", "tenant " + i));
+        }
+        return parse(tenants, CType.TENANTS);
+    }
+
+    /**
+     * A cluster service whose state contains the given number of indices, spread evenly across the 100 index name
+     * prefixes used by the generated roles, and an alias per prefix.
+     */
+    public static ClusterService clusterService(final int indexCount, final boolean userAttributes) {
+        final Metadata.Builder metadata = Metadata.builder();
+        for (int i = 0; i < indexCount; i++) {
+            final IndexMetadata.Builder index = IndexMetadata.builder(indexName(i % 100, i / 100, userAttributes))
+                .settings(Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT))
+                .numberOfShards(1)
+                .numberOfReplicas(0);
+            if (i < 100) {
+                index.putAlias(AliasMetadata.builder("alias-" + i));
+            }
+            metadata.put(index);
+        }
+
+        final ClusterState state = ClusterState.builder(ClusterName.DEFAULT).metadata(metadata).build();
+        final ClusterService clusterService = Mockito.mock(ClusterService.class);
+        Mockito.when(clusterService.state()).thenReturn(state);
+        Mockito.when(clusterService.getSettings()).thenReturn(Settings.EMPTY);
+        return clusterService;
+    }
+
+    /**
+     * A user with the given number of backend roles, the first of which maps to {@code role_<first>}.
+     */
+    public static User user(final int first, final int backendRoleCount, final boolean userAttributes) {
+        final Set<String> backendRoles = new HashSet<>();
+        for (int i = 0; i < backendRoleCount; i++) {
+            backendRoles.add("team_" + (first + i));
+        }
+        final User user = new User("user_" + first, backendRoles, null);
+        if (userAttributes) {
+            user.addAttributes(Map.of(TEAM_ATTRIBUTE, TEAM));
+        }
+        return user;
+    }
+
+    /**
+     * The name of the n-th generated index with the given prefix number, e.g. {@code logs-42-000001}.
+     */
+    public static String indexName(final int prefix, final int n, final boolean userAttributes) {
+        return String.format(Locale.ROOT, userAttributes ? "logs-" + TEAM + "-%d-%06d" : "logs-%d-%06d", prefix, n + 1);
+    }
+
+    private static Map<String, Object> config(final String type) {
+        final Map<String, Object> config = new LinkedHashMap<>();
+        config.put("_meta", Map.of("type", type, "config_version", 2));
+        return config;
+    }
+
+    private static <T> SecurityDynamicConfiguration<T> parse(final Map<String, Object> config, final CType ctype) throws Exception {
+        return SecurityDynamicConfiguration.fromJson(DefaultObjectMapper.writeValueAsString(config, false), ctype, 2, 0, 0);
+    }
+
+    public static DynamicConfigModel dynamicConfigModel() {
+        final DynamicConfigModel dynamicConfigModel = Mockito.mock(DynamicConfigModel.class);
+        Mockito.when(dynamicConfigModel.getHostsResolverMode()).thenReturn("ip-only");
+        return dynamicConfigModel;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.opensearch.security.bench.SecurityConfigFixtures.PatternShape;
+import org.opensearch.security.support.WildcardMatcher;
+
+/**
+ * Matching of index names and actions against combined patterns, as done for every index pattern of every role.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class WildcardMatcherBenchmark {
+
+    @Param({ "EXACT", "PREFIX", "WILDCARD", "REGEX" })
+    PatternShape shape;
+
+    @Param({ "1", "10", "100" })
+    int patternCount;
+
+    private List<String> patterns;
+    private WildcardMatcher matcher;
+    private String matching;
+    private String notMatching;
+    private List<String> candidates;
+
+    @Setup
+    public void setup() {
+        patterns = new ArrayList<>(patternCount);
+        for (int i = 0; i < patternCount; i++) {
+            patterns.add(shape.pattern("logs", i));
+        }
+        matcher = WildcardMatcher.from(patterns);
+
+        // the last pattern matches, so a combined matcher has to try all patterns
+        matching = SecurityConfigFixtures.indexName(patternCount - 1, 0, false);
+        notMatching = "metrics-" + (patternCount - 1) + "-000001";
+
+        candidates = new ArrayList<>(100);
+        for (int i = 0; i < 99; i++) {
+            candidates.add("metrics-" + i + "-000001");
+        }
+        candidates.add(matching);
+    }
+
+    @Benchmark
+    public WildcardMatcher build() {
+        return WildcardMatcher.from(patterns);
+    }
+
+    @Benchmark
+    public boolean testMatching() {
+        return matcher.test(matching);
+    }
+
+    @Benchmark
+    public boolean testNotMatching() {
+        return matcher.test(notMatching);
+    }
+
+    @Benchmark
+    public boolean matchAnyOf100() {
+        return matcher.matchAny(candidates);
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.configuration;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.StoredFieldVisitor;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.security.auditlog.NullAuditLog;
+import org.opensearch.security.bench.SecurityConfigFixtures;
+import org.opensearch.security.support.ConfigConstants;
+
+/**
+ * Reading the stored fields of documents through the FLS and field masking visitors of {@link DlsFlsFilterLeafReader}.
+ *
+ * The benchmark lives in the package of the reader because the reader is package private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class DlsFlsFilterLeafReaderBenchmark {
+
+    private static final int DOCUMENT_COUNT = 100;
+
+    /**
+     * The FLS rules: none, includes of plain field names, excludes of plain field names (both using the optimized
+     * top-level filtering), and patterns on nested fields (using the generic source filtering).
+     */
+    public enum Fls {
+        NONE(Set.of()),
+        INCLUDE(Set.of("field_0", "field_1", "field_2")),
+        EXCLUDE(Set.of("~field_0", "~field_1", "~field_2")),
+        NESTED_PATTERN(Set.of("object_*.a", "field_*"));
+
+        private final Set<String> rules;
+
+        Fls(final Set<String> rules) {
+            this.rules = rules;
+        }
+    }
+
+    @Param({ "10", "100", "1000" })
+    int fieldCount;
+
+    @Param({ "NONE", "INCLUDE", "EXCLUDE", "NESTED_PATTERN" })
+    Fls fls;
+
+    @Param({ "false", "true" })
+    boolean masked;
+
+    private ByteBuffersDirectory directory;
+    private DirectoryReader directoryReader;
+    private DlsFlsFilterLeafReader reader;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        directory = new ByteBuffersDirectory();
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+            for (int i = 0; i < DOCUMENT_COUNT; i++) {
+                final Document document = new Document();
+                document.add(new StoredField("_id", "doc_" + i));
+                document.add(new StoredField("_source", source(i)));
+                writer.addDocument(document);
+            }
+            writer.forceMerge(1);
+        }
+        directoryReader = DirectoryReader.open(directory);
+        final LeafReader leafReader = directoryReader.leaves().get(0).reader();
+
+        final ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+        threadContext.putTransient(ConfigConstants.OPENDISTRO_SECURITY_ACTION_NAME, "indices:data/read/get");
+
+        reader = new DlsFlsFilterLeafReader(
+            leafReader,
+            fls.rules,
+            null,
+            null,
+            threadContext,
+            SecurityConfigFixtures.clusterService(0, false),
+            new NullAuditLog(),
+            masked ? Set.of("field_1", "object_*.b") : Set.of(),
+            new ShardId("logs", "_na_", 0),
+            new Salt("benchmark-salt16".getBytes(StandardCharsets.UTF_8))
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        directoryReader.close();
+        directory.close();
+    }
+
+    @Benchmark
+    public long readAllDocuments() throws IOException {
+        final SizeVisitor visitor = new SizeVisitor();
+        final StoredFields storedFields = reader.storedFields();
+        for (int i = 0; i < DOCUMENT_COUNT; i++) {
+            storedFields.document(i, visitor);
+        }
+        return visitor.bytes;
+    }
+
+    /**
+     * A document with the given number of fields; every tenth field is an object with two fields.
+     */
+    private byte[] source(final int id) throws IOException {
+        final Map<String, Object> source = new LinkedHashMap<>();
+        for (int i = 0; i < fieldCount; i++) {
+            if (i % 10 == 9) {
+                source.put("object_" + i, Map.of("a", "value " + id + " " + i, "b", i));
+            } else {
+                source.put("field_" + i, "value " + id + " " + i);
+            }
+        }
+        try (XContentBuilder builder = XContentFactory.jsonBuilder()) {
+            return BytesReference.toBytes(BytesReference.bytes(builder.map(source)));
+        }
+    }
+
+    private static final class SizeVisitor extends StoredFieldVisitor {
+        private long bytes;
+
+        @Override
+        public Status needsField(final FieldInfo fieldInfo) {
+            return Status.YES;
+        }
+
+        @Override
+        public void binaryField(final FieldInfo fieldInfo, final byte[] value) {
+            bytes += value.length;
+        }
+
+        @Override
+        public void stringField(final FieldInfo fieldInfo, final String value) {
+            bytes += value.length();
+        }
+    }
+}
@@ -22,11 +22,14 @@ import java.util.Base64;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import javax.xml.xpath.XPathExpressionException;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -69,6 +72,9 @@ class AuthTokenProcessorHandler {
     private static final Logger log = LogManager.getLogger(AuthTokenProcessorHandler.class);
     private static final Logger token_log = LogManager.getLogger("com.amazon.dlic.auth.http.saml.Token");
     private static final Pattern EXPIRY_SETTINGS_PATTERN = Pattern.compile("\\s*(\\w+)\\s*(?:\\+\\s*(\\w+))?\\s*");
+    // IdPs issue assertions which are valid for a few minutes; an hour also covers generous clock skew
+    private static final long CONSUMED_ASSERTION_TTL_MINUTES = 60;
+    private static final int CONSUMED_ASSERTION_MAX_SIZE = 50000;
 
     private Saml2SettingsProvider saml2SettingsProvider;
     private String jwtSubjectKey;
@@ -82,6 +88,18 @@ class AuthTokenProcessorHandler {
     private JWK signingKey;
     private JWSHeader jwsHeader;
     private Pattern samlRolesSeparatorPattern;
+    /**
+     * IDs of the assertions which were already exchanged for a token, to reject replays of a captured SAML response.
+     *
+     * This is only a best effort protection: the IDs are kept in memory by this handler on this node. An assertion
+     * can still be replayed against another node of the cluster, and against this node after the authenticator was
+     * recreated by a security configuration update or a restart. Replays remain limited by the validity period which
+     * the IdP sets on the assertion.
+     */
+    private final Cache<String, Boolean> consumedAssertionIds = CacheBuilder.newBuilder()
+        .maximumSize(CONSUMED_ASSERTION_MAX_SIZE)
+        .expireAfterWrite(CONSUMED_ASSERTION_TTL_MINUTES, TimeUnit.MINUTES)
+        .build();
 
     AuthTokenProcessorHandler(Settings settings, Settings jwtSettings, Saml2SettingsProvider saml2SettingsProvider) throws Exception {
         this.saml2SettingsProvider = saml2SettingsProvider;
@@ -157,11 +175,24 @@ class AuthTokenProcessorHandler {
 
             final SamlResponse samlResponse = new SamlResponse(saml2Settings, acsEndpoint, samlResponseBase64);
 
+            // duplicate submissions are rejected before the signatures are checked again
+            final String submittedAssertionId = getAssertionIdOrNull(samlResponse);
+            if (submittedAssertionId != null && this.consumedAssertionIds.getIfPresent(submittedAssertionId) != null) {
+                log.warn("SAML assertion {} in {} has already been used", submittedAssertionId, requestPath);
+                return null;
+            }
+
             if (!samlResponse.isValid(samlRequestId)) {
                 log.warn("Error while validating SAML response in {}", requestPath);
                 return null;
             }
 
+            final String assertionId = samlResponse.getAssertionId();
+            if (this.consumedAssertionIds.asMap().putIfAbsent(assertionId, Boolean.TRUE) != null) {
+                log.warn("SAML assertion {} in {} has already been used", assertionId, requestPath);
+                return null;
+            }
+
             AuthTokenProcessorAction.Response responseBody = new AuthTokenProcessorAction.Response();
             responseBody.setAuthorization("bearer " + this.createJwt(samlResponse));
 
@@ -175,6 +206,15 @@ class AuthTokenProcessorHandler {
         }
     }
 
+    private static String getAssertionIdOrNull(SamlResponse samlResponse) {
+        try {
+            return samlResponse.getAssertionId();
+        } catch (Exception e) {
+            // the response is malformed, which is reported by the validation
+            return null;
+        }
+    }
+
     private Optional<SecurityResponse> handleLowLevel(RestRequest restRequest) throws SamlConfigException, IOException {
         try {
 
@@ -143,6 +143,8 @@ public class HTTPSamlAuthenticator implements HTTPAuthenticator, Destroyable {
                 );
             }
 
+            this.saml2SettingsProvider.startRefresher();
+
             this.jwtSettings = this.createJwtAuthenticatorSettings(settings);
 
             this.authTokenProcessorHandler = new AuthTokenProcessorHandler(settings, jwtSettings, this.saml2SettingsProvider);
@@ -273,6 +275,9 @@ public class HTTPSamlAuthenticator implements HTTPAuthenticator, Destroyable {
 
     @Override
     public void destroy() {
+        if (this.saml2SettingsProvider != null) {
+            this.saml2SettingsProvider.close();
+        }
         if (this.metadataResolver instanceof DestructableComponent) {
             ((DestructableComponent) this.metadataResolver).destroy();
         }
@@ -21,6 +21,9 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
@@ -53,8 +56,8 @@ public class Saml2SettingsProvider {
     private final MetadataResolver metadataResolver;
     private final String idpEntityId;
     private final PrivateKey spSignaturePrivateKey;
-    private Saml2Settings cachedSaml2Settings;
-    private Instant metadataUpdateTime;
+    private volatile Snapshot snapshot;
+    private ScheduledExecutorService refresher;
 
     Saml2SettingsProvider(Settings opensearchSettings, MetadataResolver metadataResolver, PrivateKey spSignaturePrivateKey) {
         this.opensearchSettings = opensearchSettings;
@@ -63,6 +66,38 @@ public class Saml2SettingsProvider {
         this.spSignaturePrivateKey = spSignaturePrivateKey;
     }
 
+    /**
+     * Starts rebuilding the settings in the background whenever the metadata resolver has loaded new metadata, so that
+     * requests do not have to parse the IdP metadata and certificates themselves. Only refreshable resolvers are polled.
+     */
+    synchronized void startRefresher() {
+        if (!(this.metadataResolver instanceof RefreshableMetadataResolver) || this.refresher != null) {
+            return;
+        }
+
+        long interval = Math.max(1000L, this.opensearchSettings.getAsLong("idp.min_refresh_delay", 60L * 1000L));
+
+        this.refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "opensearch-security-saml-settings-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.refresher.scheduleWithFixedDelay(() -> {
+            try {
+                this.getCached();
+            } catch (Exception e) {
+                log.debug("Error while refreshing SAML settings for {}", this.idpEntityId, e);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    synchronized void close() {
+        if (this.refresher != null) {
+            this.refresher.shutdownNow();
+            this.refresher = null;
+        }
+    }
+
     @SuppressWarnings("removal")
     Saml2Settings get() throws SamlConfigException {
         try {
@@ -107,33 +142,44 @@ public class Saml2SettingsProvider {
     }
 
     Saml2Settings getCached() throws SamlConfigException {
-        Instant tempLastUpdate = null;
+        Snapshot current = this.snapshot;
 
-        if (this.metadataResolver instanceof RefreshableMetadataResolver && this.isUpdateRequired()) {
-            this.cachedSaml2Settings = null;
-            tempLastUpdate = ((RefreshableMetadataResolver) this.metadataResolver).getLastUpdate();
+        if (current != null && !this.isUpdateRequired(current)) {
+            return current.saml2Settings;
         }
 
-        if (this.cachedSaml2Settings == null) {
-            this.cachedSaml2Settings = this.get();
-            this.metadataUpdateTime = tempLastUpdate;
+        return this.rebuild().saml2Settings;
+    }
+
+    private synchronized Snapshot rebuild() throws SamlConfigException {
+        // another thread might have rebuilt the settings while this one was waiting
+        Snapshot current = this.snapshot;
+
+        if (current != null && !this.isUpdateRequired(current)) {
+            return current;
         }
 
-        return this.cachedSaml2Settings;
-    }
+        Instant lastUpdate = this.metadataResolver instanceof RefreshableMetadataResolver
+            ? ((RefreshableMetadataResolver) this.metadataResolver).getLastUpdate()
+            : null;
 
-    private boolean isUpdateRequired() {
-        RefreshableMetadataResolver refreshableMetadataResolver = (RefreshableMetadataResolver) this.metadataResolver;
+        current = new Snapshot(this.get(), lastUpdate);
+        this.snapshot = current;
+        return current;
+    }
 
-        if (this.cachedSaml2Settings == null || this.metadataUpdateTime == null || refreshableMetadataResolver.getLastUpdate() == null) {
-            return true;
+    private boolean isUpdateRequired(Snapshot current) {
+        if (!(this.metadataResolver instanceof RefreshableMetadataResolver)) {
+            return false;
         }
 
-        if (refreshableMetadataResolver.getLastUpdate().isAfter(this.metadataUpdateTime)) {
+        Instant lastUpdate = ((RefreshableMetadataResolver) this.metadataResolver).getLastUpdate();
+
+        if (current.metadataUpdateTime == null || lastUpdate == null) {
             return true;
-        } else {
-            return false;
         }
+
+        return lastUpdate.isAfter(current.metadataUpdateTime);
     }
 
     private void initMisc(HashMap<String, Object> configProperties) {
@@ -227,6 +273,19 @@ public class Saml2SettingsProvider {
         }
     }
 
+    /**
+     * Immutable pair of the settings, including the parsed IdP signing certificates, and the metadata they were built from.
+     */
+    private static final class Snapshot {
+        private final Saml2Settings saml2Settings;
+        private final Instant metadataUpdateTime;
+
+        private Snapshot(Saml2Settings saml2Settings, Instant metadataUpdateTime) {
+            this.saml2Settings = saml2Settings;
+            this.metadataUpdateTime = metadataUpdateTime;
+        }
+    }
+
     static class SamlSettingsMap implements Map<String, Object> {
 
         private static final String KEY_PREFIX = "onelogin.saml2.";
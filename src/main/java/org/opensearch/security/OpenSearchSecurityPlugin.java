@@ -93,6 +93,7 @@ import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.settings.SettingsFilter;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.PageCacheRecycler;
 import org.opensearch.common.util.concurrent.ThreadContext;
@@ -121,6 +122,7 @@ import org.opensearch.plugins.ExtensionAwarePlugin;
 import org.opensearch.plugins.IdentityPlugin;
 import org.opensearch.plugins.MapperPlugin;
 import org.opensearch.plugins.Plugin;
+import org.opensearch.plugins.SearchPlugin;
 import org.opensearch.plugins.SecureHttpTransportSettingsProvider;
 import org.opensearch.plugins.SecureSettingsFactory;
 import org.opensearch.plugins.SecureTransportSettingsProvider;
@@ -132,9 +134,16 @@ import org.opensearch.search.internal.InternalScrollSearchRequest;
 import org.opensearch.search.internal.ReaderContext;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.query.QuerySearchResult;
+import org.opensearch.security.action.authfailurelisteners.AuthFailureListenerSyncAction;
+import org.opensearch.security.action.authfailurelisteners.AuthFailureListenerSyncService;
+import org.opensearch.security.action.authfailurelisteners.TransportAuthFailureListenerSyncAction;
+import org.opensearch.security.action.cache.AuthCacheAction;
+import org.opensearch.security.action.cache.TransportAuthCacheAction;
 import org.opensearch.security.action.configupdate.ConfigUpdateAction;
 import org.opensearch.security.action.configupdate.TransportConfigUpdateAction;
 import org.opensearch.security.action.onbehalf.CreateOnBehalfOfTokenAction;
+import org.opensearch.security.action.stats.SecurityStatsAction;
+import org.opensearch.security.action.stats.TransportSecurityStatsAction;
 import org.opensearch.security.action.whoami.TransportWhoAmIAction;
 import org.opensearch.security.action.whoami.WhoAmIAction;
 import org.opensearch.security.auditlog.AuditLog;
@@ -150,11 +159,13 @@ import org.opensearch.security.configuration.AdminDNs;
 import org.opensearch.security.configuration.ClusterInfoHolder;
 import org.opensearch.security.configuration.CompatConfig;
 import org.opensearch.security.configuration.ConfigurationRepository;
+import org.opensearch.security.configuration.DlsFlsRequestCacheKey;
 import org.opensearch.security.configuration.DlsFlsRequestValve;
 import org.opensearch.security.configuration.DlsFlsValveImpl;
 import org.opensearch.security.configuration.PrivilegesInterceptorImpl;
 import org.opensearch.security.configuration.Salt;
 import org.opensearch.security.configuration.SecurityFlsDlsIndexSearcherWrapper;
+import org.opensearch.security.configuration.TermsLookupCache;
 import org.opensearch.security.dlic.rest.api.Endpoint;
 import org.opensearch.security.dlic.rest.api.SecurityRestApiActions;
 import org.opensearch.security.dlic.rest.api.ssl.CertificatesActionType;
@@ -176,6 +187,7 @@ import org.opensearch.security.rest.DashboardsInfoAction;
 import org.opensearch.security.rest.SecurityConfigUpdateAction;
 import org.opensearch.security.rest.SecurityHealthAction;
 import org.opensearch.security.rest.SecurityInfoAction;
+import org.opensearch.security.rest.SecurityStatsRestAction;
 import org.opensearch.security.rest.SecurityWhoAmIAction;
 import org.opensearch.security.rest.TenantInfoAction;
 import org.opensearch.security.securityconf.DynamicConfigFactory;
@@ -190,11 +202,14 @@ import org.opensearch.security.ssl.transport.DefaultPrincipalExtractor;
 import org.opensearch.security.ssl.util.SSLConfigConstants;
 import org.opensearch.security.state.SecurityMetadata;
 import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.DistinguishedNameCache;
 import org.opensearch.security.support.GuardedSearchOperationWrapper;
 import org.opensearch.security.support.HeaderHelper;
 import org.opensearch.security.support.ModuleInfo;
 import org.opensearch.security.support.ReflectionHelper;
+import org.opensearch.security.support.ReverseDnsCache;
 import org.opensearch.security.support.SecuritySettings;
+import org.opensearch.security.support.SecurityStats;
 import org.opensearch.security.support.SecurityUtils;
 import org.opensearch.security.support.WildcardMatcher;
 import org.opensearch.security.transport.DefaultInterClusterRequestEvaluator;
@@ -230,6 +245,7 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
     implements
         ClusterPlugin,
         MapperPlugin,
+        SearchPlugin,
         // CS-SUPPRESS-SINGLE: RegexpSingleline get Extensions Settings
         ExtensionAwarePlugin,
         IdentityPlugin
@@ -255,6 +271,8 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
     private volatile AtomicReference<DiscoveryNode> localNode = new AtomicReference<>();
     private volatile AuditLog auditLog;
     private volatile BackendRegistry backendRegistry;
+    private volatile AuthFailureListenerSyncService authFailureListenerSyncService;
+    private volatile ReverseDnsCache reverseDnsCache;
     private volatile SslExceptionHandler sslExceptionHandler;
     private volatile Client localClient;
     private final boolean disabled;
@@ -288,6 +306,15 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
         if (auditLog != null) {
             auditLog.close();
         }
+        if (authFailureListenerSyncService != null) {
+            authFailureListenerSyncService.stop();
+        }
+        if (reverseDnsCache != null) {
+            reverseDnsCache.close();
+        }
+        if (backendRegistry != null) {
+            backendRegistry.close();
+        }
     }
 
     private final SslExceptionHandler evaluateSslExceptionHandler() {
@@ -595,6 +622,7 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
                     new SecurityInfoAction(settings, restController, Objects.requireNonNull(evaluator), Objects.requireNonNull(threadPool))
                 );
                 handlers.add(new SecurityHealthAction(settings, restController, Objects.requireNonNull(backendRegistry)));
+                handlers.add(new SecurityStatsRestAction(settings, restController));
                 handlers.add(
                     new DashboardsInfoAction(
                         settings,
@@ -676,6 +704,9 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
         List<ActionHandler<? extends ActionRequest, ? extends ActionResponse>> actions = new ArrayList<>(1);
         if (!disabled && !SSLConfig.isSslOnlyMode()) {
             actions.add(new ActionHandler<>(ConfigUpdateAction.INSTANCE, TransportConfigUpdateAction.class));
+            actions.add(new ActionHandler<>(AuthFailureListenerSyncAction.INSTANCE, TransportAuthFailureListenerSyncAction.class));
+            actions.add(new ActionHandler<>(AuthCacheAction.INSTANCE, TransportAuthCacheAction.class));
+            actions.add(new ActionHandler<>(SecurityStatsAction.INSTANCE, TransportSecurityStatsAction.class));
             // external storage does not support reload and does not provide SSL certs info
             if (!ExternalSecurityKeyStore.hasExternalSslContext(settings)) {
                 actions.add(new ActionHandler<>(CertificatesActionType.INSTANCE, TransportCertificatesInfoNodesAction.class));
@@ -837,6 +868,14 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
         }
     }
 
+    @Override
+    public List<SearchExtSpec<?>> getSearchExts() {
+        // registered on all nodes so that shard requests carrying the DLS/FLS cache key can be read everywhere
+        return List.of(
+            new SearchExtSpec<>(DlsFlsRequestCacheKey.NAME, DlsFlsRequestCacheKey::new, DlsFlsRequestCacheKey::fromXContent)
+        );
+    }
+
     @Override
     public List<ActionFilter> getActionFilters() {
         List<ActionFilter> filters = new ArrayList<>(1);
@@ -1065,9 +1104,10 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
         final ClusterInfoHolder cih = new ClusterInfoHolder(this.cs.getClusterName().value());
         this.cs.addListener(cih);
         this.salt = Salt.from(settings);
+        final SecurityStats securityStats = new SecurityStats(settings);
 
         final IndexNameExpressionResolver resolver = new IndexNameExpressionResolver(threadPool.getThreadContext());
-        irr = new IndexResolverReplacer(resolver, clusterService, cih);
+        irr = new IndexResolverReplacer(settings, resolver, clusterService, cih);
 
         final String DEFAULT_INTERCLUSTER_REQUEST_EVALUATOR_CLASS = DefaultInterClusterRequestEvaluator.class.getName();
         InterClusterRequestEvaluator interClusterRequestEvaluator = new DefaultInterClusterRequestEvaluator(settings);
@@ -1097,13 +1137,23 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
                 xContentRegistry,
                 threadPool.getThreadContext()
             );
-            auditLog = new AuditLogImpl(settings, configPath, localClient, threadPool, resolver, clusterService, environment);
+            auditLog = new AuditLogImpl(
+                settings,
+                configPath,
+                localClient,
+                threadPool,
+                resolver,
+                clusterService,
+                environment,
+                securityStats
+            );
             privilegesInterceptor = new PrivilegesInterceptorImpl(resolver, clusterService, localClient, threadPool);
         }
 
         sslExceptionHandler = new AuditLogSslExceptionHandler(auditLog);
 
-        adminDns = new AdminDNs(settings);
+        final DistinguishedNameCache distinguishedNameCache = new DistinguishedNameCache(settings);
+        adminDns = new AdminDNs(settings, distinguishedNameCache);
 
         cr = ConfigurationRepository.create(settings, this.configPath, threadPool, localClient, clusterService, auditLog);
 
@@ -1111,10 +1161,27 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
 
         userService = new UserService(cs, cr, passwordHasher, settings, localClient);
 
+        reverseDnsCache = new ReverseDnsCache(settings);
+
         final XFFResolver xffResolver = new XFFResolver(threadPool);
-        backendRegistry = new BackendRegistry(settings, adminDns, xffResolver, auditLog, threadPool);
+        backendRegistry = new BackendRegistry(settings, adminDns, xffResolver, auditLog, threadPool, reverseDnsCache, securityStats);
+        authFailureListenerSyncService = new AuthFailureListenerSyncService(
+            settings,
+            backendRegistry,
+            clusterService,
+            threadPool,
+            localClient
+        );
         tokenManager = new SecurityTokenManager(cs, threadPool, userService);
 
+        securityStats.registerCache("authentication", backendRegistry::getCacheStats);
+        securityStats.registerCache("reverse_dns", reverseDnsCache::getStats);
+        securityStats.registerCache("distinguished_names", distinguishedNameCache::getStats);
+        securityStats.registerCache("index_resolution", irr::getResolutionCacheStats);
+        if (dlsFlsValve instanceof DlsFlsValveImpl) {
+            securityStats.registerCache("dls_terms_lookup", ((DlsFlsValveImpl) dlsFlsValve)::getTermsLookupCacheStats);
+        }
+
         final CompatConfig compatConfig = new CompatConfig(environment, transportPassiveAuthSetting);
 
         evaluator = new PrivilegesEvaluator(
@@ -1127,10 +1194,25 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
             privilegesInterceptor,
             cih,
             irr,
-            namedXContentRegistry.get()
+            namedXContentRegistry.get(),
+            securityStats
         );
+        securityStats.registerCache("privileges_decisions", evaluator::getDecisionCacheStats);
+        securityStats.registerCache("role_mapping", evaluator::getRoleMappingCacheStats);
 
-        sf = new SecurityFilter(settings, evaluator, adminDns, dlsFlsValve, auditLog, threadPool, cs, compatConfig, irr, xffResolver);
+        sf = new SecurityFilter(
+            settings,
+            evaluator,
+            adminDns,
+            dlsFlsValve,
+            auditLog,
+            threadPool,
+            cs,
+            compatConfig,
+            irr,
+            xffResolver,
+            securityStats
+        );
 
         final String principalExtractorClass = settings.get(SSLConfigConstants.SECURITY_SSL_TRANSPORT_PRINCIPAL_EXTRACTOR_CLASS, null);
 
@@ -1150,9 +1232,20 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
             principalExtractor,
             settings,
             configPath,
-            compatConfig
+            compatConfig,
+            securityStats
+        );
+        dcf = new DynamicConfigFactory(
+            cr,
+            settings,
+            configPath,
+            localClient,
+            threadPool,
+            cih,
+            passwordHasher,
+            reverseDnsCache,
+            distinguishedNameCache
         );
-        dcf = new DynamicConfigFactory(cr, settings, configPath, localClient, threadPool, cih, passwordHasher);
         dcf.registerDCFListener(backendRegistry);
         dcf.registerDCFListener(compatConfig);
         dcf.registerDCFListener(irr);
@@ -1206,6 +1299,7 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
         components.add(dcf);
         components.add(userService);
         components.add(passwordHasher);
+        components.add(securityStats);
 
         if (!ExternalSecurityKeyStore.hasExternalSslContext(settings)) {
             components.add(sks);
@@ -1412,6 +1506,88 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
             settings.add(Setting.boolSetting(ConfigConstants.SECURITY_DISABLED, false, Property.NodeScope, Property.Filtered));
 
             settings.add(Setting.intSetting(ConfigConstants.SECURITY_CACHE_TTL_MINUTES, 60, 0, Property.NodeScope, Property.Filtered));
+            settings.add(
+                Setting.intSetting(ConfigConstants.SECURITY_CACHE_REFRESH_AFTER_MINUTES, 0, 0, Property.NodeScope, Property.Filtered)
+            );
+            settings.add(
+                Setting.intSetting(ConfigConstants.SECURITY_CACHE_TTL_JITTER_PERCENT, 0, 0, 50, Property.NodeScope, Property.Filtered)
+            );
+            settings.add(Setting.intSetting(ConfigConstants.SECURITY_CACHE_REFRESH_THREADS, 2, 1, Property.NodeScope, Property.Filtered));
+            settings.add(
+                Setting.intSetting(ConfigConstants.SECURITY_CACHE_REFRESH_QUEUE_SIZE, 1000, 1, Property.NodeScope, Property.Filtered)
+            );
+
+            settings.add(
+                Setting.intSetting(ConfigConstants.SECURITY_INDEX_RESOLUTION_CACHE_MAX_SIZE, 1000, 0, Property.NodeScope, Property.Filtered)
+            );
+            settings.add(
+                Setting.boolSetting(
+                    ConfigConstants.SECURITY_PRIVILEGES_DECISION_CACHE_ENABLED,
+                    false,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(
+                Setting.intSetting(
+                    ConfigConstants.SECURITY_PRIVILEGES_DECISION_CACHE_MAX_SIZE,
+                    10000,
+                    1,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+
+            // Security - CIDR ranges in host patterns
+            settings.add(
+                Setting.boolSetting(ConfigConstants.SECURITY_HOSTS_CIDR_MATCHING_ENABLED, false, Property.NodeScope, Property.Filtered)
+            );
+
+            // Security - Reverse DNS cache
+            settings.add(
+                Setting.longSetting(ConfigConstants.SECURITY_DNS_CACHE_TTL_SECONDS, 300, 0, Property.NodeScope, Property.Filtered)
+            );
+            settings.add(
+                Setting.longSetting(ConfigConstants.SECURITY_DNS_CACHE_NEGATIVE_TTL_SECONDS, 30, 0, Property.NodeScope, Property.Filtered)
+            );
+            settings.add(
+                Setting.longSetting(
+                    ConfigConstants.SECURITY_DNS_CACHE_TIMEOUT_MILLIS,
+                    ReverseDnsCache.DEFAULT_TIMEOUT_MILLIS,
+                    0,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(Setting.intSetting(ConfigConstants.SECURITY_DNS_CACHE_MAX_SIZE, 10000, 1, Property.NodeScope, Property.Filtered));
+            settings.add(Setting.intSetting(ConfigConstants.SECURITY_DNS_CACHE_THREADS, 2, 1, Property.NodeScope, Property.Filtered));
+            settings.add(Setting.intSetting(ConfigConstants.SECURITY_DN_CACHE_MAX_SIZE, 10000, 1, Property.NodeScope, Property.Filtered));
+
+            // Security - Timing instrumentation
+            settings.add(Setting.boolSetting(ConfigConstants.SECURITY_STATS_ENABLED, true, Property.NodeScope, Property.Filtered));
+            settings.add(
+                Setting.longSetting(ConfigConstants.SECURITY_STATS_SLOWLOG_THRESHOLD_MILLIS, -1, -1, Property.NodeScope, Property.Filtered)
+            );
+            settings.add(Setting.groupSetting(ConfigConstants.SECURITY_STATS_SLOWLOG_STAGE_THRESHOLD_MILLIS + ".", Property.NodeScope));
+
+            // Security - Cluster wide auth failure listeners
+            settings.add(
+                Setting.boolSetting(
+                    ConfigConstants.SECURITY_AUTH_FAILURE_LISTENERS_SYNC_ENABLED,
+                    false,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(
+                Setting.timeSetting(
+                    ConfigConstants.SECURITY_AUTH_FAILURE_LISTENERS_SYNC_INTERVAL,
+                    TimeValue.timeValueSeconds(5),
+                    TimeValue.timeValueMillis(100),
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
 
             // Security
             settings.add(
@@ -1433,6 +1609,40 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
             settings.add(
                 Setting.boolSetting(ConfigConstants.SECURITY_DFM_EMPTY_OVERRIDES_ALL, false, Property.NodeScope, Property.Filtered)
             );
+            settings.add(
+                Setting.boolSetting(
+                    ConfigConstants.SECURITY_DLS_FLS_REQUEST_CACHE_ENABLED,
+                    false,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(
+                Setting.boolSetting(
+                    ConfigConstants.SECURITY_DLS_TERMS_LOOKUP_CACHE_ENABLED,
+                    false,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(
+                Setting.intSetting(
+                    ConfigConstants.SECURITY_DLS_TERMS_LOOKUP_CACHE_MAX_SIZE,
+                    10000,
+                    1,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(
+                Setting.timeSetting(
+                    ConfigConstants.SECURITY_DLS_TERMS_LOOKUP_CACHE_RECHECK_INTERVAL,
+                    TermsLookupCache.DEFAULT_RECHECK_INTERVAL,
+                    TimeValue.ZERO,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
             settings.add(Setting.groupSetting(ConfigConstants.SECURITY_AUTHCZ_REST_IMPERSONATION_USERS + ".", Property.NodeScope)); // not
                                                                                                                                     // filtered
                                                                                                                                     // here
@@ -1455,6 +1665,46 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
                     Property.Filtered
                 )
             );
+            settings.add(
+                Setting.boolSetting(ConfigConstants.SECURITY_AUDIT_SINK_PIPELINE_ENABLED, false, Property.NodeScope, Property.Filtered)
+            );
+            settings.add(
+                Setting.intSetting(ConfigConstants.SECURITY_AUDIT_SINK_PIPELINE_QUEUE_SIZE, 10000, 1, Property.NodeScope, Property.Filtered)
+            );
+            settings.add(
+                Setting.intSetting(ConfigConstants.SECURITY_AUDIT_SINK_PIPELINE_BATCH_SIZE, 100, 1, Property.NodeScope, Property.Filtered)
+            );
+            settings.add(
+                Setting.simpleString(ConfigConstants.SECURITY_AUDIT_SINK_PIPELINE_OVERFLOW_POLICY, Property.NodeScope, Property.Filtered)
+            );
+            settings.add(
+                Setting.longSetting(
+                    ConfigConstants.SECURITY_AUDIT_SINK_PIPELINE_BLOCK_TIMEOUT_MILLIS,
+                    1000,
+                    0,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(
+                Setting.intSetting(
+                    ConfigConstants.SECURITY_AUDIT_SINK_PIPELINE_FAILURE_THRESHOLD,
+                    5,
+                    0,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(
+                Setting.longSetting(
+                    ConfigConstants.SECURITY_AUDIT_SINK_PIPELINE_OPEN_MILLIS,
+                    30000,
+                    0,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(Setting.groupSetting(ConfigConstants.SECURITY_AUDIT_SINK_PIPELINE_ENDPOINTS + ".", Property.NodeScope));
             settings.add(
                 Setting.boolSetting(ConfigConstants.OPENDISTRO_SECURITY_AUDIT_LOG_REQUEST_BODY, true, Property.NodeScope, Property.Filtered)
             );
@@ -1805,6 +2055,50 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
                     Property.Filtered
                 )
             );
+            settings.add(
+                Setting.intSetting(
+                    ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT_PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_MAX_MESSAGES,
+                    500,
+                    1,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(
+                Setting.intSetting(
+                    ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT_PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_CONCURRENCY,
+                    4,
+                    1,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(
+                Setting.boolSetting(
+                    ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT_PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_GZIP,
+                    false,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(
+                Setting.intSetting(
+                    ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT_PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_MAX_RETRIES,
+                    3,
+                    0,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(
+                Setting.longSetting(
+                    ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT_PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_RETRY_DELAY_MS,
+                    100L,
+                    0L,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
 
             // Log4j
             settings.add(
@@ -2068,6 +2362,9 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
         if (!SSLConfig.isSslOnlyMode() && !client && !disabled && !useClusterStateToInitSecurityConfig(settings)) {
             cr.initOnNodeStart();
         }
+        if (authFailureListenerSyncService != null) {
+            authFailureListenerSyncService.start();
+        }
         final Set<ModuleInfo> securityModules = ReflectionHelper.getModulesLoaded();
         log.info("{} OpenSearch Security modules loaded so far: {}", securityModules.size(), securityModules);
     }
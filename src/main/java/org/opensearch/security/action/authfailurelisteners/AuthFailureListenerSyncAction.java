@@ -0,0 +1,24 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.action.authfailurelisteners;
+
+import org.opensearch.action.ActionType;
+
+public class AuthFailureListenerSyncAction extends ActionType<AuthFailureListenerSyncResponse> {
+
+    public static final AuthFailureListenerSyncAction INSTANCE = new AuthFailureListenerSyncAction();
+    public static final String NAME = "cluster:admin/opendistro_security/auth_failure_listeners/sync";
+
+    protected AuthFailureListenerSyncAction() {
+        super(NAME, AuthFailureListenerSyncResponse::new);
+    }
+}
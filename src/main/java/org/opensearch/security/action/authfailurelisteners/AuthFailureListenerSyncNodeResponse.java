@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.action.authfailurelisteners;
+
+import java.io.IOException;
+
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+public class AuthFailureListenerSyncNodeResponse extends BaseNodeResponse {
+
+    private final int appliedStates;
+
+    public AuthFailureListenerSyncNodeResponse(StreamInput in) throws IOException {
+        super(in);
+        this.appliedStates = in.readVInt();
+    }
+
+    public AuthFailureListenerSyncNodeResponse(final DiscoveryNode node, int appliedStates) {
+        super(node);
+        this.appliedStates = appliedStates;
+    }
+
+    public int getAppliedStates() {
+        return appliedStates;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeVInt(appliedStates);
+    }
+
+    @Override
+    public String toString() {
+        return "AuthFailureListenerSyncNodeResponse [appliedStates=" + appliedStates + "]";
+    }
+}
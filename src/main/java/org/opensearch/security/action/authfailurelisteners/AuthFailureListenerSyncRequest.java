@@ -0,0 +1,53 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.action.authfailurelisteners;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.security.auth.limiting.RateLimiterState;
+
+public class AuthFailureListenerSyncRequest extends BaseNodesRequest<AuthFailureListenerSyncRequest> {
+
+    private final String senderNodeId;
+    private final List<RateLimiterState> states;
+
+    public AuthFailureListenerSyncRequest(StreamInput in) throws IOException {
+        super(in);
+        this.senderNodeId = in.readString();
+        this.states = in.readList(RateLimiterState::new);
+    }
+
+    public AuthFailureListenerSyncRequest(String senderNodeId, List<RateLimiterState> states) {
+        super(new String[0]);
+        this.senderNodeId = senderNodeId;
+        this.states = states;
+    }
+
+    @Override
+    public void writeTo(final StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(senderNodeId);
+        out.writeList(states);
+    }
+
+    public String getSenderNodeId() {
+        return senderNodeId;
+    }
+
+    public List<RateLimiterState> getStates() {
+        return states;
+    }
+}
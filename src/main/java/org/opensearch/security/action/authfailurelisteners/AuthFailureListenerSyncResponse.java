@@ -0,0 +1,46 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.action.authfailurelisteners;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+public class AuthFailureListenerSyncResponse extends BaseNodesResponse<AuthFailureListenerSyncNodeResponse> {
+
+    public AuthFailureListenerSyncResponse(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    public AuthFailureListenerSyncResponse(
+        final ClusterName clusterName,
+        List<AuthFailureListenerSyncNodeResponse> nodes,
+        List<FailedNodeException> failures
+    ) {
+        super(clusterName, nodes, failures);
+    }
+
+    @Override
+    public List<AuthFailureListenerSyncNodeResponse> readNodesFrom(final StreamInput in) throws IOException {
+        return in.readList(AuthFailureListenerSyncNodeResponse::new);
+    }
+
+    @Override
+    public void writeNodesTo(final StreamOutput out, List<AuthFailureListenerSyncNodeResponse> nodes) throws IOException {
+        out.writeList(nodes);
+    }
+}
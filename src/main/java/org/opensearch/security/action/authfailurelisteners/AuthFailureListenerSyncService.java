@@ -0,0 +1,126 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.action.authfailurelisteners;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.opensearch.client.Client;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.util.concurrent.ThreadContext.StoredContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.security.auth.AuthFailureListener;
+import org.opensearch.security.auth.BackendRegistry;
+import org.opensearch.security.auth.limiting.AbstractRateLimiter;
+import org.opensearch.security.auth.limiting.RateLimiterState;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+/**
+ * Periodically sends the auth failures and client blocks recorded by the rate limiters of this node to all
+ * other nodes, so that the allowed tries of a client are counted cluster wide and a client blocked on one node is
+ * rejected on all nodes.
+ *
+ * Only enabled with plugins.security.auth_failure_listeners.sync.enabled; nodes without the setting ignore received states.
+ */
+public class AuthFailureListenerSyncService {
+
+    private static final Logger log = LogManager.getLogger(AuthFailureListenerSyncService.class);
+
+    private final boolean enabled;
+    private final TimeValue interval;
+    private final BackendRegistry backendRegistry;
+    private final ClusterService clusterService;
+    private final ThreadPool threadPool;
+    private final Client client;
+    private volatile Scheduler.Cancellable scheduled;
+
+    public AuthFailureListenerSyncService(
+        Settings settings,
+        BackendRegistry backendRegistry,
+        ClusterService clusterService,
+        ThreadPool threadPool,
+        Client client
+    ) {
+        this.enabled = settings.getAsBoolean(ConfigConstants.SECURITY_AUTH_FAILURE_LISTENERS_SYNC_ENABLED, false);
+        this.interval = settings.getAsTime(ConfigConstants.SECURITY_AUTH_FAILURE_LISTENERS_SYNC_INTERVAL, TimeValue.timeValueSeconds(5));
+        this.backendRegistry = backendRegistry;
+        this.clusterService = clusterService;
+        this.threadPool = threadPool;
+        this.client = client;
+    }
+
+    public synchronized void start() {
+        if (enabled && scheduled == null) {
+            log.info("Sharing auth failures and blocked clients with all nodes every {}", interval);
+            scheduled = threadPool.scheduleWithFixedDelay(this::sync, interval, ThreadPool.Names.GENERIC);
+        }
+    }
+
+    public synchronized void stop() {
+        if (scheduled != null) {
+            scheduled.cancel();
+            scheduled = null;
+        }
+    }
+
+    void sync() {
+        final List<RateLimiterState> states = new ArrayList<>();
+        for (AuthFailureListener listener : backendRegistry.getAuthFailureListeners()) {
+            if (listener instanceof AbstractRateLimiter) {
+                final RateLimiterState state = ((AbstractRateLimiter<?>) listener).exportState();
+                if (state != null) {
+                    states.add(state);
+                }
+            }
+        }
+
+        if (states.isEmpty() || clusterService.state().nodes().getSize() < 2) {
+            return;
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Sending {} to all nodes", states);
+        }
+
+        final ThreadContext threadContext = threadPool.getThreadContext();
+        try (StoredContext ctx = threadContext.stashContext()) {
+            threadContext.putHeader(ConfigConstants.OPENDISTRO_SECURITY_CONF_REQUEST_HEADER, "true");
+            client.execute(
+                AuthFailureListenerSyncAction.INSTANCE,
+                new AuthFailureListenerSyncRequest(clusterService.localNode().getId(), states),
+                new ActionListener<AuthFailureListenerSyncResponse>() {
+                    @Override
+                    public void onResponse(AuthFailureListenerSyncResponse response) {
+                        if (response.hasFailures()) {
+                            log.debug("Could not send auth failure listener state to all nodes: {}", response.failures());
+                        }
+                    }
+
+                    @Override
+                    public void onFailure(Exception e) {
+                        log.warn("Could not send auth failure listener state to other nodes", e);
+                    }
+                }
+            );
+        } catch (Exception e) {
+            log.warn("Could not send auth failure listener state to other nodes", e);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.action.authfailurelisteners;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.inject.Provider;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.security.auth.AuthFailureListener;
+import org.opensearch.security.auth.BackendRegistry;
+import org.opensearch.security.auth.limiting.AbstractRateLimiter;
+import org.opensearch.security.auth.limiting.RateLimiterState;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportRequest;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Applies the rate limiter changes of one node to the auth failure listeners of all other nodes.
+ */
+public class TransportAuthFailureListenerSyncAction extends TransportNodesAction<
+    AuthFailureListenerSyncRequest,
+    AuthFailureListenerSyncResponse,
+    TransportAuthFailureListenerSyncAction.NodeAuthFailureListenerSyncRequest,
+    AuthFailureListenerSyncNodeResponse> {
+
+    protected Logger logger = LogManager.getLogger(getClass());
+    private final Provider<BackendRegistry> backendRegistry;
+
+    @Inject
+    public TransportAuthFailureListenerSyncAction(
+        final ThreadPool threadPool,
+        final ClusterService clusterService,
+        final TransportService transportService,
+        final ActionFilters actionFilters,
+        Provider<BackendRegistry> backendRegistry
+    ) {
+        super(
+            AuthFailureListenerSyncAction.NAME,
+            threadPool,
+            clusterService,
+            transportService,
+            actionFilters,
+            AuthFailureListenerSyncRequest::new,
+            TransportAuthFailureListenerSyncAction.NodeAuthFailureListenerSyncRequest::new,
+            ThreadPool.Names.MANAGEMENT,
+            AuthFailureListenerSyncNodeResponse.class
+        );
+
+        this.backendRegistry = backendRegistry;
+    }
+
+    public static class NodeAuthFailureListenerSyncRequest extends TransportRequest {
+
+        AuthFailureListenerSyncRequest request;
+
+        public NodeAuthFailureListenerSyncRequest(StreamInput in) throws IOException {
+            super(in);
+            request = new AuthFailureListenerSyncRequest(in);
+        }
+
+        public NodeAuthFailureListenerSyncRequest(final AuthFailureListenerSyncRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public void writeTo(final StreamOutput out) throws IOException {
+            super.writeTo(out);
+            request.writeTo(out);
+        }
+    }
+
+    @Override
+    protected AuthFailureListenerSyncNodeResponse newNodeResponse(StreamInput in) throws IOException {
+        return new AuthFailureListenerSyncNodeResponse(in);
+    }
+
+    @Override
+    protected AuthFailureListenerSyncResponse newResponse(
+        AuthFailureListenerSyncRequest request,
+        List<AuthFailureListenerSyncNodeResponse> responses,
+        List<FailedNodeException> failures
+    ) {
+        return new AuthFailureListenerSyncResponse(this.clusterService.getClusterName(), responses, failures);
+    }
+
+    @Override
+    protected AuthFailureListenerSyncNodeResponse nodeOperation(final NodeAuthFailureListenerSyncRequest request) {
+        if (clusterService.localNode().getId().equals(request.request.getSenderNodeId())) {
+            return new AuthFailureListenerSyncNodeResponse(clusterService.localNode(), 0);
+        }
+
+        final Map<String, AbstractRateLimiter<?>> rateLimiters = new HashMap<>();
+        for (AuthFailureListener listener : backendRegistry.get().getAuthFailureListeners()) {
+            if (listener instanceof AbstractRateLimiter && ((AbstractRateLimiter<?>) listener).isClusterSyncEnabled()) {
+                rateLimiters.put(((AbstractRateLimiter<?>) listener).getName(), (AbstractRateLimiter<?>) listener);
+            }
+        }
+
+        int applied = 0;
+        for (RateLimiterState state : request.request.getStates()) {
+            final AbstractRateLimiter<?> rateLimiter = rateLimiters.get(state.getListenerName());
+            if (rateLimiter == null) {
+                logger.debug("No auth failure listener {} on this node", state.getListenerName());
+                continue;
+            }
+            rateLimiter.importState(state);
+            applied++;
+        }
+
+        return new AuthFailureListenerSyncNodeResponse(clusterService.localNode(), applied);
+    }
+
+    @Override
+    protected NodeAuthFailureListenerSyncRequest newNodeRequest(AuthFailureListenerSyncRequest request) {
+        return new NodeAuthFailureListenerSyncRequest(request);
+    }
+}
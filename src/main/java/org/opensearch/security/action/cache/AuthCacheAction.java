@@ -0,0 +1,24 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.action.cache;
+
+import org.opensearch.action.ActionType;
+
+public class AuthCacheAction extends ActionType<AuthCacheResponse> {
+
+    public static final AuthCacheAction INSTANCE = new AuthCacheAction();
+    public static final String NAME = "cluster:admin/opendistro_security/cache/auth";
+
+    protected AuthCacheAction() {
+        super(NAME, AuthCacheResponse::new);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.action.cache;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+public class AuthCacheNodeResponse extends BaseNodeResponse implements ToXContentObject {
+
+    private final int invalidatedEntries;
+    private final Map<String, Map<String, Object>> stats;
+
+    public AuthCacheNodeResponse(StreamInput in) throws IOException {
+        super(in);
+        this.invalidatedEntries = in.readVInt();
+        this.stats = in.readMap(StreamInput::readString, StreamInput::readMap);
+    }
+
+    public AuthCacheNodeResponse(final DiscoveryNode node, int invalidatedEntries, Map<String, Map<String, Object>> stats) {
+        super(node);
+        this.invalidatedEntries = invalidatedEntries;
+        this.stats = stats;
+    }
+
+    public int getInvalidatedEntries() {
+        return invalidatedEntries;
+    }
+
+    public Map<String, Map<String, Object>> getStats() {
+        return stats;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeVInt(invalidatedEntries);
+        out.writeMap(stats, StreamOutput::writeString, StreamOutput::writeMap);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field("name", getNode().getName());
+        builder.field("invalidated_entries", invalidatedEntries);
+        builder.field("caches", stats);
+        builder.endObject();
+        return builder;
+    }
+}
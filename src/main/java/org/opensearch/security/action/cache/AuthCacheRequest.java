@@ -0,0 +1,46 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.action.cache;
+
+import java.io.IOException;
+
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+/**
+ * Requests the authentication cache statistics of all nodes, after dropping the cache entries of the given users.
+ */
+public class AuthCacheRequest extends BaseNodesRequest<AuthCacheRequest> {
+
+    private final String[] invalidateUsers;
+
+    public AuthCacheRequest(StreamInput in) throws IOException {
+        super(in);
+        this.invalidateUsers = in.readStringArray();
+    }
+
+    public AuthCacheRequest(String... invalidateUsers) {
+        super(new String[0]);
+        this.invalidateUsers = invalidateUsers;
+    }
+
+    @Override
+    public void writeTo(final StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeStringArray(invalidateUsers);
+    }
+
+    public String[] getInvalidateUsers() {
+        return invalidateUsers;
+    }
+}
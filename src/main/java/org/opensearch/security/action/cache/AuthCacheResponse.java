@@ -0,0 +1,60 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.action.cache;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+public class AuthCacheResponse extends BaseNodesResponse<AuthCacheNodeResponse> implements ToXContentObject {
+
+    public AuthCacheResponse(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    public AuthCacheResponse(final ClusterName clusterName, List<AuthCacheNodeResponse> nodes, List<FailedNodeException> failures) {
+        super(clusterName, nodes, failures);
+    }
+
+    @Override
+    public List<AuthCacheNodeResponse> readNodesFrom(final StreamInput in) throws IOException {
+        return in.readList(AuthCacheNodeResponse::new);
+    }
+
+    @Override
+    public void writeNodesTo(final StreamOutput out, List<AuthCacheNodeResponse> nodes) throws IOException {
+        out.writeList(nodes);
+    }
+
+    public int getInvalidatedEntries() {
+        return getNodes().stream().mapToInt(AuthCacheNodeResponse::getInvalidatedEntries).sum();
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field("invalidated_entries", getInvalidatedEntries());
+        builder.field("nodes", getNodesMap());
+        builder.field("node_size", getNodes().size());
+        builder.field("has_failures", hasFailures());
+        builder.field("failures_size", failures().size());
+        builder.endObject();
+        return builder;
+    }
+}
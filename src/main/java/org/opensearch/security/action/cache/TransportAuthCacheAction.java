@@ -0,0 +1,109 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.action.cache;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.inject.Provider;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.security.auth.BackendRegistry;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportRequest;
+import org.opensearch.transport.TransportService;
+
+public class TransportAuthCacheAction extends TransportNodesAction<
+    AuthCacheRequest,
+    AuthCacheResponse,
+    TransportAuthCacheAction.NodeAuthCacheRequest,
+    AuthCacheNodeResponse> {
+
+    private final Provider<BackendRegistry> backendRegistry;
+
+    @Inject
+    public TransportAuthCacheAction(
+        final ThreadPool threadPool,
+        final ClusterService clusterService,
+        final TransportService transportService,
+        final ActionFilters actionFilters,
+        Provider<BackendRegistry> backendRegistry
+    ) {
+        super(
+            AuthCacheAction.NAME,
+            threadPool,
+            clusterService,
+            transportService,
+            actionFilters,
+            AuthCacheRequest::new,
+            TransportAuthCacheAction.NodeAuthCacheRequest::new,
+            ThreadPool.Names.MANAGEMENT,
+            AuthCacheNodeResponse.class
+        );
+
+        this.backendRegistry = backendRegistry;
+    }
+
+    public static class NodeAuthCacheRequest extends TransportRequest {
+
+        AuthCacheRequest request;
+
+        public NodeAuthCacheRequest(StreamInput in) throws IOException {
+            super(in);
+            request = new AuthCacheRequest(in);
+        }
+
+        public NodeAuthCacheRequest(final AuthCacheRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public void writeTo(final StreamOutput out) throws IOException {
+            super.writeTo(out);
+            request.writeTo(out);
+        }
+    }
+
+    @Override
+    protected AuthCacheNodeResponse newNodeResponse(StreamInput in) throws IOException {
+        return new AuthCacheNodeResponse(in);
+    }
+
+    @Override
+    protected AuthCacheResponse newResponse(
+        AuthCacheRequest request,
+        List<AuthCacheNodeResponse> responses,
+        List<FailedNodeException> failures
+    ) {
+        return new AuthCacheResponse(this.clusterService.getClusterName(), responses, failures);
+    }
+
+    @Override
+    protected AuthCacheNodeResponse nodeOperation(final NodeAuthCacheRequest request) {
+        final BackendRegistry registry = backendRegistry.get();
+        int invalidated = 0;
+        for (String userName : request.request.getInvalidateUsers()) {
+            invalidated += registry.invalidateUser(userName);
+        }
+        return new AuthCacheNodeResponse(clusterService.localNode(), invalidated, registry.getCacheStats());
+    }
+
+    @Override
+    protected NodeAuthCacheRequest newNodeRequest(AuthCacheRequest request) {
+        return new NodeAuthCacheRequest(request);
+    }
+}
@@ -27,7 +27,10 @@
 package org.opensearch.security.action.configupdate;
 
 import java.io.IOException;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -45,6 +48,8 @@ import org.opensearch.security.auth.BackendRegistry;
 import org.opensearch.security.configuration.ConfigurationRepository;
 import org.opensearch.security.securityconf.DynamicConfigFactory;
 import org.opensearch.security.securityconf.impl.CType;
+import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
+import org.opensearch.security.securityconf.impl.v7.InternalUserV7;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportRequest;
 import org.opensearch.transport.TransportService;
@@ -125,13 +130,47 @@ public class TransportConfigUpdateAction extends TransportNodesAction<
 
     @Override
     protected ConfigUpdateNodeResponse nodeOperation(final NodeConfigUpdateRequest request) {
-        boolean didReload = configurationRepository.reloadConfiguration(CType.fromStringValues((request.request.getConfigTypes())));
+        final Set<CType> configTypes = CType.fromStringValues((request.request.getConfigTypes()));
+        final boolean usersAffected = !configTypes.contains(CType.CONFIG)
+            && (configTypes.contains(CType.INTERNALUSERS) || configTypes.contains(CType.ROLES) || configTypes.contains(CType.ROLESMAPPING));
+        final SecurityDynamicConfiguration<?> previousInternalUsers = usersAffected
+            ? configurationRepository.getConfiguration(CType.INTERNALUSERS)
+            : null;
+
+        boolean didReload = configurationRepository.reloadConfiguration(configTypes);
         if (didReload) {
-            backendRegistry.get().invalidateCache();
+            final Set<String> affectedUsers = usersAffected
+                ? affectedUsers(configTypes, previousInternalUsers, configurationRepository.getConfiguration(CType.INTERNALUSERS))
+                : Set.of();
+            backendRegistry.get().invalidateCache(configTypes, affectedUsers);
         }
         return new ConfigUpdateNodeResponse(clusterService.localNode(), request.request.getConfigTypes(), null);
     }
 
+    /**
+     * Internal users which were changed by the reload, and internal users with security roles if roles or role
+     * mappings were reloaded, as their effective security roles depend on these.
+     */
+    static Set<String> affectedUsers(
+        final Set<CType> configTypes,
+        final SecurityDynamicConfiguration<?> previousInternalUsers,
+        final SecurityDynamicConfiguration<?> internalUsers
+    ) {
+        final Set<String> affectedUsers = new HashSet<>();
+        if (configTypes.contains(CType.INTERNALUSERS)) {
+            affectedUsers.addAll(internalUsers.changedEntries(previousInternalUsers));
+        }
+        if (configTypes.contains(CType.ROLES) || configTypes.contains(CType.ROLESMAPPING)) {
+            for (Map.Entry<String, ?> entry : internalUsers.getCEntries().entrySet()) {
+                if (entry.getValue() instanceof InternalUserV7
+                    && !((InternalUserV7) entry.getValue()).getOpendistro_security_roles().isEmpty()) {
+                    affectedUsers.add(entry.getKey());
+                }
+            }
+        }
+        return affectedUsers;
+    }
+
     @Override
     protected NodeConfigUpdateRequest newNodeRequest(ConfigUpdateRequest request) {
         return new NodeConfigUpdateRequest(request);
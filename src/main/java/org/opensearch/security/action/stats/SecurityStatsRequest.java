@@ -0,0 +1,31 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.action.stats;
+
+import java.io.IOException;
+
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+
+/**
+ * Requests the timing statistics, denial counters and cache statistics of the security layer of the given nodes.
+ */
+public class SecurityStatsRequest extends BaseNodesRequest<SecurityStatsRequest> {
+
+    public SecurityStatsRequest(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    public SecurityStatsRequest(String... nodesIds) {
+        super(nodesIds);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.action.stats;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.security.support.SecurityStats;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportRequest;
+import org.opensearch.transport.TransportService;
+
+public class TransportSecurityStatsAction extends TransportNodesAction<
+    SecurityStatsRequest,
+    SecurityStatsResponse,
+    TransportSecurityStatsAction.NodeSecurityStatsRequest,
+    SecurityStatsNodeResponse> {
+
+    private final SecurityStats securityStats;
+
+    @Inject
+    public TransportSecurityStatsAction(
+        final ThreadPool threadPool,
+        final ClusterService clusterService,
+        final TransportService transportService,
+        final ActionFilters actionFilters,
+        final SecurityStats securityStats
+    ) {
+        super(
+            SecurityStatsAction.NAME,
+            threadPool,
+            clusterService,
+            transportService,
+            actionFilters,
+            SecurityStatsRequest::new,
+            TransportSecurityStatsAction.NodeSecurityStatsRequest::new,
+            ThreadPool.Names.MANAGEMENT,
+            SecurityStatsNodeResponse.class
+        );
+        this.securityStats = securityStats;
+    }
+
+    public static class NodeSecurityStatsRequest extends TransportRequest {
+
+        SecurityStatsRequest request;
+
+        public NodeSecurityStatsRequest(StreamInput in) throws IOException {
+            super(in);
+            request = new SecurityStatsRequest(in);
+        }
+
+        public NodeSecurityStatsRequest(final SecurityStatsRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public void writeTo(final StreamOutput out) throws IOException {
+            super.writeTo(out);
+            request.writeTo(out);
+        }
+    }
+
+    @Override
+    protected SecurityStatsNodeResponse newNodeResponse(StreamInput in) throws IOException {
+        return new SecurityStatsNodeResponse(in);
+    }
+
+    @Override
+    protected SecurityStatsResponse newResponse(
+        SecurityStatsRequest request,
+        List<SecurityStatsNodeResponse> responses,
+        List<FailedNodeException> failures
+    ) {
+        return new SecurityStatsResponse(this.clusterService.getClusterName(), responses, failures);
+    }
+
+    @Override
+    protected SecurityStatsNodeResponse nodeOperation(final NodeSecurityStatsRequest request) {
+        return new SecurityStatsNodeResponse(clusterService.localNode(), securityStats.getStats());
+    }
+
+    @Override
+    protected NodeSecurityStatsRequest newNodeRequest(SecurityStatsRequest request) {
+        return new NodeSecurityStatsRequest(request);
+    }
+}
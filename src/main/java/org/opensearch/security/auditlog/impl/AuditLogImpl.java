@@ -32,6 +32,7 @@ import org.opensearch.index.get.GetResult;
 import org.opensearch.security.auditlog.config.AuditConfig;
 import org.opensearch.security.auditlog.routing.AuditMessageRouter;
 import org.opensearch.security.filter.SecurityRequest;
+import org.opensearch.security.support.SecurityStats;
 import org.opensearch.tasks.Task;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportRequest;
@@ -45,6 +46,7 @@ public final class AuditLogImpl extends AbstractAuditLog {
     private final boolean messageRouterEnabled;
     private volatile boolean enabled;
     private final Thread shutdownHook;
+    private final SecurityStats securityStats;
 
     public AuditLogImpl(
         final Settings settings,
@@ -54,7 +56,7 @@ public final class AuditLogImpl extends AbstractAuditLog {
         final IndexNameExpressionResolver resolver,
         final ClusterService clusterService
     ) {
-        this(settings, configPath, clientProvider, threadPool, resolver, clusterService, null);
+        this(settings, configPath, clientProvider, threadPool, resolver, clusterService, null, new SecurityStats(settings));
     }
 
     @SuppressWarnings("removal")
@@ -65,11 +67,13 @@ public final class AuditLogImpl extends AbstractAuditLog {
         final ThreadPool threadPool,
         final IndexNameExpressionResolver resolver,
         final ClusterService clusterService,
-        final Environment environment
+        final Environment environment,
+        final SecurityStats securityStats
     ) {
         super(settings, threadPool, resolver, clusterService, environment);
         this.settings = settings;
-        this.messageRouter = new AuditMessageRouter(settings, clientProvider, threadPool, configPath);
+        this.securityStats = securityStats;
+        this.messageRouter = new AuditMessageRouter(settings, clientProvider, threadPool, configPath, securityStats);
         this.messageRouterEnabled = this.messageRouter.isEnabled();
 
         log.info("Message routing enabled: {}", this.messageRouterEnabled);
@@ -126,7 +130,9 @@ public final class AuditLogImpl extends AbstractAuditLog {
     @Override
     protected void save(final AuditMessage msg) {
         if (enabled) {
+            final long start = securityStats.start();
             messageRouter.route(msg);
+            securityStats.end(SecurityStats.Stage.AUDIT, start, msg.getCategory());
         }
     }
 
@@ -41,6 +41,7 @@ import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.transport.TransportAddress;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.xcontent.MediaType;
+import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.security.auditlog.AuditLog.Operation;
 import org.opensearch.security.auditlog.AuditLog.Origin;
@@ -528,6 +529,18 @@ public final class AuditMessage {
         return this.toString();
     }
 
+    /**
+     * Serializes the message to UTF-8 encoded JSON, without creating an intermediate string.
+     */
+    public final byte[] toJsonBytes() {
+        try (XContentBuilder builder = JsonXContent.contentBuilder()) {
+            builder.map(getAsMap());
+            return BytesReference.toBytes(BytesReference.bytes(builder));
+        } catch (final IOException e) {
+            throw ExceptionsHelper.convertToOpenSearchException(e);
+        }
+    }
+
     public String toUrlParameters() {
         URIBuilder builder = new URIBuilder();
         for (Entry<String, Object> entry : getAsMap().entrySet()) {
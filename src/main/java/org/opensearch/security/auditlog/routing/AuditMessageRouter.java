@@ -16,6 +16,7 @@ import java.util.EnumSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Maps;
@@ -31,6 +32,7 @@ import org.opensearch.security.auditlog.sink.AuditLogSink;
 import org.opensearch.security.auditlog.sink.SinkProvider;
 import org.opensearch.security.dlic.rest.support.Utils;
 import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.SecurityStats;
 import org.opensearch.threadpool.ThreadPool;
 
 import static com.google.common.base.Preconditions.checkState;
@@ -42,23 +44,45 @@ public class AuditMessageRouter {
     volatile Map<AuditCategory, List<AuditLogSink>> categorySinks;
     final SinkProvider sinkProvider;
     final AsyncStoragePool storagePool;
-
-    public AuditMessageRouter(final Settings settings, final Client clientProvider, ThreadPool threadPool, final Path configPath) {
+    // per sink delivery pipelines, for all sinks if enabled and for batching sinks otherwise
+    final Map<AuditLogSink, SinkPipeline> pipelines = new ConcurrentHashMap<>();
+    private final boolean pipelinesEnabled;
+    private final Settings settings;
+    private final SecurityStats securityStats;
+
+    public AuditMessageRouter(
+        final Settings settings,
+        final Client clientProvider,
+        ThreadPool threadPool,
+        final Path configPath,
+        final SecurityStats securityStats
+    ) {
         this(
             new SinkProvider(settings, clientProvider, threadPool, configPath),
-            new AsyncStoragePool(ThreadPoolConfig.getConfig(settings))
+            new AsyncStoragePool(ThreadPoolConfig.getConfig(settings)),
+            settings,
+            securityStats
         );
     }
 
     @VisibleForTesting
     public AuditMessageRouter(SinkProvider sinkProvider, AsyncStoragePool storagePool) {
+        this(sinkProvider, storagePool, Settings.EMPTY, new SecurityStats(Settings.EMPTY));
+    }
+
+    AuditMessageRouter(SinkProvider sinkProvider, AsyncStoragePool storagePool, Settings settings, SecurityStats securityStats) {
         this.sinkProvider = sinkProvider;
         this.storagePool = storagePool;
+        this.settings = settings;
+        this.securityStats = securityStats;
+        this.pipelinesEnabled = settings.getAsBoolean(ConfigConstants.SECURITY_AUDIT_SINK_PIPELINE_ENABLED, false);
 
         // get the default sink
         this.defaultSink = sinkProvider.getDefaultSink();
         if (defaultSink == null) {
             log.warn("No default storage available, audit log may not work properly. Please check configuration.");
+        } else {
+            registerSinkStats(defaultSink);
         }
     }
 
@@ -84,8 +108,9 @@ public class AuditMessageRouter {
 
     public final void close() {
         log.info("Closing {}", getClass().getSimpleName());
-        // shutdown storage pool
+        // shutdown storage pool and pipelines
         storagePool.close();
+        pipelines.values().forEach(SinkPipeline::close);
         // close default
         sinkProvider.close();
     }
@@ -163,6 +188,7 @@ public class AuditMessageRouter {
                 AuditLogSink sink = sinkProvider.getSink(sinkName);
                 if (sink != null && !sinksForCategory.contains(sink)) {
                     sinksForCategory.add(sink);
+                    registerSinkStats(sink);
                 } else {
                     log.error("Configured endpoint '{}' not available", sinkName);
                 }
@@ -181,6 +207,11 @@ public class AuditMessageRouter {
             if (isTraceEnabled) {
                 log.trace("stored on sink {} synchronously", sink.getClass().getSimpleName());
             }
+        } else if (pipelinesEnabled || sink.isBatching()) {
+            pipelines.computeIfAbsent(sink, this::createPipeline).submit(msg);
+            if (isTraceEnabled) {
+                log.trace("will store on sink {} through its pipeline", sink.getClass().getSimpleName());
+            }
         } else {
             storagePool.submit(msg, sink);
             if (isTraceEnabled) {
@@ -188,4 +219,23 @@ public class AuditMessageRouter {
             }
         }
     }
+
+    private SinkPipeline createPipeline(AuditLogSink sink) {
+        if (!pipelinesEnabled) {
+            log.info(
+                "Audit sink {} sends batches, delivering to it through a sink pipeline although {} is not set",
+                sink.getName(),
+                ConfigConstants.SECURITY_AUDIT_SINK_PIPELINE_ENABLED
+            );
+        }
+        final SinkPipeline pipeline = new SinkPipeline(sink, settings);
+        securityStats.registerAuditSink(sink.getName(), pipeline::getStats);
+        return pipeline;
+    }
+
+    private void registerSinkStats(AuditLogSink sink) {
+        if (sink.getStats() != null) {
+            securityStats.registerAuditSink(sink.getName(), sink::getStats);
+        }
+    }
 }
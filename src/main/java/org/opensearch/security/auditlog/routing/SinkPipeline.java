@@ -0,0 +1,391 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auditlog.routing;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.auditlog.impl.AuditMessage;
+import org.opensearch.security.auditlog.sink.AuditLogSink;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.LatencyHistogram;
+
+/**
+ * Delivers the audit messages of one sink asynchronously.
+ *
+ * Messages are put into a bounded ring buffer and stored by a dedicated thread of the sink, in batches of all
+ * messages which are waiting, up to the configured batch size. Thus, a slow sink does not delay the other sinks, and
+ * no task object is created per message. If the buffer is full, the overflow policy decides whether the message is
+ * dropped, whether the caller waits for space, or whether the message is stored in the fallback sink right away.
+ * Messages for the fallback sink are handed to a separate thread with a queue of the same size, so that the caller
+ * is not delayed by the fallback sink either; if that queue is full as well, the message is dropped.
+ *
+ * If the sink fails to store the messages of several batches in a row, a circuit breaker opens and the messages are
+ * passed to the fallback sink directly for a while, without trying the sink and waiting for its retries.
+ */
+class SinkPipeline {
+
+    private static final Logger log = LogManager.getLogger(SinkPipeline.class);
+
+    enum OverflowPolicy {
+        DROP,
+        BLOCK,
+        FALLBACK;
+
+        static OverflowPolicy from(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(
+                    "Invalid audit sink overflow policy '" + value + "', must be one of drop, block, fallback"
+                );
+            }
+        }
+    }
+
+    private final AuditLogSink sink;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutNanos;
+    private final int batchSize;
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final AuditMessage[] messages;
+    private final long[] enqueuedAt;
+    private int head;
+    private int count;
+    private volatile boolean closed;
+
+    // only accessed by the consumer thread
+    private int consecutiveFailures;
+    private long openUntil;
+    private volatile boolean open;
+
+    private final LatencyHistogram queueLatency = new LatencyHistogram();
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder overflowToFallback = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder failedBatches = new LongAdder();
+    private final LongAdder bypassedToFallback = new LongAdder();
+    private final LongAdder circuitBreakerTrips = new LongAdder();
+
+    private final Thread consumer;
+    // stores the messages which do not fit into the buffer in the fallback sink, null with the drop policy
+    private final ThreadPoolExecutor overflowExecutor;
+
+    SinkPipeline(final AuditLogSink sink, final Settings settings) {
+        this.sink = sink;
+
+        final Settings sinkSettings = settings.getAsSettings(ConfigConstants.SECURITY_AUDIT_SINK_PIPELINE_ENDPOINTS + "." + sink.getName());
+        final int queueSize = sinkSettings.getAsInt(
+            "queue_size",
+            settings.getAsInt(ConfigConstants.SECURITY_AUDIT_SINK_PIPELINE_QUEUE_SIZE, 10000)
+        );
+        this.batchSize = sinkSettings.getAsInt(
+            "batch_size",
+            settings.getAsInt(ConfigConstants.SECURITY_AUDIT_SINK_PIPELINE_BATCH_SIZE, 100)
+        );
+        this.overflowPolicy = OverflowPolicy.from(
+            sinkSettings.get("overflow_policy", settings.get(ConfigConstants.SECURITY_AUDIT_SINK_PIPELINE_OVERFLOW_POLICY, "fallback"))
+        );
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(
+            sinkSettings.getAsLong(
+                "block_timeout_millis",
+                settings.getAsLong(ConfigConstants.SECURITY_AUDIT_SINK_PIPELINE_BLOCK_TIMEOUT_MILLIS, 1000L)
+            )
+        );
+        this.failureThreshold = sinkSettings.getAsInt(
+            "circuit_breaker.failure_threshold",
+            settings.getAsInt(ConfigConstants.SECURITY_AUDIT_SINK_PIPELINE_FAILURE_THRESHOLD, 5)
+        );
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(
+            sinkSettings.getAsLong(
+                "circuit_breaker.open_millis",
+                settings.getAsLong(ConfigConstants.SECURITY_AUDIT_SINK_PIPELINE_OPEN_MILLIS, 30000L)
+            )
+        );
+
+        if (queueSize <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("Incorrect queue size or batch size configured for audit sink " + sink.getName());
+        }
+
+        this.messages = new AuditMessage[queueSize];
+        this.enqueuedAt = new long[queueSize];
+
+        this.consumer = new Thread(this::run, "opensearch-security-audit-" + sink.getName());
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+
+        this.overflowExecutor = overflowPolicy == OverflowPolicy.DROP
+            ? null
+            : new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(queueSize), runnable -> {
+                final Thread thread = new Thread(runnable, "opensearch-security-audit-" + sink.getName() + "-overflow");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+        if (log.isDebugEnabled()) {
+            log.debug(
+                "Created pipeline for audit sink {} with queue size {}, batch size {} and overflow policy {}",
+                sink.getName(),
+                queueSize,
+                batchSize,
+                overflowPolicy
+            );
+        }
+    }
+
+    void submit(final AuditMessage msg) {
+        if (!offer(msg)) {
+            if (overflowPolicy == OverflowPolicy.DROP) {
+                dropped.increment();
+                if (log.isDebugEnabled()) {
+                    log.debug("Dropped audit message for sink {} because its queue is full", sink.getName());
+                }
+            } else {
+                overflowToFallback.increment();
+                overflow(msg);
+            }
+        }
+    }
+
+    private void overflow(final AuditMessage msg) {
+        try {
+            overflowExecutor.execute(() -> storeInFallback(List.of(msg)));
+        } catch (RejectedExecutionException e) {
+            if (overflowExecutor.isShutdown()) {
+                // the pipeline is closed, the node is shutting down
+                storeInFallback(List.of(msg));
+            } else {
+                dropped.increment();
+                if (log.isDebugEnabled()) {
+                    log.debug("Dropped audit message for sink {} because its queue and its overflow queue are full", sink.getName());
+                }
+            }
+        }
+    }
+
+    private boolean offer(final AuditMessage msg) {
+        long remainingNanos = overflowPolicy == OverflowPolicy.BLOCK ? blockTimeoutNanos : 0;
+        lock.lock();
+        try {
+            while (count == messages.length && !closed) {
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                remainingNanos = notFull.awaitNanos(remainingNanos);
+            }
+            if (closed) {
+                return false;
+            }
+            final int tail = (head + count) % messages.length;
+            messages[tail] = msg;
+            enqueuedAt[tail] = System.nanoTime();
+            count++;
+            enqueued.increment();
+            notEmpty.signal();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits for messages and moves up to one batch of them to the given list.
+     *
+     * @return false if the pipeline was closed and all messages have been taken
+     */
+    private boolean take(final List<AuditMessage> batch) throws InterruptedException {
+        lock.lock();
+        try {
+            while (count == 0) {
+                if (closed) {
+                    return false;
+                }
+                notEmpty.await();
+            }
+            final long now = System.nanoTime();
+            final int n = Math.min(count, batchSize);
+            for (int i = 0; i < n; i++) {
+                batch.add(messages[head]);
+                queueLatency.record(now - enqueuedAt[head]);
+                messages[head] = null;
+                head = (head + 1) % messages.length;
+            }
+            count -= n;
+            notFull.signalAll();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void run() {
+        final List<AuditMessage> batch = new ArrayList<>(batchSize);
+        try {
+            while (take(batch)) {
+                try {
+                    deliver(batch);
+                } catch (RuntimeException e) {
+                    log.error("Could not deliver {} audit messages to sink {}", batch.size(), sink.getName(), e);
+                } finally {
+                    batch.clear();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void deliver(final List<AuditMessage> batch) {
+        batches.increment();
+
+        if (open) {
+            if (System.nanoTime() - openUntil < 0) {
+                bypassedToFallback.add(batch.size());
+                storeInFallback(batch);
+                return;
+            }
+            // the circuit breaker is half open, try the sink again
+            if (log.isDebugEnabled()) {
+                log.debug("Trying audit sink {} again", sink.getName());
+            }
+        }
+
+        boolean stored;
+        try {
+            stored = sink.storeBatch(batch);
+        } catch (Exception e) {
+            log.error("Could not store audit messages in sink {}", sink.getName(), e);
+            storeInFallback(batch);
+            stored = false;
+        }
+
+        if (stored) {
+            consecutiveFailures = 0;
+            if (open) {
+                open = false;
+                log.info("Audit sink {} has recovered, circuit breaker closed", sink.getName());
+            }
+        } else {
+            failedBatches.increment();
+            consecutiveFailures++;
+            if (failureThreshold > 0 && consecutiveFailures >= failureThreshold) {
+                openUntil = System.nanoTime() + openNanos;
+                if (!open) {
+                    open = true;
+                    circuitBreakerTrips.increment();
+                    log.warn(
+                        "Audit sink {} failed {} times in a row, using the fallback sink for the next {}ms",
+                        sink.getName(),
+                        consecutiveFailures,
+                        TimeUnit.NANOSECONDS.toMillis(openNanos)
+                    );
+                }
+            }
+        }
+    }
+
+    private void storeInFallback(final List<AuditMessage> msgs) {
+        for (AuditMessage msg : msgs) {
+            try {
+                sink.storeInFallback(msg);
+            } catch (RuntimeException e) {
+                log.error("Could not store audit message in fallback sink of {}", sink.getName(), e);
+            }
+        }
+    }
+
+    Map<String, Object> getStats() {
+        final int queued;
+        lock.lock();
+        try {
+            queued = count;
+        } finally {
+            lock.unlock();
+        }
+
+        final Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("queue_capacity", messages.length);
+        stats.put("queued", queued);
+        stats.put("enqueued", enqueued.sum());
+        stats.put("dropped", dropped.sum());
+        stats.put("overflow_to_fallback", overflowToFallback.sum());
+        stats.put("batches", batches.sum());
+        stats.put("failed_batches", failedBatches.sum());
+        stats.put("circuit_breaker_open", open);
+        stats.put("circuit_breaker_trips", circuitBreakerTrips.sum());
+        stats.put("bypassed_to_fallback", bypassedToFallback.sum());
+        stats.put("queue_latency", queueLatency.getStats());
+        return stats;
+    }
+
+    /**
+     * Stores the remaining messages and stops the thread of the pipeline. Messages submitted afterwards are passed to
+     * the fallback sink, or dropped with the drop policy.
+     */
+    void close() {
+        lock.lock();
+        try {
+            closed = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            consumer.join(TimeUnit.SECONDS.toMillis(60));
+            if (consumer.isAlive()) {
+                log.error("Audit pipeline of sink {} did not terminate", sink.getName());
+                consumer.interrupt();
+            }
+        } catch (InterruptedException e) {
+            consumer.interrupt();
+            Thread.currentThread().interrupt();
+        }
+
+        if (overflowExecutor != null) {
+            overflowExecutor.shutdown();
+            try {
+                if (!overflowExecutor.awaitTermination(60, TimeUnit.SECONDS)) {
+                    log.error("Overflow thread of the audit pipeline of sink {} did not terminate", sink.getName());
+                    overflowExecutor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                overflowExecutor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
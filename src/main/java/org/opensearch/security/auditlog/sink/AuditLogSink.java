@@ -12,6 +12,8 @@
 package org.opensearch.security.auditlog.sink;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
@@ -51,6 +53,14 @@ public abstract class AuditLogSink {
         return false;
     }
 
+    /**
+     * @return true if this sink sends several messages at once through {@link #storeBatch(List)}. Such sinks are
+     * always delivered to through a sink pipeline, which collects the batches.
+     */
+    public boolean isBatching() {
+        return false;
+    }
+
     public String getName() {
         return name;
     }
@@ -59,12 +69,50 @@ public abstract class AuditLogSink {
         return fallbackSink;
     }
 
-    public final void store(AuditMessage msg) {
-        if (!doStoreWithRetry(msg) && !fallbackSink.doStoreWithRetry(msg)) {
+    /**
+     * @return the delivery statistics of this sink, or null if it does not collect any
+     */
+    public Map<String, Object> getStats() {
+        return null;
+    }
+
+    /**
+     * Stores the message, or passes it to the fallback sink if it can not be stored.
+     *
+     * @return true if the message was stored by this sink, false if it was passed on
+     */
+    public final boolean store(AuditMessage msg) {
+        if (doStoreWithRetry(msg)) {
+            return true;
+        }
+        storeInFallback(msg);
+        return false;
+    }
+
+    /**
+     * Passes a message which could not be stored by this sink to the fallback sink, without passing it on to the
+     * fallback sink of the fallback sink. If the message can not be stored there either, it is printed to stderr.
+     */
+    public final void storeInFallback(AuditMessage msg) {
+        if (fallbackSink == null || !fallbackSink.doStoreWithRetry(msg)) {
             System.err.println(msg.toPrettyString());
         }
     }
 
+    /**
+     * Stores a batch of messages. By default, the messages are stored one by one; sinks which can send several messages
+     * at once override this.
+     *
+     * @return true if all messages were stored by this sink, false if some were passed to the fallback sink
+     */
+    public boolean storeBatch(List<AuditMessage> msgs) {
+        boolean stored = true;
+        for (AuditMessage msg : msgs) {
+            stored &= store(msg);
+        }
+        return stored;
+    }
+
     private boolean doStoreWithRetry(AuditMessage msg) {
         // retryCount of 0 means no retry (which is: try exactly once) - delayMs is ignored
         // retryCount of 1 means: try and if this fails wait delayMs and try once again
@@ -15,15 +15,24 @@ import java.io.IOException;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
 
+import com.google.common.collect.ImmutableSet;
 import org.apache.kafka.clients.producer.Callback;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
-import org.apache.kafka.common.serialization.LongSerializer;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 
 import org.opensearch.SpecialPermission;
@@ -32,10 +41,38 @@ import org.opensearch.security.auditlog.impl.AuditMessage;
 
 public class KafkaSink extends AuditLogSink {
 
+    /**
+     * Determines the key of the records. Records with the same key are written to the same partition, so their order is
+     * preserved; without key, the records are spread over the partitions.
+     */
+    enum PartitionKey {
+        NONE,
+        USER,
+        INDEX;
+    }
+
+    // producer metrics which are reported in the security stats
+    private static final Set<String> REPORTED_METRICS = ImmutableSet.of(
+        "record-send-rate",
+        "record-error-rate",
+        "record-retry-rate",
+        "record-queue-time-avg",
+        "records-per-request-avg",
+        "batch-size-avg",
+        "compression-rate-avg",
+        "request-latency-avg",
+        "outgoing-byte-rate",
+        "buffer-available-bytes",
+        "waiting-threads"
+    );
+
     private final String[] mandatoryProperties = new String[] { "bootstrap_servers", "topic_name" };
     private boolean valid = true;
-    private Producer<Long, String> producer;
+    private Producer<String, byte[]> producer;
     private String topicName;
+    private PartitionKey partitionKey = PartitionKey.NONE;
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder failed = new LongAdder();
 
     @SuppressWarnings("removal")
     public KafkaSink(final String name, final Settings settings, final String settingsPrefix, AuditLogSink fallbackSink) {
@@ -51,16 +88,30 @@ public class KafkaSink extends AuditLogSink {
 
         final Properties producerProps = new Properties();
 
+        // defaults for many small records, can be overridden by the sink settings
+        producerProps.put(ProducerConfig.LINGER_MS_CONFIG, "10");
+        producerProps.put(ProducerConfig.BATCH_SIZE_CONFIG, "65536");
+        producerProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+
         for (String key : sinkSettings.names()) {
-            if (!key.equals("topic_name")) {
+            if (!key.equals("topic_name") && !key.equals("partition_key")) {
                 producerProps.put(key.replace('_', '.'), sinkSettings.get(key));
             }
         }
 
-        producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, LongSerializer.class.getName());
-        producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
+        producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
+        producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class.getName());
         topicName = sinkSettings.get("topic_name");
 
+        final String partitionKeySetting = sinkSettings.get("partition_key");
+        if (partitionKeySetting != null) {
+            try {
+                partitionKey = PartitionKey.valueOf(partitionKeySetting.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                log.error("Invalid partition_key '{}' for Kafka sink {}, must be one of none, user, index", partitionKeySetting, name);
+            }
+        }
+
         // map path of
         // ssl.keystore.location
         // ssl.truststore.location
@@ -73,17 +124,17 @@ public class KafkaSink extends AuditLogSink {
         }
 
         try {
-            this.producer = AccessController.doPrivileged(new PrivilegedExceptionAction<KafkaProducer<Long, String>>() {
+            this.producer = AccessController.doPrivileged(new PrivilegedExceptionAction<KafkaProducer<String, byte[]>>() {
                 @Override
-                public KafkaProducer<Long, String> run() throws Exception {
-                    return new KafkaProducer<Long, String>(producerProps);
+                public KafkaProducer<String, byte[]> run() throws Exception {
+                    return new KafkaProducer<String, byte[]>(producerProps);
                 }
             });
         } catch (PrivilegedActionException e) {
             log.error("Failed to configure Kafka producer due to ", e);
             this.valid = false;
+            return;
         }
-
     }
 
     @Override
@@ -92,16 +143,17 @@ public class KafkaSink extends AuditLogSink {
             return false;
         }
 
-        ProducerRecord<Long, String> data = new ProducerRecord<Long, String>(topicName, msg.toJson());
+        ProducerRecord<String, byte[]> data = new ProducerRecord<String, byte[]>(topicName, partitionKey(msg), msg.toJsonBytes());
         producer.send(data, new Callback() {
 
             @Override
             public void onCompletion(RecordMetadata metadata, Exception exception) {
                 if (exception == null) {
-                    // log trace?
+                    delivered.increment();
                 } else {
+                    failed.increment();
                     log.error("Could not store message on Kafka topic {}", topicName, exception);
-                    fallbackSink.store(msg);
+                    storeInFallback(msg);
                 }
 
             }
@@ -109,6 +161,46 @@ public class KafkaSink extends AuditLogSink {
         return true;
     }
 
+    String partitionKey(AuditMessage msg) {
+        switch (partitionKey) {
+            case USER:
+                return msg.getEffectiveUser() != null ? msg.getEffectiveUser() : msg.getInitiatingUser();
+            case INDEX:
+                final Object indices = msg.getAsMap().get(AuditMessage.INDICES);
+                if (indices instanceof String[] && ((String[]) indices).length > 0) {
+                    return ((String[]) indices)[0];
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        final Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("delivered", delivered.sum());
+        stats.put("failed", failed.sum());
+
+        final Map<String, Object> producerMetrics = new TreeMap<>();
+        final Producer<String, byte[]> currentProducer = this.producer;
+        if (currentProducer != null) {
+            for (Map.Entry<MetricName, ? extends Metric> entry : currentProducer.metrics().entrySet()) {
+                final MetricName metricName = entry.getKey();
+                final Object value = entry.getValue().metricValue();
+                // rates and averages are NaN until the first record was sent
+                if ("producer-metrics".equals(metricName.group())
+                    && REPORTED_METRICS.contains(metricName.name())
+                    && value instanceof Double
+                    && !((Double) value).isNaN()) {
+                    producerMetrics.put(metricName.name(), value);
+                }
+            }
+        }
+        stats.put("producer", producerMetrics);
+        return stats;
+    }
+
     @Override
     public boolean isHandlingBackpressure() {
         return true;
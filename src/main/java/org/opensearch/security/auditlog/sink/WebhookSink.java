@@ -11,6 +11,7 @@
 
 package org.opensearch.security.auditlog.sink;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -20,22 +21,40 @@ import java.security.AccessController;
 import java.security.KeyStore;
 import java.security.PrivilegedAction;
 import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.zip.GZIPOutputStream;
 import javax.net.ssl.SSLContext;
 
+import com.google.common.collect.Lists;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
 import org.apache.hc.client5.http.classic.methods.HttpPost;
 import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
 import org.apache.hc.client5.http.ssl.DefaultHostnameVerifier;
 import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
 import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
+import org.apache.hc.core5.concurrent.FutureCallback;
 import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.hc.core5.http.io.SocketConfig;
 import org.apache.hc.core5.http.io.entity.StringEntity;
 import org.apache.hc.core5.ssl.SSLContextBuilder;
@@ -53,13 +72,23 @@ import static org.opensearch.security.ssl.SecureSSLSettings.SSLSetting.SECURITY_
 
 public class WebhookSink extends AuditLogSink {
 
+    private static final int REQUEST_TIMEOUT_SECONDS = 5;
+
     /* HttpClient is thread safe */
     private final CloseableHttpClient httpClient;
+    /* only created for the batch formats */
+    private CloseableHttpAsyncClient asyncHttpClient;
 
     String webhookUrl = null;
     WebhookFormat webhookFormat = null;
     final boolean verifySSL;
     final KeyStore effectiveTruststore;
+    final int batchMaxMessages;
+    final int batchConcurrency;
+    final boolean batchGzip;
+    final int batchMaxRetries;
+    final long batchRetryDelayMs;
+    private final Semaphore batchRequestPermits;
 
     public WebhookSink(
         final String name,
@@ -78,6 +107,12 @@ public class WebhookSink extends AuditLogSink {
         final String format = sinkSettings.get(ConfigConstants.SECURITY_AUDIT_WEBHOOK_FORMAT);
 
         verifySSL = sinkSettings.getAsBoolean(ConfigConstants.SECURITY_AUDIT_WEBHOOK_SSL_VERIFY, true);
+        batchMaxMessages = Math.max(1, sinkSettings.getAsInt(ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_MAX_MESSAGES, 500));
+        batchConcurrency = Math.max(1, sinkSettings.getAsInt(ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_CONCURRENCY, 4));
+        batchGzip = sinkSettings.getAsBoolean(ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_GZIP, false);
+        batchMaxRetries = Math.max(0, sinkSettings.getAsInt(ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_MAX_RETRIES, 3));
+        batchRetryDelayMs = Math.max(0L, sinkSettings.getAsLong(ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_RETRY_DELAY_MS, 100L));
+        batchRequestPermits = new Semaphore(batchConcurrency);
         httpClient = getHttpClient();
 
         if (httpClient == null) {
@@ -109,6 +144,15 @@ public class WebhookSink extends AuditLogSink {
                 webhookFormat = WebhookFormat.TEXT;
             }
         }
+
+        if (webhookFormat.isBatched()) {
+            asyncHttpClient = getAsyncHttpClient();
+        }
+    }
+
+    @Override
+    public boolean isBatching() {
+        return asyncHttpClient != null;
     }
 
     @Override
@@ -157,11 +201,157 @@ public class WebhookSink extends AuditLogSink {
         });
     }
 
+    /**
+     * With the batch formats, the messages are sent in requests of up to {@code webhook.batch.max_messages} messages,
+     * several requests at the same time. Requests which fail with a server error, 429 or an I/O error are retried with
+     * an exponential, jittered delay; the messages of requests which still fail are passed to the fallback sink.
+     */
+    @Override
+    @SuppressWarnings("removal")
+    public boolean storeBatch(List<AuditMessage> msgs) {
+        if (webhookFormat == null || !webhookFormat.isBatched() || asyncHttpClient == null || Strings.isEmpty(webhookUrl)) {
+            return super.storeBatch(msgs);
+        }
+        if (msgs.isEmpty()) {
+            return true;
+        }
+
+        return AccessController.doPrivileged(new PrivilegedAction<Boolean>() {
+
+            @Override
+            public Boolean run() {
+                return sendBatches(Lists.partition(msgs, batchMaxMessages));
+            }
+        });
+    }
+
+    private boolean sendBatches(List<List<AuditMessage>> batches) {
+        boolean success = true;
+        List<List<AuditMessage>> pending = batches;
+
+        for (int attempt = 0; !pending.isEmpty(); attempt++) {
+            if (attempt > 0) {
+                sleepBeforeRetry(attempt);
+            }
+
+            final List<Future<SimpleHttpResponse>> responses = new ArrayList<>(pending.size());
+            for (List<AuditMessage> batch : pending) {
+                responses.add(sendBatch(batch));
+            }
+
+            final List<List<AuditMessage>> retry = new ArrayList<>();
+            for (int i = 0; i < pending.size(); i++) {
+                final List<AuditMessage> batch = pending.get(i);
+                final BatchResult result = awaitBatch(responses.get(i));
+                if (result == BatchResult.STORED) {
+                    continue;
+                }
+                if (result == BatchResult.RETRY && attempt < batchMaxRetries) {
+                    retry.add(batch);
+                } else {
+                    log.error("Could not send {} audit messages to webhook URL '{}'", batch.size(), webhookUrl);
+                    batch.forEach(this::storeInFallback);
+                    success = false;
+                }
+            }
+            pending = retry;
+        }
+        return success;
+    }
+
+    private Future<SimpleHttpResponse> sendBatch(List<AuditMessage> batch) {
+        final SimpleRequestBuilder request = SimpleRequestBuilder.post(webhookUrl);
+        final byte[] payload = formatBatch(batch).getBytes(StandardCharsets.UTF_8);
+        final ContentType contentType = webhookFormat.contentType.withCharset(StandardCharsets.UTF_8);
+        if (batchGzip) {
+            request.setBody(gzip(payload), contentType);
+            request.addHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        } else {
+            request.setBody(payload, contentType);
+        }
+        return execute(request.build());
+    }
+
+    /**
+     * Sends a request, waiting while the maximum number of requests is in flight.
+     */
+    Future<SimpleHttpResponse> execute(SimpleHttpRequest request) {
+        batchRequestPermits.acquireUninterruptibly();
+        try {
+            return asyncHttpClient.execute(request, new FutureCallback<SimpleHttpResponse>() {
+                @Override
+                public void completed(SimpleHttpResponse result) {
+                    batchRequestPermits.release();
+                }
+
+                @Override
+                public void failed(Exception ex) {
+                    batchRequestPermits.release();
+                }
+
+                @Override
+                public void cancelled() {
+                    batchRequestPermits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            batchRequestPermits.release();
+            throw e;
+        }
+    }
+
+    private BatchResult awaitBatch(Future<SimpleHttpResponse> response) {
+        try {
+            final int responseCode = response.get(2 * REQUEST_TIMEOUT_SECONDS, TimeUnit.SECONDS).getCode();
+            if (responseCode >= 200 && responseCode < 300) {
+                return BatchResult.STORED;
+            }
+            log.warn("Cannot POST to webhook URL '{}', server returned status {}", webhookUrl, responseCode);
+            // retry on server errors and 429 Too Many Requests
+            return responseCode == 429 || responseCode >= HttpStatus.SC_INTERNAL_SERVER_ERROR ? BatchResult.RETRY : BatchResult.FAILED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            response.cancel(true);
+            return BatchResult.FAILED;
+        } catch (ExecutionException | TimeoutException e) {
+            response.cancel(true);
+            log.warn("Cannot POST to webhook URL '{}' due to '{}'", webhookUrl, e.getMessage());
+            return BatchResult.RETRY;
+        }
+    }
+
+    private void sleepBeforeRetry(int attempt) {
+        // exponential backoff with jitter, so that the retries of several nodes do not hit the endpoint at the same time
+        final long delay = batchRetryDelayMs << Math.min(attempt - 1, 10);
+        if (delay <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static byte[] gzip(byte[] payload) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(payload);
+        } catch (IOException e) {
+            // does not happen with an in memory stream
+            throw new IllegalStateException(e);
+        }
+        return out.toByteArray();
+    }
+
     @Override
     public void close() throws IOException {
         if (httpClient != null) {
             httpClient.close();
         }
+        if (asyncHttpClient != null) {
+            asyncHttpClient.close();
+        }
     }
 
     /**
@@ -218,6 +408,32 @@ public class WebhookSink extends AuditLogSink {
         return msg.toUrlParameters();
     }
 
+    /**
+     * Transforms several {@link AuditMessage}s to a JSON array or to newline delimited JSON,
+     * depending on the format. Uses {@link #formatJson(AuditMessage)} for the single messages.
+     *
+     * @param msgs the AuditMessages to transform
+     * @return the JSON string
+     */
+    protected String formatBatch(List<AuditMessage> msgs) {
+        final StringBuilder payload = new StringBuilder(msgs.size() * 1024);
+        if (webhookFormat == WebhookFormat.NDJSON) {
+            for (AuditMessage msg : msgs) {
+                payload.append(formatJson(msg)).append('\n');
+            }
+        } else {
+            payload.append('[');
+            for (int i = 0; i < msgs.size(); i++) {
+                if (i > 0) {
+                    payload.append(',');
+                }
+                payload.append(formatJson(msgs.get(i)));
+            }
+            payload.append(']');
+        }
+        return payload.toString();
+    }
+
     boolean get(AuditMessage msg) {
         switch (webhookFormat) {
             case URL_PARAMETER_GET:
@@ -272,6 +488,10 @@ public class WebhookSink extends AuditLogSink {
                 payload = "";
                 url = webhookUrl + formatUrlParameters(msg);
                 break;
+            case JSON_ARRAY:
+            case NDJSON:
+                payload = formatBatch(List.of(msg));
+                break;
             default:
                 log.error("WebhookFormat '{}' not implemented yet", webhookFormat.name());
                 return false;
@@ -361,7 +581,7 @@ public class WebhookSink extends AuditLogSink {
     CloseableHttpClient getHttpClient() {
 
         // TODO: set a timeout until we have a proper way to deal with back pressure
-        int timeout = 5;
+        int timeout = REQUEST_TIMEOUT_SECONDS;
 
         RequestConfig config = RequestConfig.custom()
             .setConnectTimeout(timeout, TimeUnit.SECONDS)
@@ -415,19 +635,70 @@ public class WebhookSink extends AuditLogSink {
         }
     }
 
+    CloseableHttpAsyncClient getAsyncHttpClient() {
+
+        final RequestConfig config = RequestConfig.custom()
+            .setConnectTimeout(REQUEST_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+            .setConnectionRequestTimeout(REQUEST_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+            .setResponseTimeout(REQUEST_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+            .build();
+
+        try {
+            final PoolingAsyncClientConnectionManagerBuilder cmb = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(batchConcurrency)
+                .setMaxConnPerRoute(batchConcurrency);
+
+            if (!verifySSL) {
+                final SSLContext sslContext = SSLContextBuilder.create().loadTrustMaterial((chain, authType) -> true).build();
+                cmb.setTlsStrategy(
+                    ClientTlsStrategyBuilder.create().setSslContext(sslContext).setHostnameVerifier(NoopHostnameVerifier.INSTANCE).build()
+                );
+            } else if (effectiveTruststore != null) {
+                final SSLContext sslContext = SSLContextBuilder.create().loadTrustMaterial(effectiveTruststore, null).build();
+                cmb.setTlsStrategy(
+                    ClientTlsStrategyBuilder.create().setSslContext(sslContext).setHostnameVerifier(new DefaultHostnameVerifier()).build()
+                );
+            }
+
+            final CloseableHttpAsyncClient client = HttpAsyncClients.custom()
+                .setDefaultRequestConfig(config)
+                .setConnectionManager(cmb.build())
+                .build();
+            client.start();
+            return client;
+        } catch (Exception ex) {
+            log.error("Could not create async HTTPClient due to {}, batched audit log delivery not available.", ex.getMessage(), ex);
+            return null;
+        }
+    }
+
+    private static enum BatchResult {
+        STORED,
+        RETRY,
+        FAILED;
+    }
+
     public static enum WebhookFormat {
         URL_PARAMETER_GET(HttpMethod.GET, ContentType.TEXT_PLAIN),
         URL_PARAMETER_POST(HttpMethod.POST, ContentType.TEXT_PLAIN),
         TEXT(HttpMethod.POST, ContentType.TEXT_PLAIN),
         JSON(HttpMethod.POST, ContentType.APPLICATION_JSON),
-        SLACK(HttpMethod.POST, ContentType.APPLICATION_JSON);
+        SLACK(HttpMethod.POST, ContentType.APPLICATION_JSON),
+        JSON_ARRAY(HttpMethod.POST, ContentType.APPLICATION_JSON, true),
+        NDJSON(HttpMethod.POST, ContentType.create("application/x-ndjson"), true);
 
         private HttpMethod method;
         private ContentType contentType;
+        private boolean batched;
 
         private WebhookFormat(HttpMethod method, ContentType contentType) {
+            this(method, contentType, false);
+        }
+
+        private WebhookFormat(HttpMethod method, ContentType contentType, boolean batched) {
             this.method = method;
             this.contentType = contentType;
+            this.batched = batched;
         }
 
         HttpMethod getMethod() {
@@ -438,6 +709,13 @@ public class WebhookSink extends AuditLogSink {
             return contentType;
         }
 
+        /**
+         * @return true if several messages can be sent in one request
+         */
+        boolean isBatched() {
+            return batched;
+        }
+
     }
 
     private static enum HttpMethod {
@@ -19,6 +19,7 @@ package org.opensearch.security.auth;
 
 import java.net.InetAddress;
 
+import org.opensearch.security.support.IpRangeTrie;
 import org.opensearch.security.support.WildcardMatcher;
 import org.opensearch.security.user.AuthCredentials;
 
@@ -26,4 +27,11 @@ public interface AuthFailureListener {
     void onAuthFailure(InetAddress remoteAddress, AuthCredentials authCredentials, Object request);
 
     WildcardMatcher getIgnoreHostsMatcher();
+
+    /**
+     * Ignored hosts given as CIDR ranges, these are matched against the numeric address only
+     */
+    default IpRangeTrie<String> getIgnoreHostsRanges() {
+        return IpRangeTrie.fromCidrs(null);
+    }
 }
@@ -32,19 +32,21 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.google.common.base.Strings;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.RemovalListener;
-import com.google.common.cache.RemovalNotification;
+import com.google.common.base.Ticker;
 import com.google.common.collect.Multimap;
 import org.apache.http.HttpHeaders;
 import org.apache.logging.log4j.LogManager;
@@ -64,7 +66,11 @@ import org.opensearch.security.filter.SecurityRequestChannel;
 import org.opensearch.security.filter.SecurityResponse;
 import org.opensearch.security.http.XFFResolver;
 import org.opensearch.security.securityconf.DynamicConfigModel;
+import org.opensearch.security.securityconf.impl.CType;
 import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.IpRangeTrie;
+import org.opensearch.security.support.ReverseDnsCache;
+import org.opensearch.security.support.SecurityStats;
 import org.opensearch.security.support.WildcardMatcher;
 import org.opensearch.security.user.AuthCredentials;
 import org.opensearch.security.user.User;
@@ -97,43 +103,59 @@ public class BackendRegistry {
     // private final InternalAuthenticationBackend iab;
     private final AuditLog auditLog;
     private final ThreadPool threadPool;
+    private final ReverseDnsCache reverseDnsCache;
     private final UserInjector userInjector;
+    private final SecurityStats securityStats;
     private final int ttlInMin;
-    private Cache<AuthCredentials, User> userCache; // rest standard
-    private Cache<String, User> restImpersonationCache; // used for rest impersonation
-    private Cache<User, Set<String>> restRoleCache; //
+    private RefreshAheadCache<AuthCredentials, User> userCache; // rest standard
+    private RefreshAheadCache<String, User> restImpersonationCache; // used for rest impersonation
+    private RefreshAheadCache<User, Set<String>> restRoleCache; //
+    private ThreadPoolExecutor refreshExecutor;
 
     private void createCaches() {
-        userCache = CacheBuilder.newBuilder()
-            .expireAfterWrite(ttlInMin, TimeUnit.MINUTES)
-            .removalListener(new RemovalListener<AuthCredentials, User>() {
-                @Override
-                public void onRemoval(RemovalNotification<AuthCredentials, User> notification) {
-                    log.debug("Clear user cache for {} due to {}", notification.getKey().getUsername(), notification.getCause());
-                }
-            })
-            .build();
-
-        restImpersonationCache = CacheBuilder.newBuilder()
-            .expireAfterWrite(ttlInMin, TimeUnit.MINUTES)
-            .removalListener(new RemovalListener<String, User>() {
-                @Override
-                public void onRemoval(RemovalNotification<String, User> notification) {
-                    log.debug("Clear user cache for {} due to {}", notification.getKey(), notification.getCause());
-                }
-            })
-            .build();
-
-        restRoleCache = CacheBuilder.newBuilder()
-            .expireAfterWrite(ttlInMin, TimeUnit.MINUTES)
-            .removalListener(new RemovalListener<User, Set<String>>() {
-                @Override
-                public void onRemoval(RemovalNotification<User, Set<String>> notification) {
-                    log.debug("Clear user cache for {} due to {}", notification.getKey(), notification.getCause());
+        final long ttlNanos = TimeUnit.MINUTES.toNanos(ttlInMin);
+        final int refreshAfterMin = opensearchSettings.getAsInt(ConfigConstants.SECURITY_CACHE_REFRESH_AFTER_MINUTES, 0);
+        final long refreshAfterNanos = TimeUnit.MINUTES.toNanos(refreshAfterMin);
+        final int jitterPercent = opensearchSettings.getAsInt(ConfigConstants.SECURITY_CACHE_TTL_JITTER_PERCENT, 0);
+        // the executor of caches which are replaced must not keep running
+        close();
+        refreshExecutor = null;
+
+        Executor contextPreservingRefreshExecutor = null;
+        if (refreshAfterMin > 0 && refreshAfterMin < ttlInMin) {
+            final int threads = opensearchSettings.getAsInt(ConfigConstants.SECURITY_CACHE_REFRESH_THREADS, 2);
+            final int queueSize = opensearchSettings.getAsInt(ConfigConstants.SECURITY_CACHE_REFRESH_QUEUE_SIZE, 1000);
+            final AtomicInteger threadCounter = new AtomicInteger();
+            final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                r -> {
+                    final Thread thread = new Thread(r, "opensearch-security-cache-refresh-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
                 }
-            })
-            .build();
+            );
+            // re-validations run in the thread context of the request which triggered them, like node thread pool tasks
+            contextPreservingRefreshExecutor = command -> executor.execute(threadPool.getThreadContext().preserveContext(command));
+            refreshExecutor = executor;
+            log.info("Refreshing cached users after {} minutes, they expire after {} minutes at the latest", refreshAfterMin, ttlInMin);
+        }
 
+        final Ticker ticker = Ticker.systemTicker();
+        userCache = new RefreshAheadCache<>("user", ttlNanos, refreshAfterNanos, jitterPercent, contextPreservingRefreshExecutor, ticker);
+        restImpersonationCache = new RefreshAheadCache<>(
+            "impersonation",
+            ttlNanos,
+            refreshAfterNanos,
+            jitterPercent,
+            contextPreservingRefreshExecutor,
+            ticker
+        );
+        // roles are only re-validated together with the user they belong to
+        restRoleCache = new RefreshAheadCache<>("roles", ttlNanos, 0, jitterPercent, null, ticker);
     }
 
     public BackendRegistry(
@@ -141,13 +163,17 @@ public class BackendRegistry {
         final AdminDNs adminDns,
         final XFFResolver xffResolver,
         final AuditLog auditLog,
-        final ThreadPool threadPool
+        final ThreadPool threadPool,
+        final ReverseDnsCache reverseDnsCache,
+        final SecurityStats securityStats
     ) {
         this.adminDns = adminDns;
         this.opensearchSettings = settings;
         this.xffResolver = xffResolver;
         this.auditLog = auditLog;
         this.threadPool = threadPool;
+        this.reverseDnsCache = reverseDnsCache;
+        this.securityStats = securityStats;
         this.userInjector = new UserInjector(settings, threadPool, auditLog, xffResolver);
         this.restAuthDomains = Collections.emptySortedSet();
         this.ipAuthFailureListeners = Collections.emptyList();
@@ -165,16 +191,82 @@ public class BackendRegistry {
         return initialized;
     }
 
+    /**
+     * Stops the background re-validation of cached entries, called when the node stops.
+     */
+    public void close() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+    }
+
     public void invalidateCache() {
         userCache.invalidateAll();
         restImpersonationCache.invalidateAll();
         restRoleCache.invalidateAll();
     }
 
+    /**
+     * Invalidates only the cache entries which can be affected by a reload of the given config types.
+     *
+     * Changes to the config type affect all authentication and authorization backends, so all entries are dropped.
+     * For changes to internal users, only the entries of the given users are dropped. Other config types are not
+     * used for authentication, so the caches are kept.
+     *
+     * @param configTypes the reloaded config types
+     * @param affectedUsers the users whose cached entries are affected by the reload, or null if unknown
+     */
+    public void invalidateCache(final Collection<CType> configTypes, final Collection<String> affectedUsers) {
+        if (configTypes.contains(CType.CONFIG) || affectedUsers == null) {
+            invalidateCache();
+        } else if (!affectedUsers.isEmpty()) {
+            for (String userName : affectedUsers) {
+                invalidateUser(userName);
+            }
+        }
+    }
+
+    /**
+     * Drops all cached entries of the user with the given name.
+     *
+     * @return the number of dropped entries
+     */
+    public int invalidateUser(final String userName) {
+        int invalidated = userCache.invalidateIf(credentials -> userName.equals(credentials.getUsername()));
+        invalidated += restImpersonationCache.invalidateIf(userName::equals);
+        invalidated += restRoleCache.invalidateIf(user -> userName.equals(user.getName()));
+        if (log.isDebugEnabled()) {
+            log.debug("Invalidated {} cache entries of user {}", invalidated, userName);
+        }
+        return invalidated;
+    }
+
+    public Map<String, Map<String, Object>> getCacheStats() {
+        final Map<String, Map<String, Object>> stats = new LinkedHashMap<>();
+        stats.put("user", userCache.getStats());
+        stats.put("impersonation", restImpersonationCache.getStats());
+        stats.put("roles", restRoleCache.getStats());
+        return stats;
+    }
+
+    /**
+     * Returns all currently configured auth failure listeners, both the IP based and the auth backend specific ones.
+     */
+    public List<AuthFailureListener> getAuthFailureListeners() {
+        final List<AuthFailureListener> ipListeners = this.ipAuthFailureListeners;
+        final Multimap<String, AuthFailureListener> backendListeners = this.authBackendFailureListeners;
+        final List<AuthFailureListener> result = new ArrayList<>(ipListeners);
+        if (backendListeners != null) {
+            result.addAll(backendListeners.values());
+        }
+        return result;
+    }
+
     @Subscribe
     public void onDynamicConfigModelChanged(DynamicConfigModel dcm) {
 
-        invalidateCache();
+        // the model is posted for every reload, no matter which config types changed;
+        // the caches are invalidated by TransportConfigUpdateAction depending on the reloaded types
         anonymousAuthEnabled = dcm.isAnonymousAuthenticationEnabled()// config.dynamic.http.anonymous_auth_enabled
             && !opensearchSettings.getAsBoolean(ConfigConstants.SECURITY_COMPLIANCE_DISABLE_ANONYMOUS_AUTHENTICATION, false);
 
@@ -212,6 +304,7 @@ public class BackendRegistry {
                 );
             }
 
+            securityStats.denied("authentication");
             request.queueForSending(new SecurityResponse(SC_UNAUTHORIZED, "Authentication finally failed"));
             return false;
         }
@@ -434,6 +527,11 @@ public class BackendRegistry {
 
             notifyIpAuthFailureListeners(request, authCredentials);
 
+            // a challenge answering a request without credentials is the first leg of a normal handshake, not a denial
+            if (authCredentials != null || challengeResponse.isEmpty()) {
+                securityStats.denied("authentication");
+            }
+
             request.queueForSending(
                 challengeResponse.orElseGet(() -> new SecurityResponse(SC_UNAUTHORIZED, "Authentication finally failed"))
             );
@@ -477,7 +575,7 @@ public class BackendRegistry {
      * @return null if user cannot b authenticated
      */
     private User checkExistsAndAuthz(
-        final Cache<String, User> cache,
+        final RefreshAheadCache<String, User> cache,
         final User user,
         final AuthenticationBackend authenticationBackend,
         final Set<AuthorizationBackend> authorizers
@@ -510,6 +608,14 @@ public class BackendRegistry {
                     }
                     return null;
                 }
+            }, () -> () -> {
+                // re-validate with a fresh user object, the cached one may be in use by other requests
+                final User refreshedUser = new User(user.getName());
+                if (authenticationBackend.exists(refreshedUser)) {
+                    authz(refreshedUser, null, authorizers);
+                    return refreshedUser;
+                }
+                return null;
             });
         } catch (Exception e) {
             if (isDebugEnabled) {
@@ -519,13 +625,30 @@ public class BackendRegistry {
         }
     }
 
-    private void authz(User authenticatedUser, Cache<User, Set<String>> roleCache, final Set<AuthorizationBackend> authorizers) {
+    private void authz(
+        User authenticatedUser,
+        RefreshAheadCache<User, Set<String>> roleCache,
+        final Set<AuthorizationBackend> authorizers
+    ) {
+        authz(authenticatedUser, roleCache, authorizers, true);
+    }
+
+    /**
+     * @param useCachedRoles false to bypass the role cache, e.g. when a cached user is re-validated; the roles are
+     *                       still put into the cache
+     */
+    private void authz(
+        User authenticatedUser,
+        RefreshAheadCache<User, Set<String>> roleCache,
+        final Set<AuthorizationBackend> authorizers,
+        final boolean useCachedRoles
+    ) {
 
         if (authenticatedUser == null) {
             return;
         }
 
-        if (roleCache != null) {
+        if (roleCache != null && useCachedRoles) {
 
             final Set<String> cachedBackendRoles = roleCache.getIfPresent(authenticatedUser);
 
@@ -566,8 +689,8 @@ public class BackendRegistry {
      * @return null if user cannot b authenticated
      */
     private User authcz(
-        final Cache<AuthCredentials, User> cache,
-        Cache<User, Set<String>> roleCache,
+        final RefreshAheadCache<AuthCredentials, User> cache,
+        RefreshAheadCache<User, Set<String>> roleCache,
         final AuthCredentials ac,
         final AuthenticationBackend authBackend,
         final Set<AuthorizationBackend> authorizers
@@ -598,6 +721,18 @@ public class BackendRegistry {
                     authz(authenticatedUser, roleCache, authorizers);
                     return authenticatedUser;
                 }
+            }, () -> {
+                // the secrets of ac are cleared when this request is done, the refresh needs its own copy
+                final AuthCredentials credentials = ac.copy();
+                return () -> {
+                    try {
+                        final User authenticatedUser = authBackend.authenticate(credentials);
+                        authz(authenticatedUser, roleCache, authorizers, false);
+                        return authenticatedUser;
+                    } finally {
+                        credentials.clearSecrets();
+                    }
+                };
             });
         } catch (Exception e) {
             if (log.isDebugEnabled()) {
@@ -688,8 +823,14 @@ public class BackendRegistry {
         }
 
         for (ClientBlockRegistry<InetAddress> clientBlockRegistry : ipClientBlockRegistries) {
-            WildcardMatcher ignoreHostsMatcher = ((AuthFailureListener) clientBlockRegistry).getIgnoreHostsMatcher();
-            if (matchesHostPatterns(ignoreHostsMatcher, address, hostResolverMode)) {
+            final AuthFailureListener authFailureListener = (AuthFailureListener) clientBlockRegistry;
+            if (matchesHostPatterns(
+                authFailureListener.getIgnoreHostsMatcher(),
+                authFailureListener.getIgnoreHostsRanges(),
+                address,
+                hostResolverMode,
+                reverseDnsCache
+            )) {
                 return false;
             }
             if (clientBlockRegistry.isBlocked(address)) {
@@ -701,6 +842,22 @@ public class BackendRegistry {
     }
 
     public static boolean matchesHostPatterns(WildcardMatcher hostMatcher, InetAddress address, String hostResolverMode) {
+        return matchesHostPatterns(hostMatcher, null, address, hostResolverMode, null);
+    }
+
+    /**
+     * @param reverseDnsCache used to look up host names, if null only host names the address was created with are matched
+     */
+    public static boolean matchesHostPatterns(
+        WildcardMatcher hostMatcher,
+        IpRangeTrie<String> hostRanges,
+        InetAddress address,
+        String hostResolverMode,
+        ReverseDnsCache reverseDnsCache
+    ) {
+        if (hostRanges != null && hostRanges.matches(address)) {
+            return true;
+        }
         if (hostMatcher == null) {
             return false;
         }
@@ -708,8 +865,13 @@ public class BackendRegistry {
             List<String> valuesToCheck = new ArrayList<>(List.of(address.getHostAddress()));
             if (hostResolverMode != null
                 && (hostResolverMode.equalsIgnoreCase("ip-hostname") || hostResolverMode.equalsIgnoreCase("ip-hostname-lookup"))) {
-                final String hostName = address.getHostName();
-                valuesToCheck.add(hostName);
+                // reverse lookups are served from a cache, request threads wait at most for its timeout budget
+                final String hostName = reverseDnsCache != null
+                    ? reverseDnsCache.getHostName(address)
+                    : ReverseDnsCache.knownHostName(address);
+                if (hostName != null) {
+                    valuesToCheck.add(hostName);
+                }
             }
 
             return valuesToCheck.stream().anyMatch(hostMatcher);
@@ -0,0 +1,247 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auth;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader.InvalidCacheLoadException;
+import com.google.common.cache.CacheStats;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Cache for authentication and authorization results with an optional refresh-ahead mode.
+ *
+ * Entries expire after the TTL (the hard limit, which is never exceeded), optionally shortened by a random jitter so
+ * that entries loaded at the same time do not all expire at the same time. If a refresh interval and an executor are
+ * configured, the first access to an entry older than the refresh interval still returns the cached value, but
+ * re-validates it in the background. If the re-validation fails, the entry is dropped, so the next request is
+ * authenticated again in the foreground.
+ */
+public class RefreshAheadCache<K, V> {
+
+    private static final Logger log = LogManager.getLogger(RefreshAheadCache.class);
+
+    private final String name;
+    private final Cache<K, Entry<V>> cache;
+    private final Ticker ticker;
+    private final long ttlNanos;
+    private final long refreshAfterNanos;
+    private final int jitterPercent;
+    private final Executor refreshExecutor;
+
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+    private final LongAdder refreshesRejected = new LongAdder();
+    private final LongAdder expiredByJitter = new LongAdder();
+
+    /**
+     * @param name the name of the cache, used for logging
+     * @param ttlNanos the time after which entries expire at the latest
+     * @param refreshAfterNanos the time after which entries are re-validated in the background, 0 to disable
+     * @param jitterPercent the maximum percentage by which the TTL and refresh interval of an entry are shortened
+     * @param refreshExecutor the executor for background re-validations, null to disable
+     * @param ticker the time source
+     */
+    public RefreshAheadCache(
+        final String name,
+        final long ttlNanos,
+        final long refreshAfterNanos,
+        final int jitterPercent,
+        final Executor refreshExecutor,
+        final Ticker ticker
+    ) {
+        this.name = name;
+        this.ticker = ticker;
+        this.ttlNanos = ttlNanos;
+        this.refreshAfterNanos = refreshExecutor != null && refreshAfterNanos > 0 && refreshAfterNanos < ttlNanos ? refreshAfterNanos : 0;
+        this.jitterPercent = Math.max(0, Math.min(jitterPercent, 50));
+        this.refreshExecutor = refreshExecutor;
+        this.cache = CacheBuilder.newBuilder()
+            .expireAfterWrite(ttlNanos, TimeUnit.NANOSECONDS)
+            .ticker(ticker)
+            .recordStats()
+            .<K, Entry<V>>removalListener(
+                notification -> log.debug("Clear {} cache for {} due to {}", name, notification.getKey(), notification.getCause())
+            )
+            .build();
+    }
+
+    public RefreshAheadCache(final String name, final long ttl, final TimeUnit unit) {
+        this(name, unit.toNanos(ttl), 0, 0, null, Ticker.systemTicker());
+    }
+
+    /**
+     * Returns the cached value or loads it with the given loader. Returns the cached value as well if it is due to be
+     * refreshed; in this case the refresher supplied by the given supplier is executed in the background.
+     *
+     * @param refresher supplies the task which re-validates the value, only called if a refresh is due; may be null
+     * @throws ExecutionException if the loader failed
+     */
+    public V get(final K key, final Callable<? extends V> loader, final Supplier<Callable<? extends V>> refresher)
+        throws ExecutionException {
+        final Callable<Entry<V>> entryLoader = () -> {
+            final V value = loader.call();
+            if (value == null) {
+                // like a plain Guava cache, null values are not cached
+                throw new InvalidCacheLoadException("loader returned null for " + name + " cache");
+            }
+            return newEntry(value);
+        };
+        Entry<V> entry = cache.get(key, entryLoader);
+        final long now = ticker.read();
+
+        if (isExpiredByJitter(entry, now)) {
+            // expired because of the jitter before the hard TTL of the underlying cache
+            expiredByJitter.increment();
+            cache.asMap().remove(key, entry);
+            entry = cache.get(key, entryLoader);
+        } else if (refresher != null && now - entry.refreshAt >= 0 && entry.refreshing.compareAndSet(false, true)) {
+            refresh(key, entry, refresher);
+        }
+
+        return entry.value;
+    }
+
+    public V get(final K key, final Callable<? extends V> loader) throws ExecutionException {
+        return get(key, loader, null);
+    }
+
+    public V getIfPresent(final K key) {
+        final Entry<V> entry = cache.getIfPresent(key);
+        if (entry == null) {
+            return null;
+        }
+        if (isExpiredByJitter(entry, ticker.read())) {
+            expiredByJitter.increment();
+            cache.asMap().remove(key, entry);
+            return null;
+        }
+        return entry.value;
+    }
+
+    public void put(final K key, final V value) {
+        cache.put(key, newEntry(value));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Drops all entries whose keys match the given predicate.
+     *
+     * @return the number of dropped entries
+     */
+    public int invalidateIf(final Predicate<K> predicate) {
+        int invalidated = 0;
+        for (K key : cache.asMap().keySet()) {
+            if (predicate.test(key) && cache.asMap().remove(key) != null) {
+                invalidated++;
+            }
+        }
+        return invalidated;
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    public boolean isRefreshAheadEnabled() {
+        return refreshAfterNanos > 0;
+    }
+
+    public Map<String, Object> getStats() {
+        final CacheStats cacheStats = cache.stats();
+        final Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", cache.size());
+        stats.put("hit_count", cacheStats.hitCount());
+        stats.put("miss_count", cacheStats.missCount());
+        stats.put("hit_rate", cacheStats.hitRate());
+        stats.put("eviction_count", cacheStats.evictionCount() + expiredByJitter.sum());
+        stats.put("load_exception_count", cacheStats.loadExceptionCount());
+        stats.put("average_load_penalty_millis", cacheStats.averageLoadPenalty() / 1_000_000.0d);
+        stats.put("refresh_ahead", isRefreshAheadEnabled());
+        stats.put("refresh_count", refreshes.sum());
+        stats.put("refresh_failure_count", refreshFailures.sum());
+        stats.put("refresh_rejected_count", refreshesRejected.sum());
+        return stats;
+    }
+
+    private void refresh(final K key, final Entry<V> entry, final Supplier<Callable<? extends V>> refresher) {
+        final Callable<? extends V> task = refresher.get();
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    final V value = task.call();
+                    if (value != null) {
+                        // does nothing if the entry was invalidated in the meantime
+                        cache.asMap().replace(key, entry, newEntry(value));
+                        refreshes.increment();
+                        return;
+                    }
+                    log.debug("Refresh of {} cache entry for {} returned no value", name, key);
+                } catch (Exception e) {
+                    log.debug("Refresh of {} cache entry for {} failed", name, key, e);
+                }
+                refreshFailures.increment();
+                cache.asMap().remove(key, entry);
+            });
+        } catch (RejectedExecutionException e) {
+            refreshesRejected.increment();
+            // try again with the next access
+            entry.refreshing.set(false);
+        }
+    }
+
+    /**
+     * Entries without jitter are expired by the underlying cache exactly after the TTL.
+     */
+    private boolean isExpiredByJitter(final Entry<V> entry, final long now) {
+        return jitterPercent > 0 && ttlNanos > 0 && now - entry.expiresAt >= 0;
+    }
+
+    private Entry<V> newEntry(final V value) {
+        final long now = ticker.read();
+        final double factor = jitterPercent == 0 ? 1.0d : 1.0d - ThreadLocalRandom.current().nextDouble() * jitterPercent / 100.0d;
+        final long expiresAt = now + (long) (ttlNanos * factor);
+        final long refreshAt = refreshAfterNanos == 0 ? expiresAt : now + (long) (refreshAfterNanos * factor);
+        return new Entry<>(value, refreshAt, expiresAt);
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long refreshAt;
+        private final long expiresAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private Entry(final V value, final long refreshAt, final long expiresAt) {
+            this.value = value;
+            this.refreshAt = refreshAt;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -23,5 +23,13 @@ public interface ClientBlockRegistry<ClientIdType> {
 
     void block(ClientIdType clientId);
 
+    /**
+     * Blocks the client as if it had been blocked at the given time, so that blocks received from
+     * other nodes expire at the same time on all nodes.
+     */
+    default void block(ClientIdType clientId, long blockedAtMillis) {
+        block(clientId);
+    }
+
     Class<ClientIdType> getClientIdType();
 }
@@ -32,9 +32,11 @@ public class HeapBasedClientBlockRegistry<ClientIdType> implements ClientBlockRe
 
     private final Cache<ClientIdType, Long> cache;
     private final Class<ClientIdType> clientIdType;
+    private final long expiryMs;
 
     public HeapBasedClientBlockRegistry(long expiryMs, int maxEntries, Class<ClientIdType> clientIdType) {
         this.clientIdType = clientIdType;
+        this.expiryMs = expiryMs;
         this.cache = CacheBuilder.newBuilder()
             .expireAfterWrite(expiryMs, TimeUnit.MILLISECONDS)
             .maximumSize(maxEntries)
@@ -52,7 +54,8 @@ public class HeapBasedClientBlockRegistry<ClientIdType> implements ClientBlockRe
 
     @Override
     public boolean isBlocked(ClientIdType clientId) {
-        return cache.getIfPresent(clientId) != null;
+        final Long blockedAt = cache.getIfPresent(clientId);
+        return blockedAt != null && System.currentTimeMillis() - blockedAt < expiryMs;
     }
 
     @Override
@@ -64,6 +67,19 @@ public class HeapBasedClientBlockRegistry<ClientIdType> implements ClientBlockRe
         this.cache.put(clientId, System.currentTimeMillis());
     }
 
+    @Override
+    public void block(ClientIdType clientId, long blockedAtMillis) {
+        if (System.currentTimeMillis() - blockedAtMillis >= expiryMs) {
+            return;
+        }
+
+        if (log.isInfoEnabled() && cache.getIfPresent(clientId) == null) {
+            log.info("Blocking " + clientId + " (blocked on another node)");
+        }
+
+        this.cache.asMap().merge(clientId, blockedAtMillis, Math::max);
+    }
+
     @Override
     public Class<ClientIdType> getClientIdType() {
         return clientIdType;
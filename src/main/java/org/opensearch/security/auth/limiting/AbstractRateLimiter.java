@@ -20,30 +20,59 @@ package org.opensearch.security.auth.limiting;
 import java.net.InetAddress;
 import java.nio.file.Path;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.net.InetAddresses;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 import org.opensearch.common.settings.Settings;
 import org.opensearch.security.auth.AuthFailureListener;
 import org.opensearch.security.auth.blocking.ClientBlockRegistry;
 import org.opensearch.security.auth.blocking.HeapBasedClientBlockRegistry;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.IpRangeTrie;
 import org.opensearch.security.support.WildcardMatcher;
 import org.opensearch.security.user.AuthCredentials;
 import org.opensearch.security.util.ratetracking.RateTracker;
 
 public abstract class AbstractRateLimiter<ClientIdType> implements AuthFailureListener, ClientBlockRegistry<ClientIdType> {
+
+    /**
+     * Upper bound for the number of clients with failures which are collected between two exchanges with the other nodes.
+     */
+    static final int MAX_PENDING_CLIENTS = 10_000;
+
+    private static final Logger log = LogManager.getLogger(AbstractRateLimiter.class);
+
     protected final ClientBlockRegistry<ClientIdType> clientBlockRegistry;
     protected final RateTracker<ClientIdType> rateTracker;
     protected final List<String> ignoreHosts;
     private WildcardMatcher ignoreHostMatcher;
+    private final IpRangeTrie<String> ignoreHostRanges;
+    private final String name;
+    private final boolean clusterSyncEnabled;
+    private final ConcurrentHashMap<ClientIdType, Integer> pendingFailures = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<ClientIdType, Long> pendingBlocks = new ConcurrentHashMap<>();
 
     public AbstractRateLimiter(Settings settings, Path configPath, Class<ClientIdType> clientIdType) {
+        this.name = settings.get("listener_name");
+        this.clusterSyncEnabled = name != null
+            && settings.getAsBoolean(ConfigConstants.SECURITY_AUTH_FAILURE_LISTENERS_SYNC_ENABLED, false);
         this.ignoreHosts = settings.getAsList("ignore_hosts", Collections.emptyList());
+        this.ignoreHostRanges = settings.getAsBoolean(ConfigConstants.SECURITY_HOSTS_CIDR_MATCHING_ENABLED, false)
+            ? IpRangeTrie.fromCidrs(this.ignoreHosts)
+            : IpRangeTrie.fromCidrs(null);
         this.clientBlockRegistry = new HeapBasedClientBlockRegistry<>(
             settings.getAsInt("block_expiry_seconds", 60 * 10) * 1000,
             settings.getAsInt("max_blocked_clients", 100_000),
             clientIdType
         );
         this.rateTracker = RateTracker.create(
+            settings.get("rate_tracker", RateTracker.HEAP),
             settings.getAsInt("time_window_seconds", 60 * 60) * 1000,
             settings.getAsInt("allowed_tries", 10),
             settings.getAsInt("max_tracked_clients", 100_000)
@@ -66,6 +95,11 @@ public abstract class AbstractRateLimiter<ClientIdType> implements AuthFailureLi
         return hostMatcher;
     }
 
+    @Override
+    public IpRangeTrie<String> getIgnoreHostsRanges() {
+        return this.ignoreHostRanges;
+    }
+
     @Override
     public boolean isBlocked(ClientIdType clientId) {
         return clientBlockRegistry.isBlocked(clientId);
@@ -75,6 +109,113 @@ public abstract class AbstractRateLimiter<ClientIdType> implements AuthFailureLi
     public void block(ClientIdType clientId) {
         clientBlockRegistry.block(clientId);
         rateTracker.reset(clientId);
+        if (clusterSyncEnabled) {
+            pendingBlocks.put(clientId, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Records an auth failure of the given client and returns true if the client exceeded the allowed tries.
+     * If the cluster wide sync is enabled, the failure is also collected to be sent to the other nodes.
+     */
+    protected boolean track(ClientIdType clientId) {
+        if (clusterSyncEnabled && (pendingFailures.containsKey(clientId) || pendingFailures.size() < MAX_PENDING_CLIENTS)) {
+            pendingFailures.merge(clientId, 1, Integer::sum);
+        }
+        return rateTracker.track(clientId);
+    }
+
+    /**
+     * The name of the listener in the auth_failure_listeners config; it identifies the listener across nodes.
+     */
+    public String getName() {
+        return name;
+    }
+
+    public boolean isClusterSyncEnabled() {
+        return clusterSyncEnabled;
+    }
+
+    /**
+     * Returns the failures and blocks which happened on this node since the last call and clears them,
+     * or null if nothing happened.
+     */
+    public RateLimiterState exportState() {
+        if (!clusterSyncEnabled || (pendingFailures.isEmpty() && pendingBlocks.isEmpty())) {
+            return null;
+        }
+
+        final Map<String, Integer> failures = new HashMap<>();
+        for (ClientIdType clientId : pendingFailures.keySet()) {
+            final Integer count = pendingFailures.remove(clientId);
+            if (count != null) {
+                failures.merge(formatClientId(clientId), count, Integer::sum);
+            }
+        }
+
+        final Map<String, Long> blocks = new HashMap<>();
+        for (ClientIdType clientId : pendingBlocks.keySet()) {
+            final Long blockedAt = pendingBlocks.remove(clientId);
+            if (blockedAt != null) {
+                blocks.merge(formatClientId(clientId), blockedAt, Math::max);
+            }
+        }
+
+        return new RateLimiterState(name, failures, blocks);
+    }
+
+    /**
+     * Applies the failures and blocks which happened on another node. Remote failures count towards the allowed
+     * tries of this node, remote blocks are applied with their original block time. Neither is sent on again.
+     */
+    public void importState(RateLimiterState state) {
+        if (!clusterSyncEnabled) {
+            return;
+        }
+
+        for (Map.Entry<String, Long> entry : state.getBlocks().entrySet()) {
+            final ClientIdType clientId = parseClientId(entry.getKey());
+            if (clientId != null) {
+                clientBlockRegistry.block(clientId, entry.getValue());
+                rateTracker.reset(clientId);
+            }
+        }
+
+        for (Map.Entry<String, Integer> entry : state.getFailures().entrySet()) {
+            final ClientIdType clientId = parseClientId(entry.getKey());
+            if (clientId == null || clientBlockRegistry.isBlocked(clientId)) {
+                continue;
+            }
+            for (int i = 0; i < entry.getValue(); i++) {
+                if (rateTracker.track(clientId)) {
+                    // all nodes see the same failures, so each of them reaches this decision on its own
+                    clientBlockRegistry.block(clientId);
+                    rateTracker.reset(clientId);
+                    break;
+                }
+            }
+        }
+    }
+
+    private String formatClientId(ClientIdType clientId) {
+        if (clientId instanceof InetAddress) {
+            return InetAddresses.toAddrString((InetAddress) clientId);
+        }
+        return String.valueOf(clientId);
+    }
+
+    private ClientIdType parseClientId(String clientId) {
+        final Class<ClientIdType> clientIdType = getClientIdType();
+        if (InetAddress.class.isAssignableFrom(clientIdType)) {
+            if (!InetAddresses.isInetAddress(clientId)) {
+                log.debug("Ignoring invalid client address {} for {}", clientId, name);
+                return null;
+            }
+            return clientIdType.cast(InetAddresses.forString(clientId));
+        } else if (String.class.isAssignableFrom(clientIdType)) {
+            return clientIdType.cast(clientId);
+        }
+        return null;
     }
 
     @Override
@@ -36,7 +36,7 @@ public class AddressBasedRateLimiter extends AbstractRateLimiter<InetAddress>
 
     @Override
     public void onAuthFailure(InetAddress remoteAddress, AuthCredentials authCredentials, Object request) {
-        if (this.rateTracker.track(remoteAddress)) {
+        if (track(remoteAddress)) {
             block(remoteAddress);
         }
     }
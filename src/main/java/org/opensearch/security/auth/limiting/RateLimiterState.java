@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auth.limiting;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+
+/**
+ * Changes of the state of a rate limiter on one node since the last exchange with the other nodes of the cluster:
+ * the number of auth failures per client and the clients which got blocked, together with the time they got blocked.
+ * Client ids are transferred in their textual form.
+ */
+public class RateLimiterState implements Writeable {
+
+    private final String listenerName;
+    private final Map<String, Integer> failures;
+    private final Map<String, Long> blocks;
+
+    public RateLimiterState(String listenerName, Map<String, Integer> failures, Map<String, Long> blocks) {
+        this.listenerName = listenerName;
+        this.failures = failures;
+        this.blocks = blocks;
+    }
+
+    public RateLimiterState(StreamInput in) throws IOException {
+        this.listenerName = in.readString();
+        this.failures = in.readMap(StreamInput::readString, StreamInput::readVInt);
+        this.blocks = in.readMap(StreamInput::readString, StreamInput::readVLong);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeString(listenerName);
+        out.writeMap(failures, StreamOutput::writeString, StreamOutput::writeVInt);
+        out.writeMap(blocks, StreamOutput::writeString, StreamOutput::writeVLong);
+    }
+
+    public String getListenerName() {
+        return listenerName;
+    }
+
+    public Map<String, Integer> getFailures() {
+        return failures;
+    }
+
+    public Map<String, Long> getBlocks() {
+        return blocks;
+    }
+
+    public boolean isEmpty() {
+        return failures.isEmpty() && blocks.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimiterState [listenerName=" + listenerName + ", failures=" + failures.size() + ", blocks=" + blocks.size() + "]";
+    }
+}
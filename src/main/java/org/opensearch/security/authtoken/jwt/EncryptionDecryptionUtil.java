@@ -14,47 +14,102 @@ package org.opensearch.security.authtoken.jwt;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.crypto.Cipher;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 
+/**
+ * Encrypts and decrypts the roles claim of on behalf of tokens.
+ *
+ * Cipher instances are not thread safe. Each operation takes a cipher of its mode from a pool, or creates one if the
+ * pool is empty, and puts it back afterwards. Thus, concurrent requests do not wait for each other, and the number of
+ * ciphers follows the concurrency instead of being created per call.
+ */
 public class EncryptionDecryptionUtil {
 
-    private final Cipher encryptCipher;
-    private final Cipher decryptCipher;
+    private static final int MAX_POOLED_CIPHERS = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+    private final SecretKey secretKey;
+    private final CipherPool encryptCiphers;
+    private final CipherPool decryptCiphers;
 
     public EncryptionDecryptionUtil(final String secret) {
-        this.encryptCipher = createCipherFromSecret(secret, CipherMode.ENCRYPT);
-        this.decryptCipher = createCipherFromSecret(secret, CipherMode.DECRYPT);
+        this.secretKey = createKeyFromSecret(secret);
+        this.encryptCiphers = new CipherPool(secretKey, CipherMode.ENCRYPT);
+        this.decryptCiphers = new CipherPool(secretKey, CipherMode.DECRYPT);
     }
 
     public String encrypt(final String data) {
-        byte[] encryptedBytes = processWithCipher(data.getBytes(StandardCharsets.UTF_8), encryptCipher);
+        byte[] encryptedBytes = encryptCiphers.process(data.getBytes(StandardCharsets.UTF_8));
         return Base64.getEncoder().encodeToString(encryptedBytes);
     }
 
     public String decrypt(final String encryptedString) {
         byte[] decodedBytes = Base64.getDecoder().decode(encryptedString);
-        return new String(processWithCipher(decodedBytes, decryptCipher), StandardCharsets.UTF_8);
+        return new String(decryptCiphers.process(decodedBytes), StandardCharsets.UTF_8);
     }
 
-    private static Cipher createCipherFromSecret(final String secret, final CipherMode mode) {
+    private static SecretKey createKeyFromSecret(final String secret) {
         try {
             final byte[] decodedKey = Base64.getDecoder().decode(secret);
+            return new SecretKeySpec(Arrays.copyOf(decodedKey, 16), "AES");
+        } catch (final Exception e) {
+            throw new RuntimeException("Error creating key from secret", e);
+        }
+    }
+
+    private static Cipher createCipher(final SecretKey key, final CipherMode mode) {
+        try {
             final Cipher cipher = Cipher.getInstance("AES");
-            final SecretKey originalKey = new SecretKeySpec(Arrays.copyOf(decodedKey, 16), "AES");
-            cipher.init(mode.opmode, originalKey);
+            cipher.init(mode.opmode, key);
             return cipher;
         } catch (final Exception e) {
             throw new RuntimeException("Error creating cipher from secret in mode " + mode.name(), e);
         }
     }
 
-    private static byte[] processWithCipher(final byte[] data, final Cipher cipher) {
-        try {
-            return cipher.doFinal(data);
-        } catch (final Exception e) {
-            throw new RuntimeException("Error processing data with cipher", e);
+    private static final class CipherPool {
+        private final SecretKey key;
+        private final CipherMode mode;
+        private final Queue<Cipher> ciphers = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+
+        private CipherPool(final SecretKey key, final CipherMode mode) {
+            this.key = key;
+            this.mode = mode;
+            // fails early for an invalid secret
+            release(createCipher(key, mode));
+        }
+
+        private byte[] process(final byte[] data) {
+            Cipher cipher = ciphers.poll();
+            if (cipher != null) {
+                size.decrementAndGet();
+            } else {
+                cipher = createCipher(key, mode);
+            }
+
+            final byte[] result;
+            try {
+                result = cipher.doFinal(data);
+            } catch (final Exception e) {
+                // the cipher may need to be reset after a failure, it is not put back
+                throw new RuntimeException("Error processing data with cipher", e);
+            }
+            // doFinal() resets the cipher to its initialized state, it can be reused
+            release(cipher);
+            return result;
+        }
+
+        private void release(final Cipher cipher) {
+            if (size.incrementAndGet() <= MAX_POOLED_CIPHERS) {
+                ciphers.offer(cipher);
+            } else {
+                size.decrementAndGet();
+            }
         }
     }
 
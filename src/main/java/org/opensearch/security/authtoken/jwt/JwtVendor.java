@@ -46,7 +46,7 @@ public class JwtVendor {
     private final JWSSigner signer;
     private final LongSupplier timeProvider;
     private final EncryptionDecryptionUtil encryptionDecryptionUtil;
-    private static final Integer MAX_EXPIRY_SECONDS = 600;
+    public static final Integer MAX_EXPIRY_SECONDS = 600;
 
     public JwtVendor(final Settings settings, final Optional<LongSupplier> timeProvider) {
         final Tuple<JWK, JWSSigner> tuple = createJwkFromSettings(settings);
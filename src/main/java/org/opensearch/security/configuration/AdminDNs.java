@@ -32,16 +32,20 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 import javax.naming.InvalidNameException;
 import javax.naming.ldap.LdapName;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import org.opensearch.common.settings.Settings;
 import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.DistinguishedNameCache;
 import org.opensearch.security.support.WildcardMatcher;
 import org.opensearch.security.user.User;
 
@@ -54,9 +58,21 @@ public class AdminDNs {
     private final Map<String, WildcardMatcher> allowedRestImpersonations;
     private boolean injectUserEnabled;
     private boolean injectAdminUserEnabled;
+    private final DistinguishedNameCache distinguishedNameCache;
+
+    /**
+     * Results of isAdminDN() per principal. The admin DNs are fixed for the lifetime of this instance, so the results
+     * never become stale.
+     */
+    private final Cache<String, Boolean> adminDnDecisions = CacheBuilder.newBuilder().maximumSize(10000).build();
 
     public AdminDNs(final Settings settings) {
+        this(settings, new DistinguishedNameCache(settings));
+    }
+
+    public AdminDNs(final Settings settings, final DistinguishedNameCache distinguishedNameCache) {
 
+        this.distinguishedNameCache = distinguishedNameCache;
         this.injectUserEnabled = settings.getAsBoolean(ConfigConstants.SECURITY_UNSUPPORTED_INJECT_USER_ENABLED, false);
         this.injectAdminUserEnabled = settings.getAsBoolean(ConfigConstants.SECURITY_UNSUPPORTED_INJECT_ADMIN_USER_ENABLED, false);
 
@@ -136,8 +152,11 @@ public class AdminDNs {
         if (dn == null) return false;
 
         try {
-            return isAdminDN(new LdapName(dn));
-        } catch (InvalidNameException e) {
+            return adminDnDecisions.get(dn, () -> {
+                final DistinguishedNameCache.ParsedDn parsedDn = distinguishedNameCache.parse(dn);
+                return parsedDn != null && isAdminDN(parsedDn.getLdapName());
+            });
+        } catch (ExecutionException e) {
             return false;
         }
     }
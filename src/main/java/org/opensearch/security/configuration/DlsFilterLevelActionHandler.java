@@ -36,6 +36,7 @@ import org.opensearch.action.search.MultiSearchRequest;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchScrollAction;
+import org.opensearch.action.support.ContextPreservingActionListener;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
@@ -83,6 +84,7 @@ public class DlsFilterLevelActionHandler {
         IndicesService indicesService,
         IndexNameExpressionResolver resolver,
         DlsQueryParser dlsQueryParser,
+        TermsLookupCache termsLookupCache,
         ThreadContext threadContext
     ) {
 
@@ -122,18 +124,21 @@ public class DlsFilterLevelActionHandler {
             indicesService,
             resolver,
             dlsQueryParser,
+            termsLookupCache,
             threadContext
         ).handle();
     }
 
     private final String action;
     private final ActionRequest request;
+    private final Set<String> mappedRoles;
     private final ActionListener<?> listener;
     private final EvaluatedDlsFlsConfig evaluatedDlsFlsConfig;
     private final Resolved resolved;
     private final boolean requiresIndexScoping;
     private final Client nodeClient;
     private final DlsQueryParser dlsQueryParser;
+    private final TermsLookupCache termsLookupCache;
     private final ClusterService clusterService;
     private final IndicesService indicesService;
     private final ThreadContext threadContext;
@@ -150,10 +155,12 @@ public class DlsFilterLevelActionHandler {
         IndicesService indicesService,
         IndexNameExpressionResolver resolver,
         DlsQueryParser dlsQueryParser,
+        TermsLookupCache termsLookupCache,
         ThreadContext threadContext
     ) {
         this.action = context.getAction();
         this.request = context.getRequest();
+        this.mappedRoles = context.getMappedRoles();
         this.listener = listener;
         this.evaluatedDlsFlsConfig = evaluatedDlsFlsConfig;
         this.resolved = context.getResolvedRequest();
@@ -161,6 +168,7 @@ public class DlsFilterLevelActionHandler {
         this.clusterService = clusterService;
         this.indicesService = indicesService;
         this.dlsQueryParser = dlsQueryParser;
+        this.termsLookupCache = termsLookupCache;
         this.threadContext = threadContext;
         this.resolver = resolver;
 
@@ -178,6 +186,14 @@ public class DlsFilterLevelActionHandler {
                     return true;
                 }
 
+                if (request instanceof SearchRequest) {
+                    String localClusterAlias = LOCAL_CLUSTER_ALIAS_GETTER.apply((SearchRequest) request);
+
+                    if (localClusterAlias != null) {
+                        modifyQuery(localClusterAlias);
+                    }
+                }
+
                 if (log.isDebugEnabled()) {
                     log.debug("Created filterLevelQuery for " + request + ":\n" + filterLevelQueryBuilder);
                 }
@@ -192,43 +208,53 @@ public class DlsFilterLevelActionHandler {
                 return true;
             }
 
-            if (request instanceof SearchRequest) {
-                return handle((SearchRequest) request, ctx);
-            } else if (request instanceof GetRequest) {
-                return handle((GetRequest) request, ctx);
-            } else if (request instanceof MultiGetRequest) {
-                return handle((MultiGetRequest) request, ctx);
-            } else if (request instanceof ClusterSearchShardsRequest) {
-                return handle((ClusterSearchShardsRequest) request, ctx);
-            } else {
-                log.error("Unsupported request type for filter level DLS: " + request);
-                listener.onFailure(
-                    new OpenSearchSecurityException(
-                        "Unsupported request type for filter level DLS: " + action + "; " + request.getClass().getName()
-                    )
+            if (documentAllowlist != null) {
+                documentAllowlist.applyTo(threadContext);
+            }
+
+            if (termsLookupCache != null && documentAllowlist != null && !documentAllowlist.isEmpty()) {
+                // Resolve the terms lookups here using the cache; the resulting query does not need any further lookups.
+                // The lookups complete asynchronously, the request is continued in the current thread context which
+                // carries the filter level DLS headers.
+                termsLookupCache.resolve(
+                    filterLevelQueryBuilder,
+                    evaluatedDlsFlsConfig.getFingerprint(),
+                    mappedRoles,
+                    ContextPreservingActionListener.wrapPreservingContext(ActionListener.wrap(resolvedQuery -> {
+                        filterLevelQueryBuilder = resolvedQuery instanceof BoolQueryBuilder
+                            ? (BoolQueryBuilder) resolvedQuery
+                            : QueryBuilders.boolQuery().must(resolvedQuery);
+                        handle(ctx);
+                    }, listener::onFailure), threadContext)
                 );
                 return false;
             }
-        }
-    }
 
-    private boolean handle(SearchRequest searchRequest, StoredContext ctx) {
-        if (documentAllowlist != null) {
-            documentAllowlist.applyTo(threadContext);
+            return handle(ctx);
         }
+    }
 
-        String localClusterAlias = LOCAL_CLUSTER_ALIAS_GETTER.apply(searchRequest);
-
-        if (localClusterAlias != null) {
-            try {
-                modifyQuery(localClusterAlias);
-            } catch (Exception e) {
-                log.error("Unable to handle filter level DLS", e);
-                listener.onFailure(new OpenSearchSecurityException("Unable to handle filter level DLS", e));
-                return false;
-            }
+    private boolean handle(StoredContext ctx) {
+        if (request instanceof SearchRequest) {
+            return handle((SearchRequest) request, ctx);
+        } else if (request instanceof GetRequest) {
+            return handle((GetRequest) request, ctx);
+        } else if (request instanceof MultiGetRequest) {
+            return handle((MultiGetRequest) request, ctx);
+        } else if (request instanceof ClusterSearchShardsRequest) {
+            return handle((ClusterSearchShardsRequest) request, ctx);
+        } else {
+            log.error("Unsupported request type for filter level DLS: " + request);
+            listener.onFailure(
+                new OpenSearchSecurityException(
+                    "Unsupported request type for filter level DLS: " + action + "; " + request.getClass().getName()
+                )
+            );
+            return false;
         }
+    }
 
+    private boolean handle(SearchRequest searchRequest, StoredContext ctx) {
         if (searchRequest.source().query() != null) {
             filterLevelQueryBuilder.must(searchRequest.source().query());
         }
@@ -260,10 +286,6 @@ public class DlsFilterLevelActionHandler {
     }
 
     private boolean handle(GetRequest getRequest, StoredContext ctx) {
-        if (documentAllowlist != null) {
-            documentAllowlist.applyTo(threadContext);
-        }
-
         SearchRequest searchRequest = new SearchRequest(getRequest.indices());
         BoolQueryBuilder query = QueryBuilders.boolQuery()
             .must(QueryBuilders.idsQuery().addIds(getRequest.id()))
@@ -320,10 +342,6 @@ public class DlsFilterLevelActionHandler {
     }
 
     private boolean handle(MultiGetRequest multiGetRequest, StoredContext ctx) {
-        if (documentAllowlist != null) {
-            documentAllowlist.applyTo(threadContext);
-        }
-
         Map<String, Set<String>> idsGroupedByIndex = multiGetRequest.getItems()
             .stream()
             .collect(Collectors.groupingBy((item) -> item.index(), Collectors.mapping((item) -> item.id(), Collectors.toSet())));
@@ -0,0 +1,145 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.configuration;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.search.SearchExtBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+
+/**
+ * Element of the "ext" section of a search source which carries the fingerprint of the DLS/FLS/field masking
+ * restrictions of a search request.
+ *
+ * The element is part of the search source and thus of the shard request cache key. Search requests of users with
+ * the same effective restrictions share cached results, requests of users with different restrictions get different
+ * cache keys. The element has no effect on the search itself.
+ *
+ * Only elements created on this node are trusted. Elements parsed from a REST request or read from the transport
+ * layer may have been forged by a client and are removed by {@link #removeUntrusted} before any privileges checks
+ * can be bypassed.
+ */
+public class DlsFlsRequestCacheKey extends SearchExtBuilder {
+
+    public static final String NAME = "opendistro_security_dls_fls";
+
+    private final String fingerprint;
+    // not serialized, an element read from the transport layer or from a REST request is never trusted
+    private final boolean trusted;
+
+    public DlsFlsRequestCacheKey(String fingerprint) {
+        this(fingerprint, true);
+    }
+
+    public DlsFlsRequestCacheKey(StreamInput in) throws IOException {
+        this(in.readString(), false);
+    }
+
+    private DlsFlsRequestCacheKey(String fingerprint, boolean trusted) {
+        this.fingerprint = Objects.requireNonNull(fingerprint);
+        this.trusted = trusted;
+    }
+
+    public static DlsFlsRequestCacheKey fromXContent(XContentParser parser) throws IOException {
+        return new DlsFlsRequestCacheKey(parser.text(), false);
+    }
+
+    /**
+     * Removes fingerprints from the given request which were not set on this node.
+     */
+    public static void removeUntrusted(SearchRequest searchRequest) {
+        final SearchSourceBuilder source = searchRequest.source();
+        if (source == null || source.ext().isEmpty()) {
+            return;
+        }
+
+        final List<SearchExtBuilder> ext = new ArrayList<>(source.ext().size());
+        for (SearchExtBuilder extBuilder : source.ext()) {
+            if (!(extBuilder instanceof DlsFlsRequestCacheKey) || ((DlsFlsRequestCacheKey) extBuilder).trusted) {
+                ext.add(extBuilder);
+            }
+        }
+
+        if (ext.size() != source.ext().size()) {
+            source.ext(ext);
+        }
+    }
+
+    /**
+     * Replaces any fingerprint in the given request, including one sent by the client, with the given one.
+     *
+     * @param fingerprint the fingerprint to set, or null to only remove an existing one
+     */
+    public static void apply(SearchRequest searchRequest, String fingerprint) {
+        SearchSourceBuilder source = searchRequest.source();
+
+        if (source == null) {
+            if (fingerprint == null) {
+                return;
+            }
+            source = new SearchSourceBuilder();
+            searchRequest.source(source);
+        }
+
+        final List<SearchExtBuilder> ext = new ArrayList<>(source.ext().size() + 1);
+        for (SearchExtBuilder extBuilder : source.ext()) {
+            if (!(extBuilder instanceof DlsFlsRequestCacheKey)) {
+                ext.add(extBuilder);
+            }
+        }
+
+        if (fingerprint != null) {
+            ext.add(new DlsFlsRequestCacheKey(fingerprint));
+        } else if (ext.size() == source.ext().size()) {
+            return;
+        }
+
+        source.ext(ext);
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    @Override
+    public String getWriteableName() {
+        return NAME;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeString(fingerprint);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        return builder.field(NAME, fingerprint);
+    }
+
+    @Override
+    public int hashCode() {
+        return fingerprint.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof DlsFlsRequestCacheKey && fingerprint.equals(((DlsFlsRequestCacheKey) obj).fingerprint);
+    }
+}
@@ -15,6 +15,7 @@ import java.io.Serializable;
 import java.lang.reflect.Field;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -94,8 +95,10 @@ public class DlsFlsValveImpl implements DlsFlsRequestValve {
     private final ThreadContext threadContext;
     private final Mode mode;
     private final DlsQueryParser dlsQueryParser;
+    private final TermsLookupCache termsLookupCache;
     private final IndexNameExpressionResolver resolver;
     private final boolean dfmEmptyOverwritesAll;
+    private final boolean requestCacheEnabled;
     private final NamedXContentRegistry namedXContentRegistry;
     private volatile ConfigModel configModel;
 
@@ -114,13 +117,28 @@ public class DlsFlsValveImpl implements DlsFlsRequestValve {
         this.threadContext = threadContext;
         this.mode = Mode.get(settings);
         this.dlsQueryParser = new DlsQueryParser(namedXContentRegistry);
+        this.termsLookupCache = settings.getAsBoolean(ConfigConstants.SECURITY_DLS_TERMS_LOOKUP_CACHE_ENABLED, false)
+            ? new TermsLookupCache(settings, nodeClient, namedXContentRegistry)
+            : null;
         this.dfmEmptyOverwritesAll = settings.getAsBoolean(ConfigConstants.SECURITY_DFM_EMPTY_OVERRIDES_ALL, false);
+        this.requestCacheEnabled = settings.getAsBoolean(ConfigConstants.SECURITY_DLS_FLS_REQUEST_CACHE_ENABLED, false);
         this.namedXContentRegistry = namedXContentRegistry;
     }
 
+    /**
+     * @return the statistics of the terms lookup cache, empty if the cache is disabled
+     */
+    public Map<String, Object> getTermsLookupCacheStats() {
+        return termsLookupCache != null ? termsLookupCache.getStats() : Collections.emptyMap();
+    }
+
     @Subscribe
     public void onConfigModelChanged(ConfigModel configModel) {
         this.configModel = configModel;
+        if (termsLookupCache != null) {
+            // the privileges of the roles on the lookup indices may have changed
+            termsLookupCache.invalidateAll();
+        }
     }
 
     /**
@@ -138,6 +156,11 @@ public class DlsFlsValveImpl implements DlsFlsRequestValve {
         ActionRequest request = context.getRequest();
         IndexResolverReplacer.Resolved resolved = context.getResolvedRequest();
 
+        if (request instanceof SearchRequest) {
+            // the fingerprint must only be set by us, never by the client
+            DlsFlsRequestCacheKey.apply((SearchRequest) request, null);
+        }
+
         if (log.isDebugEnabled()) {
             log.debug(
                 "DlsFlsValveImpl.invoke()\nrequest: "
@@ -231,7 +254,13 @@ public class DlsFlsValveImpl implements DlsFlsRequestValve {
                 }
             }
 
-            if (!evaluatedDlsFlsConfig.hasFls() && !evaluatedDlsFlsConfig.hasDls() && searchRequest.source().aggregations() != null) {
+            if (requestCacheEnabled && !(doFilterLevelDls && filteredDlsFlsConfig.hasDls())) {
+                // Keep the shard request cache, but make the effective restrictions part of the cache key.
+                // Filter-level DLS is excluded because its results depend on the contents of the lookup indices.
+                DlsFlsRequestCacheKey.apply(searchRequest, filteredDlsFlsConfig.getFingerprint());
+            } else if (!evaluatedDlsFlsConfig.hasFls()
+                && !evaluatedDlsFlsConfig.hasDls()
+                && searchRequest.source().aggregations() != null) {
 
                 boolean cacheable = true;
 
@@ -347,6 +376,7 @@ public class DlsFlsValveImpl implements DlsFlsRequestValve {
                 OpenSearchSecurityPlugin.GuiceHolder.getIndicesService(),
                 resolver,
                 dlsQueryParser,
+                termsLookupCache,
                 threadContext
             );
         } else {
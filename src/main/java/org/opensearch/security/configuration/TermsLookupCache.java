@@ -0,0 +1,250 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.configuration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionType;
+import org.opensearch.action.get.GetAction;
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.client.Client;
+import org.opensearch.client.FilterClient;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryRewriteContext;
+import org.opensearch.index.query.Rewriteable;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.security.support.ConfigConstants;
+
+/**
+ * Node wide cache for the documents referenced by terms lookup queries in filter-level DLS queries.
+ *
+ * The terms lookups of a DLS query are resolved on this node before the query is sent to the shards, using the
+ * regular query rewriting. The lookup documents are cached by the DLS/FLS restrictions and the mapped roles of the
+ * user, index, id and routing; the terms of any path are then extracted from the cached source. As the lookup
+ * documents are fetched with the privileges of the user, only users with the same restrictions and the same roles,
+ * and thus the same privileges on the lookup index, share cached documents. The cache is cleared when the roles
+ * configuration changes.
+ *
+ * Cached documents are used without any further request for the recheck interval. After that, a get request without
+ * source checks whether their sequence number and primary term are still the same; only changed documents are
+ * fetched again. Thus, changes to the lookup documents are effective after the recheck interval at the latest.
+ *
+ * The requests run in the thread context of the user, so the privileges of the user on the lookup documents are
+ * checked by the first request for a key and by every recheck.
+ */
+public class TermsLookupCache {
+
+    private static final Logger log = LogManager.getLogger(TermsLookupCache.class);
+
+    public static final TimeValue DEFAULT_RECHECK_INTERVAL = TimeValue.timeValueSeconds(1);
+
+    private final Cache<Key, Entry> cache;
+    private final Client nodeClient;
+    private final NamedXContentRegistry xContentRegistry;
+    private final long recheckIntervalNanos;
+    private final LongSupplier nanoClock;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder rechecks = new LongAdder();
+    private final LongAdder stale = new LongAdder();
+
+    public TermsLookupCache(Settings settings, Client nodeClient, NamedXContentRegistry xContentRegistry) {
+        this(settings, nodeClient, xContentRegistry, System::nanoTime);
+    }
+
+    TermsLookupCache(Settings settings, Client nodeClient, NamedXContentRegistry xContentRegistry, LongSupplier nanoClock) {
+        this.cache = CacheBuilder.newBuilder()
+            .maximumSize(settings.getAsInt(ConfigConstants.SECURITY_DLS_TERMS_LOOKUP_CACHE_MAX_SIZE, 10000))
+            .build();
+        this.nodeClient = nodeClient;
+        this.xContentRegistry = xContentRegistry;
+        this.recheckIntervalNanos = settings.getAsTime(
+            ConfigConstants.SECURITY_DLS_TERMS_LOOKUP_CACHE_RECHECK_INTERVAL,
+            DEFAULT_RECHECK_INTERVAL
+        ).nanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Replaces all terms lookup queries in the given query by terms queries with the looked up terms.
+     *
+     * @param restrictions the fingerprint of the DLS/FLS restrictions of the user, see
+     *                     {@link org.opensearch.security.securityconf.EvaluatedDlsFlsConfig#getFingerprint()}
+     * @param mappedRoles the roles of the user, which determine the privileges on the lookup indices
+     */
+    public void resolve(QueryBuilder query, String restrictions, Set<String> mappedRoles, ActionListener<QueryBuilder> listener) {
+        // the named writeable registry is not needed for resolving terms lookups
+        final QueryRewriteContext context = new QueryRewriteContext(
+            xContentRegistry,
+            null,
+            new CachingClient(nodeClient, restrictions, mappedRoles),
+            System::currentTimeMillis
+        );
+        Rewriteable.rewriteAndFetch(query, context, listener);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public Map<String, Object> getStats() {
+        final Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", cache.size());
+        stats.put("hit_count", hits.sum());
+        stats.put("miss_count", misses.sum());
+        stats.put("recheck_count", rechecks.sum());
+        stats.put("stale_count", stale.sum());
+        return stats;
+    }
+
+    void get(Client client, String restrictions, Set<String> mappedRoles, GetRequest request, ActionListener<GetResponse> listener) {
+        final Key key = new Key(restrictions, mappedRoles, request.index(), request.id(), request.routing());
+        final Entry cached = cache.getIfPresent(key);
+
+        if (cached == null) {
+            misses.increment();
+            fetch(client, key, request, listener);
+            return;
+        }
+
+        final long now = nanoClock.getAsLong();
+        if (now - cached.checkedAt < recheckIntervalNanos) {
+            hits.increment();
+            listener.onResponse(cached.response);
+            return;
+        }
+
+        final GetRequest checkRequest = new GetRequest(request.index(), request.id()).routing(request.routing())
+            .preference(request.preference())
+            .realtime(request.realtime())
+            .fetchSourceContext(FetchSourceContext.DO_NOT_FETCH_SOURCE);
+
+        client.get(checkRequest, ActionListener.wrap(current -> {
+            if (current.isExists() == cached.response.isExists()
+                && current.getSeqNo() == cached.response.getSeqNo()
+                && current.getPrimaryTerm() == cached.response.getPrimaryTerm()) {
+                rechecks.increment();
+                cached.checkedAt = now;
+                listener.onResponse(cached.response);
+            } else {
+                if (log.isDebugEnabled()) {
+                    log.debug("Terms lookup document {} has changed, fetching it again", key);
+                }
+                stale.increment();
+                fetch(client, key, request, listener);
+            }
+        }, listener::onFailure));
+    }
+
+    private void fetch(Client client, Key key, GetRequest request, ActionListener<GetResponse> listener) {
+        final long now = nanoClock.getAsLong();
+        client.get(request, ActionListener.wrap(response -> {
+            cache.put(key, new Entry(response, now));
+            listener.onResponse(response);
+        }, listener::onFailure));
+    }
+
+    private class CachingClient extends FilterClient {
+
+        private final String restrictions;
+        private final Set<String> mappedRoles;
+
+        CachingClient(Client in, String restrictions, Set<String> mappedRoles) {
+            super(in);
+            this.restrictions = restrictions;
+            this.mappedRoles = mappedRoles;
+        }
+
+        @Override
+        protected <Request extends ActionRequest, Response extends ActionResponse> void doExecute(
+            ActionType<Response> action,
+            Request request,
+            ActionListener<Response> listener
+        ) {
+            if (action == GetAction.INSTANCE) {
+                @SuppressWarnings("unchecked")
+                final ActionListener<GetResponse> getListener = (ActionListener<GetResponse>) listener;
+                get(in(), restrictions, mappedRoles, (GetRequest) request, getListener);
+            } else {
+                super.doExecute(action, request, listener);
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final GetResponse response;
+        // the parsed source is cached by the response, so the terms are extracted without parsing it again
+        private volatile long checkedAt;
+
+        private Entry(GetResponse response, long checkedAt) {
+            this.response = response;
+            this.checkedAt = checkedAt;
+        }
+    }
+
+    private static final class Key {
+        private final String restrictions;
+        private final Set<String> mappedRoles;
+        private final String index;
+        private final String id;
+        private final String routing;
+
+        private Key(String restrictions, Set<String> mappedRoles, String index, String id, String routing) {
+            this.restrictions = restrictions;
+            this.mappedRoles = mappedRoles;
+            this.index = index;
+            this.id = id;
+            this.routing = routing;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(restrictions, mappedRoles, index, id, routing);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return Objects.equals(restrictions, other.restrictions)
+                && Objects.equals(mappedRoles, other.mappedRoles)
+                && Objects.equals(index, other.index)
+                && Objects.equals(id, other.id)
+                && Objects.equals(routing, other.routing);
+        }
+
+        @Override
+        public String toString() {
+            return index + "/" + id + (routing != null ? " (routing " + routing + ")" : "");
+        }
+    }
+}
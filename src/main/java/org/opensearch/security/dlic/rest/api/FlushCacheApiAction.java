@@ -17,11 +17,16 @@ import com.google.common.collect.ImmutableList;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import org.opensearch.client.Client;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.rest.RestChannel;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.rest.RestRequest.Method;
+import org.opensearch.security.action.cache.AuthCacheAction;
+import org.opensearch.security.action.cache.AuthCacheRequest;
+import org.opensearch.security.action.cache.AuthCacheResponse;
 import org.opensearch.security.action.configupdate.ConfigUpdateAction;
 import org.opensearch.security.action.configupdate.ConfigUpdateRequest;
 import org.opensearch.security.action.configupdate.ConfigUpdateResponse;
@@ -39,6 +44,7 @@ public class FlushCacheApiAction extends AbstractApiAction {
     private static final List<Route> routes = addRoutesPrefix(
         ImmutableList.of(
             new Route(Method.DELETE, "/cache"),
+            new Route(Method.DELETE, "/cache/user/{username}"),
             new Route(Method.GET, "/cache"),
             new Route(Method.PUT, "/cache"),
             new Route(Method.POST, "/cache")
@@ -62,36 +68,88 @@ public class FlushCacheApiAction extends AbstractApiAction {
 
     private void flushCacheApiRequestHandlers(RequestHandler.RequestHandlersBuilder requestHandlersBuilder) {
         requestHandlersBuilder.allMethodsNotImplemented()
-            .override(
-                Method.DELETE,
-                (channel, request, client) -> client.execute(
-                    ConfigUpdateAction.INSTANCE,
-                    new ConfigUpdateRequest(CType.lcStringValues().toArray(new String[0])),
-                    new ActionListener<>() {
-
-                        @Override
-                        public void onResponse(ConfigUpdateResponse configUpdateResponse) {
-                            if (configUpdateResponse.hasFailures()) {
-                                LOGGER.error("Cannot flush cache due to", configUpdateResponse.failures().get(0));
-                                internalServerError(
-                                    channel,
-                                    "Cannot flush cache due to " + configUpdateResponse.failures().get(0).getMessage() + "."
-                                );
-                                return;
-                            }
-                            LOGGER.debug("cache flushed successfully");
-                            ok(channel, "Cache flushed successfully.");
-                        }
-
-                        @Override
-                        public void onFailure(final Exception e) {
-                            LOGGER.error("Cannot flush cache due to", e);
-                            internalServerError(channel, "Cannot flush cache due to " + e.getMessage() + ".");
-                        }
+            .override(Method.GET, (channel, request, client) -> cacheStats(channel, client))
+            .override(Method.DELETE, (channel, request, client) -> {
+                final String username = request.param("username");
+                if (username != null) {
+                    flushUserCache(channel, client, username);
+                } else {
+                    flushCache(channel, client);
+                }
+            });
+    }
 
+    private void flushCache(final RestChannel channel, final Client client) {
+        client.execute(
+            ConfigUpdateAction.INSTANCE,
+            new ConfigUpdateRequest(CType.lcStringValues().toArray(new String[0])),
+            new ActionListener<>() {
+
+                @Override
+                public void onResponse(ConfigUpdateResponse configUpdateResponse) {
+                    if (configUpdateResponse.hasFailures()) {
+                        LOGGER.error("Cannot flush cache due to", configUpdateResponse.failures().get(0));
+                        internalServerError(
+                            channel,
+                            "Cannot flush cache due to " + configUpdateResponse.failures().get(0).getMessage() + "."
+                        );
+                        return;
                     }
-                )
-            );
+                    LOGGER.debug("cache flushed successfully");
+                    ok(channel, "Cache flushed successfully.");
+                }
+
+                @Override
+                public void onFailure(final Exception e) {
+                    LOGGER.error("Cannot flush cache due to", e);
+                    internalServerError(channel, "Cannot flush cache due to " + e.getMessage() + ".");
+                }
+
+            }
+        );
+    }
+
+    private void flushUserCache(final RestChannel channel, final Client client, final String username) {
+        client.execute(AuthCacheAction.INSTANCE, new AuthCacheRequest(username), new ActionListener<>() {
+
+            @Override
+            public void onResponse(AuthCacheResponse authCacheResponse) {
+                if (authCacheResponse.hasFailures()) {
+                    LOGGER.error("Cannot flush cache of user {} due to", username, authCacheResponse.failures().get(0));
+                    internalServerError(
+                        channel,
+                        "Cannot flush cache of user " + username + " due to " + authCacheResponse.failures().get(0).getMessage() + "."
+                    );
+                    return;
+                }
+                LOGGER.debug("cache of user {} flushed successfully", username);
+                ok(channel, "Cache of user " + username + " flushed successfully.");
+            }
+
+            @Override
+            public void onFailure(final Exception e) {
+                LOGGER.error("Cannot flush cache of user {} due to", username, e);
+                internalServerError(channel, "Cannot flush cache of user " + username + " due to " + e.getMessage() + ".");
+            }
+
+        });
+    }
+
+    private void cacheStats(final RestChannel channel, final Client client) {
+        client.execute(AuthCacheAction.INSTANCE, new AuthCacheRequest(), new ActionListener<>() {
+
+            @Override
+            public void onResponse(AuthCacheResponse authCacheResponse) {
+                ok(channel, authCacheResponse);
+            }
+
+            @Override
+            public void onFailure(final Exception e) {
+                LOGGER.error("Cannot get cache stats due to", e);
+                internalServerError(channel, "Cannot get cache stats due to " + e.getMessage() + ".");
+            }
+
+        });
     }
 
     @Override
@@ -101,6 +159,6 @@ public class FlushCacheApiAction extends AbstractApiAction {
 
     @Override
     protected void consumeParameters(final RestRequest request) {
-        // not needed
+        request.param("username");
     }
 }
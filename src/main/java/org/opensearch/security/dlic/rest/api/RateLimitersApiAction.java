@@ -13,6 +13,7 @@ package org.opensearch.security.dlic.rest.api;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
@@ -33,6 +34,7 @@ import org.opensearch.security.dlic.rest.validation.ValidationResult;
 import org.opensearch.security.securityconf.impl.CType;
 import org.opensearch.security.securityconf.impl.v7.ConfigV7;
 import org.opensearch.security.support.SecurityJsonNode;
+import org.opensearch.security.util.ratetracking.RateTracker;
 import org.opensearch.threadpool.ThreadPool;
 
 import static org.opensearch.rest.RestRequest.Method.DELETE;
@@ -67,6 +69,8 @@ public class RateLimitersApiAction extends AbstractApiAction {
     public static final String MAX_BLOCKED_CLIENTS_JSON_PROPERTY = "max_blocked_clients";
     public static final String MAX_TRACKED_CLIENTS_JSON_PROPERTY = "max_tracked_clients";
 
+    public static final String RATE_TRACKER_JSON_PROPERTY = "rate_tracker";
+
     private static final List<Route> ROUTES = addRoutesPrefix(
         ImmutableList.of(
             new Route(GET, "/authfailurelisteners"),
@@ -134,6 +138,7 @@ public class RateLimitersApiAction extends AbstractApiAction {
                             .put(BLOCK_EXPIRY_JSON_PROPERTY, DataType.INTEGER)
                             .put(MAX_BLOCKED_CLIENTS_JSON_PROPERTY, DataType.INTEGER)
                             .put(MAX_TRACKED_CLIENTS_JSON_PROPERTY, DataType.INTEGER)
+                            .put(RATE_TRACKER_JSON_PROPERTY, DataType.STRING)
                             .build();
                     }
                 });
@@ -156,6 +161,9 @@ public class RateLimitersApiAction extends AbstractApiAction {
                     .field(BLOCK_EXPIRY_JSON_PROPERTY, listener.block_expiry_seconds)
                     .field(MAX_BLOCKED_CLIENTS_JSON_PROPERTY, listener.max_blocked_clients)
                     .field(MAX_TRACKED_CLIENTS_JSON_PROPERTY, listener.max_tracked_clients);
+                if (listener.rate_tracker != null) {
+                    builder.field(RATE_TRACKER_JSON_PROPERTY, listener.rate_tracker);
+                }
                 builder.endObject();
             }
             builder.endObject();
@@ -220,7 +228,7 @@ public class RateLimitersApiAction extends AbstractApiAction {
             ? Collections.emptyList()
             : authFailureListener.get(IGNORE_HOSTS_JSON_PROPERTY).asList();
 
-        return new ConfigV7.AuthFailureListener(
+        final ConfigV7.AuthFailureListener listener = new ConfigV7.AuthFailureListener(
             authFailureListener.get(TYPE_JSON_PROPERTY).asString(),
             authFailureListener.get(AUTHENTICATION_BACKEND_JSON_PROPERTY).asString(),
             ignoreHosts,
@@ -230,6 +238,9 @@ public class RateLimitersApiAction extends AbstractApiAction {
             authFailureListener.get(MAX_BLOCKED_CLIENTS_JSON_PROPERTY).asInt(MAX_BLOCKED_CLIENTS_DEFAULT),
             authFailureListener.get(MAX_TRACKED_CLIENTS_JSON_PROPERTY).asInt(MAX_TRACKED_CLIENTS_DEFAULT)
         );
+        final String rateTracker = authFailureListener.get(RATE_TRACKER_JSON_PROPERTY).asString();
+        listener.rate_tracker = rateTracker != null ? rateTracker.toLowerCase(Locale.ROOT) : null;
+        return listener;
 
     }
 
@@ -258,6 +269,10 @@ public class RateLimitersApiAction extends AbstractApiAction {
                 badRequestMessage("ip auth failure listeners should not have an authentication backend")
             );
         }
+        final String rateTracker = authFailureListener.get(RATE_TRACKER_JSON_PROPERTY).asString();
+        if (rateTracker != null && !Set.of(RateTracker.HEAP, RateTracker.LOCK_FREE).contains(rateTracker.toLowerCase(Locale.ROOT))) {
+            return ValidationResult.error(RestStatus.BAD_REQUEST, badRequestMessage("rate_tracker must be heap or lock_free"));
+        }
 
         return ValidationResult.success(authFailureListener);
     }
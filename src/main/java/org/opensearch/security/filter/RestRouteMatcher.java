@@ -0,0 +1,125 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.filter;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.opensearch.rest.RestHandler;
+import org.opensearch.rest.RestRequest;
+
+/**
+ * Finds the route of a REST handler which matches a request.
+ *
+ * The paths of the routes are compiled into one trie of path segments per HTTP method; segments in braces, such as
+ * {@code {index}}, match any segment. A lookup walks the segments of the request path once, without splitting it.
+ * Like the linear search it replaces, a request path matches a route path if both consist of the same number of
+ * segments, ignoring trailing slashes, and every segment is equal or a parameter. If several routes match, the first
+ * one in the order of {@link RestHandler#routes()} is returned.
+ */
+final class RestRouteMatcher {
+
+    private final Map<RestRequest.Method, Node> roots = new EnumMap<>(RestRequest.Method.class);
+
+    RestRouteMatcher(final List<RestHandler.Route> routes) {
+        for (int i = 0; i < routes.size(); i++) {
+            final RestHandler.Route route = routes.get(i);
+            Node node = roots.computeIfAbsent(route.getMethod(), method -> new Node());
+            for (String segment : route.getPath().split("/")) {
+                node = node.child(segment);
+            }
+            if (node.route == null) {
+                node.route = route;
+                node.order = i;
+            }
+        }
+    }
+
+    Optional<RestHandler.Route> match(final RestRequest.Method method, final String path) {
+        final Node root = roots.get(method);
+        if (root == null) {
+            return Optional.empty();
+        }
+
+        // trailing slashes do not count, like with String.split()
+        int end = path.length();
+        while (end > 0 && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        final int start = end == 0 && !path.isEmpty() ? 1 : 0;
+
+        final Node node = find(root, path, start, end);
+        return node == null ? Optional.empty() : Optional.of(node.route);
+    }
+
+    /**
+     * @return true if the request path matches the path of a route
+     */
+    static boolean pathMatches(final String requestPath, final String routePath) {
+        return new RestRouteMatcher(List.of(new RestHandler.Route(RestRequest.Method.GET, routePath))).match(
+            RestRequest.Method.GET,
+            requestPath
+        ).isPresent();
+    }
+
+    /**
+     * Returns the first route matching the segments of the path from start to end, or null.
+     */
+    private static Node find(final Node node, final String path, final int start, final int end) {
+        if (start > end) {
+            return node.route != null ? node : null;
+        }
+
+        int slash = path.indexOf('/', start);
+        if (slash < 0 || slash > end) {
+            slash = end;
+        }
+
+        Node result = null;
+        if (node.literals != null) {
+            final Node literal = node.literals.get(path.substring(start, slash));
+            if (literal != null) {
+                result = find(literal, path, slash + 1, end);
+            }
+        }
+        if (node.parameter != null) {
+            final Node parameter = find(node.parameter, path, slash + 1, end);
+            if (parameter != null && (result == null || parameter.order < result.order)) {
+                result = parameter;
+            }
+        }
+        return result;
+    }
+
+    private static final class Node {
+        private Map<String, Node> literals;
+        private Node parameter;
+        private RestHandler.Route route;
+        private int order;
+
+        private Node child(final String segment) {
+            if (segment.startsWith("{") && segment.endsWith("}")) {
+                if (parameter == null) {
+                    parameter = new Node();
+                }
+                return parameter;
+            }
+            if (literals == null) {
+                literals = new HashMap<>();
+            }
+            return literals.computeIfAbsent(segment, s -> new Node());
+        }
+    }
+}
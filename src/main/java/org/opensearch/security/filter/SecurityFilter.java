@@ -27,6 +27,8 @@
 package org.opensearch.security.filter;
 
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -41,6 +43,7 @@ import org.opensearch.OpenSearchException;
 import org.opensearch.OpenSearchSecurityException;
 import org.opensearch.ResourceAlreadyExistsException;
 import org.opensearch.action.ActionRequest;
+import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.DocWriteRequest.OpType;
 import org.opensearch.action.admin.cluster.snapshots.restore.RestoreSnapshotRequest;
 import org.opensearch.action.admin.indices.alias.Alias;
@@ -80,6 +83,7 @@ import org.opensearch.security.auth.UserInjector;
 import org.opensearch.security.compliance.ComplianceConfig;
 import org.opensearch.security.configuration.AdminDNs;
 import org.opensearch.security.configuration.CompatConfig;
+import org.opensearch.security.configuration.DlsFlsRequestCacheKey;
 import org.opensearch.security.configuration.DlsFlsRequestValve;
 import org.opensearch.security.http.XFFResolver;
 import org.opensearch.security.privileges.PrivilegesEvaluationContext;
@@ -89,6 +93,7 @@ import org.opensearch.security.resolver.IndexResolverReplacer;
 import org.opensearch.security.support.Base64Helper;
 import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.security.support.HeaderHelper;
+import org.opensearch.security.support.SecurityStats;
 import org.opensearch.security.support.SourceFieldsContext;
 import org.opensearch.security.support.WildcardMatcher;
 import org.opensearch.security.user.User;
@@ -113,6 +118,7 @@ public class SecurityFilter implements ActionFilter {
     private final WildcardMatcher immutableIndicesMatcher;
     private final RolesInjector rolesInjector;
     private final UserInjector userInjector;
+    private final SecurityStats securityStats;
 
     public SecurityFilter(
         final Settings settings,
@@ -124,7 +130,8 @@ public class SecurityFilter implements ActionFilter {
         ClusterService cs,
         final CompatConfig compatConfig,
         final IndexResolverReplacer indexResolverReplacer,
-        final XFFResolver xffResolver
+        final XFFResolver xffResolver,
+        final SecurityStats securityStats
     ) {
         this.evalp = evalp;
         this.adminDns = adminDns;
@@ -135,6 +142,7 @@ public class SecurityFilter implements ActionFilter {
         this.compatConfig = compatConfig;
         this.indexResolverReplacer = indexResolverReplacer;
         this.xffResolver = xffResolver;
+        this.securityStats = securityStats;
         this.immutableIndicesMatcher = WildcardMatcher.from(
             settings.getAsList(ConfigConstants.SECURITY_COMPLIANCE_IMMUTABLE_INDICES, Collections.emptyList())
         );
@@ -188,6 +196,12 @@ public class SecurityFilter implements ActionFilter {
                 threadContext.putTransient(ConfigConstants.USE_JDK_SERIALIZATION, true);
             }
 
+            if (request instanceof SearchRequest) {
+                // a fingerprint sent by the client must not reach the shard request cache, not even on the paths
+                // which skip the DLS/FLS valve
+                DlsFlsRequestCacheKey.removeUntrusted((SearchRequest) request);
+            }
+
             final ComplianceConfig complianceConfig = auditLog.getComplianceConfig();
             if (complianceConfig != null && complianceConfig.isEnabled()) {
                 attachSourceFieldContext(request);
@@ -301,14 +315,16 @@ public class SecurityFilter implements ActionFilter {
                 boolean isImmutable = false;
 
                 if (request instanceof BulkShardRequest) {
+                    // the items usually share a few indices, each of them is resolved only once
+                    final Map<String, Boolean> immutableByIndex = new HashMap<>();
                     for (BulkItemRequest bsr : ((BulkShardRequest) request).items()) {
-                        isImmutable = checkImmutableIndices(bsr.request(), listener);
+                        isImmutable = checkImmutableIndices(bsr.request(), listener, immutableByIndex);
                         if (isImmutable) {
                             break;
                         }
                     }
                 } else {
-                    isImmutable = checkImmutableIndices(request, listener);
+                    isImmutable = checkImmutableIndices(request, listener, null);
                 }
 
                 if (isImmutable) {
@@ -389,7 +405,10 @@ public class SecurityFilter implements ActionFilter {
             if (pres.isAllowed()) {
                 auditLog.logGrantedPrivileges(action, request, task);
                 auditLog.logIndexEvent(action, request, task);
-                if (!dlsFlsValve.invoke(context, listener)) {
+                final long dlsFlsStart = securityStats.start();
+                final boolean proceed = dlsFlsValve.invoke(context, listener);
+                securityStats.end(SecurityStats.Stage.DLS_FLS, dlsFlsStart, action);
+                if (!proceed) {
                     return;
                 }
                 final CreateIndexRequestBuilder createIndexRequestBuilder = pres.getCreateIndexRequestBuilder();
@@ -506,7 +525,7 @@ public class SecurityFilter implements ActionFilter {
     }
 
     @SuppressWarnings("rawtypes")
-    private boolean checkImmutableIndices(Object request, ActionListener listener) {
+    private boolean checkImmutableIndices(Object request, ActionListener listener, Map<String, Boolean> immutableByIndex) {
         final boolean isModifyIndexRequest = request instanceof DeleteRequest
             || request instanceof UpdateRequest
             || request instanceof UpdateByQueryRequest
@@ -516,18 +535,25 @@ public class SecurityFilter implements ActionFilter {
             || request instanceof CloseIndexRequest
             || request instanceof IndicesAliasesRequest;
 
-        if (isModifyIndexRequest && isRequestIndexImmutable(request)) {
+        if (isModifyIndexRequest && isRequestIndexImmutable(request, immutableByIndex)) {
             listener.onFailure(new OpenSearchSecurityException("Index is immutable", RestStatus.FORBIDDEN));
             return true;
         }
 
-        if ((request instanceof IndexRequest) && isRequestIndexImmutable(request)) {
+        if ((request instanceof IndexRequest) && isRequestIndexImmutable(request, immutableByIndex)) {
             ((IndexRequest) request).opType(OpType.CREATE);
         }
 
         return false;
     }
 
+    private boolean isRequestIndexImmutable(Object request, Map<String, Boolean> immutableByIndex) {
+        if (immutableByIndex != null && request instanceof DocWriteRequest) {
+            return immutableByIndex.computeIfAbsent(((DocWriteRequest<?>) request).index(), index -> isRequestIndexImmutable(request));
+        }
+        return isRequestIndexImmutable(request);
+    }
+
     private boolean isRequestIndexImmutable(Object request) {
         final IndexResolverReplacer.Resolved resolved = indexResolverReplacer.resolveRequest(request);
         if (resolved.isLocalAll()) {
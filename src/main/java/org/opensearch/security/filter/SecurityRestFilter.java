@@ -27,7 +27,6 @@
 package org.opensearch.security.filter;
 
 import java.nio.file.Path;
-import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Pattern;
@@ -62,6 +61,7 @@ import org.opensearch.security.ssl.util.SSLRequestHelper;
 import org.opensearch.security.ssl.util.SSLRequestHelper.SSLInfo;
 import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.security.support.HTTPHelper;
+import org.opensearch.security.support.SecurityStats;
 import org.opensearch.security.user.User;
 import org.opensearch.tasks.Task;
 import org.opensearch.threadpool.ThreadPool;
@@ -82,6 +82,7 @@ public class SecurityRestFilter {
     private final Settings settings;
     private final Path configPath;
     private final CompatConfig compatConfig;
+    private final SecurityStats securityStats;
 
     private WhitelistingSettings whitelistingSettings;
     private AllowlistingSettings allowlistingSettings;
@@ -100,7 +101,8 @@ public class SecurityRestFilter {
         final PrincipalExtractor principalExtractor,
         final Settings settings,
         final Path configPath,
-        final CompatConfig compatConfig
+        final CompatConfig compatConfig,
+        final SecurityStats securityStats
     ) {
         super();
         this.registry = registry;
@@ -111,16 +113,19 @@ public class SecurityRestFilter {
         this.settings = settings;
         this.configPath = configPath;
         this.compatConfig = compatConfig;
+        this.securityStats = securityStats;
         this.whitelistingSettings = new WhitelistingSettings();
         this.allowlistingSettings = new AllowlistingSettings();
     }
 
     class AuthczRestHandler extends DelegatingRestHandler {
         private final AdminDNs adminDNs;
+        private final RestRouteMatcher routeMatcher;
 
         public AuthczRestHandler(RestHandler original, AdminDNs adminDNs) {
             super(original);
             this.adminDNs = adminDNs;
+            this.routeMatcher = new RestRouteMatcher(original.routes());
         }
 
         @Override
@@ -180,7 +185,7 @@ public class SecurityRestFilter {
                 return;
             }
 
-            authorizeRequest(delegate, requestChannel, user);
+            authorizeRequest(routeMatcher, requestChannel, user);
             if (requestChannel.getQueuedResponse().isPresent()) {
                 channel.sendResponse(requestChannel.getQueuedResponse().get().asRestResponse());
                 return;
@@ -215,12 +220,8 @@ public class SecurityRestFilter {
         return user != null && adminDNs.isAdmin(user);
     }
 
-    void authorizeRequest(RestHandler original, SecurityRequestChannel request, User user) {
-        List<RestHandler.Route> restRoutes = original.routes();
-        Optional<RestHandler.Route> handler = restRoutes.stream()
-            .filter(rh -> rh.getMethod().equals(request.method()))
-            .filter(rh -> restPathMatches(request.path(), rh.getPath()))
-            .findFirst();
+    void authorizeRequest(RestRouteMatcher routeMatcher, SecurityRequestChannel request, User user) {
+        Optional<RestHandler.Route> handler = routeMatcher.match(request.method(), request.path());
         final boolean routeSupportsRestAuthorization = handler.isPresent() && handler.get() instanceof NamedRoute;
         if (routeSupportsRestAuthorization) {
             PrivilegesEvaluatorResponse pres = new PrivilegesEvaluatorResponse();
@@ -305,7 +306,10 @@ public class SecurityRestFilter {
         }
 
         if (!SecurityRestUtils.shouldSkipAuthentication(requestChannel)) {
-            if (!registry.authenticate(requestChannel)) {
+            final long start = securityStats.start();
+            final boolean authenticated = registry.authenticate(requestChannel);
+            securityStats.end(SecurityStats.Stage.AUTHENTICATION, start, requestChannel.path());
+            if (!authenticated) {
                 // another roundtrip
                 org.apache.logging.log4j.ThreadContext.remove("user");
             } else {
@@ -327,30 +331,4 @@ public class SecurityRestFilter {
     public void onAllowlistingSettingChanged(AllowlistingSettings allowlistingSettings) {
         this.allowlistingSettings = allowlistingSettings;
     }
-
-    /**
-     * Determines if the request's path is a match for the configured handler path.
-     *
-     * @param requestPath The path from the {@link NamedRoute}
-     * @param handlerPath The path from the {@link RestHandler.Route}
-     * @return true if the request path matches the route
-     */
-    private boolean restPathMatches(String requestPath, String handlerPath) {
-        // Check exact match
-        if (handlerPath.equals(requestPath)) {
-            return true;
-        }
-        // Split path to evaluate named params
-        String[] handlerSplit = handlerPath.split("/");
-        String[] requestSplit = requestPath.split("/");
-        if (handlerSplit.length != requestSplit.length) {
-            return false;
-        }
-        for (int i = 0; i < handlerSplit.length; i++) {
-            if (!(handlerSplit[i].equals(requestSplit[i]) || (handlerSplit[i].startsWith("{") && handlerSplit[i].endsWith("}")))) {
-                return false;
-            }
-        }
-        return true;
-    }
 }
@@ -27,13 +27,8 @@
 package org.opensearch.security.http;
 
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import javax.naming.InvalidNameException;
-import javax.naming.ldap.LdapName;
-import javax.naming.ldap.Rdn;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -45,17 +40,42 @@ import org.opensearch.security.auth.HTTPAuthenticator;
 import org.opensearch.security.filter.SecurityRequest;
 import org.opensearch.security.filter.SecurityResponse;
 import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.DistinguishedNameCache;
 import org.opensearch.security.user.AuthCredentials;
 
 public class HTTPClientCertAuthenticator implements HTTPAuthenticator {
 
     protected final Logger log = LogManager.getLogger(this.getClass());
     protected final Settings settings;
+    // the cache of the node, set by the security configuration; an own cache is only created if none was set
+    private volatile DistinguishedNameCache distinguishedNameCache;
 
     public HTTPClientCertAuthenticator(final Settings settings, final Path configPath) {
         this.settings = settings;
     }
 
+    /**
+     * Sets the cache of the node, which is shared with the admin DN checks. Must be called before the authenticator
+     * is used.
+     */
+    public void setDistinguishedNameCache(final DistinguishedNameCache distinguishedNameCache) {
+        this.distinguishedNameCache = distinguishedNameCache;
+    }
+
+    private DistinguishedNameCache getDistinguishedNameCache() {
+        DistinguishedNameCache cache = distinguishedNameCache;
+        if (cache == null) {
+            synchronized (this) {
+                cache = distinguishedNameCache;
+                if (cache == null) {
+                    cache = new DistinguishedNameCache(settings);
+                    distinguishedNameCache = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
     @Override
     public AuthCredentials extractCredentials(final SecurityRequest request, final ThreadContext threadContext) {
 
@@ -66,31 +86,32 @@ public class HTTPClientCertAuthenticator implements HTTPAuthenticator {
             final String usernameAttribute = settings.get("username_attribute");
             final String rolesAttribute = settings.get("roles_attribute");
 
-            try {
-                final LdapName rfc2253dn = new LdapName(principal);
-                String username = principal.trim();
-                String[] backendRoles = null;
+            // the principal is parsed once and then served from the node wide cache
+            final DistinguishedNameCache.ParsedDn rfc2253dn = getDistinguishedNameCache().parse(principal);
+            if (rfc2253dn == null) {
+                log.error("Client cert had no properly formed DN (was: {})", principal);
+                return null;
+            }
 
-                if (usernameAttribute != null && usernameAttribute.length() > 0) {
-                    final List<String> usernames = getDnAttribute(rfc2253dn, usernameAttribute);
-                    if (usernames.isEmpty() == false) {
-                        username = usernames.get(0);
-                    }
-                }
+            String username = principal.trim();
+            String[] backendRoles = null;
 
-                if (rolesAttribute != null && rolesAttribute.length() > 0) {
-                    final List<String> roles = getDnAttribute(rfc2253dn, rolesAttribute);
-                    if (roles.isEmpty() == false) {
-                        backendRoles = roles.toArray(new String[0]);
-                    }
+            if (usernameAttribute != null && usernameAttribute.length() > 0) {
+                final List<String> usernames = rfc2253dn.getAttribute(usernameAttribute);
+                if (usernames.isEmpty() == false) {
+                    username = usernames.get(0);
                 }
+            }
 
-                return new AuthCredentials(username, backendRoles).markComplete();
-            } catch (InvalidNameException e) {
-                log.error("Client cert had no properly formed DN (was: {})", principal);
-                return null;
+            if (rolesAttribute != null && rolesAttribute.length() > 0) {
+                final List<String> roles = rfc2253dn.getAttribute(rolesAttribute);
+                if (roles.isEmpty() == false) {
+                    backendRoles = roles.toArray(new String[0]);
+                }
             }
 
+            return new AuthCredentials(username, backendRoles).markComplete();
+
         } else {
             log.trace("No CLIENT CERT, send 401");
             return null;
@@ -106,18 +127,4 @@ public class HTTPClientCertAuthenticator implements HTTPAuthenticator {
     public String getType() {
         return "clientcert";
     }
-
-    private List<String> getDnAttribute(LdapName rfc2253dn, String attribute) {
-        final List<String> attrValues = new ArrayList<>(rfc2253dn.size());
-        final List<Rdn> reverseRdn = new ArrayList<>(rfc2253dn.getRdns());
-        Collections.reverse(reverseRdn);
-
-        for (Rdn rdn : reverseRdn) {
-            if (rdn.getType().equalsIgnoreCase(attribute)) {
-                attrValues.add(rdn.getValue().toString());
-            }
-        }
-
-        return Collections.unmodifiableList(attrValues);
-    }
 }
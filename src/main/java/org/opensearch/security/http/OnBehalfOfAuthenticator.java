@@ -18,10 +18,14 @@ import java.util.List;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -33,6 +37,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.security.auth.HTTPAuthenticator;
 import org.opensearch.security.authtoken.jwt.EncryptionDecryptionUtil;
+import org.opensearch.security.authtoken.jwt.JwtVendor;
 import org.opensearch.security.filter.SecurityRequest;
 import org.opensearch.security.filter.SecurityResponse;
 import org.opensearch.security.ssl.util.ExceptionUtils;
@@ -66,6 +71,12 @@ public class OnBehalfOfAuthenticator implements HTTPAuthenticator {
 
     private final EncryptionDecryptionUtil encryptionUtil;
 
+    /**
+     * Decrypted roles per encrypted roles claim, if enabled. The same key always decrypts a claim to the same roles,
+     * and the authenticator is rebuilt when the key changes. No entry is kept longer than a token can be valid.
+     */
+    private final Cache<String, List<String>> decryptedRolesCache;
+
     @SuppressWarnings("removal")
     public OnBehalfOfAuthenticator(Settings settings, String clusterName) {
         String oboEnabledSetting = settings.get("enabled", "true");
@@ -85,6 +96,14 @@ public class OnBehalfOfAuthenticator implements HTTPAuthenticator {
         });
         this.clusterName = clusterName;
         this.encryptionUtil = new EncryptionDecryptionUtil(encryptionKey);
+
+        final int decryptedRolesCacheSize = settings.getAsInt("decrypted_roles_cache_size", 0);
+        this.decryptedRolesCache = decryptedRolesCacheSize > 0
+            ? CacheBuilder.newBuilder()
+                .maximumSize(decryptedRolesCacheSize)
+                .expireAfterWrite(JwtVendor.MAX_EXPIRY_SECONDS, TimeUnit.SECONDS)
+                .build()
+            : null;
     }
 
     private JwtParserBuilder initParserBuilder(final String signingKey) {
@@ -113,6 +132,14 @@ public class OnBehalfOfAuthenticator implements HTTPAuthenticator {
         String rolesClaim = "";
 
         if (er != null) {
+            if (decryptedRolesCache != null) {
+                final String encryptedRoles = er.toString();
+                try {
+                    return decryptedRolesCache.get(encryptedRoles, () -> splitRoles(encryptionUtil.decrypt(encryptedRoles)));
+                } catch (ExecutionException e) {
+                    throw new RuntimeException(e.getCause());
+                }
+            }
             rolesClaim = encryptionUtil.decrypt(er.toString());
         } else if (dr != null) {
             rolesClaim = dr.toString();
@@ -120,12 +147,14 @@ public class OnBehalfOfAuthenticator implements HTTPAuthenticator {
             log.warn("This is a malformed On-behalf-of Token");
         }
 
-        List<String> roles = Arrays.stream(rolesClaim.split(","))
+        return splitRoles(rolesClaim);
+    }
+
+    private static List<String> splitRoles(final String rolesClaim) {
+        return Arrays.stream(rolesClaim.split(","))
             .map(String::trim)
             .filter(s -> !s.isEmpty())
             .collect(Collectors.toUnmodifiableList());
-
-        return roles;
     }
 
     private String[] extractBackendRolesFromClaims(Claims claims) {
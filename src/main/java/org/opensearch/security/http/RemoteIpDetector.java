@@ -45,6 +45,7 @@ package org.opensearch.security.http;
 
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.regex.Pattern;
@@ -55,6 +56,7 @@ import org.apache.logging.log4j.Logger;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.security.filter.SecurityRequest;
 import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.IpRangeTrie;
 
 final class RemoteIpDetector {
 
@@ -79,18 +81,26 @@ final class RemoteIpDetector {
             : commaSeparatedValuesPattern.split(commaDelimitedStrings);
     }
 
+    private static final String DEFAULT_INTERNAL_PROXIES = "10\\.\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}|"
+        + "192\\.168\\.\\d{1,3}\\.\\d{1,3}|"
+        + "169\\.254\\.\\d{1,3}\\.\\d{1,3}|"
+        + "127\\.\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}|"
+        + "172\\.1[6-9]{1}\\.\\d{1,3}\\.\\d{1,3}|"
+        + "172\\.2[0-9]{1}\\.\\d{1,3}\\.\\d{1,3}|"
+        + "172\\.3[0-1]{1}\\.\\d{1,3}\\.\\d{1,3}";
+
+    /**
+     * @see #setInternalProxies(String)
+     */
+    private Pattern internalProxies = Pattern.compile(DEFAULT_INTERNAL_PROXIES);
+
     /**
+     * Used instead of {@link #internalProxies} if the internal proxies are configured as CIDR ranges. The
+     * default stays the regular expression, so that the set of trusted proxies does not change.
+     *
      * @see #setInternalProxies(String)
      */
-    private Pattern internalProxies = Pattern.compile(
-        "10\\.\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}|"
-            + "192\\.168\\.\\d{1,3}\\.\\d{1,3}|"
-            + "169\\.254\\.\\d{1,3}\\.\\d{1,3}|"
-            + "127\\.\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}|"
-            + "172\\.1[6-9]{1}\\.\\d{1,3}\\.\\d{1,3}|"
-            + "172\\.2[0-9]{1}\\.\\d{1,3}\\.\\d{1,3}|"
-            + "172\\.3[0-1]{1}\\.\\d{1,3}\\.\\d{1,3}"
-    );
+    private IpRangeTrie<String> internalProxyRanges;
 
     /**
      * @see #setRemoteIpHeader(String)
@@ -132,7 +142,7 @@ final class RemoteIpDetector {
         // ^^^^^^ originalRemoteAddr
 
         // originalRemoteAddr need to be in the list of internalProxies
-        if (internalProxies != null && internalProxies.matcher(originalRemoteAddr).matches()) {
+        if (internalProxies != null && isInternalProxy(originalRemoteAddr)) {
             String remoteIp = null;
             final StringBuilder concatRemoteIpHeaderValue = new StringBuilder();
 
@@ -161,7 +171,7 @@ final class RemoteIpDetector {
             for (idx = remoteIpHeaderValue.length - 1; idx >= 0; idx--) {
                 String currentRemoteIp = remoteIpHeaderValue[idx];
                 remoteIp = currentRemoteIp;
-                if (internalProxies.matcher(currentRemoteIp).matches()) {
+                if (isInternalProxy(currentRemoteIp)) {
                     // do nothing, internalProxies IPs are not appended to the
                 } else {
                     idx--; // decrement idx because break statement doesn't do it
@@ -211,9 +221,17 @@ final class RemoteIpDetector {
         return originalRemoteAddr;
     }
 
+    boolean isInternalProxy(String remoteIp) {
+        if (internalProxyRanges != null) {
+            return internalProxyRanges.matches(remoteIp);
+        }
+        return internalProxies.matcher(remoteIp).matches();
+    }
+
     /**
      * <p>
-     * Regular expression that defines the internal proxies.
+     * Regular expression that defines the internal proxies. Alternatively a comma delimited list
+     * of CIDR ranges (e.g. <code>10.0.0.0/8, fd00::/8</code>).
      * </p>
      * <p>
      * Default value : 10\.\d{1,3}\.\d{1,3}\.\d{1,3}|192\.168\.\d{1,3}\.\d{1,3}|169\.254.\d{1,3}.\d{1,3}|127\.\d{1,3}\.\d{1,3}\.\d{1,3}
@@ -222,9 +240,19 @@ final class RemoteIpDetector {
     public void setInternalProxies(String internalProxies) {
         if (internalProxies == null || internalProxies.length() == 0) {
             this.internalProxies = null;
+            this.internalProxyRanges = null;
         } else {
             this.internalProxies = Pattern.compile(internalProxies);
+            this.internalProxyRanges = toRanges(internalProxies);
+        }
+    }
+
+    private static IpRangeTrie<String> toRanges(String internalProxies) {
+        final List<String> cidrs = Arrays.asList(commaDelimitedListToStringArray(internalProxies.trim()));
+        if (cidrs.stream().allMatch(IpRangeTrie::isCidr)) {
+            return IpRangeTrie.fromCidrs(cidrs);
         }
+        return null;
     }
 
     /**
@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.privileges;
+
+import java.util.Objects;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableSet;
+
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.security.securityconf.ConfigModel;
+import org.opensearch.security.securityconf.SecurityRoles;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.user.User;
+
+/**
+ * The security roles a user is mapped to, together with the roles filtered from the configuration.
+ *
+ * The first mapping of a request is kept as a transient of the thread context, so that the privileges evaluation of
+ * the REST layer and of the transport actions executed for the request on the same node map the roles only once. The
+ * mapping is tagged with the configuration it was computed from and the user and address it was computed for; it is
+ * not used if any of them differ.
+ */
+final class MappedRoles {
+
+    private final ConfigModel configModel;
+    private final User user;
+    private final TransportAddress caller;
+    private final ImmutableSet<String> roles;
+    private volatile SecurityRoles securityRoles;
+
+    private MappedRoles(ConfigModel configModel, User user, TransportAddress caller, ImmutableSet<String> roles) {
+        this.configModel = configModel;
+        this.user = user;
+        this.caller = caller;
+        this.roles = roles;
+    }
+
+    /**
+     * Returns the mapping for the user of the thread context, or maps the roles and keeps the result in the thread
+     * context.
+     */
+    static MappedRoles of(ThreadContext threadContext, ConfigModel configModel, User user, TransportAddress caller) {
+        final Object current = threadContext.getTransient(ConfigConstants.OPENDISTRO_SECURITY_MAPPED_ROLES);
+        if (current instanceof MappedRoles && ((MappedRoles) current).isFor(configModel, user, caller)) {
+            return (MappedRoles) current;
+        }
+
+        final MappedRoles mappedRoles = new MappedRoles(
+            configModel,
+            user,
+            caller,
+            ImmutableSet.copyOf(configModel.mapSecurityRoles(user, caller))
+        );
+        if (current == null) {
+            threadContext.putTransient(ConfigConstants.OPENDISTRO_SECURITY_MAPPED_ROLES, mappedRoles);
+        }
+        return mappedRoles;
+    }
+
+    /**
+     * Returns the mapping of the thread context if it is based on the given configuration and consists of the given
+     * roles, or null.
+     */
+    static MappedRoles current(ThreadContext threadContext, ConfigModel configModel, Set<String> roles) {
+        final Object current = threadContext.getTransient(ConfigConstants.OPENDISTRO_SECURITY_MAPPED_ROLES);
+        if (current instanceof MappedRoles
+            && ((MappedRoles) current).configModel == configModel
+            && ((MappedRoles) current).roles.equals(roles)) {
+            return (MappedRoles) current;
+        }
+        return null;
+    }
+
+    ImmutableSet<String> getRoles() {
+        return roles;
+    }
+
+    SecurityRoles getSecurityRoles() {
+        SecurityRoles result = securityRoles;
+        if (result == null) {
+            result = configModel.getSecurityRoles().filter(roles);
+            securityRoles = result;
+        }
+        return result;
+    }
+
+    private boolean isFor(ConfigModel configModel, User user, TransportAddress caller) {
+        // the configuration and the user are compared by identity, a reloaded configuration or another user always
+        // gets a new mapping
+        return this.configModel == configModel && this.user == user && Objects.equals(this.caller, caller);
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.privileges;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableSet;
+
+import org.opensearch.action.support.IndicesOptions;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.security.resolver.IndexResolverReplacer.Resolved;
+import org.opensearch.security.securityconf.SecurityRoles;
+import org.opensearch.security.user.User;
+
+/**
+ * Cache for the index permission checks of the privileges evaluation.
+ *
+ * Only the side effect free checks are cached: whether the roles grant the required index permissions on the
+ * resolved indices, and the indices the roles grant for do-not-fail-on-forbidden. The evaluation steps which might
+ * rewrite the request, such as the privileges interceptor, still run for every request; the cached checks only
+ * depend on the resolved indices, which are determined before these steps.
+ *
+ * The key consists of the mapped roles, the required permissions, the resolved indices, the indices options of the
+ * request and the version of the cluster metadata. The indices options are needed as {@link Resolved} does not
+ * compare them, but they decide which indices wildcards expand to, for example whether hidden or closed indices
+ * are included. If the index patterns of the roles reference user attributes, the user and its attributes
+ * are part of the key as well. Entries of an outdated security configuration are dropped when the configuration
+ * changes.
+ */
+class PrivilegesDecisionCache {
+
+    enum Check {
+        INDEX_PERMISSIONS,
+        MULTI_ROLESPAN_INDEX_PERMISSIONS,
+        DNFOF_REDUCE
+    }
+
+    private final Cache<Key, Object> cache;
+
+    PrivilegesDecisionCache(int maxSize) {
+        this.cache = CacheBuilder.newBuilder().maximumSize(maxSize).recordStats().build();
+    }
+
+    /**
+     * Returns the cached result of the given check, or computes and caches it.
+     *
+     * @param configVersion the configuration the security roles were filtered from, not the configuration which is
+     *                      current when the check runs
+     */
+    @SuppressWarnings("unchecked")
+    <T> T get(
+        Check check,
+        Object configVersion,
+        Set<String> mappedRoles,
+        SecurityRoles securityRoles,
+        User user,
+        Set<String> requiredPermissions,
+        Resolved resolved,
+        Metadata metadata,
+        Supplier<T> compute
+    ) {
+        final Key key = new Key(
+            check,
+            configVersion,
+            mappedRoles,
+            securityRoles.hasUserAttributesInIndexPatterns() ? userKey(user) : null,
+            requiredPermissions,
+            resolved,
+            resolved.getIndicesOptions(),
+            metadata.clusterUUID(),
+            metadata.version()
+        );
+
+        T result = (T) cache.getIfPresent(key);
+        if (result == null) {
+            result = compute.get();
+            cache.put(key, result);
+        }
+        return result;
+    }
+
+    void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    Map<String, Object> getStats() {
+        final CacheStats cacheStats = cache.stats();
+        final Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", cache.size());
+        stats.put("hit_count", cacheStats.hitCount());
+        stats.put("miss_count", cacheStats.missCount());
+        stats.put("hit_rate", cacheStats.hitRate());
+        stats.put("eviction_count", cacheStats.evictionCount());
+        return stats;
+    }
+
+    private static Object userKey(User user) {
+        final Map<String, String> attributes = user.getCustomAttributesMap();
+        final Map<String, String> attributesCopy;
+        synchronized (attributes) {
+            attributesCopy = new HashMap<>(attributes);
+        }
+        return new UserKey(
+            user.getName(),
+            ImmutableSet.copyOf(user.getRoles()),
+            ImmutableSet.copyOf(user.getSecurityRoles()),
+            attributesCopy
+        );
+    }
+
+    private static final class UserKey {
+        private final String name;
+        private final Set<String> backendRoles;
+        private final Set<String> securityRoles;
+        private final Map<String, String> attributes;
+
+        private UserKey(String name, Set<String> backendRoles, Set<String> securityRoles, Map<String, String> attributes) {
+            this.name = name;
+            this.backendRoles = backendRoles;
+            this.securityRoles = securityRoles;
+            this.attributes = attributes;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, backendRoles, securityRoles, attributes);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof UserKey)) {
+                return false;
+            }
+            final UserKey other = (UserKey) obj;
+            return Objects.equals(name, other.name)
+                && backendRoles.equals(other.backendRoles)
+                && securityRoles.equals(other.securityRoles)
+                && attributes.equals(other.attributes);
+        }
+    }
+
+    private static final class Key {
+        private final Check check;
+        private final Object configVersion;
+        private final Set<String> mappedRoles;
+        private final Object user;
+        private final Set<String> requiredPermissions;
+        private final Resolved resolved;
+        private final IndicesOptions indicesOptions;
+        private final String clusterUUID;
+        private final long metadataVersion;
+        private final int hashCode;
+
+        private Key(
+            Check check,
+            Object configVersion,
+            Set<String> mappedRoles,
+            Object user,
+            Set<String> requiredPermissions,
+            Resolved resolved,
+            IndicesOptions indicesOptions,
+            String clusterUUID,
+            long metadataVersion
+        ) {
+            this.check = check;
+            this.configVersion = configVersion;
+            this.mappedRoles = ImmutableSet.copyOf(mappedRoles);
+            this.user = user;
+            this.requiredPermissions = ImmutableSet.copyOf(requiredPermissions);
+            this.resolved = resolved;
+            this.indicesOptions = indicesOptions;
+            this.clusterUUID = clusterUUID;
+            this.metadataVersion = metadataVersion;
+            this.hashCode = Objects.hash(
+                check,
+                this.mappedRoles,
+                user,
+                this.requiredPermissions,
+                resolved,
+                indicesOptions,
+                clusterUUID,
+                metadataVersion
+            );
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            // the configuration is compared by identity, a new configuration always gets new entries
+            return hashCode == other.hashCode
+                && check == other.check
+                && configVersion == other.configVersion
+                && metadataVersion == other.metadataVersion
+                && mappedRoles.equals(other.mappedRoles)
+                && Objects.equals(user, other.user)
+                && requiredPermissions.equals(other.requiredPermissions)
+                && resolved.equals(other.resolved)
+                && Objects.equals(indicesOptions, other.indicesOptions)
+                && Objects.equals(clusterUUID, other.clusterUUID);
+        }
+    }
+}
@@ -14,6 +14,7 @@ import com.google.common.collect.ImmutableSet;
 
 import org.opensearch.action.ActionRequest;
 import org.opensearch.security.resolver.IndexResolverReplacer;
+import org.opensearch.security.support.SecurityStats;
 import org.opensearch.security.user.User;
 import org.opensearch.tasks.Task;
 
@@ -34,6 +35,7 @@ public class PrivilegesEvaluationContext {
     private final Task task;
     private ImmutableSet<String> mappedRoles;
     private final IndexResolverReplacer indexResolverReplacer;
+    private final SecurityStats securityStats;
 
     public PrivilegesEvaluationContext(
         User user,
@@ -41,7 +43,8 @@ public class PrivilegesEvaluationContext {
         String action,
         ActionRequest request,
         Task task,
-        IndexResolverReplacer indexResolverReplacer
+        IndexResolverReplacer indexResolverReplacer,
+        SecurityStats securityStats
     ) {
         this.user = user;
         this.mappedRoles = mappedRoles;
@@ -49,6 +52,7 @@ public class PrivilegesEvaluationContext {
         this.request = request;
         this.task = task;
         this.indexResolverReplacer = indexResolverReplacer;
+        this.securityStats = securityStats;
     }
 
     public User getUser() {
@@ -67,7 +71,9 @@ public class PrivilegesEvaluationContext {
         IndexResolverReplacer.Resolved result = this.resolvedRequest;
 
         if (result == null) {
+            final long start = securityStats.start();
             result = indexResolverReplacer.resolveRequest(request);
+            securityStats.end(SecurityStats.Stage.INDEX_RESOLUTION, start, action);
             this.resolvedRequest = result;
         }
 
@@ -35,6 +35,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.function.Supplier;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
@@ -92,6 +93,7 @@ import org.opensearch.security.securityconf.DynamicConfigModel;
 import org.opensearch.security.securityconf.SecurityRoles;
 import org.opensearch.security.securityconf.impl.DashboardSignInOption;
 import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.SecurityStats;
 import org.opensearch.security.support.WildcardMatcher;
 import org.opensearch.security.user.User;
 import org.opensearch.tasks.Task;
@@ -133,7 +135,7 @@ public class PrivilegesEvaluator {
     private final boolean checkSnapshotRestoreWritePrivileges;
 
     private final ClusterInfoHolder clusterInfoHolder;
-    private ConfigModel configModel;
+    private volatile ConfigModel configModel;
     private final IndexResolverReplacer irr;
     private final SnapshotRestoreEvaluator snapshotRestoreEvaluator;
     private final SystemIndexAccessEvaluator systemIndexAccessEvaluator;
@@ -142,6 +144,8 @@ public class PrivilegesEvaluator {
     private final PitPrivilegesEvaluator pitPrivilegesEvaluator;
     private DynamicConfigModel dcm;
     private final NamedXContentRegistry namedXContentRegistry;
+    private final PrivilegesDecisionCache decisionCache;
+    private final SecurityStats securityStats;
 
     public PrivilegesEvaluator(
         final ClusterService clusterService,
@@ -153,7 +157,8 @@ public class PrivilegesEvaluator {
         final PrivilegesInterceptor privilegesInterceptor,
         final ClusterInfoHolder clusterInfoHolder,
         final IndexResolverReplacer irr,
-        NamedXContentRegistry namedXContentRegistry
+        NamedXContentRegistry namedXContentRegistry,
+        final SecurityStats securityStats
     ) {
 
         super();
@@ -177,11 +182,18 @@ public class PrivilegesEvaluator {
         termsAggregationEvaluator = new TermsAggregationEvaluator();
         pitPrivilegesEvaluator = new PitPrivilegesEvaluator();
         this.namedXContentRegistry = namedXContentRegistry;
+        this.securityStats = securityStats;
+        this.decisionCache = settings.getAsBoolean(ConfigConstants.SECURITY_PRIVILEGES_DECISION_CACHE_ENABLED, false)
+            ? new PrivilegesDecisionCache(settings.getAsInt(ConfigConstants.SECURITY_PRIVILEGES_DECISION_CACHE_MAX_SIZE, 10000))
+            : null;
     }
 
     @Subscribe
     public void onConfigModelChanged(ConfigModel configModel) {
         this.configModel = configModel;
+        if (decisionCache != null) {
+            decisionCache.invalidateAll();
+        }
     }
 
     @Subscribe
@@ -189,7 +201,30 @@ public class PrivilegesEvaluator {
         this.dcm = dcm;
     }
 
+    /**
+     * @return the statistics of the decision cache, empty if the cache is disabled
+     */
+    public Map<String, Object> getDecisionCacheStats() {
+        return decisionCache != null ? decisionCache.getStats() : Collections.emptyMap();
+    }
+
+    /**
+     * @return the statistics of the role mapping cache of the current configuration
+     */
+    public Map<String, Object> getRoleMappingCacheStats() {
+        final ConfigModel configModel = this.configModel;
+        return configModel != null ? configModel.getRoleMappingCacheStats() : Collections.emptyMap();
+    }
+
     public SecurityRoles getSecurityRoles(Set<String> roles) {
+        return getSecurityRoles(configModel, roles);
+    }
+
+    private SecurityRoles getSecurityRoles(ConfigModel configModel, Set<String> roles) {
+        final MappedRoles mappedRoles = MappedRoles.current(threadContext, configModel, roles);
+        if (mappedRoles != null) {
+            return mappedRoles.getSecurityRoles();
+        }
         return configModel.getSecurityRoles().filter(roles);
     }
 
@@ -233,9 +268,16 @@ public class PrivilegesEvaluator {
         }
 
         TransportAddress caller = threadContext.getTransient(ConfigConstants.OPENDISTRO_SECURITY_REMOTE_ADDRESS);
-        ImmutableSet<String> mappedRoles = ImmutableSet.copyOf((injectedRoles == null) ? mapRoles(user, caller) : injectedRoles);
+        final ImmutableSet<String> mappedRoles;
+        if (injectedRoles == null) {
+            final long start = securityStats.start();
+            mappedRoles = MappedRoles.of(threadContext, configModel, user, caller).getRoles();
+            securityStats.end(SecurityStats.Stage.ROLE_MAPPING, start, user);
+        } else {
+            mappedRoles = ImmutableSet.copyOf(injectedRoles);
+        }
 
-        return new PrivilegesEvaluationContext(user, mappedRoles, action0, request, task, irr);
+        return new PrivilegesEvaluationContext(user, mappedRoles, action0, request, task, irr, securityStats);
     }
 
     public PrivilegesEvaluatorResponse evaluate(PrivilegesEvaluationContext context) {
@@ -244,6 +286,22 @@ public class PrivilegesEvaluator {
             throw new OpenSearchSecurityException("OpenSearch Security is not initialized.");
         }
 
+        final long start = securityStats.start();
+        final PrivilegesEvaluatorResponse presponse = evaluate(context, securityStats);
+        securityStats.end(SecurityStats.Stage.PRIVILEGES_EVALUATION, start, context.getAction());
+
+        if (!presponse.allowed) {
+            securityStats.denied(denialReason(presponse, context.getAction()));
+        }
+        return presponse;
+    }
+
+    private PrivilegesEvaluatorResponse evaluate(PrivilegesEvaluationContext context, SecurityStats stats) {
+
+        // the roles and the keys of the decision cache must come from the same configuration, a reload in between
+        // must not store a decision based on the old roles under the new configuration
+        final ConfigModel configModel = this.configModel;
+
         String action0 = context.getAction();
         ImmutableSet<String> mappedRoles = context.getMappedRoles();
         User user = context.getUser();
@@ -279,7 +337,7 @@ public class PrivilegesEvaluator {
             context.setMappedRoles(mappedRoles);
         }
         presponse.resolvedSecurityRoles.addAll(mappedRoles);
-        final SecurityRoles securityRoles = getSecurityRoles(mappedRoles);
+        final SecurityRoles securityRoles = getSecurityRoles(configModel, mappedRoles);
 
         // Add the security roles for this user so that they can be used for DLS parameter substitution.
         user.addSecurityRoles(mappedRoles);
@@ -323,12 +381,15 @@ public class PrivilegesEvaluator {
         }
 
         // check snapshot/restore requests
-        if (snapshotRestoreEvaluator.evaluate(request, task, action0, clusterInfoHolder, presponse).isComplete()) {
+        long stageStart = stats.start();
+        snapshotRestoreEvaluator.evaluate(request, task, action0, clusterInfoHolder, presponse);
+        if (completedBy(SecurityStats.Stage.SNAPSHOT_RESTORE_EVALUATION, stats, stageStart, presponse)) {
             return presponse;
         }
 
         // Security index access
-        if (systemIndexAccessEvaluator.evaluate(
+        stageStart = stats.start();
+        systemIndexAccessEvaluator.evaluate(
             request,
             task,
             action0,
@@ -338,17 +399,22 @@ public class PrivilegesEvaluator {
             user,
             resolver,
             clusterService
-        ).isComplete()) {
+        );
+        if (completedBy(SecurityStats.Stage.SYSTEM_INDEX_EVALUATION, stats, stageStart, presponse)) {
             return presponse;
         }
 
         // Protected index access
-        if (protectedIndexAccessEvaluator.evaluate(request, task, action0, requestedResolved, presponse, mappedRoles).isComplete()) {
+        stageStart = stats.start();
+        protectedIndexAccessEvaluator.evaluate(request, task, action0, requestedResolved, presponse, mappedRoles);
+        if (completedBy(SecurityStats.Stage.PROTECTED_INDEX_EVALUATION, stats, stageStart, presponse)) {
             return presponse;
         }
 
         // check access for point in time requests
-        if (pitPrivilegesEvaluator.evaluate(request, clusterService, user, securityRoles, action0, resolver, presponse, irr).isComplete()) {
+        stageStart = stats.start();
+        pitPrivilegesEvaluator.evaluate(request, clusterService, user, securityRoles, action0, resolver, presponse, irr);
+        if (completedBy(SecurityStats.Stage.PIT_EVALUATION, stats, stageStart, presponse)) {
             return presponse;
         }
 
@@ -488,7 +554,16 @@ public class PrivilegesEvaluator {
                 return presponse;
             }
 
-            Set<String> reduced = securityRoles.reduce(requestedResolved, user, allIndexPermsRequiredA, resolver, clusterService);
+            final Set<String> reduced = cachedCheck(
+                configModel,
+                PrivilegesDecisionCache.Check.DNFOF_REDUCE,
+                mappedRoles,
+                securityRoles,
+                user,
+                allIndexPermsRequired,
+                requestedResolved,
+                () -> securityRoles.reduce(requestedResolved, user, allIndexPermsRequiredA, resolver, clusterService)
+            );
 
             if (reduced.isEmpty()) {
                 if (dcm.isDnfofForEmptyResultsEnabled() && request instanceof IndicesRequest.Replaceable) {
@@ -526,10 +601,27 @@ public class PrivilegesEvaluator {
         }
 
         if (dcm.isMultiRolespanEnabled()) {
-            permGiven = securityRoles.impliesTypePermGlobal(requestedResolved, user, allIndexPermsRequiredA, resolver, clusterService);
+            permGiven = cachedCheck(
+                configModel,
+                PrivilegesDecisionCache.Check.MULTI_ROLESPAN_INDEX_PERMISSIONS,
+                mappedRoles,
+                securityRoles,
+                user,
+                allIndexPermsRequired,
+                requestedResolved,
+                () -> securityRoles.impliesTypePermGlobal(requestedResolved, user, allIndexPermsRequiredA, resolver, clusterService)
+            );
         } else {
-            permGiven = securityRoles.get(requestedResolved, user, allIndexPermsRequiredA, resolver, clusterService);
-
+            permGiven = cachedCheck(
+                configModel,
+                PrivilegesDecisionCache.Check.INDEX_PERMISSIONS,
+                mappedRoles,
+                securityRoles,
+                user,
+                allIndexPermsRequired,
+                requestedResolved,
+                () -> securityRoles.get(requestedResolved, user, allIndexPermsRequiredA, resolver, clusterService)
+            );
         }
 
         if (!permGiven) {
@@ -559,8 +651,60 @@ public class PrivilegesEvaluator {
 
     }
 
+    private <T> T cachedCheck(
+        ConfigModel configModel,
+        PrivilegesDecisionCache.Check check,
+        Set<String> mappedRoles,
+        SecurityRoles securityRoles,
+        User user,
+        Set<String> requiredPermissions,
+        Resolved requestedResolved,
+        Supplier<T> compute
+    ) {
+        if (decisionCache == null) {
+            return compute.get();
+        }
+        return decisionCache.get(
+            check,
+            configModel,
+            mappedRoles,
+            securityRoles,
+            user,
+            requiredPermissions,
+            requestedResolved,
+            clusterService.state().metadata(),
+            compute
+        );
+    }
+
+    private static boolean completedBy(
+        SecurityStats.Stage stage,
+        SecurityStats stats,
+        long start,
+        PrivilegesEvaluatorResponse presponse
+    ) {
+        stats.end(stage, start);
+        if (presponse.isComplete()) {
+            presponse.completedBy = stage;
+            return true;
+        }
+        return false;
+    }
+
+    static String denialReason(PrivilegesEvaluatorResponse presponse, String action) {
+        if (!presponse.missingSecurityRoles.isEmpty()) {
+            return "injected_roles";
+        } else if (presponse.completedBy != null) {
+            return presponse.completedBy.getName();
+        } else if (isClusterPerm(action)) {
+            return "missing_cluster_privileges";
+        } else {
+            return "missing_index_privileges";
+        }
+    }
+
     public Set<String> mapRoles(final User user, final TransportAddress caller) {
-        return this.configModel.mapSecurityRoles(user, caller);
+        return MappedRoles.of(threadContext, configModel, user, caller).getRoles();
     }
 
     public Map<String, Boolean> mapTenants(final User user, Set<String> roles) {
@@ -30,6 +30,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 import org.opensearch.action.admin.indices.create.CreateIndexRequestBuilder;
+import org.opensearch.security.support.SecurityStats;
 
 public class PrivilegesEvaluatorResponse {
     boolean allowed = false;
@@ -38,6 +39,7 @@ public class PrivilegesEvaluatorResponse {
     Set<String> resolvedSecurityRoles = new HashSet<>();
     PrivilegesEvaluatorResponseState state = PrivilegesEvaluatorResponseState.PENDING;
     CreateIndexRequestBuilder createIndexRequestBuilder;
+    SecurityStats.Stage completedBy;
 
     public boolean isAllowed() {
         return allowed;
@@ -44,10 +44,6 @@ public class RestLayerPrivilegesEvaluator {
         this.configModel = configModel;
     }
 
-    SecurityRoles getSecurityRoles(final Set<String> roles) {
-        return configModel.getSecurityRoles().filter(roles);
-    }
-
     boolean isInitialized() {
         return configModel != null && configModel.getSecurityRoles() != null;
     }
@@ -61,10 +57,12 @@ public class RestLayerPrivilegesEvaluator {
 
         final TransportAddress caller = threadContext.getTransient(ConfigConstants.OPENDISTRO_SECURITY_REMOTE_ADDRESS);
 
-        final Set<String> mappedRoles = mapRoles(user, caller);
+        // the mapping is kept in the thread context and reused by the transport actions executed for the request
+        final MappedRoles roles = MappedRoles.of(threadContext, configModel, user, caller);
+        final Set<String> mappedRoles = roles.getRoles();
 
         presponse.resolvedSecurityRoles.addAll(mappedRoles);
-        final SecurityRoles securityRoles = getSecurityRoles(mappedRoles);
+        final SecurityRoles securityRoles = roles.getSecurityRoles();
 
         final boolean isDebugEnabled = log.isDebugEnabled();
         if (isDebugEnabled) {
@@ -10,6 +10,8 @@
  */
 package org.opensearch.security.privileges;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -30,40 +32,131 @@ public class UserAttributes {
             return orig;
         }
 
-        orig = orig.replace("${user.name}", user.getName()).replace("${user_name}", user.getName());
-        orig = replaceRoles(orig, user);
-        orig = replaceSecurityRoles(orig, user);
-        for (Map.Entry<String, String> entry : user.getCustomAttributesMap().entrySet()) {
-            if (entry == null || entry.getKey() == null || entry.getValue() == null) {
-                continue;
-            }
-            orig = orig.replace("${" + entry.getKey() + "}", entry.getValue());
-            orig = orig.replace("${" + entry.getKey().replace('.', '_') + "}", entry.getValue());
-        }
-        return orig;
+        return Template.compile(orig).render(user);
     }
 
-    private static String replaceRoles(final String orig, final User user) {
-        String retVal = orig;
-        if (orig.contains("${user.roles}") || orig.contains("${user_roles}")) {
-            final String commaSeparatedRoles = toQuotedCommaSeparatedString(user.getRoles());
-            retVal = orig.replace("${user.roles}", commaSeparatedRoles).replace("${user_roles}", commaSeparatedRoles);
-        }
-        return retVal;
+    private static String toQuotedCommaSeparatedString(final Set<String> roles) {
+        return Joiner.on(',').join(Iterables.transform(roles, s -> {
+            return new StringBuilder(s.length() + 2).append('"').append(s).append('"').toString();
+        }));
     }
 
-    private static String replaceSecurityRoles(final String orig, final User user) {
-        String retVal = orig;
-        if (orig.contains("${user.securityRoles}") || orig.contains("${user_securityRoles}")) {
-            final String commaSeparatedRoles = toQuotedCommaSeparatedString(user.getSecurityRoles());
-            retVal = orig.replace("${user.securityRoles}", commaSeparatedRoles).replace("${user_securityRoles}", commaSeparatedRoles);
+    /**
+     * Returns the value of the placeholder ${name} for the given user, or null if the user has no such attribute.
+     * Custom attributes can be referenced by their name or by their name with all dots replaced by underscores.
+     */
+    private static String resolve(final String name, final User user) {
+        switch (name) {
+            case "user.name":
+            case "user_name":
+                return user.getName();
+            case "user.roles":
+            case "user_roles":
+                return toQuotedCommaSeparatedString(user.getRoles());
+            case "user.securityRoles":
+            case "user_securityRoles":
+                return toQuotedCommaSeparatedString(user.getSecurityRoles());
+            default:
+                final Map<String, String> attributes = user.getCustomAttributesMap();
+                final String value = attributes.get(name);
+                if (value != null || name.indexOf('_') < 0) {
+                    return value;
+                }
+                synchronized (attributes) {
+                    for (Map.Entry<String, String> entry : attributes.entrySet()) {
+                        if (entry.getKey() != null && entry.getValue() != null && entry.getKey().replace('.', '_').equals(name)) {
+                            return entry.getValue();
+                        }
+                    }
+                }
+                return null;
         }
-        return retVal;
     }
 
-    private static String toQuotedCommaSeparatedString(final Set<String> roles) {
-        return Joiner.on(',').join(Iterables.transform(roles, s -> {
-            return new StringBuilder(s.length() + 2).append('"').append(s).append('"').toString();
-        }));
+    /**
+     * An index pattern, DLS query or tenant name which is parsed once into literal parts and ${...} placeholders.
+     * Rendering is a single pass over the parts; strings without placeholders are returned as they are. Placeholders
+     * without a value for the user are kept verbatim, and values are not interpreted as templates again.
+     */
+    public static final class Template {
+
+        private final String source;
+        // literal parts at even indices, placeholder names at odd indices; null if there are no placeholders
+        private final String[] parts;
+
+        private Template(final String source, final String[] parts) {
+            this.source = source;
+            this.parts = parts;
+        }
+
+        public static Template compile(final String source) {
+            final List<String> parts = new ArrayList<>();
+            int pos = 0;
+            while (true) {
+                int start = source.indexOf("${", pos);
+                if (start < 0) {
+                    break;
+                }
+                final int end = source.indexOf('}', start + 2);
+                if (end < 0) {
+                    break;
+                }
+                // for "${a${b}" only ${b} is a placeholder
+                start = Math.max(start, source.lastIndexOf("${", end));
+                parts.add(source.substring(pos, start));
+                parts.add(source.substring(start + 2, end));
+                pos = end + 1;
+            }
+
+            if (parts.isEmpty()) {
+                return new Template(source, null);
+            }
+            parts.add(source.substring(pos));
+            return new Template(source, parts.toArray(new String[0]));
+        }
+
+        public String getSource() {
+            return source;
+        }
+
+        public boolean hasPlaceholders() {
+            return parts != null;
+        }
+
+        public String render(final User user) {
+            if (parts == null || user == null) {
+                return source;
+            }
+
+            final StringBuilder result = new StringBuilder(source.length() + 16);
+            for (int i = 0; i < parts.length; i++) {
+                if (i % 2 == 0) {
+                    result.append(parts[i]);
+                } else {
+                    final String value = resolve(parts[i], user);
+                    if (value != null) {
+                        result.append(value);
+                    } else {
+                        result.append("${").append(parts[i]).append('}');
+                    }
+                }
+            }
+            return result.toString();
+        }
+
+        @Override
+        public int hashCode() {
+            return source.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Template && source.equals(((Template) obj).source);
+        }
+
+        @Override
+        public String toString() {
+            return source;
+        }
     }
 }
@@ -30,16 +30,22 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.ImmutableSet;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -82,6 +88,7 @@ import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.metadata.IndexAbstraction;
 import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.IndexUtils;
 import org.opensearch.core.index.Index;
 import org.opensearch.index.IndexNotFoundException;
@@ -89,6 +96,7 @@ import org.opensearch.index.reindex.ReindexRequest;
 import org.opensearch.security.OpenSearchSecurityPlugin;
 import org.opensearch.security.configuration.ClusterInfoHolder;
 import org.opensearch.security.securityconf.DynamicConfigModel;
+import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.security.support.SnapshotRestoreHelper;
 import org.opensearch.security.support.WildcardMatcher;
 import org.opensearch.snapshots.SnapshotInfo;
@@ -107,11 +115,196 @@ public class IndexResolverReplacer {
     private final ClusterService clusterService;
     private final ClusterInfoHolder clusterInfoHolder;
     private volatile boolean respectRequestIndicesOptions = false;
+    private final Cache<ResolutionKey, LocalResolution> resolutionCache;
 
     public IndexResolverReplacer(IndexNameExpressionResolver resolver, ClusterService clusterService, ClusterInfoHolder clusterInfoHolder) {
+        this(Settings.EMPTY, resolver, clusterService, clusterInfoHolder);
+    }
+
+    public IndexResolverReplacer(
+        Settings settings,
+        IndexNameExpressionResolver resolver,
+        ClusterService clusterService,
+        ClusterInfoHolder clusterInfoHolder
+    ) {
         this.resolver = resolver;
         this.clusterService = clusterService;
         this.clusterInfoHolder = clusterInfoHolder;
+
+        final int cacheSize = settings.getAsInt(ConfigConstants.SECURITY_INDEX_RESOLUTION_CACHE_MAX_SIZE, 1000);
+        // entries of old metadata versions are not used anymore, so they are dropped after a while
+        this.resolutionCache = cacheSize > 0
+            ? CacheBuilder.newBuilder().maximumSize(cacheSize).expireAfterAccess(10, TimeUnit.MINUTES).recordStats().build()
+            : null;
+    }
+
+    /**
+     * Resolves the given local patterns, using the cached result of an earlier request if the patterns, their date math
+     * resolution, the indices options and the cluster metadata are the same.
+     */
+    private LocalResolution resolveLocal(
+        final ClusterState state,
+        final List<String> localRequestedPatterns,
+        final Set<String> dateResolvedLocalRequestedPatterns,
+        final IndicesOptions indicesOptions
+    ) {
+        if (resolutionCache == null) {
+            return doResolveLocal(state, localRequestedPatterns, dateResolvedLocalRequestedPatterns, indicesOptions);
+        }
+
+        // date math expressions are part of the key with their resolved value, so entries for them are only used until
+        // the resolved index name changes
+        final ResolutionKey key = new ResolutionKey(
+            localRequestedPatterns,
+            dateResolvedLocalRequestedPatterns,
+            indicesOptions,
+            state.metadata().clusterUUID(),
+            state.metadata().version()
+        );
+        LocalResolution resolution = resolutionCache.getIfPresent(key);
+
+        if (resolution == null) {
+            resolution = doResolveLocal(state, localRequestedPatterns, dateResolvedLocalRequestedPatterns, indicesOptions);
+            resolutionCache.put(key, resolution);
+        } else if (log.isTraceEnabled()) {
+            log.trace("Using cached resolution of {}", localRequestedPatterns);
+        }
+
+        return resolution;
+    }
+
+    /**
+     * @return the statistics of the resolution cache, empty if the cache is disabled
+     */
+    public Map<String, Object> getResolutionCacheStats() {
+        if (resolutionCache == null) {
+            return Collections.emptyMap();
+        }
+        final CacheStats cacheStats = resolutionCache.stats();
+        final Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", resolutionCache.size());
+        stats.put("hit_count", cacheStats.hitCount());
+        stats.put("miss_count", cacheStats.missCount());
+        stats.put("hit_rate", cacheStats.hitRate());
+        stats.put("eviction_count", cacheStats.evictionCount());
+        return stats;
+    }
+
+    private LocalResolution doResolveLocal(
+        final ClusterState state,
+        final List<String> localRequestedPatterns,
+        final Set<String> dateResolvedLocalRequestedPatterns,
+        final IndicesOptions indicesOptions
+    ) {
+        final WildcardMatcher dateResolvedMatcher = WildcardMatcher.from(dateResolvedLocalRequestedPatterns);
+        // fill matchingAliases
+        final Map<String, IndexAbstraction> lookup = state.metadata().getIndicesLookup();
+        final Set<String> matchingAliases = lookup.entrySet()
+            .stream()
+            .filter(e -> e.getValue().getType() == ALIAS)
+            .map(Map.Entry::getKey)
+            .filter(dateResolvedMatcher)
+            .collect(Collectors.toUnmodifiableSet());
+
+        final boolean isDebugEnabled = log.isDebugEnabled();
+        try {
+            final List<String> matchingAllIndices = List.of(
+                resolver.concreteIndexNames(state, indicesOptions, localRequestedPatterns.toArray(new String[0]))
+            );
+            final List<String> matchingDataStreams = resolver.dataStreamNames(
+                state,
+                indicesOptions,
+                localRequestedPatterns.toArray(new String[0])
+            );
+
+            if (isDebugEnabled) {
+                log.debug(
+                    "Resolved pattern {} to indices: {} and data-streams: {}",
+                    localRequestedPatterns,
+                    matchingAllIndices,
+                    matchingDataStreams
+                );
+            }
+            return new LocalResolution(
+                matchingAliases,
+                matchingAllIndices,
+                matchingDataStreams == null ? null : List.copyOf(matchingDataStreams)
+            );
+        } catch (IndexNotFoundException e1) {
+            if (isDebugEnabled) {
+                log.debug("No such indices for pattern {}, use raw value", localRequestedPatterns);
+            }
+
+            return new LocalResolution(matchingAliases, Collections.unmodifiableSet(dateResolvedLocalRequestedPatterns), null);
+        }
+    }
+
+    private static final class LocalResolution {
+        private final Collection<String> aliases;
+        private final Collection<String> allIndices;
+        private final Collection<String> dataStreams;
+
+        private LocalResolution(Collection<String> aliases, Collection<String> allIndices, Collection<String> dataStreams) {
+            this.aliases = aliases;
+            this.allIndices = allIndices;
+            this.dataStreams = dataStreams;
+        }
+    }
+
+    private static final class ResolutionKey {
+        private final List<String> patterns;
+        private final Set<String> dateResolvedPatterns;
+        private final IndicesOptions indicesOptions;
+        private final String clusterUUID;
+        private final long metadataVersion;
+
+        private ResolutionKey(
+            List<String> patterns,
+            Set<String> dateResolvedPatterns,
+            IndicesOptions indicesOptions,
+            String clusterUUID,
+            long metadataVersion
+        ) {
+            this.patterns = new ArrayList<>(patterns);
+            this.dateResolvedPatterns = dateResolvedPatterns;
+            this.indicesOptions = indicesOptions;
+            this.clusterUUID = clusterUUID;
+            this.metadataVersion = metadataVersion;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ResolutionKey that = (ResolutionKey) o;
+            return metadataVersion == that.metadataVersion
+                && patterns.equals(that.patterns)
+                && dateResolvedPatterns.equals(that.dateResolvedPatterns)
+                && Objects.equals(indicesOptions, that.indicesOptions)
+                && Objects.equals(clusterUUID, that.clusterUUID);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(patterns, dateResolvedPatterns, indicesOptions, clusterUUID, metadataVersion);
+        }
+    }
+
+    /**
+     * Items of multi requests only refer to the indices passed to the indices provider, so their resolution only
+     * depends on those.
+     */
+    private static boolean isMultiRequestItem(final Object request) {
+        return request instanceof DocWriteRequest
+            || request instanceof MultiGetRequest.Item
+            || request instanceof SearchRequest
+            || request instanceof TermVectorsRequest;
+    }
+
+    private static boolean isCrossClusterResolutionEnabled(final Object request) {
+        return request instanceof FieldCapabilitiesRequest
+            || request instanceof SearchRequest
+            || request instanceof ResolveIndexAction.Request;
     }
 
     private static boolean isAllWithNoRemote(final String... requestedPatterns) {
@@ -158,61 +351,21 @@ public class IndexResolverReplacer {
         private final ImmutableSet.Builder<String> allIndices;
         private final ImmutableSet.Builder<String> originalRequested;
         private final ImmutableSet.Builder<String> remoteIndices;
-        // set of previously resolved index requests to avoid resolving
-        // the same index more than once while processing bulk requests
-        private final Set<AlreadyResolvedKey> alreadyResolved;
+        // distinct index expressions of the request, mapped to the name of the first request they were found in;
+        // every expression is resolved only once, even if it is used by many items of a bulk request
+        private final Map<AlreadyResolvedKey, String> alreadyResolved;
         private final String name;
 
-        private final class AlreadyResolvedKey {
-
-            private final IndicesOptions indicesOptions;
-
-            private final boolean enableCrossClusterResolution;
-
-            private final String[] original;
-
-            private AlreadyResolvedKey(final IndicesOptions indicesOptions, final boolean enableCrossClusterResolution) {
-                this(indicesOptions, enableCrossClusterResolution, null);
-            }
-
-            private AlreadyResolvedKey(
-                final IndicesOptions indicesOptions,
-                final boolean enableCrossClusterResolution,
-                final String[] original
-            ) {
-                this.indicesOptions = indicesOptions;
-                this.enableCrossClusterResolution = enableCrossClusterResolution;
-                this.original = original;
-            }
-
-            @Override
-            public boolean equals(Object o) {
-                if (this == o) return true;
-                if (o == null || getClass() != o.getClass()) return false;
-                AlreadyResolvedKey that = (AlreadyResolvedKey) o;
-                return enableCrossClusterResolution == that.enableCrossClusterResolution
-                    && Objects.equals(indicesOptions, that.indicesOptions)
-                    && Arrays.equals(original, that.original);
-            }
-
-            @Override
-            public int hashCode() {
-                int result = Objects.hash(indicesOptions, enableCrossClusterResolution);
-                result = 31 * result + Arrays.hashCode(original);
-                return result;
-            }
-        }
-
         ResolvedIndicesProvider(Object request) {
             aliases = ImmutableSet.builder();
             allIndices = ImmutableSet.builder();
             originalRequested = ImmutableSet.builder();
             remoteIndices = ImmutableSet.builder();
-            alreadyResolved = new HashSet<>();
+            alreadyResolved = new LinkedHashMap<>();
             name = request.getClass().getSimpleName();
         }
 
-        private void resolveIndexPatterns(
+        private PatternResolution resolveIndexPatterns(
             final String name,
             final IndicesOptions indicesOptions,
             final boolean enableCrossClusterResolution,
@@ -227,8 +380,7 @@ public class IndexResolverReplacer {
                 if (isTraceEnabled) {
                     log.trace(Arrays.toString(original) + " is an ALL pattern without any remote indices");
                 }
-                resolveToLocalAll();
-                return;
+                return PatternResolution.LOCAL_ALL;
             }
 
             Set<String> remoteIndices;
@@ -296,38 +448,15 @@ public class IndexResolverReplacer {
                 final Set<String> dateResolvedLocalRequestedPatterns = localRequestedPatterns.stream()
                     .map(resolver::resolveDateMathExpression)
                     .collect(Collectors.toSet());
-                final WildcardMatcher dateResolvedMatcher = WildcardMatcher.from(dateResolvedLocalRequestedPatterns);
-                // fill matchingAliases
-                final Map<String, IndexAbstraction> lookup = state.metadata().getIndicesLookup();
-                matchingAliases = lookup.entrySet()
-                    .stream()
-                    .filter(e -> e.getValue().getType() == ALIAS)
-                    .map(Map.Entry::getKey)
-                    .filter(dateResolvedMatcher)
-                    .collect(Collectors.toSet());
-
-                final boolean isDebugEnabled = log.isDebugEnabled();
-                try {
-                    matchingAllIndices = Arrays.asList(
-                        resolver.concreteIndexNames(state, indicesOptions, localRequestedPatterns.toArray(new String[0]))
-                    );
-                    matchingDataStreams = resolver.dataStreamNames(state, indicesOptions, localRequestedPatterns.toArray(new String[0]));
-
-                    if (isDebugEnabled) {
-                        log.debug(
-                            "Resolved pattern {} to indices: {} and data-streams: {}",
-                            localRequestedPatterns,
-                            matchingAllIndices,
-                            matchingDataStreams
-                        );
-                    }
-                } catch (IndexNotFoundException e1) {
-                    if (isDebugEnabled) {
-                        log.debug("No such indices for pattern {}, use raw value", localRequestedPatterns);
-                    }
-
-                    matchingAllIndices = dateResolvedLocalRequestedPatterns;
-                }
+                final LocalResolution localResolution = resolveLocal(
+                    state,
+                    localRequestedPatterns,
+                    dateResolvedLocalRequestedPatterns,
+                    indicesOptions
+                );
+                matchingAliases = localResolution.aliases;
+                matchingAllIndices = localResolution.allIndices;
+                matchingDataStreams = localResolution.dataStreams;
             }
 
             if (matchingDataStreams == null || matchingDataStreams.size() == 0) {
@@ -348,7 +477,21 @@ public class IndexResolverReplacer {
                 );
             }
 
-            resolveTo(matchingAliases, matchingAllIndices, matchingDataStreams, original, remoteIndices);
+            return new PatternResolution(matchingAliases, matchingAllIndices, matchingDataStreams, original, remoteIndices);
+        }
+
+        private void resolveTo(final PatternResolution resolution) {
+            if (resolution == PatternResolution.LOCAL_ALL) {
+                resolveToLocalAll();
+            } else {
+                resolveTo(
+                    resolution.aliases,
+                    resolution.allIndices,
+                    resolution.dataStreams,
+                    resolution.original,
+                    resolution.remoteIndices
+                );
+            }
         }
 
         private void resolveToLocalAll() {
@@ -374,9 +517,7 @@ public class IndexResolverReplacer {
         @Override
         public String[] provide(String[] original, Object localRequest, boolean supportsReplace) {
             final IndicesOptions indicesOptions = indicesOptionsFrom(localRequest);
-            final boolean enableCrossClusterResolution = localRequest instanceof FieldCapabilitiesRequest
-                || localRequest instanceof SearchRequest
-                || localRequest instanceof ResolveIndexAction.Request;
+            final boolean enableCrossClusterResolution = isCrossClusterResolutionEnabled(localRequest);
             // skip the whole thing if we have seen this exact resolveIndexPatterns request
             final AlreadyResolvedKey alreadyResolvedKey;
             if (original != null) {
@@ -384,16 +525,27 @@ public class IndexResolverReplacer {
             } else {
                 alreadyResolvedKey = new AlreadyResolvedKey(indicesOptions, enableCrossClusterResolution);
             }
-            if (alreadyResolved.add(alreadyResolvedKey)) {
-                resolveIndexPatterns(localRequest.getClass().getSimpleName(), indicesOptions, enableCrossClusterResolution, original);
-            }
+            // the expressions are only collected here and resolved all at once in resolved()
+            alreadyResolved.putIfAbsent(alreadyResolvedKey, localRequest.getClass().getSimpleName());
             return IndicesProvider.NOOP;
         }
 
         Resolved resolved(IndicesOptions indicesOptions) {
-            final Resolved resolved = alreadyResolved.isEmpty()
-                ? Resolved._LOCAL_ALL
-                : new Resolved(aliases.build(), allIndices.build(), originalRequested.build(), remoteIndices.build(), indicesOptions);
+            if (alreadyResolved.isEmpty()) {
+                return Resolved._LOCAL_ALL;
+            }
+
+            for (PatternResolution resolution : resolveAll()) {
+                resolveTo(resolution);
+            }
+
+            final Resolved resolved = new Resolved(
+                aliases.build(),
+                allIndices.build(),
+                originalRequested.build(),
+                remoteIndices.build(),
+                indicesOptions
+            );
 
             if (log.isTraceEnabled()) {
                 log.trace("Finally resolved for {}: {}", name, resolved);
@@ -401,17 +553,104 @@ public class IndexResolverReplacer {
 
             return resolved;
         }
+
+        /**
+         * Resolves all distinct index expressions of the request once, in request order.
+         */
+        private List<PatternResolution> resolveAll() {
+            final List<PatternResolution> result = new ArrayList<>(alreadyResolved.size());
+            for (Map.Entry<AlreadyResolvedKey, String> expression : alreadyResolved.entrySet()) {
+                result.add(resolveIndexPatterns(expression));
+            }
+            return result;
+        }
+
+        private PatternResolution resolveIndexPatterns(final Map.Entry<AlreadyResolvedKey, String> expression) {
+            final AlreadyResolvedKey key = expression.getKey();
+            return resolveIndexPatterns(expression.getValue(), key.indicesOptions, key.enableCrossClusterResolution, key.original);
+        }
+    }
+
+    private static final class AlreadyResolvedKey {
+
+        private final IndicesOptions indicesOptions;
+
+        private final boolean enableCrossClusterResolution;
+
+        private final String[] original;
+
+        private AlreadyResolvedKey(final IndicesOptions indicesOptions, final boolean enableCrossClusterResolution) {
+            this(indicesOptions, enableCrossClusterResolution, null);
+        }
+
+        private AlreadyResolvedKey(
+            final IndicesOptions indicesOptions,
+            final boolean enableCrossClusterResolution,
+            final String[] original
+        ) {
+            this.indicesOptions = indicesOptions;
+            this.enableCrossClusterResolution = enableCrossClusterResolution;
+            this.original = original;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            AlreadyResolvedKey that = (AlreadyResolvedKey) o;
+            return enableCrossClusterResolution == that.enableCrossClusterResolution
+                && Objects.equals(indicesOptions, that.indicesOptions)
+                && Arrays.equals(original, that.original);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Objects.hash(indicesOptions, enableCrossClusterResolution);
+            result = 31 * result + Arrays.hashCode(original);
+            return result;
+        }
+    }
+
+    private static final class PatternResolution {
+        private static final PatternResolution LOCAL_ALL = new PatternResolution(null, null, null, null, null);
+
+        private final Iterable<String> aliases;
+        private final Iterable<String> allIndices;
+        private final Iterable<String> dataStreams;
+        private final String[] original;
+        private final Iterable<String> remoteIndices;
+
+        private PatternResolution(
+            Iterable<String> aliases,
+            Iterable<String> allIndices,
+            Iterable<String> dataStreams,
+            String[] original,
+            Iterable<String> remoteIndices
+        ) {
+            this.aliases = aliases;
+            this.allIndices = allIndices;
+            this.dataStreams = dataStreams;
+            this.original = original;
+            this.remoteIndices = remoteIndices;
+        }
     }
 
     // dnfof
     public boolean replace(final TransportRequest request, boolean retainMode, String... replacements) {
         return getOrReplaceAllIndices(request, new IndicesProvider() {
+            // items of multi requests with the same index expression are resolved only once
+            private final Map<AlreadyResolvedKey, Resolved> resolvedByExpression = new HashMap<>();
 
             @Override
             public String[] provide(String[] original, Object request, boolean supportsReplace) {
                 if (supportsReplace) {
                     if (retainMode && !isAllWithNoRemote(original)) {
-                        final Resolved resolved = resolveRequest(request);
+                        final Resolved resolved = isMultiRequestItem(request)
+                            ? resolvedByExpression.computeIfAbsent(
+                                new AlreadyResolvedKey(indicesOptionsFrom(request), isCrossClusterResolutionEnabled(request), original),
+                                k -> resolveRequest(request)
+                            )
+                            : resolveRequest(request);
                         final List<String> retained = WildcardMatcher.from(resolved.getAllIndices())
                             .getMatchAny(replacements, Collectors.toList());
                         retained.addAll(resolved.getRemoteIndices());
@@ -504,6 +743,10 @@ public class IndexResolverReplacer {
             return remoteIndices;
         }
 
+        public IndicesOptions getIndicesOptions() {
+            return indicesOptions;
+        }
+
         @Override
         public String toString() {
             return "Resolved [aliases="
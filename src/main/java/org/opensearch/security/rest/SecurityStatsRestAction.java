@@ -0,0 +1,64 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.rest;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.RestController;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.action.RestActions.NodesResponseRestListener;
+import org.opensearch.security.action.stats.SecurityStatsAction;
+import org.opensearch.security.action.stats.SecurityStatsRequest;
+
+import static org.opensearch.rest.RestRequest.Method.GET;
+import static org.opensearch.security.dlic.rest.support.Utils.LEGACY_PLUGIN_ROUTE_PREFIX;
+import static org.opensearch.security.dlic.rest.support.Utils.PLUGIN_ROUTE_PREFIX;
+import static org.opensearch.security.dlic.rest.support.Utils.addRoutesPrefix;
+
+/**
+ * Returns the timing statistics, denial counters and cache statistics of the security layer of all or the given nodes.
+ * The user needs the cluster permission {@value SecurityStatsAction#NAME}.
+ */
+public class SecurityStatsRestAction extends BaseRestHandler {
+    private static final List<Route> routes = addRoutesPrefix(
+        ImmutableList.of(new Route(GET, "/stats"), new Route(GET, "/stats/{nodeId}")),
+        LEGACY_PLUGIN_ROUTE_PREFIX,
+        PLUGIN_ROUTE_PREFIX
+    );
+
+    public SecurityStatsRestAction(final Settings settings, final RestController controller) {
+        super();
+    }
+
+    @Override
+    public List<Route> routes() {
+        return routes;
+    }
+
+    @Override
+    protected RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) throws IOException {
+        final SecurityStatsRequest statsRequest = new SecurityStatsRequest(request.paramAsStringArrayOrEmptyIfAll("nodeId"));
+        statsRequest.timeout(request.param("timeout"));
+        return channel -> client.execute(SecurityStatsAction.INSTANCE, statsRequest, new NodesResponseRestListener<>(channel));
+    }
+
+    @Override
+    public String getName() {
+        return "Security Stats";
+    }
+}
@@ -26,6 +26,7 @@
 
 package org.opensearch.security.securityconf;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 
@@ -41,4 +42,11 @@ public abstract class ConfigModel {
     public abstract SecurityRoles getSecurityRoles();
 
     public abstract Set<String> getAllConfiguredTenantNames();
+
+    /**
+     * @return the statistics of the cache of mapped roles, empty if there is none
+     */
+    public Map<String, Object> getRoleMappingCacheStats() {
+        return Collections.emptyMap();
+    }
 }
@@ -61,6 +61,8 @@ import org.opensearch.security.securityconf.impl.v6.RoleMappingsV6;
 import org.opensearch.security.securityconf.impl.v6.RoleV6;
 import org.opensearch.security.securityconf.impl.v6.RoleV6.Index;
 import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.IpRangeTrie;
+import org.opensearch.security.support.ReverseDnsCache;
 import org.opensearch.security.support.WildcardMatcher;
 import org.opensearch.security.user.User;
 
@@ -70,21 +72,26 @@ public class ConfigModelV6 extends ConfigModel {
 
     protected final Logger log = LogManager.getLogger(this.getClass());
     private ConfigConstants.RolesMappingResolution rolesMappingResolution;
+    private final boolean hostCidrMatching;
     private ActionGroupResolver agr = null;
     private SecurityRoles securityRoles = null;
     private TenantHolder tenantHolder;
     private RoleMappingHolder roleMappingHolder;
     private SecurityDynamicConfiguration<RoleV6> roles;
+    private final ReverseDnsCache reverseDnsCache;
 
     public ConfigModelV6(
         SecurityDynamicConfiguration<RoleV6> roles,
         SecurityDynamicConfiguration<ActionGroupsV6> actiongroups,
         SecurityDynamicConfiguration<RoleMappingsV6> rolesmapping,
         DynamicConfigModel dcm,
-        Settings opensearchSettings
+        Settings opensearchSettings,
+        ReverseDnsCache reverseDnsCache
     ) {
 
         this.roles = roles;
+        this.reverseDnsCache = reverseDnsCache;
+        this.hostCidrMatching = opensearchSettings.getAsBoolean(ConfigConstants.SECURITY_HOSTS_CIDR_MATCHING_ENABLED, false);
 
         try {
             rolesMappingResolution = ConfigConstants.RolesMappingResolution.valueOf(
@@ -543,6 +550,12 @@ public class ConfigModelV6 extends ConfigModel {
             return ConfigModelV6.impliesTypePerm(ipatterns, resolved, user, actions, resolver, cs);
         }
 
+        @Override
+        public boolean hasUserAttributesInIndexPatterns() {
+            // index patterns are not precompiled for the legacy config model
+            return true;
+        }
+
         @Override
         public boolean isPermittedOnSystemIndex(String indexName) {
             boolean isPatternMatched = false;
@@ -1198,6 +1211,8 @@ public class ConfigModelV6 extends ConfigModel {
         private List<WildcardMatcher> userMatchers;
         private List<WildcardMatcher> barMatchers;
         private List<WildcardMatcher> hostMatchers;
+        // role mappings for hosts given as CIDR ranges
+        private IpRangeTrie<String> hostRanges;
 
         private RoleMappingHolder(final SecurityDynamicConfiguration<RoleMappingsV6> rolesMapping, final String hostResolverMode) {
 
@@ -1209,6 +1224,7 @@ public class ConfigModelV6 extends ConfigModel {
                 abars = ArrayListMultimap.create();
                 bars = ArrayListMultimap.create();
                 hosts = ArrayListMultimap.create();
+                final IpRangeTrie<String> hostRanges_ = new IpRangeTrie<>();
 
                 for (final Entry<String, RoleMappingsV6> roleMap : rolesMapping.getCEntries().entrySet()) {
                     final String roleMapKey = roleMap.getKey();
@@ -1229,13 +1245,19 @@ public class ConfigModelV6 extends ConfigModel {
                     }
 
                     for (String host : roleMapValue.getHosts()) {
-                        hosts.put(host, roleMapKey);
+                        // without CIDR matching, ranges are wildcard patterns which never match an address
+                        if (hostCidrMatching && IpRangeTrie.isCidr(host)) {
+                            hostRanges_.put(host, roleMapKey);
+                        } else {
+                            hosts.put(host, roleMapKey);
+                        }
                     }
                 }
 
                 userMatchers = WildcardMatcher.matchers(users.keySet());
                 barMatchers = WildcardMatcher.matchers(bars.keySet());
                 hostMatchers = WildcardMatcher.matchers(hosts.keySet());
+                hostRanges = hostRanges_;
             }
         }
 
@@ -1281,6 +1303,14 @@ public class ConfigModelV6 extends ConfigModel {
                         securityRoles.addAll(hosts.get(p));
                     }
 
+                    if (!hostRanges.isEmpty()) {
+                        if (caller.address() != null && caller.address().getAddress() != null) {
+                            securityRoles.addAll(hostRanges.getAll(caller.address().getAddress()));
+                        } else {
+                            securityRoles.addAll(hostRanges.getAll(ipAddress));
+                        }
+                    }
+
                     if (caller.address() != null
                         && (hostResolverMode.equalsIgnoreCase("ip-hostname") || hostResolverMode.equalsIgnoreCase("ip-hostname-lookup"))) {
                         final String hostName = caller.address().getHostString();
@@ -1292,10 +1322,13 @@ public class ConfigModelV6 extends ConfigModel {
 
                     if (caller.address() != null && hostResolverMode.equalsIgnoreCase("ip-hostname-lookup")) {
 
-                        final String resolvedHostName = caller.address().getHostName();
+                        // reverse lookups are served from a cache, request threads wait at most for its timeout budget
+                        final String resolvedHostName = reverseDnsCache.getHostName(caller.address().getAddress());
 
-                        for (String p : WildcardMatcher.getAllMatchingPatterns(hostMatchers, resolvedHostName)) {
-                            securityRoles.addAll(hosts.get(p));
+                        if (resolvedHostName != null) {
+                            for (String p : WildcardMatcher.getAllMatchingPatterns(hostMatchers, resolvedHostName)) {
+                                securityRoles.addAll(hosts.get(p));
+                            }
                         }
                     }
                 }
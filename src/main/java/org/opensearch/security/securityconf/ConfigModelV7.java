@@ -22,12 +22,14 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -38,11 +40,14 @@ import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import com.google.common.collect.ListMultimap;
-import com.google.common.collect.MultimapBuilder.SetMultimapBuilder;
-import com.google.common.collect.SetMultimap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -50,7 +55,6 @@ import org.opensearch.ExceptionsHelper;
 import org.opensearch.action.support.IndicesOptions;
 import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
 import org.opensearch.cluster.service.ClusterService;
-import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.set.Sets;
 import org.opensearch.core.common.transport.TransportAddress;
@@ -64,6 +68,8 @@ import org.opensearch.security.securityconf.impl.v7.RoleV7;
 import org.opensearch.security.securityconf.impl.v7.RoleV7.Index;
 import org.opensearch.security.securityconf.impl.v7.TenantV7;
 import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.IpRangeTrie;
+import org.opensearch.security.support.ReverseDnsCache;
 import org.opensearch.security.support.WildcardMatcher;
 import org.opensearch.security.user.User;
 
@@ -74,11 +80,13 @@ public class ConfigModelV7 extends ConfigModel {
 
     protected final Logger log = LogManager.getLogger(this.getClass());
     private ConfigConstants.RolesMappingResolution rolesMappingResolution;
+    private final boolean hostCidrMatching;
     private FlattenedActionGroups actionGroups;
     private SecurityRoles securityRoles = null;
     private TenantHolder tenantHolder;
     private RoleMappingHolder roleMappingHolder;
     private SecurityDynamicConfiguration<RoleV7> roles;
+    private final ReverseDnsCache reverseDnsCache;
     private SecurityDynamicConfiguration<TenantV7> tenants;
 
     public ConfigModelV7(
@@ -87,10 +95,13 @@ public class ConfigModelV7 extends ConfigModel {
         SecurityDynamicConfiguration<ActionGroupsV7> actiongroups,
         SecurityDynamicConfiguration<TenantV7> tenants,
         DynamicConfigModel dcm,
-        Settings opensearchSettings
+        Settings opensearchSettings,
+        ReverseDnsCache reverseDnsCache
     ) {
 
         this.roles = roles;
+        this.reverseDnsCache = reverseDnsCache;
+        this.hostCidrMatching = opensearchSettings.getAsBoolean(ConfigConstants.SECURITY_HOSTS_CIDR_MATCHING_ENABLED, false);
         this.tenants = tenants;
 
         try {
@@ -195,7 +206,7 @@ public class ConfigModelV7 extends ConfigModel {
         }
 
         try {
-            SecurityRoles _securityRoles = new SecurityRoles(futures.size());
+            SecurityRoles _securityRoles = new SecurityRoles(futures.size(), true);
             for (Future<SecurityRole> future : futures) {
                 _securityRoles.addSecurityRole(future.get());
             }
@@ -219,8 +230,24 @@ public class ConfigModelV7 extends ConfigModel {
 
         final Set<SecurityRole> roles;
 
+        /**
+         * Filtered views of these roles per role set. Only the roles of a configuration have this cache. They are
+         * rebuilt on every config load, so a view never outlives the configuration it was filtered from.
+         */
+        private final Cache<Set<String>, SecurityRoles> filteredViews;
+
+        // derived from the roles when first needed, the roles are not modified once the instance is published
+        private volatile Aggregates aggregates;
+
         private SecurityRoles(int roleCount) {
+            this(roleCount, false);
+        }
+
+        private SecurityRoles(int roleCount, boolean cacheFilteredViews) {
             roles = new HashSet<>(roleCount);
+            filteredViews = cacheFilteredViews
+                ? CacheBuilder.newBuilder().maximumSize(10000).expireAfterAccess(1, TimeUnit.HOURS).build()
+                : null;
         }
 
         private SecurityRoles addSecurityRole(SecurityRole securityRole) {
@@ -264,6 +291,20 @@ public class ConfigModelV7 extends ConfigModel {
         }
 
         public SecurityRoles filter(Set<String> keep) {
+            if (filteredViews == null) {
+                return computeFilter(keep);
+            }
+
+            try {
+                // the mapped roles are interned, so equal role sets are mostly the same instance
+                return filteredViews.get(ImmutableSet.copyOf(keep), () -> computeFilter(keep));
+            } catch (ExecutionException e) {
+                log.error("Error while filtering roles {}", keep, e.getCause());
+                throw ExceptionsHelper.convertToOpenSearchException(e);
+            }
+        }
+
+        private SecurityRoles computeFilter(Set<String> keep) {
             final SecurityRoles retVal = new SecurityRoles(roles.size());
             for (SecurityRole sr : roles) {
                 if (keep.contains(sr.getName())) {
@@ -417,12 +458,12 @@ public class ConfigModelV7 extends ConfigModel {
 
         @Override
         public boolean impliesClusterPermissionPermission(String action) {
-            return roles.stream().filter(r -> r.impliesClusterPermission(action)).count() > 0;
+            return getAggregates().clusterPerms.test(action);
         }
 
         @Override
         public boolean hasExplicitClusterPermissionPermission(String action) {
-            return roles.stream().map(r -> matchExplicitly(r.clusterPerms)).filter(m -> m.test(action)).count() > 0;
+            return getAggregates().explicitClusterPerms.test(action);
         }
 
         private static WildcardMatcher matchExplicitly(final WildcardMatcher matcher) {
@@ -474,34 +515,84 @@ public class ConfigModelV7 extends ConfigModel {
             return ConfigModelV7.impliesTypePerm(ipatterns, resolved, user, actions, resolver, cs);
         }
 
-        private boolean containsDlsFlsConfig() {
+        @Override
+        public boolean hasUserAttributesInIndexPatterns() {
             for (SecurityRole role : roles) {
                 for (IndexPattern ip : role.getIpatterns()) {
-                    if (ip.hasDlsQuery() || ip.hasFlsFields() || ip.hasMaskedFields()) {
+                    if (ip.indexPatternTemplate.hasPlaceholders()) {
                         return true;
                     }
                 }
             }
-
             return false;
         }
 
+        private boolean containsDlsFlsConfig() {
+            return getAggregates().containsDlsFlsConfig;
+        }
+
         @Override
         public boolean isPermittedOnSystemIndex(String indexName) {
-            boolean isPatternMatched = false;
-            boolean isPermitted = false;
+            final Aggregates aggregates = getAggregates();
+            return aggregates.systemIndexPermission && aggregates.indexPatterns.test(indexName);
+        }
+
+        private Aggregates getAggregates() {
+            Aggregates result = aggregates;
+            if (result == null) {
+                result = new Aggregates(roles);
+                aggregates = result;
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Properties of a set of roles which are evaluated for every request, combined over all roles once.
+     */
+    private static final class Aggregates {
+        private final WildcardMatcher clusterPerms;
+        private final WildcardMatcher explicitClusterPerms;
+        private final WildcardMatcher indexPatterns;
+        private final boolean systemIndexPermission;
+        private final boolean containsDlsFlsConfig;
+
+        private Aggregates(final Set<SecurityRole> roles) {
+            final Set<WildcardMatcher> clusterPerms = new LinkedHashSet<>();
+            final Set<WildcardMatcher> explicitClusterPerms = new LinkedHashSet<>();
+            final Set<WildcardMatcher> indexPatterns = new LinkedHashSet<>();
+            boolean systemIndexPermission = false;
+            boolean containsDlsFlsConfig = false;
+
             for (SecurityRole role : roles) {
+                clusterPerms.add(role.clusterPerms);
+                explicitClusterPerms.add(SecurityRoles.matchExplicitly(role.clusterPerms));
                 for (IndexPattern ip : role.getIpatterns()) {
-                    WildcardMatcher wildcardMatcher = WildcardMatcher.from(ip.indexPattern);
-                    if (wildcardMatcher.test(indexName)) {
-                        isPatternMatched = true;
-                    }
-                    if (ip.perms.contains(ConfigConstants.SYSTEM_INDEX_PERMISSION)) {
-                        isPermitted = true;
-                    }
+                    indexPatterns.add(WildcardMatcher.from(ip.indexPattern));
+                    systemIndexPermission |= ip.perms.contains(ConfigConstants.SYSTEM_INDEX_PERMISSION);
+                    containsDlsFlsConfig |= ip.hasDlsQuery() || ip.hasFlsFields() || ip.hasMaskedFields();
                 }
             }
-            return isPatternMatched && isPermitted;
+
+            this.clusterPerms = anyOf(clusterPerms);
+            this.explicitClusterPerms = anyOf(explicitClusterPerms);
+            this.indexPatterns = anyOf(indexPatterns);
+            this.systemIndexPermission = systemIndexPermission;
+            this.containsDlsFlsConfig = containsDlsFlsConfig;
+        }
+
+        private static WildcardMatcher anyOf(final Set<WildcardMatcher> matchers) {
+            matchers.remove(WildcardMatcher.NONE);
+            if (matchers.contains(WildcardMatcher.ANY)) {
+                return WildcardMatcher.ANY;
+            }
+            final Iterator<WildcardMatcher> it = matchers.iterator();
+            if (!it.hasNext()) {
+                return WildcardMatcher.NONE;
+            }
+            final WildcardMatcher first = it.next();
+            it.remove();
+            return first.concat(matchers);
         }
     }
 
@@ -664,7 +755,9 @@ public class ConfigModelV7 extends ConfigModel {
     // sg roles
     public static class IndexPattern {
         private final String indexPattern;
+        private final UserAttributes.Template indexPatternTemplate;
         private String dlsQuery;
+        private UserAttributes.Template dlsQueryTemplate;
         private final Set<String> fls = new HashSet<>();
         private final Set<String> maskedFields = new HashSet<>();
         private final Set<String> perms = new HashSet<>();
@@ -672,6 +765,7 @@ public class ConfigModelV7 extends ConfigModel {
         public IndexPattern(String indexPattern) {
             super();
             this.indexPattern = Objects.requireNonNull(indexPattern);
+            this.indexPatternTemplate = UserAttributes.Template.compile(indexPattern);
         }
 
         public IndexPattern addFlsFields(List<String> flsFields) {
@@ -698,6 +792,7 @@ public class ConfigModelV7 extends ConfigModel {
         public IndexPattern setDlsQuery(String dlsQuery) {
             if (dlsQuery != null) {
                 this.dlsQuery = dlsQuery;
+                this.dlsQueryTemplate = UserAttributes.Template.compile(dlsQuery);
             }
             return this;
         }
@@ -755,7 +850,7 @@ public class ConfigModelV7 extends ConfigModel {
         }
 
         public String getUnresolvedIndexPattern(User user) {
-            return UserAttributes.replaceProperties(indexPattern, user);
+            return indexPatternTemplate.render(user);
         }
 
         /** Finds the indices accessible to the user and resolves them to concrete names */
@@ -817,7 +912,7 @@ public class ConfigModelV7 extends ConfigModel {
         }
 
         public String getDlsQuery(User user) {
-            return UserAttributes.replaceProperties(dlsQuery, user);
+            return dlsQueryTemplate != null ? dlsQueryTemplate.render(user) : null;
         }
 
         public boolean hasDlsQuery() {
@@ -1005,12 +1100,26 @@ public class ConfigModelV7 extends ConfigModel {
 
     private class TenantHolder {
 
-        private SetMultimap<String, Tuple<String, Boolean>> tenantsMM = null;
+        private static final String SAVED_OBJECTS_WRITE = "kibana:saved_objects/*/write";
+        private static final Pattern PARAMETER_PATTERN = Pattern.compile("^\\$\\{attr");
 
-        public TenantHolder(SecurityDynamicConfiguration<RoleV7> roles, SecurityDynamicConfiguration<TenantV7> definedTenants) {
-            final Set<Future<Tuple<String, Set<Tuple<String, Boolean>>>>> futures = new HashSet<>(roles.getCEntries().size());
+        /**
+         * Tenant permissions of each role, resolved once at config load time.
+         */
+        private Map<String, RoleTenants> tenantsByRole = null;
 
-            final ExecutorService execs = Executors.newFixedThreadPool(10);
+        /**
+         * Results of mapTenants() per role set and user fingerprint. The holder is rebuilt on every config
+         * load, so the cache never outlives the configuration it was computed from.
+         */
+        private final Cache<TenantCacheKey, Map<String, Boolean>> mappedTenantsCache = CacheBuilder.newBuilder()
+            .maximumSize(10000)
+            .expireAfterAccess(1, TimeUnit.HOURS)
+            .build();
+
+        public TenantHolder(SecurityDynamicConfiguration<RoleV7> roles, SecurityDynamicConfiguration<TenantV7> definedTenants) {
+            final Set<String> definedTenantNames = definedTenants.getCEntries().keySet();
+            final Map<String, RoleTenants> tenantsByRole_ = new HashMap<>(roles.getCEntries().size());
 
             for (Entry<String, RoleV7> securityRole : roles.getCEntries().entrySet()) {
 
@@ -1018,125 +1127,202 @@ public class ConfigModelV7 extends ConfigModel {
                     continue;
                 }
 
-                Future<Tuple<String, Set<Tuple<String, Boolean>>>> future = execs.submit(
-                    new Callable<Tuple<String, Set<Tuple<String, Boolean>>>>() {
-                        @Override
-                        public Tuple<String, Set<Tuple<String, Boolean>>> call() throws Exception {
-                            final Set<Tuple<String, Boolean>> tuples = new HashSet<>();
-                            final List<RoleV7.Tenant> tenants = securityRole.getValue().getTenant_permissions();
-                            if (tenants != null) {
-
-                                for (RoleV7.Tenant tenant : tenants) {
-
-                                    // find Wildcarded tenant patterns
-                                    List<String> matchingTenants = WildcardMatcher.from(tenant.getTenant_patterns())
-                                        .getMatchAny(definedTenants.getCEntries().keySet(), Collectors.toList());
-                                    for (String matchingTenant : matchingTenants) {
-                                        tuples.add(
-                                            new Tuple<String, Boolean>(
-                                                matchingTenant,
-                                                actionGroups.resolve(tenant.getAllowed_actions()).contains("kibana:saved_objects/*/write")
-                                            )
-                                        );
-                                    }
-                                    // find parameter substitution specified tenant
-                                    Pattern parameterPattern = Pattern.compile("^\\$\\{attr");
-                                    List<String> matchingParameterTenantList = tenant.getTenant_patterns()
-                                        .stream()
-                                        .filter(parameterPattern.asPredicate())
-                                        .collect(Collectors.toList());
-                                    for (String matchingParameterTenant : matchingParameterTenantList) {
-                                        tuples.add(
-                                            new Tuple<String, Boolean>(
-                                                matchingParameterTenant,
-                                                actionGroups.resolve(tenant.getAllowed_actions()).contains("kibana:saved_objects/*/write")
-                                            )
-                                        );
-                                    }
-                                }
-                            }
+                final RoleTenants roleTenants = new RoleTenants();
+                final List<RoleV7.Tenant> tenants = securityRole.getValue().getTenant_permissions();
+                if (tenants != null) {
 
-                            return new Tuple<String, Set<Tuple<String, Boolean>>>(securityRole.getKey(), tuples);
+                    for (RoleV7.Tenant tenant : tenants) {
+                        final boolean rw = actionGroups.resolve(tenant.getAllowed_actions()).contains(SAVED_OBJECTS_WRITE);
+
+                        // find Wildcarded tenant patterns
+                        for (String matchingTenant : WildcardMatcher.from(tenant.getTenant_patterns())
+                            .getMatchAny(definedTenantNames, Collectors.toList())) {
+                            roleTenants.addStaticTenant(matchingTenant, rw);
                         }
+                        // find parameter substitution specified tenant
+                        tenant.getTenant_patterns()
+                            .stream()
+                            .filter(PARAMETER_PATTERN.asPredicate())
+                            .forEach(matchingParameterTenant -> roleTenants.addParameterizedTenant(matchingParameterTenant, rw));
                     }
-                );
-
-                futures.add(future);
+                }
 
+                if (!roleTenants.isEmpty()) {
+                    tenantsByRole_.put(securityRole.getKey(), roleTenants);
+                }
             }
 
-            execs.shutdown();
-            try {
-                execs.awaitTermination(30, TimeUnit.SECONDS);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.error("Thread interrupted (1) while loading roles");
-                return;
-            }
+            tenantsByRole = tenantsByRole_;
+        }
 
-            try {
-                final SetMultimap<String, Tuple<String, Boolean>> tenantsMM_ = SetMultimapBuilder.hashKeys(futures.size())
-                    .hashSetValues(16)
-                    .build();
+        public Map<String, Boolean> mapTenants(final User user, Set<String> roles) {
 
-                for (Future<Tuple<String, Set<Tuple<String, Boolean>>>> future : futures) {
-                    Tuple<String, Set<Tuple<String, Boolean>>> result = future.get();
-                    tenantsMM_.putAll(result.v1(), result.v2());
+            if (user == null || tenantsByRole == null) {
+                return Collections.emptyMap();
+            }
+
+            boolean parameterized = false;
+            for (String role : roles) {
+                final RoleTenants roleTenants = tenantsByRole.get(role);
+                if (roleTenants != null && !roleTenants.parameterizedTenants.isEmpty()) {
+                    parameterized = true;
+                    break;
                 }
+            }
 
-                tenantsMM = tenantsMM_;
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.error("Thread interrupted (2) while loading roles");
-                return;
+            // The result only depends on the user attributes if a tenant name needs to be substituted
+            final TenantCacheKey key = new TenantCacheKey(user, roles, parameterized);
+
+            try {
+                return mappedTenantsCache.get(key, () -> computeTenants(user, roles));
             } catch (ExecutionException e) {
-                log.error("Error while updating roles: {}", e.getCause(), e.getCause());
+                log.error("Error while mapping tenants for {}", user, e.getCause());
                 throw ExceptionsHelper.convertToOpenSearchException(e);
             }
-
         }
 
-        public Map<String, Boolean> mapTenants(final User user, Set<String> roles) {
-
-            if (user == null || tenantsMM == null) {
-                return Collections.emptyMap();
-            }
-
+        private Map<String, Boolean> computeTenants(final User user, final Set<String> roles) {
             final Map<String, Boolean> result = new HashMap<>(roles.size());
             result.put(user.getName(), true);
 
-            tenantsMM.entries()
-                .stream()
-                .filter(e -> roles.contains(e.getKey()))
-                .filter(e -> !user.getName().equals(e.getValue().v1()))
-                .forEach(e -> {
+            for (String role : roles) {
+                final RoleTenants roleTenants = tenantsByRole.get(role);
 
-                    // replaceProperties for tenant name because
-                    // at this point e.getValue().v1() can be in this form : "${attr.[internal|jwt|proxy|ldap].*}"
-                    // let's substitute it with the eventual value of the user's attribute
-                    final String tenant = UserAttributes.replaceProperties(e.getValue().v1(), user);
-                    final boolean rw = e.getValue().v2();
+                if (roleTenants == null) {
+                    continue;
+                }
 
-                    if (rw || !result.containsKey(tenant)) { // RW outperforms RO
+                for (Entry<String, Boolean> e : roleTenants.staticTenants.entrySet()) {
+                    if (!user.getName().equals(e.getKey())) {
+                        putTenant(result, e.getKey(), e.getValue());
+                    }
+                }
 
-                        // We want to make sure that we add a tenant that exists
-                        // Indeed, because we don't have control over what will be
-                        // passed on as values of users' attributes, we have to make
-                        // sure that we don't allow them to select tenants that do not exist.
-                        if (ConfigModelV7.this.tenants.getCEntries().containsKey(tenant)) {
-                            result.put(tenant, rw);
-                        }
+                for (Entry<UserAttributes.Template, Boolean> e : roleTenants.parameterizedTenants.entrySet()) {
+                    // render the tenant name because
+                    // at this point e.getKey() can be in this form : "${attr.[internal|jwt|proxy|ldap].*}"
+                    // let's substitute it with the eventual value of the user's attribute
+                    final String tenant = e.getKey().render(user);
+
+                    // We want to make sure that we add a tenant that exists
+                    // Indeed, because we don't have control over what will be
+                    // passed on as values of users' attributes, we have to make
+                    // sure that we don't allow them to select tenants that do not exist.
+                    if (ConfigModelV7.this.tenants.getCEntries().containsKey(tenant)) {
+                        putTenant(result, tenant, e.getValue());
                     }
-                });
+                }
+            }
 
-            Set<String> _roles = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-            _roles.addAll(roles);
-            if (!result.containsKey("global_tenant") && (_roles.contains("kibana_user") || _roles.contains("all_access"))) {
+            if (!result.containsKey("global_tenant")
+                && roles.stream().anyMatch(r -> "kibana_user".equalsIgnoreCase(r) || "all_access".equalsIgnoreCase(r))) {
                 result.put("global_tenant", true);
             }
 
             return Collections.unmodifiableMap(result);
         }
+
+        private void putTenant(final Map<String, Boolean> result, final String tenant, final boolean rw) {
+            if (rw || !result.containsKey(tenant)) { // RW outperforms RO
+                result.put(tenant, rw);
+            }
+        }
+    }
+
+    private static final class RoleTenants {
+        // tenant name (or parameterized tenant template) -> read-write
+        private final Map<String, Boolean> staticTenants = new HashMap<>();
+        private final Map<UserAttributes.Template, Boolean> parameterizedTenants = new HashMap<>();
+
+        private void addStaticTenant(String tenant, boolean rw) {
+            staticTenants.merge(tenant, rw, Boolean::logicalOr);
+        }
+
+        private void addParameterizedTenant(String tenantTemplate, boolean rw) {
+            parameterizedTenants.merge(UserAttributes.Template.compile(tenantTemplate), rw, Boolean::logicalOr);
+        }
+
+        private boolean isEmpty() {
+            return staticTenants.isEmpty() && parameterizedTenants.isEmpty();
+        }
+    }
+
+    private static final class TenantCacheKey {
+        private final Set<String> roles;
+        private final String userName;
+        private final Set<String> backendRoles;
+        private final Set<String> securityRoles;
+        private final Map<String, String> attributes;
+
+        private TenantCacheKey(final User user, final Set<String> roles, final boolean includeAttributes) {
+            this.roles = ImmutableSet.copyOf(roles);
+            this.userName = user.getName();
+            this.backendRoles = includeAttributes ? ImmutableSet.copyOf(user.getRoles()) : null;
+            this.securityRoles = includeAttributes ? ImmutableSet.copyOf(user.getSecurityRoles()) : null;
+            this.attributes = includeAttributes ? new HashMap<>(user.getCustomAttributesMap()) : null;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(roles, userName, backendRoles, securityRoles, attributes);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof TenantCacheKey)) return false;
+            final TenantCacheKey other = (TenantCacheKey) obj;
+            return Objects.equals(userName, other.userName)
+                && Objects.equals(roles, other.roles)
+                && Objects.equals(backendRoles, other.backendRoles)
+                && Objects.equals(securityRoles, other.securityRoles)
+                && Objects.equals(attributes, other.attributes);
+        }
+    }
+
+    private static final class RoleMappingCacheKey {
+        private final String userName;
+        private final Set<String> backendRoles;
+        private final Set<String> securityRoles;
+        private final String ipAddress;
+        private final String hostName;
+        private final String resolvedHostName;
+
+        private RoleMappingCacheKey(
+            final User user,
+            final TransportAddress caller,
+            final String hostResolverMode,
+            final String resolvedHostName
+        ) {
+            this.userName = user.getName();
+            this.backendRoles = ImmutableSet.copyOf(user.getRoles());
+            this.securityRoles = ImmutableSet.copyOf(user.getSecurityRoles());
+            this.ipAddress = caller != null ? caller.getAddress() : null;
+            this.hostName = caller != null
+                && caller.address() != null
+                && (hostResolverMode.equalsIgnoreCase("ip-hostname") || hostResolverMode.equalsIgnoreCase("ip-hostname-lookup"))
+                    ? caller.address().getHostString()
+                    : null;
+            this.resolvedHostName = resolvedHostName;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userName, backendRoles, securityRoles, ipAddress, hostName, resolvedHostName);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof RoleMappingCacheKey)) return false;
+            final RoleMappingCacheKey other = (RoleMappingCacheKey) obj;
+            return Objects.equals(userName, other.userName)
+                && Objects.equals(backendRoles, other.backendRoles)
+                && Objects.equals(securityRoles, other.securityRoles)
+                && Objects.equals(ipAddress, other.ipAddress)
+                && Objects.equals(hostName, other.hostName)
+                && Objects.equals(resolvedHostName, other.resolvedHostName);
+        }
     }
 
     private class RoleMappingHolder {
@@ -1150,6 +1336,20 @@ public class ConfigModelV7 extends ConfigModel {
         private List<WildcardMatcher> userMatchers;
         private List<WildcardMatcher> barMatchers;
         private List<WildcardMatcher> hostMatchers;
+        // role mappings for hosts given as CIDR ranges
+        private IpRangeTrie<String> hostRanges;
+
+        /**
+         * Results of map() per user fingerprint and caller. The holder is rebuilt on every config load, so the cache
+         * never outlives the configuration and the roles mapping resolution it was computed with. Equal results are
+         * interned, so users with the same roles share one set instance.
+         */
+        private final Cache<RoleMappingCacheKey, ImmutableSet<String>> mappedRolesCache = CacheBuilder.newBuilder()
+            .maximumSize(10000)
+            .expireAfterAccess(1, TimeUnit.HOURS)
+            .recordStats()
+            .build();
+        private final Interner<ImmutableSet<String>> roleSets = Interners.newWeakInterner();
 
         private RoleMappingHolder(final SecurityDynamicConfiguration<RoleMappingsV7> rolemappings, final String hostResolverMode) {
 
@@ -1161,6 +1361,7 @@ public class ConfigModelV7 extends ConfigModel {
                 abars = ArrayListMultimap.create();
                 bars = ArrayListMultimap.create();
                 hosts = ArrayListMultimap.create();
+                final IpRangeTrie<String> hostRanges_ = new IpRangeTrie<>();
 
                 for (final Entry<String, RoleMappingsV7> roleMap : rolemappings.getCEntries().entrySet()) {
                     final String roleMapKey = roleMap.getKey();
@@ -1181,13 +1382,19 @@ public class ConfigModelV7 extends ConfigModel {
                     }
 
                     for (String host : roleMapValue.getHosts()) {
-                        hosts.put(host, roleMapKey);
+                        // without CIDR matching, ranges are wildcard patterns which never match an address
+                        if (hostCidrMatching && IpRangeTrie.isCidr(host)) {
+                            hostRanges_.put(host, roleMapKey);
+                        } else {
+                            hosts.put(host, roleMapKey);
+                        }
                     }
                 }
 
                 userMatchers = WildcardMatcher.matchers(users.keySet());
                 barMatchers = WildcardMatcher.matchers(bars.keySet());
                 hostMatchers = WildcardMatcher.matchers(hosts.keySet());
+                hostRanges = hostRanges_;
             }
         }
 
@@ -1197,6 +1404,43 @@ public class ConfigModelV7 extends ConfigModel {
                 return Collections.emptySet();
             }
 
+            final boolean mapping = rolesMappingResolution == ConfigConstants.RolesMappingResolution.BOTH
+                || rolesMappingResolution == ConfigConstants.RolesMappingResolution.MAPPING_ONLY;
+
+            // The reverse lookup is done once per request, its result is part of the cache key
+            final String resolvedHostName = mapping
+                && caller != null
+                && caller.address() != null
+                && !hosts.isEmpty()
+                && hostResolverMode.equalsIgnoreCase("ip-hostname-lookup")
+                    ? reverseDnsCache.getHostName(caller.address().getAddress())
+                    : null;
+
+            // The caller only matters if there are role mappings for hosts
+            final boolean hostsMapped = mapping && caller != null && (!hosts.isEmpty() || !hostRanges.isEmpty());
+            final RoleMappingCacheKey key = new RoleMappingCacheKey(user, hostsMapped ? caller : null, hostResolverMode, resolvedHostName);
+
+            try {
+                return mappedRolesCache.get(key, () -> roleSets.intern(ImmutableSet.copyOf(compute(user, caller, resolvedHostName))));
+            } catch (ExecutionException e) {
+                log.error("Error while mapping roles for {}", user, e.getCause());
+                throw ExceptionsHelper.convertToOpenSearchException(e);
+            }
+        }
+
+        private Map<String, Object> getCacheStats() {
+            final CacheStats cacheStats = mappedRolesCache.stats();
+            final Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("size", mappedRolesCache.size());
+            stats.put("hit_count", cacheStats.hitCount());
+            stats.put("miss_count", cacheStats.missCount());
+            stats.put("hit_rate", cacheStats.hitRate());
+            stats.put("eviction_count", cacheStats.evictionCount());
+            return stats;
+        }
+
+        private Set<String> compute(final User user, final TransportAddress caller, final String resolvedHostName) {
+
             final Set<String> securityRoles = new HashSet<>(user.getSecurityRoles());
 
             if (rolesMappingResolution == ConfigConstants.RolesMappingResolution.BOTH
@@ -1231,6 +1475,14 @@ public class ConfigModelV7 extends ConfigModel {
                         securityRoles.addAll(hosts.get(p));
                     }
 
+                    if (!hostRanges.isEmpty()) {
+                        if (caller.address() != null && caller.address().getAddress() != null) {
+                            securityRoles.addAll(hostRanges.getAll(caller.address().getAddress()));
+                        } else {
+                            securityRoles.addAll(hostRanges.getAll(ipAddress));
+                        }
+                    }
+
                     if (caller.address() != null
                         && (hostResolverMode.equalsIgnoreCase("ip-hostname") || hostResolverMode.equalsIgnoreCase("ip-hostname-lookup"))) {
                         final String hostName = caller.address().getHostString();
@@ -1240,10 +1492,8 @@ public class ConfigModelV7 extends ConfigModel {
                         }
                     }
 
-                    if (caller.address() != null && hostResolverMode.equalsIgnoreCase("ip-hostname-lookup")) {
-
-                        final String resolvedHostName = caller.address().getHostName();
-
+                    // reverse lookups are served from a cache, request threads wait at most for its timeout budget
+                    if (resolvedHostName != null) {
                         for (String p : WildcardMatcher.getAllMatchingPatterns(hostMatchers, resolvedHostName)) {
                             securityRoles.addAll(hosts.get(p));
                         }
@@ -1251,8 +1501,7 @@ public class ConfigModelV7 extends ConfigModel {
                 }
             }
 
-            return Collections.unmodifiableSet(securityRoles);
-
+            return securityRoles;
         }
     }
 
@@ -1263,4 +1512,9 @@ public class ConfigModelV7 extends ConfigModel {
     public Set<String> mapSecurityRoles(User user, TransportAddress caller) {
         return roleMappingHolder.map(user, caller);
     }
+
+    @Override
+    public Map<String, Object> getRoleMappingCacheStats() {
+        return roleMappingHolder.getCacheStats();
+    }
 }
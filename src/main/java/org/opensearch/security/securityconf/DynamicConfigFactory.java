@@ -68,6 +68,8 @@ import org.opensearch.security.securityconf.impl.v7.RoleMappingsV7;
 import org.opensearch.security.securityconf.impl.v7.RoleV7;
 import org.opensearch.security.securityconf.impl.v7.TenantV7;
 import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.DistinguishedNameCache;
+import org.opensearch.security.support.ReverseDnsCache;
 import org.opensearch.security.support.WildcardMatcher;
 import org.opensearch.threadpool.ThreadPool;
 
@@ -132,6 +134,8 @@ public class DynamicConfigFactory implements Initializable, ConfigurationChangeL
     private final Path configPath;
     private final InternalAuthenticationBackend iab;
     private final ClusterInfoHolder cih;
+    private final ReverseDnsCache reverseDnsCache;
+    private final DistinguishedNameCache distinguishedNameCache;
 
     SecurityDynamicConfiguration<?> config;
 
@@ -142,10 +146,14 @@ public class DynamicConfigFactory implements Initializable, ConfigurationChangeL
         Client client,
         ThreadPool threadPool,
         ClusterInfoHolder cih,
-        PasswordHasher passwordHasher
+        PasswordHasher passwordHasher,
+        ReverseDnsCache reverseDnsCache,
+        DistinguishedNameCache distinguishedNameCache
     ) {
         super();
         this.cr = cr;
+        this.reverseDnsCache = reverseDnsCache;
+        this.distinguishedNameCache = distinguishedNameCache;
         this.opensearchSettings = opensearchSettings;
         this.configPath = configPath;
         this.cih = cih;
@@ -277,7 +285,7 @@ public class DynamicConfigFactory implements Initializable, ConfigurationChangeL
             );
 
             // rebuild v7 Models
-            dcm = new DynamicConfigModelV7(getConfigV7(config), opensearchSettings, configPath, iab, this.cih);
+            dcm = new DynamicConfigModelV7(getConfigV7(config), opensearchSettings, configPath, iab, this.cih, distinguishedNameCache);
             ium = new InternalUsersModelV7(
                 (SecurityDynamicConfiguration<InternalUserV7>) internalusers,
                 (SecurityDynamicConfiguration<RoleV7>) roles,
@@ -289,20 +297,22 @@ public class DynamicConfigFactory implements Initializable, ConfigurationChangeL
                 (SecurityDynamicConfiguration<ActionGroupsV7>) actionGroups,
                 (SecurityDynamicConfiguration<TenantV7>) tenants,
                 dcm,
-                opensearchSettings
+                opensearchSettings,
+                reverseDnsCache
             );
 
         } else {
 
             // rebuild v6 Models
-            dcm = new DynamicConfigModelV6(getConfigV6(config), opensearchSettings, configPath, iab);
+            dcm = new DynamicConfigModelV6(getConfigV6(config), opensearchSettings, configPath, iab, distinguishedNameCache);
             ium = new InternalUsersModelV6((SecurityDynamicConfiguration<InternalUserV6>) internalusers);
             cm = new ConfigModelV6(
                 (SecurityDynamicConfiguration<RoleV6>) roles,
                 (SecurityDynamicConfiguration<ActionGroupsV6>) actionGroups,
                 (SecurityDynamicConfiguration<RoleMappingsV6>) rolesmapping,
                 dcm,
-                opensearchSettings
+                opensearchSettings,
+                reverseDnsCache
             );
 
         }
@@ -54,12 +54,14 @@ import org.opensearch.security.auth.Destroyable;
 import org.opensearch.security.auth.HTTPAuthenticator;
 import org.opensearch.security.auth.blocking.ClientBlockRegistry;
 import org.opensearch.security.auth.internal.InternalAuthenticationBackend;
+import org.opensearch.security.http.HTTPClientCertAuthenticator;
 import org.opensearch.security.securityconf.impl.DashboardSignInOption;
 import org.opensearch.security.securityconf.impl.v6.ConfigV6;
 import org.opensearch.security.securityconf.impl.v6.ConfigV6.Authc;
 import org.opensearch.security.securityconf.impl.v6.ConfigV6.AuthcDomain;
 import org.opensearch.security.securityconf.impl.v6.ConfigV6.Authz;
 import org.opensearch.security.securityconf.impl.v6.ConfigV6.AuthzDomain;
+import org.opensearch.security.support.DistinguishedNameCache;
 import org.opensearch.security.support.ReflectionHelper;
 
 public class DynamicConfigModelV6 extends DynamicConfigModel {
@@ -71,18 +73,26 @@ public class DynamicConfigModelV6 extends DynamicConfigModel {
     private Set<AuthorizationBackend> restAuthorizers;
     private List<Destroyable> destroyableComponents;
     private final InternalAuthenticationBackend iab;
+    private final DistinguishedNameCache distinguishedNameCache;
 
     private List<AuthFailureListener> ipAuthFailureListeners;
     private Multimap<String, AuthFailureListener> authBackendFailureListeners;
     private List<ClientBlockRegistry<InetAddress>> ipClientBlockRegistries;
     private Multimap<String, ClientBlockRegistry<String>> authBackendClientBlockRegistries;
 
-    public DynamicConfigModelV6(ConfigV6 config, Settings opensearchSettings, Path configPath, InternalAuthenticationBackend iab) {
+    public DynamicConfigModelV6(
+        ConfigV6 config,
+        Settings opensearchSettings,
+        Path configPath,
+        InternalAuthenticationBackend iab,
+        DistinguishedNameCache distinguishedNameCache
+    ) {
         super();
         this.config = config;
         this.opensearchSettings = opensearchSettings;
         this.configPath = configPath;
         this.iab = iab;
+        this.distinguishedNameCache = distinguishedNameCache;
         buildAAA();
     }
 
@@ -339,6 +349,10 @@ public class DynamicConfigModelV6 extends DynamicConfigModel {
                         restAuthDomains0.add(_ad);
                     }
 
+                    if (httpAuthenticator instanceof HTTPClientCertAuthenticator) {
+                        ((HTTPClientCertAuthenticator) httpAuthenticator).setDistinguishedNameCache(distinguishedNameCache);
+                    }
+
                     if (httpAuthenticator instanceof Destroyable) {
                         destroyableComponents0.add((Destroyable) httpAuthenticator);
                     }
@@ -425,6 +439,7 @@ public class DynamicConfigModelV6 extends DynamicConfigModel {
             Settings entrySettings = Settings.builder()
                 .put(opensearchSettings)
                 .put(Settings.builder().loadFromSource(entry.getValue().asJson(), XContentType.JSON).build())
+                .put("listener_name", entry.getKey())
                 .build();
 
             String type = entry.getValue().type;
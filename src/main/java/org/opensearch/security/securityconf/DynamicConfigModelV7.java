@@ -59,6 +59,7 @@ import org.opensearch.security.auth.blocking.ClientBlockRegistry;
 import org.opensearch.security.auth.internal.InternalAuthenticationBackend;
 import org.opensearch.security.auth.internal.NoOpAuthenticationBackend;
 import org.opensearch.security.configuration.ClusterInfoHolder;
+import org.opensearch.security.http.HTTPClientCertAuthenticator;
 import org.opensearch.security.http.OnBehalfOfAuthenticator;
 import org.opensearch.security.securityconf.impl.DashboardSignInOption;
 import org.opensearch.security.securityconf.impl.v7.ConfigV7;
@@ -66,6 +67,7 @@ import org.opensearch.security.securityconf.impl.v7.ConfigV7.Authc;
 import org.opensearch.security.securityconf.impl.v7.ConfigV7.AuthcDomain;
 import org.opensearch.security.securityconf.impl.v7.ConfigV7.Authz;
 import org.opensearch.security.securityconf.impl.v7.ConfigV7.AuthzDomain;
+import org.opensearch.security.support.DistinguishedNameCache;
 import org.opensearch.security.support.ReflectionHelper;
 
 import static org.opensearch.security.util.AuthTokenUtils.isKeyNull;
@@ -85,13 +87,15 @@ public class DynamicConfigModelV7 extends DynamicConfigModel {
     private List<ClientBlockRegistry<InetAddress>> ipClientBlockRegistries;
     private Multimap<String, ClientBlockRegistry<String>> authBackendClientBlockRegistries;
     private final ClusterInfoHolder cih;
+    private final DistinguishedNameCache distinguishedNameCache;
 
     public DynamicConfigModelV7(
         ConfigV7 config,
         Settings opensearchSettings,
         Path configPath,
         InternalAuthenticationBackend iab,
-        ClusterInfoHolder cih
+        ClusterInfoHolder cih,
+        DistinguishedNameCache distinguishedNameCache
     ) {
         super();
         this.config = config;
@@ -99,6 +103,7 @@ public class DynamicConfigModelV7 extends DynamicConfigModel {
         this.configPath = configPath;
         this.iab = iab;
         this.cih = cih;
+        this.distinguishedNameCache = distinguishedNameCache;
         buildAAA();
     }
 
@@ -355,6 +360,10 @@ public class DynamicConfigModelV7 extends DynamicConfigModel {
                         restAuthDomains0.add(_ad);
                     }
 
+                    if (httpAuthenticator instanceof HTTPClientCertAuthenticator) {
+                        ((HTTPClientCertAuthenticator) httpAuthenticator).setDistinguishedNameCache(distinguishedNameCache);
+                    }
+
                     if (httpAuthenticator instanceof Destroyable) {
                         destroyableComponents0.add((Destroyable) httpAuthenticator);
                     }
@@ -456,6 +465,7 @@ public class DynamicConfigModelV7 extends DynamicConfigModel {
             Settings entrySettings = Settings.builder()
                 .put(opensearchSettings)
                 .put(Settings.builder().loadFromSource(entry.getValue().asJson(), XContentType.JSON).build())
+                .put("listener_name", entry.getKey())
                 .build();
 
             String type = entry.getValue().type;
@@ -16,6 +16,11 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 
 import org.opensearch.security.resolver.IndexResolverReplacer.Resolved;
 import org.opensearch.security.support.WildcardMatcher;
@@ -111,6 +116,31 @@ public class EvaluatedDlsFlsConfig {
         }
     }
 
+    /**
+     * Returns a hash over the DLS queries, FLS fields and masked fields of all index patterns. The hash does not
+     * depend on the order of patterns or values, so two configs with the same effective restrictions have the same
+     * fingerprint.
+     */
+    public String getFingerprint() {
+        final Hasher hasher = Hashing.sha256().newHasher();
+        putSorted(hasher, "dls", dlsQueriesByIndex);
+        putSorted(hasher, "fls", flsByIndex);
+        putSorted(hasher, "masked", fieldMaskingByIndex);
+        return hasher.hash().toString();
+    }
+
+    private static void putSorted(Hasher hasher, String type, Map<String, Set<String>> map) {
+        hasher.putUnencodedChars(type).putInt(map.size());
+        for (Map.Entry<String, Set<String>> entry : new TreeMap<>(map).entrySet()) {
+            hasher.putInt(entry.getKey().length()).putUnencodedChars(entry.getKey());
+            final Set<String> values = entry.getValue() == null ? Collections.emptySet() : new TreeSet<>(entry.getValue());
+            hasher.putInt(values.size());
+            for (String value : values) {
+                hasher.putInt(value.length()).putUnencodedChars(value);
+            }
+        }
+    }
+
     private Map<String, Set<String>> filter(Map<String, Set<String>> map, Set<String> allIndices) {
         if (allIndices.isEmpty() || map.isEmpty()) {
             return map;
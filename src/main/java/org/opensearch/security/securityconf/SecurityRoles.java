@@ -97,5 +97,11 @@ public interface SecurityRoles {
 
     SecurityRoles filter(Set<String> roles);
 
+    /**
+     * @return true if any index pattern of these roles references user attributes, so that the results of the index
+     * permission checks do not only depend on the roles, but also on the user
+     */
+    boolean hasUserAttributesInIndexPatterns();
+
     boolean isPermittedOnSystemIndex(String indexName);
 }
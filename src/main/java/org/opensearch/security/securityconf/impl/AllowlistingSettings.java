@@ -13,9 +13,12 @@ package org.opensearch.security.securityconf.impl;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.apache.http.HttpStatus;
 
@@ -28,6 +31,8 @@ import org.opensearch.security.filter.SecurityResponse;
 public class AllowlistingSettings {
     private boolean enabled;
     private Map<String, List<HttpRequestMethods>> requests;
+    // the allowed methods by path without trailing '/', computed from requests when needed
+    private volatile Map<String, Set<HttpRequestMethods>> allowedMethods;
 
     /**
      * Used to parse the yml files, do not remove.
@@ -56,6 +61,7 @@ public class AllowlistingSettings {
 
     public void setRequests(Map<String, List<HttpRequestMethods>> requests) {
         this.requests = requests;
+        this.allowedMethods = null;
     }
 
     @Override
@@ -81,24 +87,33 @@ public class AllowlistingSettings {
     private boolean requestIsAllowlisted(final SecurityRequest request) {
 
         // ALSO ALLOWS REQUEST TO HAVE TRAILING '/'
-        // pathWithoutTrailingSlash stores the endpoint path without extra '/'. eg: /_cat/nodes
-        // pathWithTrailingSlash stores the endpoint path with extra '/'. eg: /_cat/nodes/
-        String path = request.path();
-        String pathWithoutTrailingSlash;
-        String pathWithTrailingSlash;
-
-        // first obtain pathWithoutTrailingSlash, then add a '/' to it to get pathWithTrailingSlash
-        pathWithoutTrailingSlash = path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
-        pathWithTrailingSlash = pathWithoutTrailingSlash + '/';
-
-        // check if pathWithoutTrailingSlash is allowlisted
-        if (requests.containsKey(pathWithoutTrailingSlash)
-            && requests.get(pathWithoutTrailingSlash).contains(HttpRequestMethods.valueOf(request.method().toString()))) return true;
-
-        // check if pathWithTrailingSlash is allowlisted
-        if (requests.containsKey(pathWithTrailingSlash)
-            && requests.get(pathWithTrailingSlash).contains(HttpRequestMethods.valueOf(request.method().toString()))) return true;
-        return false;
+        // the allowlisted paths are stored without extra '/', so it is only removed from the request path. eg: /_cat/nodes
+        final String path = request.path();
+        final Set<HttpRequestMethods> methods = getAllowedMethods().get(
+            path.endsWith("/") ? path.substring(0, path.length() - 1) : path
+        );
+        return methods != null && methods.contains(HttpRequestMethods.valueOf(request.method().name()));
+    }
+
+    /**
+     * Merges the methods allowlisted for a path with and without trailing '/', so that a request needs one lookup.
+     */
+    private Map<String, Set<HttpRequestMethods>> getAllowedMethods() {
+        Map<String, Set<HttpRequestMethods>> result = allowedMethods;
+        if (result == null) {
+            result = new HashMap<>();
+            for (Map.Entry<String, List<HttpRequestMethods>> entry : getRequests().entrySet()) {
+                final String path = entry.getKey();
+                final List<HttpRequestMethods> methods = entry.getValue();
+                if (path == null || methods == null || methods.isEmpty()) {
+                    continue;
+                }
+                final String pathWithoutTrailingSlash = path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+                result.computeIfAbsent(pathWithoutTrailingSlash, p -> EnumSet.noneOf(HttpRequestMethods.class)).addAll(methods);
+            }
+            allowedMethods = result;
+        }
+        return result;
     }
 
     /**
@@ -30,10 +30,13 @@ package org.opensearch.security.securityconf.impl;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonAnySetter;
@@ -366,6 +369,36 @@ public class SecurityDynamicConfiguration<T> implements ToXContent {
         }
     }
 
+    /**
+     * Returns the names of all entries which were added, removed or modified compared to the given previous configuration.
+     */
+    @JsonIgnore
+    public Set<String> changedEntries(SecurityDynamicConfiguration<?> previous) {
+        final Map<String, ?> previousEntries = previous == null ? Collections.emptyMap() : previous.getCEntries();
+        final Map<String, T> entries = getCEntries();
+        final Set<String> changed = new HashSet<>();
+        try {
+            for (Entry<String, T> entry : entries.entrySet()) {
+                final Object previousEntry = previousEntries.get(entry.getKey());
+                if (previousEntry == null
+                    || !Objects.equals(
+                        DefaultObjectMapper.writeValueAsString(entry.getValue(), false),
+                        DefaultObjectMapper.writeValueAsString(previousEntry, false)
+                    )) {
+                    changed.add(entry.getKey());
+                }
+            }
+        } catch (JsonProcessingException e) {
+            throw ExceptionsHelper.convertToOpenSearchException(e);
+        }
+        for (String key : previousEntries.keySet()) {
+            if (!entries.containsKey(key)) {
+                changed.add(key);
+            }
+        }
+        return changed;
+    }
+
     @JsonIgnore
     @SuppressWarnings({ "rawtypes" })
     public boolean containsAny(SecurityDynamicConfiguration other) {
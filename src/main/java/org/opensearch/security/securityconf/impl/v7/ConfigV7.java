@@ -238,6 +238,8 @@ public class ConfigV7 {
         public int block_expiry_seconds = BLOCK_EXPIRY_SECONDS_DEFAULT;
         public int max_blocked_clients = MAX_BLOCKED_CLIENTS_DEFAULT;
         public int max_tracked_clients = MAX_TRACKED_CLIENTS_DEFAULT;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        public String rate_tracker;
 
         public AuthFailureListener() {
             super();
@@ -562,6 +564,9 @@ public class ConfigV7 {
         private String signingKey;
         @JsonProperty("encryption_key")
         private String encryptionKey;
+        @JsonProperty("decrypted_roles_cache_size")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Integer decryptedRolesCacheSize;
 
         @JsonIgnore
         public String configAsJson() {
@@ -596,9 +601,25 @@ public class ConfigV7 {
             this.encryptionKey = encryptionKey;
         }
 
+        public Integer getDecryptedRolesCacheSize() {
+            return decryptedRolesCacheSize;
+        }
+
+        public void setDecryptedRolesCacheSize(Integer decryptedRolesCacheSize) {
+            this.decryptedRolesCacheSize = decryptedRolesCacheSize;
+        }
+
         @Override
         public String toString() {
-            return "OnBehalfOfSettings [ enabled=" + oboEnabled + ", signing_key=" + signingKey + ", encryption_key=" + encryptionKey + "]";
+            return "OnBehalfOfSettings [ enabled="
+                + oboEnabled
+                + ", signing_key="
+                + signingKey
+                + ", encryption_key="
+                + encryptionKey
+                + ", decrypted_roles_cache_size="
+                + decryptedRolesCacheSize
+                + "]";
         }
     }
 
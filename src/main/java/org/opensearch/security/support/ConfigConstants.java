@@ -77,6 +77,7 @@ public class ConfigConstants {
     public static final String OPENDISTRO_SECURITY_CONF_REQUEST_HEADER = OPENDISTRO_SECURITY_CONFIG_PREFIX + "conf_request";
 
     public static final String OPENDISTRO_SECURITY_REMOTE_ADDRESS = OPENDISTRO_SECURITY_CONFIG_PREFIX + "remote_address";
+    public static final String OPENDISTRO_SECURITY_MAPPED_ROLES = OPENDISTRO_SECURITY_CONFIG_PREFIX + "mapped_roles";
     public static final String OPENDISTRO_SECURITY_REMOTE_ADDRESS_HEADER = OPENDISTRO_SECURITY_CONFIG_PREFIX + "remote_address_header";
 
     public static final String OPENDISTRO_SECURITY_INITIAL_ACTION_CLASS_HEADER = OPENDISTRO_SECURITY_CONFIG_PREFIX
@@ -169,6 +170,18 @@ public class ConfigConstants {
     public static final String SECURITY_AUDIT_CONFIG_ENDPOINTS = "plugins.security.audit.endpoints";
     public static final String SECURITY_AUDIT_THREADPOOL_SIZE = "plugins.security.audit.threadpool.size";
     public static final String SECURITY_AUDIT_THREADPOOL_MAX_QUEUE_LEN = "plugins.security.audit.threadpool.max_queue_len";
+    public static final String SECURITY_AUDIT_SINK_PIPELINE_ENABLED = "plugins.security.audit.sink_pipeline.enabled";
+    public static final String SECURITY_AUDIT_SINK_PIPELINE_QUEUE_SIZE = "plugins.security.audit.sink_pipeline.queue_size";
+    public static final String SECURITY_AUDIT_SINK_PIPELINE_BATCH_SIZE = "plugins.security.audit.sink_pipeline.batch_size";
+    public static final String SECURITY_AUDIT_SINK_PIPELINE_OVERFLOW_POLICY = "plugins.security.audit.sink_pipeline.overflow_policy";
+    public static final String SECURITY_AUDIT_SINK_PIPELINE_BLOCK_TIMEOUT_MILLIS =
+        "plugins.security.audit.sink_pipeline.block_timeout_millis";
+    public static final String SECURITY_AUDIT_SINK_PIPELINE_FAILURE_THRESHOLD =
+        "plugins.security.audit.sink_pipeline.circuit_breaker.failure_threshold";
+    public static final String SECURITY_AUDIT_SINK_PIPELINE_OPEN_MILLIS =
+        "plugins.security.audit.sink_pipeline.circuit_breaker.open_millis";
+    // settings of a single sink, overriding the above: plugins.security.audit.sink_pipeline.endpoints.<sink name>.<setting>
+    public static final String SECURITY_AUDIT_SINK_PIPELINE_ENDPOINTS = "plugins.security.audit.sink_pipeline.endpoints";
     public static final String OPENDISTRO_SECURITY_AUDIT_LOG_REQUEST_BODY = "opendistro_security.audit.log_request_body";
     public static final String OPENDISTRO_SECURITY_AUDIT_RESOLVE_INDICES = "opendistro_security.audit.resolve_indices";
     public static final String OPENDISTRO_SECURITY_AUDIT_ENABLE_REST = "opendistro_security.audit.enable_rest";
@@ -226,6 +239,11 @@ public class ConfigConstants {
     public static final String SECURITY_AUDIT_WEBHOOK_SSL_VERIFY = "webhook.ssl.verify";
     public static final String SECURITY_AUDIT_WEBHOOK_PEMTRUSTEDCAS_FILEPATH = "webhook.ssl.pemtrustedcas_filepath";
     public static final String SECURITY_AUDIT_WEBHOOK_PEMTRUSTEDCAS_CONTENT = "webhook.ssl.pemtrustedcas_content";
+    public static final String SECURITY_AUDIT_WEBHOOK_BATCH_MAX_MESSAGES = "webhook.batch.max_messages";
+    public static final String SECURITY_AUDIT_WEBHOOK_BATCH_CONCURRENCY = "webhook.batch.concurrency";
+    public static final String SECURITY_AUDIT_WEBHOOK_BATCH_GZIP = "webhook.batch.gzip";
+    public static final String SECURITY_AUDIT_WEBHOOK_BATCH_MAX_RETRIES = "webhook.batch.max_retries";
+    public static final String SECURITY_AUDIT_WEBHOOK_BATCH_RETRY_DELAY_MS = "webhook.batch.retry_delay_ms";
 
     // Log4j
     public static final String SECURITY_AUDIT_LOG4J_LOGGER_NAME = "log4j.logger_name";
@@ -247,6 +265,33 @@ public class ConfigConstants {
     public static final String SECURITY_DISABLED = "plugins.security.disabled";
 
     public static final String SECURITY_CACHE_TTL_MINUTES = "plugins.security.cache.ttl_minutes";
+    public static final String SECURITY_CACHE_REFRESH_AFTER_MINUTES = "plugins.security.cache.refresh_after_minutes";
+    public static final String SECURITY_CACHE_TTL_JITTER_PERCENT = "plugins.security.cache.ttl_jitter_percent";
+    public static final String SECURITY_CACHE_REFRESH_THREADS = "plugins.security.cache.refresh_threads";
+    public static final String SECURITY_CACHE_REFRESH_QUEUE_SIZE = "plugins.security.cache.refresh_queue_size";
+
+    public static final String SECURITY_INDEX_RESOLUTION_CACHE_MAX_SIZE = "plugins.security.index_resolution_cache.max_size";
+
+    public static final String SECURITY_PRIVILEGES_DECISION_CACHE_ENABLED = "plugins.security.privileges_evaluation.decision_cache.enabled";
+    public static final String SECURITY_PRIVILEGES_DECISION_CACHE_MAX_SIZE =
+        "plugins.security.privileges_evaluation.decision_cache.max_size";
+
+    // CIDR ranges in role mapping hosts and ignore_hosts used to be wildcard patterns, which never matched an address
+    public static final String SECURITY_HOSTS_CIDR_MATCHING_ENABLED = "plugins.security.hosts.cidr_matching.enabled";
+
+    public static final String SECURITY_DNS_CACHE_TTL_SECONDS = "plugins.security.dns_cache.ttl_seconds";
+    public static final String SECURITY_DNS_CACHE_NEGATIVE_TTL_SECONDS = "plugins.security.dns_cache.negative_ttl_seconds";
+    public static final String SECURITY_DNS_CACHE_TIMEOUT_MILLIS = "plugins.security.dns_cache.timeout_millis";
+    public static final String SECURITY_DNS_CACHE_MAX_SIZE = "plugins.security.dns_cache.max_size";
+    public static final String SECURITY_DNS_CACHE_THREADS = "plugins.security.dns_cache.threads";
+    public static final String SECURITY_DN_CACHE_MAX_SIZE = "plugins.security.dn_cache.max_size";
+
+    public static final String SECURITY_STATS_ENABLED = "plugins.security.stats.enabled";
+    public static final String SECURITY_STATS_SLOWLOG_THRESHOLD_MILLIS = "plugins.security.stats.slowlog.threshold_millis";
+    public static final String SECURITY_STATS_SLOWLOG_STAGE_THRESHOLD_MILLIS = "plugins.security.stats.slowlog.stage_threshold_millis";
+
+    public static final String SECURITY_AUTH_FAILURE_LISTENERS_SYNC_ENABLED = "plugins.security.auth_failure_listeners.sync.enabled";
+    public static final String SECURITY_AUTH_FAILURE_LISTENERS_SYNC_INTERVAL = "plugins.security.auth_failure_listeners.sync.interval";
     public static final String SECURITY_ALLOW_UNSAFE_DEMOCERTIFICATES = "plugins.security.allow_unsafe_democertificates";
     public static final String SECURITY_ALLOW_DEFAULT_INIT_SECURITYINDEX = "plugins.security.allow_default_init_securityindex";
 
@@ -298,6 +343,11 @@ public class ConfigConstants {
 
     public static final String SECURITY_FILTER_SECURITYINDEX_FROM_ALL_REQUESTS = "plugins.security.filter_securityindex_from_all_requests";
     public static final String SECURITY_DLS_MODE = "plugins.security.dls.mode";
+    public static final String SECURITY_DLS_FLS_REQUEST_CACHE_ENABLED = "plugins.security.dls_fls.request_cache.enabled";
+    public static final String SECURITY_DLS_TERMS_LOOKUP_CACHE_ENABLED = "plugins.security.dls.terms_lookup_cache.enabled";
+    public static final String SECURITY_DLS_TERMS_LOOKUP_CACHE_MAX_SIZE = "plugins.security.dls.terms_lookup_cache.max_size";
+    public static final String SECURITY_DLS_TERMS_LOOKUP_CACHE_RECHECK_INTERVAL =
+        "plugins.security.dls.terms_lookup_cache.recheck_interval";
     // REST API
     public static final String SECURITY_RESTAPI_ROLES_ENABLED = "plugins.security.restapi.roles_enabled";
     public static final String SECURITY_RESTAPI_ADMIN_ENABLED = "plugins.security.restapi.admin.enabled";
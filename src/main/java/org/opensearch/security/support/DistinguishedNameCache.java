@@ -0,0 +1,125 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import javax.naming.InvalidNameException;
+import javax.naming.ldap.LdapName;
+import javax.naming.ldap.Rdn;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import org.opensearch.common.settings.Settings;
+
+/**
+ * Bounded cache of parsed distinguished names.
+ *
+ * Clients and nodes present the same few certificate principals with every request, so the client certificate
+ * authentication and the admin DN checks share one cache and parse each principal only once. Strings which are no
+ * valid DN are cached as well.
+ *
+ * There is one instance per node, created by the plugin and passed to the admin DN checks and the client certificate
+ * authenticators.
+ */
+public class DistinguishedNameCache {
+
+    private final Cache<String, Optional<ParsedDn>> cache;
+
+    public DistinguishedNameCache(final Settings settings) {
+        this.cache = CacheBuilder.newBuilder()
+            .maximumSize(settings.getAsInt(ConfigConstants.SECURITY_DN_CACHE_MAX_SIZE, 10000))
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * @return the parsed DN, or null if the given string is not a valid DN
+     */
+    public ParsedDn parse(final String dn) {
+        if (dn == null) {
+            return null;
+        }
+        try {
+            return cache.get(dn, () -> Optional.ofNullable(ParsedDn.parse(dn))).orElse(null);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        final CacheStats cacheStats = cache.stats();
+        final Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", cache.size());
+        stats.put("hit_count", cacheStats.hitCount());
+        stats.put("miss_count", cacheStats.missCount());
+        stats.put("hit_rate", cacheStats.hitRate());
+        stats.put("eviction_count", cacheStats.evictionCount());
+        return stats;
+    }
+
+    /**
+     * A parsed DN with the values of its attributes.
+     */
+    public static final class ParsedDn {
+
+        private final LdapName ldapName;
+        // attribute type in lower case -> values, in the order they appear in the DN string
+        private final Map<String, List<String>> attributes;
+
+        private ParsedDn(final LdapName ldapName) {
+            this.ldapName = ldapName;
+
+            final Map<String, List<String>> attributes = new HashMap<>();
+            final List<Rdn> rdns = ldapName.getRdns();
+            // LdapName lists the RDNs from right to left
+            for (int i = rdns.size() - 1; i >= 0; i--) {
+                final Rdn rdn = rdns.get(i);
+                attributes.computeIfAbsent(rdn.getType().toLowerCase(Locale.ROOT), k -> new ArrayList<>())
+                    .add(rdn.getValue().toString());
+            }
+            attributes.replaceAll((type, values) -> Collections.unmodifiableList(values));
+            this.attributes = Collections.unmodifiableMap(attributes);
+        }
+
+        private static ParsedDn parse(final String dn) {
+            try {
+                return new ParsedDn(new LdapName(dn));
+            } catch (InvalidNameException e) {
+                return null;
+            }
+        }
+
+        /**
+         * @return the DN, which is shared and must not be modified
+         */
+        public LdapName getLdapName() {
+            return ldapName;
+        }
+
+        /**
+         * @return the values of the given attribute type, which is compared case insensitive
+         */
+        public List<String> getAttribute(final String type) {
+            return attributes.getOrDefault(type.toLowerCase(Locale.ROOT), Collections.emptyList());
+        }
+    }
+}
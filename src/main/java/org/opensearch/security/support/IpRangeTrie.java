@@ -0,0 +1,210 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.support;
+
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.google.common.net.InetAddresses;
+
+/**
+ * Binary radix trie for IPv4 and IPv6 CIDR ranges (like 10.0.0.0/8 or fd00::/8).
+ *
+ * A lookup walks at most 32 (IPv4) or 128 (IPv6) bits and returns the values of all ranges containing
+ * the address, independent of the number of configured ranges. Addresses are never resolved via DNS.
+ *
+ * Instances are meant to be built once and then only be read; they are safe for concurrent reads.
+ */
+public final class IpRangeTrie<T> {
+
+    private final Node<T> ipv4Root = new Node<>();
+    private final Node<T> ipv6Root = new Node<>();
+    private int size;
+
+    /**
+     * Builds a trie for all entries of the given collection which are CIDR ranges, the values
+     * are the CIDR expressions themselves. Other entries are ignored.
+     */
+    public static IpRangeTrie<String> fromCidrs(final Collection<String> patterns) {
+        final IpRangeTrie<String> trie = new IpRangeTrie<>();
+        if (patterns != null) {
+            for (String pattern : patterns) {
+                if (isCidr(pattern)) {
+                    trie.put(pattern, pattern);
+                }
+            }
+        }
+        return trie;
+    }
+
+    /**
+     * Returns true if the given string is a CIDR range with an IP address literal and a prefix length, like 192.168.0.0/16.
+     */
+    public static boolean isCidr(final String pattern) {
+        if (pattern == null) {
+            return false;
+        }
+        final int slash = pattern.indexOf('/');
+        if (slash <= 0 || slash == pattern.length() - 1) {
+            return false;
+        }
+        final String address = pattern.substring(0, slash);
+        final String prefix = pattern.substring(slash + 1);
+        if (!InetAddresses.isInetAddress(address) || !prefix.chars().allMatch(Character::isDigit) || prefix.length() > 3) {
+            return false;
+        }
+        return Integer.parseInt(prefix) <= InetAddresses.forString(address).getAddress().length * 8;
+    }
+
+    /**
+     * Adds a CIDR range with the given value.
+     *
+     * @throws IllegalArgumentException if the range is not a valid CIDR expression
+     */
+    public IpRangeTrie<T> put(final String cidr, final T value) {
+        if (!isCidr(cidr)) {
+            throw new IllegalArgumentException("Not a valid CIDR range: " + cidr);
+        }
+        final int slash = cidr.indexOf('/');
+        final byte[] address = InetAddresses.forString(cidr.substring(0, slash)).getAddress();
+        final int prefixLength = Integer.parseInt(cidr.substring(slash + 1));
+
+        Node<T> node = address.length == 4 ? ipv4Root : ipv6Root;
+        for (int bit = 0; bit < prefixLength; bit++) {
+            if (bit(address, bit)) {
+                if (node.one == null) {
+                    node.one = new Node<>();
+                }
+                node = node.one;
+            } else {
+                if (node.zero == null) {
+                    node.zero = new Node<>();
+                }
+                node = node.zero;
+            }
+        }
+        if (node.values == null) {
+            node.values = new ArrayList<>(1);
+        }
+        node.values.add(value);
+        size++;
+        return this;
+    }
+
+    /**
+     * Returns the values of all ranges which contain the given address.
+     */
+    public Set<T> getAll(final InetAddress address) {
+        if (address == null || size == 0) {
+            return Collections.emptySet();
+        }
+        final byte[] bytes = address.getAddress();
+        Set<T> result = null;
+        Node<T> node = bytes.length == 4 ? ipv4Root : ipv6Root;
+        for (int bit = 0; node != null; bit++) {
+            if (node.values != null) {
+                if (result == null) {
+                    result = new HashSet<>();
+                }
+                result.addAll(node.values);
+            }
+            if (bit == bytes.length * 8) {
+                break;
+            }
+            node = bit(bytes, bit) ? node.one : node.zero;
+        }
+        return result == null ? Collections.emptySet() : result;
+    }
+
+    /**
+     * Returns the values of all ranges which contain the given textual IP address. Strings which
+     * are not IP address literals never match.
+     */
+    public Set<T> getAll(final String address) {
+        if (size == 0) {
+            return Collections.emptySet();
+        }
+        return getAll(parseLiteral(address));
+    }
+
+    /**
+     * Returns true if any range contains the given address.
+     */
+    public boolean matches(final InetAddress address) {
+        if (address == null || size == 0) {
+            return false;
+        }
+        final byte[] bytes = address.getAddress();
+        Node<T> node = bytes.length == 4 ? ipv4Root : ipv6Root;
+        for (int bit = 0; node != null; bit++) {
+            if (node.values != null) {
+                return true;
+            }
+            if (bit == bytes.length * 8) {
+                break;
+            }
+            node = bit(bytes, bit) ? node.one : node.zero;
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if any range contains the given textual IP address.
+     */
+    public boolean matches(final String address) {
+        if (size == 0) {
+            return false;
+        }
+        return matches(parseLiteral(address));
+    }
+
+    /**
+     * Parses an IP address literal. IPv6 forms of IPv4 addresses (like ::ffff:10.0.0.1) are not accepted: textual
+     * pattern matching never treated them as the IPv4 address, so they must not fall into IPv4 ranges either.
+     *
+     * @return the address, or null if the string is no accepted IP address literal
+     */
+    static InetAddress parseLiteral(final String address) {
+        if (address == null || !InetAddresses.isInetAddress(address)) {
+            return null;
+        }
+        final InetAddress parsed = InetAddresses.forString(address);
+        if (parsed instanceof Inet4Address && address.indexOf(':') >= 0) {
+            return null;
+        }
+        return parsed;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static boolean bit(final byte[] address, final int bit) {
+        return (address[bit >>> 3] & (0x80 >>> (bit & 7))) != 0;
+    }
+
+    private static final class Node<T> {
+        private Node<T> zero;
+        private Node<T> one;
+        private List<T> values;
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.support;
+
+import java.net.InetAddress;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.opensearch.common.settings.Settings;
+
+/**
+ * Non-blocking, TTL bounded cache for reverse DNS lookups used by host based role mappings and
+ * auth domain host restrictions (hosts_resolver_mode "ip-hostname" and "ip-hostname-lookup").
+ *
+ * Lookups are executed on a small dedicated executor. Only the first request from an address which is not in the
+ * cache waits for the lookup, at most for the configured timeout budget (5 seconds by default), so that the same
+ * caller is mapped the same way whether the cache is warm or not. This also applies to addresses which were evicted
+ * because of the size limit or because they were not seen for twice the TTL. With a budget of 0 requests never wait
+ * and proceed without a host name until the lookup has completed. Failed lookups are cached for a shorter negative
+ * TTL. Expired entries, positive and negative, keep being served while a refresh is running in the background, so
+ * a known address never waits for DNS.
+ *
+ * There is one instance per node, created by the plugin and closed when the node stops.
+ */
+public class ReverseDnsCache {
+
+    private static final Logger log = LogManager.getLogger(ReverseDnsCache.class);
+
+    public static final long DEFAULT_TIMEOUT_MILLIS = 5000L;
+
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final long timeoutMillis;
+    private final Cache<InetAddress, Lookup> cache;
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder failedLookups = new LongAdder();
+    private final LongAdder lookupTimeNanos = new LongAdder();
+    private final LongAccumulator maxLookupTimeNanos = new LongAccumulator(Math::max, 0);
+
+    public ReverseDnsCache(final Settings settings) {
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(settings.getAsLong(ConfigConstants.SECURITY_DNS_CACHE_TTL_SECONDS, 300L));
+        this.negativeTtlNanos = TimeUnit.SECONDS.toNanos(
+            settings.getAsLong(ConfigConstants.SECURITY_DNS_CACHE_NEGATIVE_TTL_SECONDS, 30L)
+        );
+        this.timeoutMillis = settings.getAsLong(ConfigConstants.SECURITY_DNS_CACHE_TIMEOUT_MILLIS, DEFAULT_TIMEOUT_MILLIS);
+        final int threads = Math.max(1, settings.getAsInt(ConfigConstants.SECURITY_DNS_CACHE_THREADS, 2));
+        final int maxSize = settings.getAsInt(ConfigConstants.SECURITY_DNS_CACHE_MAX_SIZE, 10000);
+
+        // entries are only dropped on size or after they have not been used for a while, expiry itself is handled by Lookup
+        this.cache = CacheBuilder.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterAccess(Math.max(ttlNanos, negativeTtlNanos) * 2, TimeUnit.NANOSECONDS)
+            .build();
+
+        final AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(maxSize), r -> {
+            final Thread thread = new Thread(r, "opensearch-security-dns-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // idle nodes, and host based mappings which are not used at all, do not keep lookup threads around
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Returns the host name for the given address. Only addresses which are not in the cache block, for at most the
+     * configured timeout budget.
+     *
+     * @return the host name, or null if the address could not be resolved (yet)
+     */
+    public String getHostName(final InetAddress address) {
+        if (address == null) {
+            return null;
+        }
+
+        final String knownHostName = knownHostName(address);
+        if (knownHostName != null) {
+            return knownHostName;
+        }
+
+        final long now = System.nanoTime();
+        Lookup lookup = cache.getIfPresent(address);
+
+        if (lookup == null) {
+            misses.increment();
+            lookup = cache.asMap().computeIfAbsent(address, k -> submit(k, null));
+        } else {
+            hits.increment();
+            if (lookup.isExpired(now)) {
+                final Lookup stale = lookup;
+                lookup = cache.asMap().compute(address, (k, v) -> v == stale ? submit(k, stale) : v);
+            }
+        }
+
+        final Lookup result;
+        final Lookup previous = lookup.previous;
+        if (lookup.future.isDone()) {
+            result = lookup.future.getNow(null);
+        } else if (previous != null) {
+            // serve the previous result, positive or negative, while the refresh is running
+            result = previous;
+        } else {
+            result = await(lookup);
+        }
+
+        if (result == null) {
+            return null;
+        } else if (result.hostName == null) {
+            negativeHits.increment();
+        }
+
+        return result.hostName;
+    }
+
+    private Lookup await(final Lookup lookup) {
+        final CompletableFuture<Lookup> future = lookup.future;
+        if (timeoutMillis <= 0) {
+            timeouts.increment();
+            return null;
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    private Lookup submit(final InetAddress address, final Lookup previous) {
+        final Lookup lookup = new Lookup(previous);
+        try {
+            executor.execute(() -> resolve(address, lookup));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            lookup.complete(null, negativeTtlNanos);
+        }
+        return lookup;
+    }
+
+    private void resolve(final InetAddress address, final Lookup lookup) {
+        final long start = System.nanoTime();
+        String hostName = null;
+        try {
+            final String resolved = InetAddress.getByAddress(address.getAddress()).getHostName();
+            // InetAddress returns the textual IP address if the reverse lookup did not succeed
+            if (resolved != null && !resolved.equals(address.getHostAddress())) {
+                hostName = resolved;
+            }
+        } catch (Exception e) {
+            log.debug("Reverse lookup for {} failed", address, e);
+        } finally {
+            final long took = System.nanoTime() - start;
+            lookups.increment();
+            lookupTimeNanos.add(took);
+            maxLookupTimeNanos.accumulate(took);
+            if (hostName == null) {
+                failedLookups.increment();
+            }
+            lookup.complete(hostName, hostName == null ? negativeTtlNanos : ttlNanos);
+        }
+        if (log.isTraceEnabled()) {
+            log.trace("Resolved {} to {}", address, hostName);
+        }
+    }
+
+    /**
+     * Returns the host name the address was created with, if any. This never triggers a lookup.
+     */
+    public static String knownHostName(final InetAddress address) {
+        final String string = address.toString();
+        final int slash = string.indexOf('/');
+        return slash > 0 ? string.substring(0, slash) : null;
+    }
+
+    public Map<String, Object> getStats() {
+        final long lookupCount = lookups.sum();
+        final long requests = hits.sum() + misses.sum();
+        final Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", cache.size());
+        stats.put("hits", hits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("negative_hits", negativeHits.sum());
+        stats.put("hit_rate", requests == 0 ? 0.0d : (double) hits.sum() / requests);
+        stats.put("timeouts", timeouts.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("lookups", lookupCount);
+        stats.put("failed_lookups", failedLookups.sum());
+        stats.put("lookup_time_avg_millis", lookupCount == 0 ? 0.0d : lookupTimeNanos.sum() / 1_000_000.0d / lookupCount);
+        stats.put("lookup_time_max_millis", maxLookupTimeNanos.get() / 1_000_000.0d);
+        return stats;
+    }
+
+    public void close() {
+        executor.shutdownNow();
+        cache.invalidateAll();
+    }
+
+    private static final class Lookup {
+        private final CompletableFuture<Lookup> future = new CompletableFuture<>();
+        private volatile String hostName;
+        private volatile long expiresAtNanos;
+        // the expired result this lookup refreshes, until the lookup has completed
+        private volatile Lookup previous;
+
+        private Lookup(final Lookup previous) {
+            this.previous = previous;
+        }
+
+        private void complete(final String hostName, final long ttlNanos) {
+            this.hostName = hostName;
+            this.expiresAtNanos = System.nanoTime() + ttlNanos;
+            this.previous = null;
+            future.complete(this);
+        }
+
+        private boolean isExpired(final long now) {
+            return future.isDone() && now - expiresAtNanos > 0;
+        }
+    }
+}
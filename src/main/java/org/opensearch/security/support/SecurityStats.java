@@ -0,0 +1,160 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.support;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.opensearch.common.settings.Settings;
+
+/**
+ * Node wide timing and counters of the security layer.
+ *
+ * Every stage of the security processing of a request records its duration in a {@link LatencyHistogram}. The stages
+ * nest: the privileges evaluation includes the sub-evaluators and the index resolution. Denied requests are counted
+ * by reason, and the statistics of the security caches and audit sinks are collected from the registered suppliers.
+ *
+ * If a slow log threshold is configured, each stage taking longer than the threshold is logged with the logger
+ * {@code org.opensearch.security.slowlog}.
+ *
+ * There is one instance per node, created by the plugin and passed to the components which record statistics.
+ */
+public class SecurityStats {
+
+    private static final Logger slowLog = LogManager.getLogger("org.opensearch.security.slowlog");
+
+    public enum Stage {
+        AUTHENTICATION,
+        ROLE_MAPPING,
+        PRIVILEGES_EVALUATION,
+        SNAPSHOT_RESTORE_EVALUATION,
+        SYSTEM_INDEX_EVALUATION,
+        PROTECTED_INDEX_EVALUATION,
+        PIT_EVALUATION,
+        INDEX_RESOLUTION,
+        DLS_FLS,
+        AUDIT;
+
+        private final String name = name().toLowerCase(Locale.ROOT);
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    private final boolean enabled;
+    private final long[] slowLogThresholdNanos;
+    private final LatencyHistogram[] histograms;
+    private final Map<String, LongAdder> denials = new ConcurrentHashMap<>();
+    private final Map<String, Supplier<? extends Map<String, ?>>> caches = new ConcurrentHashMap<>();
+    private final Map<String, Supplier<? extends Map<String, ?>>> auditSinks = new ConcurrentHashMap<>();
+
+    public SecurityStats(final Settings settings) {
+        this.enabled = settings.getAsBoolean(ConfigConstants.SECURITY_STATS_ENABLED, true);
+
+        final long defaultThreshold = settings.getAsLong(ConfigConstants.SECURITY_STATS_SLOWLOG_THRESHOLD_MILLIS, -1L);
+        final Settings stageThresholds = settings.getByPrefix(ConfigConstants.SECURITY_STATS_SLOWLOG_STAGE_THRESHOLD_MILLIS + ".");
+        final Stage[] stages = Stage.values();
+        this.slowLogThresholdNanos = new long[stages.length];
+        this.histograms = new LatencyHistogram[stages.length];
+        for (Stage stage : stages) {
+            final long threshold = stageThresholds.getAsLong(stage.getName(), defaultThreshold);
+            slowLogThresholdNanos[stage.ordinal()] = threshold < 0 ? -1 : TimeUnit.MILLISECONDS.toNanos(threshold);
+            histograms[stage.ordinal()] = new LatencyHistogram();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the start time to pass to {@link #end}
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    public void end(final Stage stage, final long start) {
+        end(stage, start, null);
+    }
+
+    /**
+     * Records the duration of the given stage.
+     *
+     * @param subject describes the request in the slow log, only converted to a string if the stage was slow
+     */
+    public void end(final Stage stage, final long start, final Object subject) {
+        if (!enabled) {
+            return;
+        }
+        final long duration = System.nanoTime() - start;
+        histograms[stage.ordinal()].record(duration);
+
+        final long threshold = slowLogThresholdNanos[stage.ordinal()];
+        if (threshold >= 0 && duration >= threshold && slowLog.isWarnEnabled()) {
+            slowLog.warn("Security stage {} took {}ms [{}]", stage.getName(), TimeUnit.NANOSECONDS.toMillis(duration), subject);
+        }
+    }
+
+    public void denied(final String reason) {
+        if (enabled) {
+            denials.computeIfAbsent(reason, k -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Registers the statistics of a cache, which are reported under the given name.
+     */
+    public void registerCache(final String name, final Supplier<? extends Map<String, ?>> stats) {
+        caches.put(name, stats);
+    }
+
+    /**
+     * Registers the statistics of the delivery of audit messages to a sink, which are reported under the sink name.
+     */
+    public void registerAuditSink(final String name, final Supplier<? extends Map<String, ?>> stats) {
+        auditSinks.put(name, stats);
+    }
+
+    public Map<String, Object> getStats() {
+        final Map<String, Object> stages = new TreeMap<>();
+        for (Stage stage : Stage.values()) {
+            stages.put(stage.getName(), histograms[stage.ordinal()].getStats());
+        }
+
+        final Map<String, Object> denialsByReason = new TreeMap<>();
+        denials.forEach((reason, count) -> denialsByReason.put(reason, count.sum()));
+
+        final Map<String, Object> cacheStats = new TreeMap<>();
+        caches.forEach((name, stats) -> cacheStats.put(name, stats.get()));
+
+        final Map<String, Object> auditSinkStats = new TreeMap<>();
+        auditSinks.forEach((name, stats) -> auditSinkStats.put(name, stats.get()));
+
+        final Map<String, Object> stats = new TreeMap<>();
+        stats.put("enabled", enabled);
+        stats.put("stages", stages);
+        stats.put("denials", denialsByReason);
+        stats.put("caches", cacheStats);
+        stats.put("audit_sinks", auditSinkStats);
+        return stats;
+    }
+}
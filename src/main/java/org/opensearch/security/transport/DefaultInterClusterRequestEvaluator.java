@@ -34,7 +34,10 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -55,6 +58,8 @@ public final class DefaultInterClusterRequestEvaluator implements InterClusterRe
     private final WildcardMatcher staticNodesDnFromEsYml;
     private boolean dynamicNodesDnConfigEnabled;
     private volatile Map<String, WildcardMatcher> dynamicNodesDn;
+    // rebuilt whenever the nodes DN configuration changes
+    private volatile NodesDnDecisions nodesDnDecisions;
 
     public DefaultInterClusterRequestEvaluator(final Settings settings) {
         this.certOid = settings.get(ConfigConstants.SECURITY_CERT_OID, "1.2.3.4.5.5");
@@ -64,6 +69,7 @@ public final class DefaultInterClusterRequestEvaluator implements InterClusterRe
         );
         this.dynamicNodesDnConfigEnabled = settings.getAsBoolean(ConfigConstants.SECURITY_NODES_DN_DYNAMIC_CONFIG_ENABLED, false);
         this.dynamicNodesDn = Collections.emptyMap();
+        this.nodesDnDecisions = new NodesDnDecisions(getNodesDnToEvaluate());
     }
 
     public void subscribeForChanges(DynamicConfigFactory dynamicConfigFactory) {
@@ -87,23 +93,16 @@ public final class DefaultInterClusterRequestEvaluator implements InterClusterRe
         final String principal
     ) {
 
-        String[] principals = new String[2];
-
-        if (principal != null && principal.length() > 0) {
-            principals[0] = principal;
-            principals[1] = principal.replace(" ", "");
-        }
-
-        WildcardMatcher nodesDn = this.getNodesDnToEvaluate();
+        final NodesDnDecisions nodesDnDecisions = this.nodesDnDecisions;
 
         final boolean isTraceEnabled = log.isTraceEnabled();
-        if (principals[0] != null && nodesDn.matchAny(principals)) {
+        if (principal != null && principal.length() > 0 && nodesDnDecisions.matches(principal)) {
 
             if (isTraceEnabled) {
                 log.trace(
                     "Treat certificate with principal {} as other node because of it matches one of {}",
-                    Arrays.toString(principals),
-                    nodesDn
+                    principal,
+                    nodesDnDecisions.nodesDn
                 );
             }
 
@@ -113,8 +112,8 @@ public final class DefaultInterClusterRequestEvaluator implements InterClusterRe
             if (isTraceEnabled) {
                 log.trace(
                     "Treat certificate with principal {} NOT as other node because we it does not matches one of {}",
-                    Arrays.toString(principals),
-                    nodesDn
+                    principal,
+                    nodesDnDecisions.nodesDn
                 );
             }
         }
@@ -179,5 +178,26 @@ public final class DefaultInterClusterRequestEvaluator implements InterClusterRe
     @Subscribe
     public void onNodesDnModelChanged(NodesDnModel nm) {
         this.dynamicNodesDn = nm.getNodesDn();
+        this.nodesDnDecisions = new NodesDnDecisions(getNodesDnToEvaluate());
+    }
+
+    /**
+     * The nodes DN matcher of one configuration together with its results per principal.
+     */
+    private static final class NodesDnDecisions {
+        private final WildcardMatcher nodesDn;
+        private final Cache<String, Boolean> decisions = CacheBuilder.newBuilder().maximumSize(10000).build();
+
+        private NodesDnDecisions(final WildcardMatcher nodesDn) {
+            this.nodesDn = nodesDn;
+        }
+
+        private boolean matches(final String principal) {
+            try {
+                return decisions.get(principal, () -> nodesDn.matchAny(principal, principal.replace(" ", "")));
+            } catch (ExecutionException e) {
+                return false;
+            }
+        }
     }
 }
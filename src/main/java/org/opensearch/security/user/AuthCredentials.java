@@ -155,6 +155,20 @@ public final class AuthCredentials {
         nativeCredentials = null;
     }
 
+    /**
+     * Creates an independent copy of these credentials, including password and native credentials.
+     * Clearing the secrets of the copy does not affect these credentials and vice versa.
+     *
+     * @return the copy
+     */
+    public AuthCredentials copy() {
+        final AuthCredentials copy = new AuthCredentials(username, getPassword(), nativeCredentials, backendRoles.toArray(new String[0]));
+        copy.securityRoles.addAll(securityRoles);
+        copy.attributes.putAll(attributes);
+        copy.complete = complete;
+        return copy;
+    }
+
     public String getUsername() {
         return username;
     }
@@ -0,0 +1,179 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.util.ratetracking;
+
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Rate tracker which does not lock on the request path.
+ *
+ * Clients are kept in a fixed size open addressing table which is allocated up front, so the memory used
+ * does not depend on the number of clients seen. Each slot holds a ring buffer with the timestamps of the
+ * last allowedTries - 1 failures of the client; all updates are done with CAS operations. Clients are identified
+ * by a keyed 64 bit hash, so that colliding client ids can not be crafted without knowing the key.
+ *
+ * If all slots in the probe range of a client are occupied, the least recently used one is taken over. Concurrent
+ * updates to the same client may be counted slightly imprecisely in that moment, which is acceptable for auth failure
+ * limiting.
+ */
+public class LockFreeRateTracker<ClientIdType> implements RateTracker<ClientIdType> {
+
+    private static final Logger log = LogManager.getLogger(LockFreeRateTracker.class);
+
+    private static final int MAX_PROBES = 8;
+    private static final long FREE = 0L;
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final HashFunction hashFunction = Hashing.murmur3_128(new SecureRandom().nextInt());
+    private final LongSupplier timeProvider;
+    private final long timeWindowMs;
+    private final int ringSize;
+    private final int mask;
+
+    private final AtomicLongArray keys;
+    private final AtomicLongArray lastSeen;
+    private final AtomicIntegerArray cursors;
+    private final AtomicLongArray events;
+
+    public LockFreeRateTracker(long timeWindowMs, int allowedTries, int maxEntries) {
+        this(timeWindowMs, allowedTries, maxEntries, null);
+    }
+
+    public LockFreeRateTracker(long timeWindowMs, int allowedTries, int maxEntries, LongSupplier timeProvider) {
+        if (allowedTries < 2) {
+            throw new IllegalArgumentException("allowedTries must be >= 2");
+        }
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be > 0");
+        }
+
+        this.timeWindowMs = timeWindowMs;
+        this.timeProvider = Optional.ofNullable(timeProvider).orElse(System::currentTimeMillis);
+        this.ringSize = allowedTries - 1;
+
+        final int capacity = Integer.highestOneBit(Math.max(16, Math.min(maxEntries, 1 << 29)) * 2 - 1);
+        if ((long) capacity * ringSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("max_tracked_clients * allowed_tries is too large: " + capacity + " * " + allowedTries);
+        }
+
+        this.mask = capacity - 1;
+        this.keys = new AtomicLongArray(capacity);
+        this.lastSeen = new AtomicLongArray(capacity);
+        this.cursors = new AtomicIntegerArray(capacity);
+        final long[] emptyEvents = new long[capacity * ringSize];
+        Arrays.fill(emptyEvents, EMPTY);
+        this.events = new AtomicLongArray(emptyEvents);
+    }
+
+    @Override
+    public boolean track(ClientIdType clientId) {
+        final long now = timeProvider.getAsLong();
+        final int slot = acquire(fingerprint(clientId), now);
+
+        lastSeen.set(slot, now);
+        final int position = Math.floorMod(cursors.getAndIncrement(slot), ringSize);
+        // the overwritten entry is the failure which happened allowedTries - 1 failures before this one
+        final long previous = events.getAndSet(slot * ringSize + position, now);
+        final boolean result = previous != EMPTY && now - previous < timeWindowMs;
+
+        if (log.isDebugEnabled()) {
+            log.debug("track({}): slot {} => {}", clientId, slot, result);
+        }
+
+        return result;
+    }
+
+    @Override
+    public void reset(ClientIdType clientId) {
+        final long fingerprint = fingerprint(clientId);
+        final int start = (int) fingerprint & mask;
+
+        for (int i = 0; i < MAX_PROBES; i++) {
+            final int slot = (start + i) & mask;
+            final long key = keys.get(slot);
+            if (key == fingerprint) {
+                clear(slot);
+                return;
+            } else if (key == FREE) {
+                return;
+            }
+        }
+    }
+
+    private int acquire(final long fingerprint, final long now) {
+        final int start = (int) fingerprint & mask;
+        int victim = start;
+        long victimLastSeen = Long.MAX_VALUE;
+
+        for (int i = 0; i < MAX_PROBES; i++) {
+            final int slot = (start + i) & mask;
+            long key = keys.get(slot);
+
+            if (key == FREE) {
+                if (keys.compareAndSet(slot, FREE, fingerprint)) {
+                    return slot;
+                }
+                key = keys.get(slot);
+            }
+
+            if (key == fingerprint) {
+                return slot;
+            }
+
+            final long slotLastSeen = lastSeen.get(slot);
+            if (slotLastSeen < victimLastSeen) {
+                victim = slot;
+                victimLastSeen = slotLastSeen;
+            }
+        }
+
+        // keys are never set back to FREE, so the client is not in the table; take over the least recently used slot
+        final long previousKey = keys.get(victim);
+        if (previousKey != fingerprint && keys.compareAndSet(victim, previousKey, fingerprint)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Evicting slot {} which was last seen {} ms ago", victim, now - victimLastSeen);
+            }
+            clear(victim);
+        }
+        return victim;
+    }
+
+    private void clear(final int slot) {
+        final int base = slot * ringSize;
+        for (int i = 0; i < ringSize; i++) {
+            events.set(base + i, EMPTY);
+        }
+        cursors.set(slot, 0);
+    }
+
+    private long fingerprint(final ClientIdType clientId) {
+        final long hash;
+        if (clientId instanceof InetAddress) {
+            hash = hashFunction.hashBytes(((InetAddress) clientId).getAddress()).asLong();
+        } else {
+            hash = hashFunction.hashString(String.valueOf(clientId), StandardCharsets.UTF_8).asLong();
+        }
+        return hash == FREE ? 1L : hash;
+    }
+}
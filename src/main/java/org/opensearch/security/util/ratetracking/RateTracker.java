@@ -23,11 +23,24 @@ public interface RateTracker<ClientIdType> {
 
     void reset(ClientIdType clientId);
 
+    String HEAP = "heap";
+    String LOCK_FREE = "lock_free";
+
     static <ClientIdType> RateTracker<ClientIdType> create(long timeWindowMs, int allowedTries, int maxEntries) {
+        return create(HEAP, timeWindowMs, allowedTries, maxEntries);
+    }
+
+    static <ClientIdType> RateTracker<ClientIdType> create(String type, long timeWindowMs, int allowedTries, int maxEntries) {
         if (allowedTries == 1) {
             return new SingleTryRateTracker<ClientIdType>();
         } else if (allowedTries > 1) {
-            return new HeapBasedRateTracker<ClientIdType>(timeWindowMs, allowedTries, maxEntries);
+            if (type == null || HEAP.equalsIgnoreCase(type)) {
+                return new HeapBasedRateTracker<ClientIdType>(timeWindowMs, allowedTries, maxEntries);
+            } else if (LOCK_FREE.equalsIgnoreCase(type)) {
+                return new LockFreeRateTracker<ClientIdType>(timeWindowMs, allowedTries, maxEntries);
+            } else {
+                throw new IllegalArgumentException("Unknown rate tracker type: " + type + "; must be " + HEAP + " or " + LOCK_FREE);
+            }
         } else {
             throw new IllegalArgumentException("allowedTries must be > 0: " + allowedTries);
         }
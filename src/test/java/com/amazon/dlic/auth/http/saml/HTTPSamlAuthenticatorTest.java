@@ -605,6 +605,39 @@ public class HTTPSamlAuthenticatorTest {
         assertThat(response.getStatus(), is(401));
     }
 
+    @Test
+    public void replayedAssertionTest() throws Exception {
+        mockSamlIdpServer.setSignResponses(true);
+        mockSamlIdpServer.loadSigningKeys("saml/kirk-keystore.jks", "kirk");
+        mockSamlIdpServer.setAuthenticateUser("horst");
+        mockSamlIdpServer.setEndpointQueryString(null);
+
+        Settings settings = Settings.builder()
+            .put(IDP_METADATA_URL, mockSamlIdpServer.getMetadataUri())
+            .put("kibana_url", "http://wherever")
+            .put("idp.entity_id", mockSamlIdpServer.getIdpEntityId())
+            .put("exchange_key", "abc")
+            .put("roles_key", "roles")
+            .put("path.home", ".")
+            .build();
+
+        HTTPSamlAuthenticator samlAuthenticator = new HTTPSamlAuthenticator(settings, null);
+
+        AuthenticateHeaders authenticateHeaders = getAutenticateHeaders(samlAuthenticator);
+
+        String encodedSamlResponse = mockSamlIdpServer.handleSsoGetRequestURI(authenticateHeaders.location);
+
+        String responseJson = getResponse(samlAuthenticator, buildTokenExchangeRestRequest(encodedSamlResponse, authenticateHeaders));
+        Assert.assertTrue("Expected authorization attribute in JSON: " + responseJson, responseJson.contains("authorization"));
+
+        SecurityResponse replayed = sendToAuthenticator(
+            samlAuthenticator,
+            buildTokenExchangeRestRequest(encodedSamlResponse, authenticateHeaders)
+        ).orElseThrow();
+
+        assertThat(replayed.getStatus(), is(401));
+    }
+
     @Test
     public void noSignatureTest() throws Exception {
         mockSamlIdpServer.setSignResponses(false);
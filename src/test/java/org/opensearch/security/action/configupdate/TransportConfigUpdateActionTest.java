@@ -0,0 +1,60 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.action.configupdate;
+
+import java.util.Set;
+
+import org.junit.Test;
+
+import org.opensearch.security.securityconf.impl.CType;
+import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+public class TransportConfigUpdateActionTest {
+
+    static final String USERS = "{"
+        + "\"_meta\": {\"type\": \"internalusers\", \"config_version\": 2},"
+        + "\"alice\": {\"hash\": \"hash_a\", \"backend_roles\": [\"dev\"]},"
+        + "\"bob\": {\"hash\": \"hash_b\", \"opendistro_security_roles\": [\"role_b\"]},"
+        + "\"carol\": {\"hash\": \"hash_c\"}"
+        + "}";
+
+    static final String CHANGED_USERS = "{"
+        + "\"_meta\": {\"type\": \"internalusers\", \"config_version\": 2},"
+        + "\"alice\": {\"hash\": \"hash_a\", \"backend_roles\": [\"dev\", \"ops\"]},"
+        + "\"bob\": {\"hash\": \"hash_b\", \"opendistro_security_roles\": [\"role_b\"]},"
+        + "\"dave\": {\"hash\": \"hash_d\"}"
+        + "}";
+
+    @Test
+    public void changedInternalUsersAreAffected() throws Exception {
+        final SecurityDynamicConfiguration<?> previous = SecurityDynamicConfiguration.fromJson(USERS, CType.INTERNALUSERS, 2, 0, 0);
+        final SecurityDynamicConfiguration<?> current = SecurityDynamicConfiguration.fromJson(CHANGED_USERS, CType.INTERNALUSERS, 2, 0, 0);
+
+        assertThat(
+            TransportConfigUpdateAction.affectedUsers(Set.of(CType.INTERNALUSERS), previous, current),
+            equalTo(Set.of("alice", "carol", "dave"))
+        );
+    }
+
+    @Test
+    public void rolesAffectOnlyUsersWithSecurityRoles() throws Exception {
+        final SecurityDynamicConfiguration<?> users = SecurityDynamicConfiguration.fromJson(USERS, CType.INTERNALUSERS, 2, 0, 0);
+
+        assertThat(TransportConfigUpdateAction.affectedUsers(Set.of(CType.ROLES), users, users), equalTo(Set.of("bob")));
+        assertThat(TransportConfigUpdateAction.affectedUsers(Set.of(CType.ROLESMAPPING), users, users), equalTo(Set.of("bob")));
+        assertThat(TransportConfigUpdateAction.affectedUsers(Set.of(CType.ACTIONGROUPS), users, users), empty());
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.action.stats;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.support.SecurityStats;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TransportSecurityStatsActionTest {
+
+    @Test
+    public void nodeOperationReturnsTheStatsOfTheNode() {
+        final DiscoveryNode localNode = mock(DiscoveryNode.class);
+        final ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.localNode()).thenReturn(localNode);
+
+        final SecurityStats securityStats = new SecurityStats(Settings.EMPTY);
+        securityStats.denied("authentication");
+        securityStats.denied("authentication");
+        securityStats.denied("missing_index_privileges");
+        securityStats.registerCache("test", () -> Map.of("size", 3));
+
+        final TransportSecurityStatsAction action = new TransportSecurityStatsAction(
+            mock(ThreadPool.class),
+            clusterService,
+            mock(TransportService.class),
+            mock(ActionFilters.class),
+            securityStats
+        );
+
+        final SecurityStatsNodeResponse response = action.nodeOperation(
+            new TransportSecurityStatsAction.NodeSecurityStatsRequest(new SecurityStatsRequest())
+        );
+
+        assertThat(response.getNode(), sameInstance(localNode));
+        assertThat(response.getStats().get("denials"), equalTo(Map.of("authentication", 2L, "missing_index_privileges", 1L)));
+        assertThat(response.getStats().get("caches"), equalTo(Map.of("test", Map.of("size", 3))));
+    }
+}
@@ -28,11 +28,17 @@ import org.opensearch.security.auditlog.sink.AuditLogSink;
 import org.opensearch.security.auditlog.sink.DebugSink;
 import org.opensearch.security.auditlog.sink.ExternalOpenSearchSink;
 import org.opensearch.security.auditlog.sink.InternalOpenSearchSink;
+import org.opensearch.security.auditlog.sink.SinkProvider;
 import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.security.test.helper.file.FileHelper;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class RouterTest extends AbstractAuditlogiUnitTest {
 
@@ -100,6 +106,29 @@ public class RouterTest extends AbstractAuditlogiUnitTest {
 
     }
 
+    @Test
+    public void testBatchingSinkUsesPipelineWithoutPipelinesEnabled() throws Exception {
+        final LoggingSink sink = new LoggingSink("batching", Settings.EMPTY, null, null) {
+            @Override
+            public boolean isBatching() {
+                return true;
+            }
+        };
+        final SinkProvider sinkProvider = mock(SinkProvider.class);
+        when(sinkProvider.getDefaultSink()).thenReturn(sink);
+        final AsyncStoragePool storagePool = mock(AsyncStoragePool.class);
+
+        final AuditMessageRouter router = new AuditMessageRouter(sinkProvider, storagePool);
+        router.enableRoutes(Settings.EMPTY);
+        final AuditMessage msg = MockAuditMessageFactory.validAuditMessage(AuditCategory.MISSING_PRIVILEGES);
+        router.route(msg);
+        router.close();
+
+        verify(storagePool, never()).submit(any(), any());
+        assertThat(router.pipelines.containsKey(sink), is(true));
+        assertThat(sink.messages, is(List.of(msg)));
+    }
+
     private void testMessageDeliveredForCategory(
         AuditMessageRouter router,
         AuditMessage msg,
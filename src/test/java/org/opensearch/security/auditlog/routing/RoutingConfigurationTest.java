@@ -26,6 +26,7 @@ import org.opensearch.security.auditlog.sink.AuditLogSink;
 import org.opensearch.security.auditlog.sink.DebugSink;
 import org.opensearch.security.auditlog.sink.ExternalOpenSearchSink;
 import org.opensearch.security.auditlog.sink.InternalOpenSearchSink;
+import org.opensearch.security.support.SecurityStats;
 import org.opensearch.security.test.helper.file.FileHelper;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -70,7 +71,7 @@ public class RoutingConfigurationTest extends AbstractAuditlogiUnitTest {
                 )
             )
             .build();
-        AuditMessageRouter router = new AuditMessageRouter(settings, null, null, null);
+        AuditMessageRouter router = new AuditMessageRouter(settings, null, null, null, new SecurityStats(settings));
         // no default sink, audit log not enabled
         assertThat(router.isEnabled(), is(false));
         assertThat(router.defaultSink, is(nullValue()));
@@ -0,0 +1,288 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auditlog.routing;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.auditlog.helper.LoggingSink;
+import org.opensearch.security.auditlog.helper.MockAuditMessageFactory;
+import org.opensearch.security.auditlog.impl.AuditMessage;
+import org.opensearch.security.auditlog.sink.AuditLogSink;
+import org.opensearch.security.support.ConfigConstants;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class SinkPipelineTest {
+
+    @Test
+    public void testMessagesAreStoredInBatches() throws Exception {
+        final LoggingSink fallback = new LoggingSink("fallback", Settings.EMPTY, null, null);
+        final BlockingSink sink = new BlockingSink(fallback);
+        final Settings settings = Settings.builder().put(ConfigConstants.SECURITY_AUDIT_SINK_PIPELINE_BATCH_SIZE, 10).build();
+        final SinkPipeline pipeline = new SinkPipeline(sink, settings);
+
+        // the first message blocks the consumer, the others are queued meanwhile
+        pipeline.submit(MockAuditMessageFactory.validAuditMessage());
+        Assert.assertTrue(sink.started.await(10, TimeUnit.SECONDS));
+        for (int i = 0; i < 25; i++) {
+            pipeline.submit(MockAuditMessageFactory.validAuditMessage());
+        }
+        sink.release.countDown();
+        pipeline.close();
+
+        assertThat(sink.stored.get(), is(26));
+        assertThat(sink.batchSizes, is(List.of(1, 10, 10, 5)));
+        assertThat(fallback.messages.size(), is(0));
+        assertThat(pipeline.getStats().get("enqueued"), is(26L));
+    }
+
+    @Test
+    public void testOverflowToFallback() throws Exception {
+        final LoggingSink fallback = new LoggingSink("fallback", Settings.EMPTY, null, null);
+        final BlockingSink sink = new BlockingSink(fallback);
+        final Settings settings = Settings.builder().put(ConfigConstants.SECURITY_AUDIT_SINK_PIPELINE_QUEUE_SIZE, 5).build();
+        final SinkPipeline pipeline = new SinkPipeline(sink, settings);
+
+        pipeline.submit(MockAuditMessageFactory.validAuditMessage());
+        Assert.assertTrue(sink.started.await(10, TimeUnit.SECONDS));
+        for (int i = 0; i < 8; i++) {
+            pipeline.submit(MockAuditMessageFactory.validAuditMessage());
+        }
+
+        sink.release.countDown();
+        pipeline.close();
+
+        assertThat(sink.stored.get(), is(6));
+        assertThat(fallback.messages.size(), is(3));
+        assertThat(pipeline.getStats().get("overflow_to_fallback"), is(3L));
+    }
+
+    @Test
+    public void testOverflowDoesNotWaitForFallback() throws Exception {
+        final CountDownLatch fallbackStarted = new CountDownLatch(1);
+        final CountDownLatch fallbackRelease = new CountDownLatch(1);
+        final AtomicInteger fallbackStored = new AtomicInteger();
+        final AuditLogSink fallback = new AuditLogSink("fallback", Settings.EMPTY, null, null) {
+            @Override
+            protected boolean doStore(AuditMessage msg) {
+                fallbackStarted.countDown();
+                try {
+                    fallbackRelease.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                fallbackStored.incrementAndGet();
+                return true;
+            }
+        };
+        final BlockingSink sink = new BlockingSink(fallback);
+        final Settings settings = Settings.builder().put(ConfigConstants.SECURITY_AUDIT_SINK_PIPELINE_QUEUE_SIZE, 1).build();
+        final SinkPipeline pipeline = new SinkPipeline(sink, settings);
+
+        pipeline.submit(MockAuditMessageFactory.validAuditMessage());
+        Assert.assertTrue(sink.started.await(10, TimeUnit.SECONDS));
+        // the first message fills the queue, the others overflow while the fallback sink blocks
+        for (int i = 0; i < 3; i++) {
+            pipeline.submit(MockAuditMessageFactory.validAuditMessage());
+        }
+        Assert.assertTrue(fallbackStarted.await(10, TimeUnit.SECONDS));
+        assertThat(pipeline.getStats().get("overflow_to_fallback"), is(2L));
+
+        fallbackRelease.countDown();
+        sink.release.countDown();
+        pipeline.close();
+
+        assertThat(sink.stored.get(), is(2));
+        assertThat(fallbackStored.get(), is(2));
+    }
+
+    @Test
+    public void testFailingFallbackWithoutFallback() throws Exception {
+        final AtomicInteger fallbackAttempts = new AtomicInteger();
+        final AuditLogSink fallback = new AuditLogSink("fallback", Settings.EMPTY, null, null) {
+            @Override
+            protected boolean doStore(AuditMessage msg) {
+                fallbackAttempts.incrementAndGet();
+                return false;
+            }
+        };
+        final AtomicInteger attempts = new AtomicInteger();
+        final AuditLogSink sink = new AuditLogSink("failing", Settings.EMPTY, null, fallback) {
+            @Override
+            protected boolean doStore(AuditMessage msg) {
+                attempts.incrementAndGet();
+                return false;
+            }
+        };
+        final Settings settings = Settings.builder()
+            .put(ConfigConstants.SECURITY_AUDIT_SINK_PIPELINE_BATCH_SIZE, 1)
+            .put(ConfigConstants.SECURITY_AUDIT_SINK_PIPELINE_FAILURE_THRESHOLD, 0)
+            .build();
+        final SinkPipeline pipeline = new SinkPipeline(sink, settings);
+
+        for (int i = 0; i < 3; i++) {
+            pipeline.submit(MockAuditMessageFactory.validAuditMessage());
+        }
+        pipeline.close();
+
+        assertThat(attempts.get(), is(3));
+        assertThat(fallbackAttempts.get(), is(3));
+        assertThat(pipeline.getStats().get("failed_batches"), is(3L));
+    }
+
+    @Test
+    public void testFailingBatchesDoNotStopDelivery() throws Exception {
+        final AuditLogSink fallback = new AuditLogSink("fallback", Settings.EMPTY, null, null) {
+            @Override
+            protected boolean doStore(AuditMessage msg) {
+                throw new IllegalStateException("fallback failure");
+            }
+        };
+        final AtomicInteger attempts = new AtomicInteger();
+        final AuditLogSink sink = new AuditLogSink("failing", Settings.EMPTY, null, fallback) {
+            @Override
+            protected boolean doStore(AuditMessage msg) {
+                attempts.incrementAndGet();
+                throw new IllegalStateException("sink failure");
+            }
+        };
+        final Settings settings = Settings.builder()
+            .put(ConfigConstants.SECURITY_AUDIT_SINK_PIPELINE_BATCH_SIZE, 1)
+            .put(ConfigConstants.SECURITY_AUDIT_SINK_PIPELINE_FAILURE_THRESHOLD, 1)
+            .put(ConfigConstants.SECURITY_AUDIT_SINK_PIPELINE_OPEN_MILLIS, 0)
+            .build();
+        final SinkPipeline pipeline = new SinkPipeline(sink, settings);
+
+        for (int i = 0; i < 3; i++) {
+            pipeline.submit(MockAuditMessageFactory.validAuditMessage());
+        }
+        pipeline.close();
+
+        assertThat(attempts.get(), is(3));
+        assertThat(pipeline.getStats().get("batches"), is(3L));
+    }
+
+    @Test
+    public void testOverflowDrop() throws Exception {
+        final LoggingSink fallback = new LoggingSink("fallback", Settings.EMPTY, null, null);
+        final BlockingSink sink = new BlockingSink(fallback);
+        final Settings settings = Settings.builder()
+            .put(ConfigConstants.SECURITY_AUDIT_SINK_PIPELINE_ENDPOINTS + ".blocking.queue_size", 2)
+            .put(ConfigConstants.SECURITY_AUDIT_SINK_PIPELINE_ENDPOINTS + ".blocking.overflow_policy", "drop")
+            .build();
+        final SinkPipeline pipeline = new SinkPipeline(sink, settings);
+
+        pipeline.submit(MockAuditMessageFactory.validAuditMessage());
+        Assert.assertTrue(sink.started.await(10, TimeUnit.SECONDS));
+        for (int i = 0; i < 5; i++) {
+            pipeline.submit(MockAuditMessageFactory.validAuditMessage());
+        }
+        sink.release.countDown();
+        pipeline.close();
+
+        assertThat(sink.stored.get(), is(3));
+        assertThat(fallback.messages.size(), is(0));
+        final Map<String, Object> stats = pipeline.getStats();
+        assertThat(stats.get("dropped"), is(3L));
+        assertThat(stats.get("queue_capacity"), is(2));
+    }
+
+    @Test
+    public void testCircuitBreaker() throws Exception {
+        final LoggingSink fallback = new LoggingSink("fallback", Settings.EMPTY, null, null);
+        final AtomicInteger attempts = new AtomicInteger();
+        final AuditLogSink sink = new AuditLogSink("failing", Settings.EMPTY, null, fallback) {
+            @Override
+            protected boolean doStore(AuditMessage msg) {
+                attempts.incrementAndGet();
+                return false;
+            }
+        };
+        final Settings settings = Settings.builder()
+            .put(ConfigConstants.SECURITY_AUDIT_SINK_PIPELINE_BATCH_SIZE, 1)
+            .put(ConfigConstants.SECURITY_AUDIT_SINK_PIPELINE_FAILURE_THRESHOLD, 2)
+            .put(ConfigConstants.SECURITY_AUDIT_SINK_PIPELINE_OPEN_MILLIS, 60000)
+            .build();
+        final SinkPipeline pipeline = new SinkPipeline(sink, settings);
+
+        for (int i = 0; i < 5; i++) {
+            pipeline.submit(MockAuditMessageFactory.validAuditMessage());
+        }
+        pipeline.close();
+
+        // after two failed batches, the sink is not tried anymore
+        assertThat(attempts.get(), is(2));
+        assertThat(fallback.messages.size(), is(5));
+        final Map<String, Object> stats = pipeline.getStats();
+        assertThat(stats.get("circuit_breaker_open"), is(true));
+        assertThat(stats.get("circuit_breaker_trips"), is(1L));
+        assertThat(stats.get("bypassed_to_fallback"), is(3L));
+    }
+
+    @Test
+    public void testSubmitAfterClose() throws Exception {
+        final LoggingSink fallback = new LoggingSink("fallback", Settings.EMPTY, null, null);
+        final LoggingSink sink = new LoggingSink("sink", Settings.EMPTY, null, fallback);
+        final SinkPipeline pipeline = new SinkPipeline(sink, Settings.EMPTY);
+        pipeline.close();
+
+        pipeline.submit(MockAuditMessageFactory.validAuditMessage());
+        assertThat(sink.messages.size(), is(0));
+        assertThat(fallback.messages.size(), is(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidOverflowPolicy() {
+        final LoggingSink sink = new LoggingSink("sink", Settings.EMPTY, null, null);
+        new SinkPipeline(sink, Settings.builder().put(ConfigConstants.SECURITY_AUDIT_SINK_PIPELINE_OVERFLOW_POLICY, "wait").build());
+    }
+
+    private static class BlockingSink extends AuditLogSink {
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger stored = new AtomicInteger();
+        final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+        BlockingSink(AuditLogSink fallbackSink) {
+            super("blocking", Settings.EMPTY, null, fallbackSink);
+        }
+
+        @Override
+        public boolean storeBatch(List<AuditMessage> msgs) {
+            batchSizes.add(msgs.size());
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.storeBatch(msgs);
+        }
+
+        @Override
+        protected boolean doStore(AuditMessage msg) {
+            stored.incrementAndGet();
+            return true;
+        }
+    }
+}
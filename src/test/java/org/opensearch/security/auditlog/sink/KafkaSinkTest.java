@@ -17,8 +17,12 @@ import java.util.Arrays;
 import java.util.Properties;
 import java.util.Random;
 
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.LongDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
 import org.junit.Assert;
 import org.junit.ClassRule;
 import org.junit.Test;
@@ -28,6 +32,7 @@ import org.opensearch.common.xcontent.yaml.YamlXContent;
 import org.opensearch.security.auditlog.AbstractAuditlogiUnitTest;
 import org.opensearch.security.auditlog.helper.MockAuditMessageFactory;
 import org.opensearch.security.auditlog.impl.AuditCategory;
+import org.opensearch.security.auditlog.impl.AuditMessage;
 import org.opensearch.security.test.helper.file.FileHelper;
 
 import org.springframework.kafka.test.rule.EmbeddedKafkaRule;
@@ -38,7 +43,7 @@ import static org.hamcrest.Matchers.is;
 public class KafkaSinkTest extends AbstractAuditlogiUnitTest {
 
     @ClassRule
-    public static EmbeddedKafkaRule embeddedKafka = new EmbeddedKafkaRule(1, true, 1, "compliance") {
+    public static EmbeddedKafkaRule embeddedKafka = new EmbeddedKafkaRule(1, true, 1, "compliance", "compliance_keyed") {
         // Prevents test exceptions from randomized runner, see https://bit.ly/3y17IkI
         private UncaughtExceptionHandler currentHandler;
 
@@ -79,12 +84,47 @@ public class KafkaSinkTest extends AbstractAuditlogiUnitTest {
 
     }
 
+    @Test
+    public void testKafkaPartitionKey() throws Exception {
+        String configYml = FileHelper.loadFile("auditlog/endpoints/sink/configuration_kafka.yml");
+        configYml = configYml.replace("_RPLC_BOOTSTRAP_SERVERS_", embeddedKafka.getEmbeddedKafka().getBrokersAsString());
+        Settings.Builder settingsBuilder = Settings.builder().loadFromSource(configYml, YamlXContent.yamlXContent.mediaType());
+        try (KafkaConsumer<String, String> consumer = createConsumer(StringDeserializer.class)) {
+            consumer.subscribe(Arrays.asList("compliance_keyed"));
+
+            Settings settings = settingsBuilder.put("path.home", ".")
+                .put("plugins.security.audit.config.topic_name", "compliance_keyed")
+                .put("plugins.security.audit.config.partition_key", "user")
+                .put("plugins.security.audit.config.compression_type", "gzip")
+                .build();
+            SinkProvider provider = new SinkProvider(settings, null, null, null);
+            KafkaSink sink = (KafkaSink) provider.getDefaultSink();
+            try {
+                boolean success = sink.doStore(MockAuditMessageFactory.validAuditMessage(AuditCategory.MISSING_PRIVILEGES));
+                Assert.assertTrue(success);
+                ConsumerRecords<String, String> records = consumer.poll(Duration.ofSeconds(10));
+                assertThat(records.count(), is(1));
+                ConsumerRecord<String, String> record = records.iterator().next();
+                assertThat(record.key(), is("John Doe"));
+                Assert.assertTrue(record.value(), record.value().startsWith("{") && record.value().contains(AuditMessage.UTC_TIMESTAMP));
+            } finally {
+                sink.close();
+            }
+            assertThat(sink.getStats().get("delivered"), is(1L));
+            assertThat(sink.getStats().get("failed"), is(0L));
+        }
+    }
+
     private KafkaConsumer<Long, String> createConsumer() {
+        return createConsumer(LongDeserializer.class);
+    }
+
+    private <K> KafkaConsumer<K, String> createConsumer(Class<? extends Deserializer<K>> keyDeserializer) {
         Properties props = new Properties();
         props.put("bootstrap.servers", embeddedKafka.getEmbeddedKafka().getBrokersAsString());
         props.put("auto.offset.reset", "earliest");
         props.put("group.id", "mygroup" + System.currentTimeMillis() + "_" + new Random().nextDouble());
-        props.put("key.deserializer", "org.apache.kafka.common.serialization.LongDeserializer");
+        props.put("key.deserializer", keyDeserializer.getName());
         props.put("value.deserializer", "org.apache.kafka.common.serialization.StringDeserializer");
         return new KafkaConsumer<>(props);
     }
@@ -11,6 +11,7 @@
 
 package org.opensearch.security.auditlog.sink;
 
+import java.io.ByteArrayInputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -18,15 +19,27 @@ import java.net.ServerSocket;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.security.KeyStore;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManagerFactory;
 
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ClassicHttpResponse;
 import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.hc.core5.http.impl.HttpProcessors;
 import org.apache.hc.core5.http.impl.bootstrap.HttpServer;
 import org.apache.hc.core5.http.impl.bootstrap.ServerBootstrap;
+import org.apache.hc.core5.http.io.HttpRequestHandler;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.protocol.HttpContext;
 import org.apache.hc.core5.util.TimeValue;
 import org.junit.After;
 import org.junit.Assert;
@@ -346,6 +359,89 @@ public class WebhookAuditLogTest {
         server.awaitTermination(TimeValue.ofSeconds(3));
     }
 
+    @Test
+    public void batchHttpTest() throws Exception {
+        BatchHttpHandler handler = new BatchHttpHandler();
+
+        int port = findFreePort();
+        server = ServerBootstrap.bootstrap()
+            .setListenerPort(port)
+            .setHttpProcessor(HttpProcessors.server("Test/1.1"))
+            .register("*", handler)
+            .create();
+
+        server.start();
+
+        String url = "http://localhost:" + port + "/endpoint";
+        List<AuditMessage> msgs = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            msgs.add(MockAuditMessageFactory.validAuditMessage());
+        }
+
+        // JSON array, split into requests of two messages
+        Settings settings = Settings.builder()
+            .put("plugins.security.audit.config.webhook.url", url)
+            .put("plugins.security.audit.config.webhook.format", "json_array")
+            .put("plugins.security.audit.config.webhook.batch.max_messages", 2)
+            .put("path.home", ".")
+            .put(
+                SSLConfigConstants.SECURITY_SSL_TRANSPORT_TRUSTSTORE_FILEPATH,
+                FileHelper.getAbsoluteFilePathFromClassPath("auditlog/truststore.jks")
+            )
+            .build();
+
+        LoggingSink fallback = new LoggingSink("test", Settings.EMPTY, null, null);
+        WebhookSink auditlog = new WebhookSink("name", settings, ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT, null, fallback);
+        Assert.assertTrue(auditlog.storeBatch(msgs));
+        assertThat(handler.bodies.size(), is(3));
+        int stored = 0;
+        for (String body : handler.bodies) {
+            Assert.assertTrue(body, body.startsWith("[{") && body.endsWith("}]"));
+            stored += body.split(AuditMessage.UTC_TIMESTAMP, -1).length - 1;
+        }
+        assertThat(stored, is(5));
+        assertThat(fallback.messages.size(), is(0));
+        auditlog.close();
+        handler.reset();
+
+        // gzipped NDJSON, retried after a server error
+        settings = Settings.builder()
+            .put("plugins.security.audit.config.webhook.url", url)
+            .put("plugins.security.audit.config.webhook.format", "ndjson")
+            .put("plugins.security.audit.config.webhook.batch.gzip", true)
+            .put("plugins.security.audit.config.webhook.batch.retry_delay_ms", 1)
+            .put("path.home", ".")
+            .put(
+                SSLConfigConstants.SECURITY_SSL_TRANSPORT_TRUSTSTORE_FILEPATH,
+                FileHelper.getAbsoluteFilePathFromClassPath("auditlog/truststore.jks")
+            )
+            .build();
+
+        handler.failures.set(1);
+        handler.failureStatus = 503;
+        auditlog = new WebhookSink("name", settings, ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT, null, fallback);
+        Assert.assertTrue(auditlog.storeBatch(msgs));
+        assertThat(handler.requests.get(), is(2));
+        assertThat(handler.bodies.size(), is(1));
+        String[] lines = handler.bodies.get(0).split("\n");
+        assertThat(lines.length, is(5));
+        for (String line : lines) {
+            Assert.assertTrue(line, line.startsWith("{") && line.contains(AuditMessage.UTC_TIMESTAMP));
+        }
+        assertThat(fallback.messages.size(), is(0));
+        handler.reset();
+
+        // client errors are not retried, the messages are passed to the fallback sink
+        handler.failures.set(1);
+        handler.failureStatus = 400;
+        Assert.assertFalse(auditlog.storeBatch(msgs));
+        assertThat(handler.requests.get(), is(1));
+        assertThat(fallback.messages.size(), is(5));
+        auditlog.close();
+
+        server.awaitTermination(TimeValue.ofSeconds(3));
+    }
+
     @Test
     public void httpsTestWithoutTLSServer() throws Exception {
 
@@ -790,6 +886,36 @@ public class WebhookAuditLogTest {
         // Assert.assertTrue(in, in.contains("CN=kirk,OU=client,O=client,L=test,C=DE"));
     }
 
+    private static class BatchHttpHandler implements HttpRequestHandler {
+        final List<String> bodies = new CopyOnWriteArrayList<>();
+        final AtomicInteger requests = new AtomicInteger();
+        final AtomicInteger failures = new AtomicInteger();
+        volatile int failureStatus;
+
+        @Override
+        public void handle(ClassicHttpRequest request, ClassicHttpResponse response, HttpContext context) throws IOException {
+            requests.incrementAndGet();
+            if (failures.getAndUpdate(f -> Math.max(0, f - 1)) > 0) {
+                response.setCode(failureStatus);
+                return;
+            }
+            byte[] body = EntityUtils.toByteArray(request.getEntity());
+            Header encoding = request.getFirstHeader(HttpHeaders.CONTENT_ENCODING);
+            if (encoding != null && "gzip".equals(encoding.getValue())) {
+                try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+                    body = in.readAllBytes();
+                }
+            }
+            bodies.add(new String(body, StandardCharsets.UTF_8));
+        }
+
+        void reset() {
+            bodies.clear();
+            requests.set(0);
+            failures.set(0);
+        }
+    }
+
     private int findFreePort() {
         try (ServerSocket serverSocket = new ServerSocket(0)) {
             return serverSocket.getLocalPort();
@@ -0,0 +1,200 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auth;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.CacheLoader.InvalidCacheLoadException;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThrows;
+
+public class RefreshAheadCacheTest {
+
+    private static final long TTL = TimeUnit.MINUTES.toNanos(60);
+    private static final long REFRESH_AFTER = TimeUnit.MINUTES.toNanos(45);
+
+    private final FakeTicker ticker = new FakeTicker();
+    private final List<Runnable> pendingRefreshes = new ArrayList<>();
+    private final Executor executor = pendingRefreshes::add;
+
+    @Test
+    public void servesStaleValueAndRefreshesInBackground() throws Exception {
+        final RefreshAheadCache<String, String> cache = new RefreshAheadCache<>("test", TTL, REFRESH_AFTER, 0, executor, ticker);
+        final AtomicInteger version = new AtomicInteger();
+        final Callable<String> loader = () -> "v" + version.incrementAndGet();
+
+        assertThat(cache.get("user", loader, () -> loader), is("v1"));
+        ticker.advance(REFRESH_AFTER - 1);
+        assertThat(cache.get("user", loader, () -> loader), is("v1"));
+        assertThat(pendingRefreshes.size(), is(0));
+
+        ticker.advance(1);
+        assertThat(cache.get("user", loader, () -> loader), is("v1"));
+        // only one refresh is started for concurrent accesses
+        assertThat(cache.get("user", loader, () -> loader), is("v1"));
+        assertThat(pendingRefreshes.size(), is(1));
+
+        runPendingRefreshes();
+        assertThat(cache.get("user", loader, () -> loader), is("v2"));
+        assertThat(cache.getStats().get("refresh_count"), equalTo(1L));
+
+        // the refreshed entry lives for the full TTL from the time of the refresh
+        ticker.advance(REFRESH_AFTER - 1);
+        assertThat(cache.getIfPresent("user"), is("v2"));
+    }
+
+    @Test
+    public void failedRefreshDropsEntry() throws Exception {
+        final RefreshAheadCache<String, String> cache = new RefreshAheadCache<>("test", TTL, REFRESH_AFTER, 0, executor, ticker);
+        cache.get("user", () -> "v1");
+
+        ticker.advance(REFRESH_AFTER);
+        assertThat(cache.get("user", () -> "unused", () -> () -> { throw new Exception("password changed"); }), is("v1"));
+        runPendingRefreshes();
+
+        assertThat(cache.getIfPresent("user"), is(nullValue()));
+        assertThat(cache.getStats().get("refresh_failure_count"), equalTo(1L));
+    }
+
+    @Test
+    public void refreshReturningNullDropsEntry() throws Exception {
+        final RefreshAheadCache<String, String> cache = new RefreshAheadCache<>("test", TTL, REFRESH_AFTER, 0, executor, ticker);
+        cache.get("user", () -> "v1");
+
+        ticker.advance(REFRESH_AFTER);
+        cache.get("user", () -> "unused", () -> () -> null);
+        runPendingRefreshes();
+
+        assertThat(cache.getIfPresent("user"), is(nullValue()));
+    }
+
+    @Test
+    public void invalidatedEntryIsNotRestoredByRefresh() throws Exception {
+        final RefreshAheadCache<String, String> cache = new RefreshAheadCache<>("test", TTL, REFRESH_AFTER, 0, executor, ticker);
+        cache.get("user", () -> "v1");
+
+        ticker.advance(REFRESH_AFTER);
+        cache.get("user", () -> "unused", () -> () -> "v2");
+        assertThat(cache.invalidateIf("user"::equals), is(1));
+        runPendingRefreshes();
+
+        assertThat(cache.getIfPresent("user"), is(nullValue()));
+    }
+
+    @Test
+    public void rejectedRefreshIsRetried() throws Exception {
+        final AtomicInteger rejections = new AtomicInteger(1);
+        final Executor rejectingExecutor = task -> {
+            if (rejections.getAndDecrement() > 0) {
+                throw new RejectedExecutionException("queue full");
+            }
+            pendingRefreshes.add(task);
+        };
+        final RefreshAheadCache<String, String> cache = new RefreshAheadCache<>("test", TTL, REFRESH_AFTER, 0, rejectingExecutor, ticker);
+        cache.get("user", () -> "v1");
+
+        ticker.advance(REFRESH_AFTER);
+        cache.get("user", () -> "unused", () -> () -> "v2");
+        assertThat(pendingRefreshes.size(), is(0));
+        assertThat(cache.getStats().get("refresh_rejected_count"), equalTo(1L));
+
+        cache.get("user", () -> "unused", () -> () -> "v2");
+        assertThat(pendingRefreshes.size(), is(1));
+    }
+
+    @Test
+    public void hardTtlIsNeverExceeded() throws Exception {
+        final RefreshAheadCache<String, String> cache = new RefreshAheadCache<>("test", TTL, REFRESH_AFTER, 0, executor, ticker);
+        cache.get("user", () -> "v1");
+
+        ticker.advance(TTL);
+        // the refresh was never run, so the entry must be loaded in the foreground
+        assertThat(cache.get("user", () -> "v2", () -> () -> "v3"), is("v2"));
+        assertThat(pendingRefreshes.size(), is(0));
+    }
+
+    @Test
+    public void refreshAheadIsDisabledWithoutExecutor() throws Exception {
+        final RefreshAheadCache<String, String> cache = new RefreshAheadCache<>("test", TTL, REFRESH_AFTER, 0, null, ticker);
+        assertThat(cache.isRefreshAheadEnabled(), is(false));
+
+        cache.get("user", () -> "v1");
+        ticker.advance(REFRESH_AFTER);
+        assertThat(cache.get("user", () -> "v2", () -> () -> "v3"), is("v1"));
+    }
+
+    @Test
+    public void nullValuesAreNotCached() throws Exception {
+        final RefreshAheadCache<String, String> cache = new RefreshAheadCache<>("test", TTL, REFRESH_AFTER, 0, executor, ticker);
+
+        assertThrows(InvalidCacheLoadException.class, () -> cache.get("user", () -> null));
+        assertThat(cache.size(), is(0L));
+        assertThat(cache.get("user", () -> "v1"), is("v1"));
+    }
+
+    @Test
+    public void jitterShortensTtl() throws Exception {
+        final RefreshAheadCache<Integer, Integer> cache = new RefreshAheadCache<>("test", TTL, 0, 20, null, ticker);
+        for (int i = 0; i < 100; i++) {
+            final int value = i;
+            cache.get(i, () -> value);
+        }
+
+        ticker.advance(TTL * 80 / 100 - 1);
+        for (int i = 0; i < 100; i++) {
+            assertThat(cache.getIfPresent(i), is(i));
+        }
+
+        ticker.advance(TTL * 20 / 100);
+        int present = 0;
+        for (int i = 0; i < 100; i++) {
+            if (cache.getIfPresent(i) != null) {
+                present++;
+            }
+        }
+        assertThat(present, lessThanOrEqualTo(1));
+        assertThat((Long) cache.getStats().get("eviction_count") >= 99L, is(true));
+    }
+
+    private void runPendingRefreshes() {
+        final List<Runnable> tasks = new ArrayList<>(pendingRefreshes);
+        pendingRefreshes.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    private static class FakeTicker extends Ticker {
+        private final AtomicLong nanos = new AtomicLong(1_000_000L);
+
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+
+        void advance(final long delta) {
+            nanos.addAndGet(delta);
+        }
+    }
+}
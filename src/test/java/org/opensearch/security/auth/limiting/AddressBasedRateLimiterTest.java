@@ -18,11 +18,17 @@
 package org.opensearch.security.auth.limiting;
 
 import java.net.InetAddress;
+import java.util.Map;
 
 import org.junit.Test;
 
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.security.support.ConfigConstants;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -43,4 +49,73 @@ public class AddressBasedRateLimiterTest {
         assertTrue(rateLimiter.isBlocked(InetAddress.getByAddress(new byte[] { 1, 2, 3, 4 })));
 
     }
+
+    @Test
+    public void failuresAreCountedClusterWide() throws Exception {
+        final InetAddress client = InetAddress.getByAddress(new byte[] { 1, 2, 3, 4 });
+        final AddressBasedRateLimiter node1 = new AddressBasedRateLimiter(syncSettings(), null);
+        final AddressBasedRateLimiter node2 = new AddressBasedRateLimiter(syncSettings(), null);
+
+        node1.onAuthFailure(client, null, null);
+        node1.onAuthFailure(client, null, null);
+        assertFalse(node1.isBlocked(client));
+
+        node2.importState(roundTrip(node1.exportState()));
+        assertFalse(node2.isBlocked(client));
+        assertThat(node1.exportState(), nullValue());
+
+        // the third failure in the cluster exceeds the allowed tries, no matter on which node it happens
+        node2.onAuthFailure(client, null, null);
+        assertTrue(node2.isBlocked(client));
+        assertFalse(node1.isBlocked(client));
+
+        final RateLimiterState state = roundTrip(node2.exportState());
+        assertThat(state.getBlocks().containsKey("1.2.3.4"), equalTo(true));
+        node1.importState(state);
+        assertTrue(node1.isBlocked(client));
+    }
+
+    @Test
+    public void expiredRemoteBlocksAreIgnored() throws Exception {
+        final InetAddress client = InetAddress.getByAddress(new byte[] { 1, 2, 3, 4 });
+        final AddressBasedRateLimiter rateLimiter = new AddressBasedRateLimiter(
+            Settings.builder().put(syncSettings()).put("block_expiry_seconds", 10).build(),
+            null
+        );
+
+        rateLimiter.importState(
+            new RateLimiterState("test", Map.of(), Map.of("1.2.3.4", System.currentTimeMillis() - 11_000))
+        );
+        assertFalse(rateLimiter.isBlocked(client));
+
+        rateLimiter.importState(
+            new RateLimiterState("test", Map.of(), Map.of("1.2.3.4", System.currentTimeMillis() - 1_000))
+        );
+        assertTrue(rateLimiter.isBlocked(client));
+    }
+
+    @Test
+    public void stateIsNotSharedWithoutSync() throws Exception {
+        final AddressBasedRateLimiter rateLimiter = new AddressBasedRateLimiter(
+            Settings.builder().put("allowed_tries", 3).put("listener_name", "test").build(),
+            null
+        );
+        rateLimiter.onAuthFailure(InetAddress.getByAddress(new byte[] { 1, 2, 3, 4 }), null, null);
+        assertThat(rateLimiter.exportState(), nullValue());
+    }
+
+    private static Settings syncSettings() {
+        return Settings.builder()
+            .put("allowed_tries", 3)
+            .put("listener_name", "test")
+            .put(ConfigConstants.SECURITY_AUTH_FAILURE_LISTENERS_SYNC_ENABLED, true)
+            .build();
+    }
+
+    private static RateLimiterState roundTrip(RateLimiterState state) throws Exception {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            state.writeTo(out);
+            return new RateLimiterState(out.bytes().streamInput());
+        }
+    }
 }
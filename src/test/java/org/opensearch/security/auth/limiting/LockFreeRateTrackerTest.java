@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auth.limiting;
+
+import java.net.InetAddress;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.junit.Test;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.util.ratetracking.LockFreeRateTracker;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LockFreeRateTrackerTest {
+
+    private final AtomicLong currentTime = new AtomicLong(1);
+    private LongSupplier timeProvider = () -> currentTime.getAndAdd(1);
+
+    @Test
+    public void simpleTest() throws Exception {
+        LockFreeRateTracker<String> tracker = new LockFreeRateTracker<>(100, 5, 100_000, timeProvider);
+
+        assertFalse(tracker.track("a"));
+        assertFalse(tracker.track("a"));
+        assertFalse(tracker.track("a"));
+        assertFalse(tracker.track("a"));
+        assertTrue(tracker.track("a"));
+    }
+
+    @Test
+    public void expiryTest() throws Exception {
+        LockFreeRateTracker<String> tracker = new LockFreeRateTracker<>(100, 3, 100_000, timeProvider);
+
+        assertFalse(tracker.track("a"));
+        assertFalse(tracker.track("a"));
+        assertTrue(tracker.track("a"));
+
+        assertFalse(tracker.track("c"));
+        currentTime.addAndGet(50);
+        assertFalse(tracker.track("c"));
+        currentTime.addAndGet(55);
+        // the first failure of c is out of the time window now
+        assertFalse(tracker.track("c"));
+        assertTrue(tracker.track("c"));
+    }
+
+    @Test
+    public void maxTwoTriesTest() throws Exception {
+        LockFreeRateTracker<String> tracker = new LockFreeRateTracker<>(100, 2, 100_000, timeProvider);
+
+        assertFalse(tracker.track("a"));
+        assertTrue(tracker.track("a"));
+
+        assertFalse(tracker.track("b"));
+        currentTime.addAndGet(50);
+        assertTrue(tracker.track("b"));
+
+        currentTime.addAndGet(55);
+        assertTrue(tracker.track("b"));
+
+        currentTime.addAndGet(105);
+        assertFalse(tracker.track("b"));
+        assertTrue(tracker.track("b"));
+    }
+
+    @Test
+    public void resetTest() throws Exception {
+        LockFreeRateTracker<InetAddress> tracker = new LockFreeRateTracker<>(100, 3, 100_000, timeProvider);
+        final InetAddress address = InetAddress.getByAddress(new byte[] { 1, 2, 3, 4 });
+
+        assertFalse(tracker.track(address));
+        assertFalse(tracker.track(address));
+        tracker.reset(address);
+        assertFalse(tracker.track(address));
+        assertFalse(tracker.track(address));
+        assertTrue(tracker.track(address));
+    }
+
+    @Test
+    public void memoryIsBoundedTest() throws Exception {
+        LockFreeRateTracker<String> tracker = new LockFreeRateTracker<>(100_000, 3, 16, timeProvider);
+
+        for (int i = 0; i < 10_000; i++) {
+            assertFalse(tracker.track("client" + i));
+        }
+
+        assertFalse(tracker.track("a"));
+        assertFalse(tracker.track("a"));
+        assertTrue(tracker.track("a"));
+    }
+
+    @Test
+    public void rateLimiterTest() throws Exception {
+        Settings settings = Settings.builder().put("allowed_tries", 3).put("rate_tracker", "lock_free").build();
+
+        AddressBasedRateLimiter rateLimiter = new AddressBasedRateLimiter(settings, null);
+        final InetAddress address = InetAddress.getByAddress(new byte[] { 1, 2, 3, 4 });
+
+        rateLimiter.onAuthFailure(address, null, null);
+        rateLimiter.onAuthFailure(address, null, null);
+        assertFalse(rateLimiter.isBlocked(address));
+        rateLimiter.onAuthFailure(address, null, null);
+        assertTrue(rateLimiter.isBlocked(address));
+    }
+}
@@ -11,7 +11,12 @@
 
 package org.opensearch.security.authtoken.jwt;
 
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -34,6 +39,43 @@ public class EncryptionDecryptionUtilsTest {
         assertThat(decryptedString, is(data));
     }
 
+    @Test
+    public void testConcurrentEncryptDecrypt() throws Exception {
+        String secret = Base64.getEncoder().encodeToString("mySecretKey12345".getBytes());
+        EncryptionDecryptionUtil util = new EncryptionDecryptionUtil(secret);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                final String prefix = "role_" + i + "_";
+                results.add(executor.submit(() -> {
+                    for (int j = 0; j < 500; j++) {
+                        String data = prefix + j;
+                        if (!data.equals(util.decrypt(util.encrypt(data)))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertThat(result.get(), is(true));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCipherIsUsableAfterFailure() {
+        String secret = Base64.getEncoder().encodeToString("mySecretKey12345".getBytes());
+        EncryptionDecryptionUtil util = new EncryptionDecryptionUtil(secret);
+
+        Assert.assertThrows(RuntimeException.class, () -> util.decrypt(Base64.getEncoder().encodeToString("not encrypted".getBytes())));
+        assertThat(util.decrypt(util.encrypt("admin")), is("admin"));
+    }
+
     @Test
     public void testDecryptingWithWrongKey() {
         String secret1 = Base64.getEncoder().encodeToString("correctKey12345".getBytes());
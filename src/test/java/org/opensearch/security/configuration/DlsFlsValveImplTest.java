@@ -0,0 +1,161 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.configuration;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.security.privileges.PrivilegesEvaluationContext;
+import org.opensearch.security.resolver.IndexResolverReplacer;
+import org.opensearch.security.securityconf.ConfigModel;
+import org.opensearch.security.securityconf.EvaluatedDlsFlsConfig;
+import org.opensearch.security.securityconf.SecurityRoles;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.SecurityStats;
+import org.opensearch.security.user.User;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DlsFlsValveImplTest {
+
+    static final EvaluatedDlsFlsConfig FLS = new EvaluatedDlsFlsConfig(Map.of(), Map.of("*", Set.of("~secret")), Map.of());
+
+    @Test
+    public void clientFingerprintIsReplacedByServerFingerprint() {
+        final SearchRequest request = searchRequestWithFingerprint("forged");
+
+        assertThat(invoke(requestCacheEnabled(true), FLS, request), is(true));
+
+        assertThat(fingerprints(request), contains(FLS.getFingerprint()));
+        assertThat(FLS.getFingerprint(), not("forged"));
+        assertThat(request.requestCache(), not(Boolean.FALSE));
+        assertThat(request.source().size(), is(5));
+    }
+
+    @Test
+    public void clientFingerprintIsStrippedWithoutRestrictions() {
+        final SearchRequest request = searchRequestWithFingerprint("forged");
+
+        assertThat(invoke(requestCacheEnabled(true), EvaluatedDlsFlsConfig.EMPTY, request), is(true));
+
+        assertThat(fingerprints(request), empty());
+    }
+
+    @Test
+    public void clientFingerprintIsStrippedIfRequestCacheIsDisabled() {
+        final SearchRequest request = searchRequestWithFingerprint("forged");
+
+        assertThat(invoke(requestCacheEnabled(false), FLS, request), is(true));
+
+        assertThat(fingerprints(request), empty());
+        assertThat(request.requestCache(), is(Boolean.FALSE));
+    }
+
+    @Test
+    public void onlyUntrustedFingerprintsAreRemoved() {
+        final SearchSourceBuilder source = new SearchSourceBuilder().size(5)
+            .ext(List.of(clientFingerprint("forged"), new DlsFlsRequestCacheKey("server")));
+        final SearchRequest request = new SearchRequest("index").source(source);
+
+        DlsFlsRequestCacheKey.removeUntrusted(request);
+
+        assertThat(fingerprints(request), contains("server"));
+        assertThat(request.source().size(), is(5));
+    }
+
+    static Settings requestCacheEnabled(boolean enabled) {
+        return Settings.builder().put(ConfigConstants.SECURITY_DLS_FLS_REQUEST_CACHE_ENABLED, enabled).build();
+    }
+
+    static SearchRequest searchRequestWithFingerprint(String fingerprint) {
+        final SearchSourceBuilder source = new SearchSourceBuilder().size(5).ext(List.of(clientFingerprint(fingerprint)));
+        return new SearchRequest("index").source(source);
+    }
+
+    /**
+     * A fingerprint as it arrives from a client, deserialized instead of created on this node.
+     */
+    static DlsFlsRequestCacheKey clientFingerprint(String fingerprint) {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            new DlsFlsRequestCacheKey(fingerprint).writeTo(out);
+            return new DlsFlsRequestCacheKey(out.bytes().streamInput());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static List<String> fingerprints(SearchRequest request) {
+        return request.source()
+            .ext()
+            .stream()
+            .filter(DlsFlsRequestCacheKey.class::isInstance)
+            .map(ext -> ((DlsFlsRequestCacheKey) ext).getFingerprint())
+            .collect(Collectors.toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    static boolean invoke(Settings settings, EvaluatedDlsFlsConfig dlsFlsConfig, SearchRequest request) {
+        final SecurityRoles securityRoles = mock(SecurityRoles.class);
+        when(securityRoles.filter(any())).thenReturn(securityRoles);
+        when(securityRoles.getDlsFls(any(), anyBoolean(), any(), any(), any())).thenReturn(dlsFlsConfig);
+        final ConfigModel configModel = mock(ConfigModel.class);
+        when(configModel.getSecurityRoles()).thenReturn(securityRoles);
+        final IndexResolverReplacer indexResolverReplacer = mock(IndexResolverReplacer.class);
+        when(indexResolverReplacer.resolveRequest(any())).thenReturn(IndexResolverReplacer.Resolved._LOCAL_ALL);
+
+        final DlsFlsValveImpl valve = new DlsFlsValveImpl(
+            settings,
+            mock(Client.class),
+            mock(ClusterService.class),
+            mock(IndexNameExpressionResolver.class),
+            NamedXContentRegistry.EMPTY,
+            new ThreadContext(Settings.EMPTY)
+        );
+        valve.onConfigModelChanged(configModel);
+
+        final PrivilegesEvaluationContext context = new PrivilegesEvaluationContext(
+            new User("test_user"),
+            ImmutableSet.of("test_role"),
+            "indices:data/read/search",
+            request,
+            null,
+            indexResolverReplacer,
+            new SecurityStats(Settings.EMPTY)
+        );
+        return valve.invoke(context, mock(ActionListener.class));
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.client.Client;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.index.get.GetResult;
+import org.opensearch.security.support.ConfigConstants;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+public class TermsLookupCacheTest {
+
+    static final String USER_A = "restrictions_a";
+    static final String USER_B = "restrictions_b";
+    static final Set<String> ROLES = Set.of("role");
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final List<GetRequest> requests = new ArrayList<>();
+    private long seqNo = 1;
+    private String source = "{\"terms\": [\"a\", \"b\"]}";
+    private Client client;
+    private TermsLookupCache cache;
+
+    @Before
+    public void setUp() {
+        client = mock(Client.class);
+        doAnswer(invocation -> {
+            final GetRequest request = invocation.getArgument(0);
+            final ActionListener<GetResponse> listener = invocation.getArgument(1);
+            requests.add(request);
+            final boolean fetchSource = request.fetchSourceContext() == null || request.fetchSourceContext().fetchSource();
+            listener.onResponse(
+                new GetResponse(
+                    new GetResult(
+                        request.index(),
+                        request.id(),
+                        seqNo,
+                        1,
+                        seqNo,
+                        true,
+                        fetchSource ? new BytesArray(source) : null,
+                        null,
+                        null
+                    )
+                )
+            );
+            return null;
+        }).when(client).get(any(GetRequest.class), any());
+
+        final Settings settings = Settings.builder().put(ConfigConstants.SECURITY_DLS_TERMS_LOOKUP_CACHE_RECHECK_INTERVAL, "1s").build();
+        cache = new TermsLookupCache(settings, client, NamedXContentRegistry.EMPTY, nanoTime::get);
+    }
+
+    @Test
+    public void cachedDocumentIsUsedWithoutRequest() {
+        final GetResponse first = get(USER_A);
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        final GetResponse second = get(USER_A);
+
+        assertThat(second, sameInstance(first));
+        assertThat(requests.size(), is(1));
+        assertThat(cache.getStats().get("hit_count"), is(1L));
+        assertThat(cache.getStats().get("miss_count"), is(1L));
+    }
+
+    @Test
+    public void unchangedDocumentIsRecheckedAfterInterval() {
+        final GetResponse first = get(USER_A);
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        final GetResponse second = get(USER_A);
+
+        assertThat(second, sameInstance(first));
+        assertThat(requests.size(), is(2));
+        assertThat(requests.get(1).fetchSourceContext().fetchSource(), is(false));
+        assertThat(cache.getStats().get("recheck_count"), is(1L));
+
+        // the recheck extends the time the document is used without request
+        get(USER_A);
+        assertThat(requests.size(), is(2));
+    }
+
+    @Test
+    public void changedSeqNoInvalidatesDocument() {
+        get(USER_A);
+        seqNo = 2;
+        source = "{\"terms\": [\"c\"]}";
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        final GetResponse second = get(USER_A);
+
+        assertThat(second.getSeqNo(), is(2L));
+        assertThat(second.getSourceAsMap().get("terms"), is(List.of("c")));
+        // the fetch of the old document, the check and the fetch of the new document
+        assertThat(requests.size(), is(3));
+        assertThat(cache.getStats().get("stale_count"), is(1L));
+    }
+
+    @Test
+    public void usersWithDifferentRolesDoNotShareDocuments() {
+        // the roles determine whether the user may read the lookup index at all
+        final GetResponse first = get(USER_A, ROLES);
+        final GetResponse second = get(USER_A, Set.of("role", "other_role"));
+
+        assertThat(requests.size(), is(2));
+        assertThat(second, not(sameInstance(first)));
+        assertThat(cache.getStats().get("miss_count"), is(2L));
+    }
+
+    @Test
+    public void invalidateAllFetchesDocumentsAgain() {
+        get(USER_A);
+        cache.invalidateAll();
+        get(USER_A);
+
+        assertThat(requests.size(), is(2));
+        assertThat(requests.get(1).fetchSourceContext(), is(nullValue()));
+    }
+
+    @Test
+    public void usersWithDifferentRestrictionsDoNotShareDocuments() {
+        // the lookup document is fetched with the privileges of the user, so its FLS applies
+        final GetResponse first = get(USER_A);
+        source = "{\"other\": [\"x\"]}";
+        final GetResponse second = get(USER_B);
+
+        assertThat(requests.size(), is(2));
+        assertThat(first.getSourceAsMap().containsKey("terms"), is(true));
+        assertThat(second.getSourceAsMap().containsKey("terms"), is(false));
+        assertThat(cache.getStats().get("miss_count"), is(2L));
+
+        assertThat(get(USER_A), sameInstance(first));
+        assertThat(get(USER_B), sameInstance(second));
+        assertThat(requests.size(), is(2));
+    }
+
+    private GetResponse get(String restrictions) {
+        return get(restrictions, ROLES);
+    }
+
+    private GetResponse get(String restrictions, Set<String> mappedRoles) {
+        final GetResponse[] result = new GetResponse[1];
+        cache.get(client, restrictions, mappedRoles, new GetRequest("lookup", "1"), ActionListener.wrap(r -> result[0] = r, e -> {
+            throw new AssertionError(e);
+        }));
+        return result[0];
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.dlic.rest.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.http.HttpStatus;
+import org.junit.Test;
+
+import org.opensearch.security.DefaultObjectMapper;
+import org.opensearch.security.test.helper.file.FileHelper;
+import org.opensearch.security.test.helper.rest.RestHelper.HttpResponse;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.opensearch.security.OpenSearchSecurityPlugin.PLUGINS_PREFIX;
+
+public class FlushCacheApiTest extends AbstractRestApiUnitTest {
+    private final String ENDPOINT;
+
+    protected String getEndpointPrefix() {
+        return PLUGINS_PREFIX;
+    }
+
+    public FlushCacheApiTest() {
+        ENDPOINT = getEndpointPrefix() + "/api";
+    }
+
+    @Test
+    public void testFlushCache() throws Exception {
+
+        setup();
+        rh.keystore = "restapi/kirk-keystore.jks";
+
+        authenticate("admin", "admin");
+        authenticate("worf", "worf");
+        assertThat(cachedUsers(), is(2));
+
+        // evict a single user
+        rh.sendAdminCertificate = true;
+        HttpResponse response = rh.executeDeleteRequest(ENDPOINT + "/cache/user/worf");
+        assertThat(response.getStatusCode(), is(HttpStatus.SC_OK));
+        assertThat(response.getBody(), containsString("Cache of user worf flushed successfully."));
+        assertThat(cachedUsers(), is(1));
+
+        // roles changes only evict internal users with security roles, neither admin nor worf has any
+        authenticate("worf", "worf");
+        rh.sendAdminCertificate = true;
+        response = rh.executePutRequest(
+            ENDPOINT + "/roles/opendistro_security_role_starfleet_captains",
+            FileHelper.loadFile("restapi/roles_captains_different_content.json")
+        );
+        assertThat(response.getBody(), response.getStatusCode(), is(HttpStatus.SC_OK));
+        assertThat(cachedUsers(), is(2));
+
+        // internal users changes only evict the changed users
+        response = rh.executePutRequest(ENDPOINT + "/internalusers/worf", "{\"password\": \"Worf-1234-Klingon\"}");
+        assertThat(response.getBody(), response.getStatusCode(), is(HttpStatus.SC_OK));
+        assertThat(cachedUsers(), is(1));
+
+        // full flush
+        response = rh.executeDeleteRequest(ENDPOINT + "/cache");
+        assertThat(response.getStatusCode(), is(HttpStatus.SC_OK));
+        assertThat(response.getBody(), containsString("Cache flushed successfully."));
+        assertThat(cachedUsers(), is(0));
+    }
+
+    private void authenticate(final String username, final String password) throws Exception {
+        rh.sendAdminCertificate = false;
+        final HttpResponse response = rh.executeGetRequest(PLUGINS_PREFIX + "/authinfo", encodeBasicHeader(username, password));
+        assertThat(response.getStatusCode(), is(HttpStatus.SC_OK));
+    }
+
+    private int cachedUsers() throws Exception {
+        rh.sendAdminCertificate = true;
+        final HttpResponse response = rh.executeGetRequest(ENDPOINT + "/cache");
+        assertThat(response.getStatusCode(), is(HttpStatus.SC_OK));
+        final JsonNode body = DefaultObjectMapper.readTree(response.getBody());
+        assertThat(body.get("has_failures").asBoolean(), is(false));
+        int size = 0;
+        for (final JsonNode node : body.get("nodes")) {
+            size += node.get("caches").get("user").get("size").asInt();
+        }
+        return size;
+    }
+}
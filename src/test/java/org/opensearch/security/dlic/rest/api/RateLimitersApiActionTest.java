@@ -150,6 +150,38 @@ public class RateLimitersApiActionTest extends AbstractRestApiUnitTest {
 
     }
 
+    @Test
+    public void testPutRateTrackerIsCaseInsensitive() throws Exception {
+        setupWithRestRoles();
+        rh.sendAdminCertificate = true;
+
+        RestHelper.HttpResponse updateAuthFailuresResponse = rh.executePutRequest(
+            "/_plugins/_security/api/authfailurelisteners/test",
+            "{\"type\":\"ip\",\"rate_tracker\":\"LOCK_FREE\"}",
+            ADMIN_FULL_ACCESS_USER
+        );
+        assertThat(updateAuthFailuresResponse.getBody(), updateAuthFailuresResponse.getStatusCode(), equalTo(HttpStatus.SC_OK));
+
+        // the rate tracker is stored the way it is validated
+        RestHelper.HttpResponse getAuthFailuresResponseAfterPut = rh.executeGetRequest(
+            "/_plugins/_security/api/authfailurelisteners",
+            ADMIN_FULL_ACCESS_USER
+        );
+        assertThat(getAuthFailuresResponseAfterPut.getBody(), getAuthFailuresResponseAfterPut.getStatusCode(), equalTo(HttpStatus.SC_OK));
+        assertThat(getAuthFailuresResponseAfterPut.getBody(), containsString("\"rate_tracker\":\"lock_free\""));
+
+        RestHelper.HttpResponse updateAuthFailuresResponseUnknownTracker = rh.executePutRequest(
+            "/_plugins/_security/api/authfailurelisteners/test",
+            "{\"type\":\"ip\",\"rate_tracker\":\"other\"}",
+            ADMIN_FULL_ACCESS_USER
+        );
+        assertThat(
+            updateAuthFailuresResponseUnknownTracker.getBody(),
+            updateAuthFailuresResponseUnknownTracker.getStatusCode(),
+            equalTo(HttpStatus.SC_BAD_REQUEST)
+        );
+    }
+
     @Test
     public void testPutWithAllDefaults() throws Exception {
         setupWithRestRoles();
@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.dlic.rest.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.http.HttpStatus;
+import org.junit.Test;
+
+import org.opensearch.security.DefaultObjectMapper;
+import org.opensearch.security.test.helper.rest.RestHelper.HttpResponse;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.opensearch.security.OpenSearchSecurityPlugin.PLUGINS_PREFIX;
+
+public class SecurityStatsApiTest extends AbstractRestApiUnitTest {
+    private final String ENDPOINT;
+
+    protected String getEndpointPrefix() {
+        return PLUGINS_PREFIX;
+    }
+
+    public SecurityStatsApiTest() {
+        ENDPOINT = getEndpointPrefix() + "/stats";
+    }
+
+    @Test
+    public void testStatsOfAllNodes() throws Exception {
+
+        setup();
+        rh.keystore = "restapi/kirk-keystore.jks";
+        rh.sendAdminCertificate = true;
+
+        final JsonNode body = stats();
+        assertThat(body.get("nodes").size(), is(clusterInfo.numNodes));
+        for (final JsonNode node : body.get("nodes")) {
+            assertThat(node.get("enabled").asBoolean(), is(true));
+            assertThat(node.get("stages").get("authentication"), notNullValue());
+            assertThat(node.get("stages").get("privileges_evaluation"), notNullValue());
+            assertThat(node.get("caches").get("authentication"), notNullValue());
+        }
+
+        final String nodeId = body.get("nodes").fieldNames().next();
+        final HttpResponse response = rh.executeGetRequest(ENDPOINT + "/" + nodeId);
+        assertThat(response.getStatusCode(), is(HttpStatus.SC_OK));
+        final JsonNode nodeBody = DefaultObjectMapper.readTree(response.getBody());
+        assertThat(nodeBody.get("nodes").size(), is(1));
+        assertThat(nodeBody.get("nodes").get(nodeId), notNullValue());
+    }
+
+    @Test
+    public void testDenialsByReason() throws Exception {
+
+        setup();
+        rh.keystore = "restapi/kirk-keystore.jks";
+
+        final long authenticationDenials = denials("authentication");
+        final long clusterPrivilegesDenials = denials("missing_cluster_privileges");
+
+        // a request without credentials only gets the challenge of the basic authenticator
+        rh.sendAdminCertificate = false;
+        HttpResponse response = rh.executeGetRequest(ENDPOINT);
+        assertThat(response.getStatusCode(), is(HttpStatus.SC_UNAUTHORIZED));
+        assertThat(denials("authentication"), is(authenticationDenials));
+
+        rh.sendAdminCertificate = false;
+        response = rh.executeGetRequest(ENDPOINT, encodeBasicHeader("worf", "wrong"));
+        assertThat(response.getStatusCode(), is(HttpStatus.SC_UNAUTHORIZED));
+        assertThat(denials("authentication"), is(authenticationDenials + 1));
+
+        rh.sendAdminCertificate = false;
+        response = rh.executeGetRequest(ENDPOINT, encodeBasicHeader("worf", "worf"));
+        assertThat(response.getStatusCode(), is(HttpStatus.SC_FORBIDDEN));
+        assertThat(denials("missing_cluster_privileges"), is(clusterPrivilegesDenials + 1));
+    }
+
+    private JsonNode stats() throws Exception {
+        rh.sendAdminCertificate = true;
+        final HttpResponse response = rh.executeGetRequest(ENDPOINT);
+        assertThat(response.getStatusCode(), is(HttpStatus.SC_OK));
+        final JsonNode body = DefaultObjectMapper.readTree(response.getBody());
+        assertThat(body.get("_nodes").get("failed").asInt(), is(0));
+        return body;
+    }
+
+    private long denials(final String reason) throws Exception {
+        long count = 0;
+        for (final JsonNode node : stats().get("nodes")) {
+            final JsonNode denials = node.get("denials").get(reason);
+            if (denials != null) {
+                count += denials.asLong();
+            }
+        }
+        return count;
+    }
+}
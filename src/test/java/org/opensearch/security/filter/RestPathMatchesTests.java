@@ -8,80 +8,101 @@
 
 package org.opensearch.security.filter;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.util.List;
 
-import org.junit.Before;
 import org.junit.Test;
 
+import org.opensearch.rest.RestHandler.Route;
+import org.opensearch.rest.RestRequest.Method;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.Mockito.mock;
 
 public class RestPathMatchesTests {
-    Method restPathMatches;
-    SecurityRestFilter securityRestFilter;
-
-    @Before
-    public void setUp() throws NoSuchMethodException {
-        securityRestFilter = mock(SecurityRestFilter.class);
-        restPathMatches = SecurityRestFilter.class.getDeclaredMethod("restPathMatches", String.class, String.class);
-        restPathMatches.setAccessible(true);
-    }
 
     @Test
-    public void testExactMatch() throws InvocationTargetException, IllegalAccessException {
+    public void testExactMatch() {
         String requestPath = "_plugins/security/api/x/y";
         String handlerPath = "_plugins/security/api/x/y";
-        assertTrue((Boolean) restPathMatches.invoke(securityRestFilter, requestPath, handlerPath));
+        assertTrue(RestRouteMatcher.pathMatches(requestPath, handlerPath));
     }
 
     @Test
-    public void testPartialMatch() throws InvocationTargetException, IllegalAccessException {
+    public void testPartialMatch() {
         String requestPath = "_plugins/security/api/x/y";
         String handlerPath = "_plugins/security/api/x/z";
-        assertFalse((Boolean) restPathMatches.invoke(securityRestFilter, requestPath, handlerPath));
+        assertFalse(RestRouteMatcher.pathMatches(requestPath, handlerPath));
     }
 
     @Test
-    public void testNamedParamsMatch() throws InvocationTargetException, IllegalAccessException {
+    public void testNamedParamsMatch() {
         String requestPath = "_plugins/security/api/123/y";
         String handlerPath = "_plugins/security/api/{id}/y";
-        assertTrue((Boolean) restPathMatches.invoke(securityRestFilter, requestPath, handlerPath));
+        assertTrue(RestRouteMatcher.pathMatches(requestPath, handlerPath));
     }
 
     @Test
-    public void testDifferentPathLength() throws InvocationTargetException, IllegalAccessException {
+    public void testDifferentPathLength() {
         String requestPath = "_plugins/security/api/x/y/z";
         String handlerPath = "_plugins/security/api/x/y";
-        assertFalse((Boolean) restPathMatches.invoke(securityRestFilter, requestPath, handlerPath));
+        assertFalse(RestRouteMatcher.pathMatches(requestPath, handlerPath));
     }
 
     @Test
-    public void testDifferentPathSegments() throws InvocationTargetException, IllegalAccessException {
+    public void testDifferentPathSegments() {
         String requestPath = "_plugins/security/api/a/b";
         String handlerPath = "_plugins/security/api/x/y";
-        assertFalse((Boolean) restPathMatches.invoke(securityRestFilter, requestPath, handlerPath));
+        assertFalse(RestRouteMatcher.pathMatches(requestPath, handlerPath));
     }
 
     @Test
-    public void testRequestPathWithNamedParam() throws InvocationTargetException, IllegalAccessException {
+    public void testRequestPathWithNamedParam() {
         String requestPath = "_plugins/security/api/123/y";
         String handlerPath = "_plugins/security/api/{id}/z";
-        assertFalse((Boolean) restPathMatches.invoke(securityRestFilter, requestPath, handlerPath));
+        assertFalse(RestRouteMatcher.pathMatches(requestPath, handlerPath));
     }
 
     @Test
-    public void testRequestPathMismatch() throws InvocationTargetException, IllegalAccessException {
+    public void testRequestPathMismatch() {
         String requestPath = "_plugins/security/api/x/y";
         String handlerPath = "_plugins/security/api/z/y";
-        assertFalse((Boolean) restPathMatches.invoke(securityRestFilter, requestPath, handlerPath));
+        assertFalse(RestRouteMatcher.pathMatches(requestPath, handlerPath));
     }
 
     @Test
-    public void testRequestPathWithExtraSegments() throws InvocationTargetException, IllegalAccessException {
+    public void testRequestPathWithExtraSegments() {
         String requestPath = "_plugins/security/api/x/y/z";
         String handlerPath = "_plugins/security/api/x/y";
-        assertFalse((Boolean) restPathMatches.invoke(securityRestFilter, requestPath, handlerPath));
+        assertFalse(RestRouteMatcher.pathMatches(requestPath, handlerPath));
+    }
+
+    @Test
+    public void testTrailingSlash() {
+        assertTrue(RestRouteMatcher.pathMatches("/_plugins/security/api/x/y/", "/_plugins/security/api/x/y"));
+        assertTrue(RestRouteMatcher.pathMatches("/_plugins/security/api/x/y", "/_plugins/security/api/x/y/"));
+        assertFalse(RestRouteMatcher.pathMatches("/_plugins/security/api/x//y", "/_plugins/security/api/x/y"));
+    }
+
+    @Test
+    public void testNamedParamMatchesEmptySegment() {
+        assertTrue(RestRouteMatcher.pathMatches("/_plugins/security/api//y", "/_plugins/security/api/{id}/y"));
+    }
+
+    @Test
+    public void testFirstMatchingRouteOfMethod() {
+        Route byId = new Route(Method.GET, "/_plugins/security/api/{id}/y");
+        Route literal = new Route(Method.GET, "/_plugins/security/api/x/y");
+        Route put = new Route(Method.PUT, "/_plugins/security/api/x/y");
+        RestRouteMatcher matcher = new RestRouteMatcher(List.of(byId, literal, put));
+
+        assertEquals(byId, matcher.match(Method.GET, "/_plugins/security/api/x/y").get());
+        assertEquals(put, matcher.match(Method.PUT, "/_plugins/security/api/x/y").get());
+        assertFalse(matcher.match(Method.PUT, "/_plugins/security/api/z/y").isPresent());
+        assertFalse(matcher.match(Method.DELETE, "/_plugins/security/api/x/y").isPresent());
+
+        matcher = new RestRouteMatcher(List.of(literal, byId));
+        assertEquals(literal, matcher.match(Method.GET, "/_plugins/security/api/x/y").get());
+        assertEquals(byId, matcher.match(Method.GET, "/_plugins/security/api/z/y").get());
     }
 }
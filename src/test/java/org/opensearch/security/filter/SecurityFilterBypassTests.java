@@ -0,0 +1,121 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.filter;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.opensearch.action.search.SearchAction;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.ActionFilterChain;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.security.auditlog.AuditLog;
+import org.opensearch.security.configuration.AdminDNs;
+import org.opensearch.security.configuration.CompatConfig;
+import org.opensearch.security.configuration.DlsFlsRequestCacheKey;
+import org.opensearch.security.configuration.DlsFlsRequestValve;
+import org.opensearch.security.http.XFFResolver;
+import org.opensearch.security.privileges.PrivilegesEvaluator;
+import org.opensearch.security.resolver.IndexResolverReplacer;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.SecurityStats;
+import org.opensearch.security.user.User;
+import org.opensearch.threadpool.ThreadPool;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+public class SecurityFilterBypassTests {
+
+    private final ThreadPool threadPool = new ThreadPool(Settings.builder().put("node.name", "mock").build());
+
+    @After
+    public void tearDown() {
+        ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void clientFingerprintIsRemovedForAdminRequests() throws Exception {
+        final AdminDNs adminDns = mock(AdminDNs.class);
+        when(adminDns.isAdmin(any())).thenReturn(true);
+        final DlsFlsRequestValve dlsFlsValve = mock(DlsFlsRequestValve.class);
+        final ActionFilterChain<SearchRequest, SearchResponse> chain = mock(ActionFilterChain.class);
+        final ActionListener<SearchResponse> listener = mock(ActionListener.class);
+
+        final SearchRequest request = new SearchRequest("index").source(
+            new SearchSourceBuilder().ext(List.of(clientFingerprint("forged")))
+        );
+        threadPool.getThreadContext().putTransient(ConfigConstants.OPENDISTRO_SECURITY_USER, new User("admin"));
+
+        filter(adminDns, dlsFlsValve).apply(null, SearchAction.NAME, request, listener, chain);
+
+        verify(chain).proceed(null, SearchAction.NAME, request, listener);
+        verifyNoInteractions(dlsFlsValve);
+        assertThat(request.source().ext(), empty());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void serverFingerprintIsKept() {
+        final AdminDNs adminDns = mock(AdminDNs.class);
+        when(adminDns.isAdmin(any())).thenReturn(true);
+        final ActionFilterChain<SearchRequest, SearchResponse> chain = mock(ActionFilterChain.class);
+        final ActionListener<SearchResponse> listener = mock(ActionListener.class);
+
+        final DlsFlsRequestCacheKey serverFingerprint = new DlsFlsRequestCacheKey("server");
+        final SearchRequest request = new SearchRequest("index").source(new SearchSourceBuilder().ext(List.of(serverFingerprint)));
+        threadPool.getThreadContext().putTransient(ConfigConstants.OPENDISTRO_SECURITY_USER, new User("admin"));
+
+        filter(adminDns, mock(DlsFlsRequestValve.class)).apply(null, SearchAction.NAME, request, listener, chain);
+
+        verify(chain).proceed(null, SearchAction.NAME, request, listener);
+        assertThat(request.source().ext(), contains(serverFingerprint));
+    }
+
+    private SecurityFilter filter(AdminDNs adminDns, DlsFlsRequestValve dlsFlsValve) {
+        return new SecurityFilter(
+            Settings.EMPTY,
+            mock(PrivilegesEvaluator.class),
+            adminDns,
+            dlsFlsValve,
+            mock(AuditLog.class),
+            threadPool,
+            mock(ClusterService.class),
+            mock(CompatConfig.class),
+            mock(IndexResolverReplacer.class),
+            mock(XFFResolver.class),
+            new SecurityStats(Settings.EMPTY)
+        );
+    }
+
+    private static DlsFlsRequestCacheKey clientFingerprint(String fingerprint) throws Exception {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            new DlsFlsRequestCacheKey(fingerprint).writeTo(out);
+            return new DlsFlsRequestCacheKey(out.bytes().streamInput());
+        }
+    }
+}
@@ -32,6 +32,7 @@ import org.opensearch.security.http.XFFResolver;
 import org.opensearch.security.privileges.PrivilegesEvaluator;
 import org.opensearch.security.resolver.IndexResolverReplacer;
 import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.SecurityStats;
 import org.opensearch.security.support.WildcardMatcher;
 import org.opensearch.threadpool.ThreadPool;
 
@@ -86,7 +87,8 @@ public class SecurityFilterTests {
             mock(ClusterService.class),
             mock(CompatConfig.class),
             mock(IndexResolverReplacer.class),
-            mock(XFFResolver.class)
+            mock(XFFResolver.class),
+            new SecurityStats(settings)
         );
         assertThat(expected, equalTo(filter.getImmutableIndicesMatcher()));
     }
@@ -109,7 +111,8 @@ public class SecurityFilterTests {
             mock(ClusterService.class),
             mock(CompatConfig.class),
             mock(IndexResolverReplacer.class),
-            mock(XFFResolver.class)
+            mock(XFFResolver.class),
+            new SecurityStats(settings)
         );
 
         // Act
@@ -31,6 +31,7 @@ import org.opensearch.security.configuration.AdminDNs;
 import org.opensearch.security.configuration.CompatConfig;
 import org.opensearch.security.privileges.RestLayerPrivilegesEvaluator;
 import org.opensearch.security.ssl.transport.PrincipalExtractor;
+import org.opensearch.security.support.SecurityStats;
 import org.opensearch.threadpool.ThreadPool;
 
 import static org.junit.Assert.assertFalse;
@@ -69,7 +70,8 @@ public class SecurityRestFilterUnitTests {
             mock(PrincipalExtractor.class),
             Settings.EMPTY,
             mock(Path.class),
-            mock(CompatConfig.class)
+            mock(CompatConfig.class),
+            new SecurityStats(Settings.EMPTY)
         );
     }
 
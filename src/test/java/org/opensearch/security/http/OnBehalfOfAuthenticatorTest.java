@@ -455,6 +455,31 @@ public class OnBehalfOfAuthenticatorTest {
         assertTrue(credentials.getSecurityRoles().containsAll(expectedRoles));
     }
 
+    @Test
+    public void testRolesDecryptionWithCache() {
+        final String encryptedRole = new EncryptionDecryptionUtil(claimsEncryptionKey).encrypt("admin,developer");
+        final OnBehalfOfAuthenticator jwtAuth = new OnBehalfOfAuthenticator(
+            Settings.builder().put(defaultSettings()).put("decrypted_roles_cache_size", 100).build(),
+            clusterName
+        );
+        final String jwsToken = Jwts.builder()
+            .setIssuer(clusterName)
+            .setSubject("Test User")
+            .setAudience("audience_0")
+            .claim("er", encryptedRole)
+            .signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(signingKeyB64Encoded)), SignatureAlgorithm.HS512)
+            .compact();
+        final Map<String, String> headers = Map.of("Authorization", "Bearer " + jwsToken);
+
+        final AuthCredentials first = jwtAuth.extractCredentials(new FakeRestRequest(headers, new HashMap<>()).asSecurityRequest(), null);
+        final AuthCredentials second = jwtAuth.extractCredentials(new FakeRestRequest(headers, new HashMap<>()).asSecurityRequest(), null);
+
+        assertNotNull(first);
+        assertNotNull(second);
+        assertThat(first.getSecurityRoles(), equalTo(Set.of("admin", "developer")));
+        assertThat(second.getSecurityRoles(), equalTo(Set.of("admin", "developer")));
+    }
+
     @Test
     public void testNullClaim() throws Exception {
 
@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.http;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class RemoteIpDetectorTest {
+
+    @Test
+    public void defaultInternalProxies() {
+        final RemoteIpDetector detector = new RemoteIpDetector();
+
+        assertThat(detector.isInternalProxy("10.1.2.3"), is(true));
+        assertThat(detector.isInternalProxy("172.31.0.1"), is(true));
+        assertThat(detector.isInternalProxy("172.32.0.1"), is(false));
+        assertThat(detector.isInternalProxy("8.8.8.8"), is(false));
+        // the default is a regular expression over IPv4 literals
+        assertThat(detector.isInternalProxy("::ffff:10.1.2.3"), is(false));
+        assertThat(detector.isInternalProxy("::ffff:a01:203"), is(false));
+    }
+
+    @Test
+    public void cidrInternalProxies() {
+        final RemoteIpDetector detector = new RemoteIpDetector();
+        detector.setInternalProxies("10.0.0.0/8, fd00::/8");
+
+        assertThat(detector.isInternalProxy("10.1.2.3"), is(true));
+        assertThat(detector.isInternalProxy("fd00::1"), is(true));
+        assertThat(detector.isInternalProxy("11.0.0.1"), is(false));
+        assertThat(detector.isInternalProxy("::ffff:10.1.2.3"), is(false));
+        assertThat(detector.isInternalProxy("::ffff:a01:203"), is(false));
+        assertThat(detector.isInternalProxy("not-an-ip"), is(false));
+    }
+
+    @Test
+    public void regexInternalProxies() {
+        final RemoteIpDetector detector = new RemoteIpDetector();
+        detector.setInternalProxies("192\\.168\\.0\\.10|192\\.168\\.0\\.11");
+
+        assertThat(detector.isInternalProxy("192.168.0.10"), is(true));
+        assertThat(detector.isInternalProxy("192.168.0.12"), is(false));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.privileges;
+
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.security.securityconf.ConfigModel;
+import org.opensearch.security.securityconf.SecurityRoles;
+import org.opensearch.security.user.User;
+
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class MappedRolesTest {
+
+    @Mock
+    private ConfigModel configModel;
+    @Mock
+    private SecurityRoles securityRoles;
+
+    private final ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+    private final User user = new User("test_user");
+
+    @Before
+    public void setUp() {
+        when(configModel.mapSecurityRoles(user, null)).thenReturn(Set.of("role_a", "role_b"));
+    }
+
+    @Test
+    public void testMappingIsReusedWithinThreadContext() {
+        when(configModel.getSecurityRoles()).thenReturn(securityRoles);
+        when(securityRoles.filter(Set.of("role_a", "role_b"))).thenReturn(securityRoles);
+
+        final MappedRoles first = MappedRoles.of(threadContext, configModel, user, null);
+        final MappedRoles second = MappedRoles.of(threadContext, configModel, user, null);
+
+        assertThat(second, sameInstance(first));
+        assertThat(second.getRoles(), is(Set.of("role_a", "role_b")));
+        verify(configModel, times(1)).mapSecurityRoles(user, null);
+
+        assertThat(MappedRoles.current(threadContext, configModel, Set.of("role_a", "role_b")), sameInstance(first));
+        assertThat(first.getSecurityRoles(), sameInstance(securityRoles));
+        assertThat(second.getSecurityRoles(), sameInstance(securityRoles));
+        verify(securityRoles, times(1)).filter(Set.of("role_a", "role_b"));
+    }
+
+    @Test
+    public void testMappingIsNotReusedForOtherConfigModelOrUser() {
+        final MappedRoles first = MappedRoles.of(threadContext, configModel, user, null);
+
+        final ConfigModel reloaded = mock(ConfigModel.class);
+        when(reloaded.mapSecurityRoles(user, null)).thenReturn(Set.of("role_c"));
+        final MappedRoles afterReload = MappedRoles.of(threadContext, reloaded, user, null);
+        assertThat(afterReload.getRoles(), is(Set.of("role_c")));
+
+        final User otherUser = new User("test_user");
+        final MappedRoles forOtherUser = MappedRoles.of(threadContext, configModel, otherUser, null);
+        assertThat(forOtherUser.getRoles(), is(Set.of("role_a", "role_b")));
+        verify(configModel, times(2)).mapSecurityRoles(user, null);
+
+        // the transient still holds the first mapping
+        assertThat(MappedRoles.of(threadContext, configModel, user, null), sameInstance(first));
+        assertThat(MappedRoles.current(threadContext, reloaded, Set.of("role_c")), nullValue());
+        assertThat(MappedRoles.current(threadContext, configModel, Set.of("role_a")), nullValue());
+    }
+}
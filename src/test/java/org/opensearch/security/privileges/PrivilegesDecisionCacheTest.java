@@ -0,0 +1,128 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.privileges;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import org.opensearch.action.support.IndicesOptions;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.security.resolver.IndexResolverReplacer.Resolved;
+import org.opensearch.security.securityconf.SecurityRoles;
+import org.opensearch.security.user.User;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PrivilegesDecisionCacheTest {
+
+    private static final Object CONFIG = new Object();
+    private static final Set<String> ROLES = ImmutableSet.of("reader");
+    private static final Set<String> PERMISSIONS = ImmutableSet.of("indices:data/read/search");
+    private static final Metadata METADATA = Metadata.builder().clusterUUID("uuid").version(1).build();
+
+    private final PrivilegesDecisionCache cache = new PrivilegesDecisionCache(100);
+    private final AtomicInteger computations = new AtomicInteger();
+
+    @Test
+    public void cachesCheckResult() {
+        final SecurityRoles securityRoles = securityRoles(false);
+
+        assertThat(check(securityRoles, new User("a"), resolved("logs"), METADATA), equalTo(true));
+        assertThat(check(securityRoles, new User("b"), resolved("logs"), METADATA), equalTo(true));
+        assertThat(computations.get(), equalTo(1));
+
+        check(securityRoles, new User("a"), resolved("other"), METADATA);
+        check(securityRoles, new User("a"), resolved("logs"), Metadata.builder(METADATA).version(2).build());
+        assertThat(computations.get(), equalTo(3));
+
+        final Map<String, Object> stats = cache.getStats();
+        assertThat(stats.get("hit_count"), equalTo(1L));
+        assertThat(stats.get("miss_count"), equalTo(3L));
+    }
+
+    @Test
+    public void userIsPartOfKeyIfIndexPatternsUseAttributes() {
+        final SecurityRoles securityRoles = securityRoles(true);
+        final User user = new User("a");
+        user.addAttributes(Map.of("attr.team", "blue"));
+
+        check(securityRoles, user, resolved("logs"), METADATA);
+        check(securityRoles, user, resolved("logs"), METADATA);
+        assertThat(computations.get(), equalTo(1));
+
+        check(securityRoles, new User("b"), resolved("logs"), METADATA);
+        user.addAttributes(Map.of("attr.team", "red"));
+        check(securityRoles, user, resolved("logs"), METADATA);
+        assertThat(computations.get(), equalTo(3));
+    }
+
+    @Test
+    public void indicesOptionsArePartOfKey() {
+        final SecurityRoles securityRoles = securityRoles(false);
+
+        check(securityRoles, new User("a"), resolved("logs*", IndicesOptions.strictExpandOpen()), METADATA);
+        check(securityRoles, new User("a"), resolved("logs*", IndicesOptions.strictExpandOpen()), METADATA);
+        assertThat(computations.get(), equalTo(1));
+
+        check(securityRoles, new User("a"), resolved("logs*", IndicesOptions.strictExpandHidden()), METADATA);
+        check(securityRoles, new User("a"), resolved("logs*", IndicesOptions.strictExpandOpenAndForbidClosed()), METADATA);
+        check(securityRoles, new User("a"), resolved("logs*", IndicesOptions.lenientExpand()), METADATA);
+        assertThat(computations.get(), equalTo(4));
+    }
+
+    @Test
+    public void invalidateAll() {
+        final SecurityRoles securityRoles = securityRoles(false);
+        check(securityRoles, new User("a"), resolved("logs"), METADATA);
+        cache.invalidateAll();
+        check(securityRoles, new User("a"), resolved("logs"), METADATA);
+        assertThat(computations.get(), equalTo(2));
+    }
+
+    private boolean check(SecurityRoles securityRoles, User user, Resolved resolved, Metadata metadata) {
+        return cache.get(
+            PrivilegesDecisionCache.Check.INDEX_PERMISSIONS,
+            CONFIG,
+            ROLES,
+            securityRoles,
+            user,
+            PERMISSIONS,
+            resolved,
+            metadata,
+            () -> {
+                computations.incrementAndGet();
+                return true;
+            }
+        );
+    }
+
+    private static SecurityRoles securityRoles(boolean userAttributes) {
+        final SecurityRoles securityRoles = mock(SecurityRoles.class);
+        when(securityRoles.hasUserAttributesInIndexPatterns()).thenReturn(userAttributes);
+        return securityRoles;
+    }
+
+    private static Resolved resolved(String index) {
+        return resolved(index, IndicesOptions.strictExpandOpen());
+    }
+
+    private static Resolved resolved(String index, IndicesOptions indicesOptions) {
+        return new Resolved(ImmutableSet.of(), ImmutableSet.of(index), ImmutableSet.of(index), ImmutableSet.of(), indicesOptions);
+    }
+}
@@ -13,9 +13,12 @@ import java.util.List;
 import com.google.common.collect.ImmutableList;
 import org.junit.Test;
 
+import org.opensearch.security.support.SecurityStats;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.opensearch.security.privileges.PrivilegesEvaluator.DNFOF_MATCHER;
+import static org.opensearch.security.privileges.PrivilegesEvaluator.denialReason;
 import static org.opensearch.security.privileges.PrivilegesEvaluator.isClusterPerm;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -128,4 +131,31 @@ public class PrivilegesEvaluatorUnitTest {
             assertThat(DNFOF_MATCHER.test(permission), equalTo(true));
         }
     }
+
+    @Test
+    public void testDenialReason_missingPrivileges() {
+        final PrivilegesEvaluatorResponse presponse = new PrivilegesEvaluatorResponse();
+
+        assertThat(denialReason(presponse, "cluster:monitor/health"), equalTo("missing_cluster_privileges"));
+        assertThat(denialReason(presponse, "indices:data/write/reindex"), equalTo("missing_cluster_privileges"));
+        assertThat(denialReason(presponse, "indices:data/read/search"), equalTo("missing_index_privileges"));
+    }
+
+    @Test
+    public void testDenialReason_completedByEvaluator() {
+        final PrivilegesEvaluatorResponse presponse = new PrivilegesEvaluatorResponse();
+        presponse.completedBy = SecurityStats.Stage.SYSTEM_INDEX_EVALUATION;
+
+        assertThat(denialReason(presponse, "indices:data/read/search"), equalTo("system_index_evaluation"));
+        assertThat(denialReason(presponse, "cluster:monitor/health"), equalTo("system_index_evaluation"));
+    }
+
+    @Test
+    public void testDenialReason_injectedRoles() {
+        final PrivilegesEvaluatorResponse presponse = new PrivilegesEvaluatorResponse();
+        presponse.missingSecurityRoles.add("injected_role");
+        presponse.completedBy = SecurityStats.Stage.PROTECTED_INDEX_EVALUATION;
+
+        assertThat(denialReason(presponse, "indices:data/read/search"), equalTo("injected_roles"));
+    }
 }
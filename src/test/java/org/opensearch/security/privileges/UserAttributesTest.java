@@ -0,0 +1,64 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.privileges;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.opensearch.security.user.User;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class UserAttributesTest {
+
+    private static User user() {
+        final User user = new User("alice", List.of("backend"), null);
+        user.addSecurityRoles(List.of("role"));
+        user.addAttributes(Map.of("attr.jwt.dept", "sales"));
+        return user;
+    }
+
+    @Test
+    public void rendersPlaceholders() {
+        final User user = user();
+        assertThat(UserAttributes.replaceProperties("logs-${user.name}-${user_name}", user), equalTo("logs-alice-alice"));
+        assertThat(UserAttributes.replaceProperties("${user.roles}|${user_securityRoles}", user), equalTo("\"backend\"|\"role\""));
+        assertThat(UserAttributes.replaceProperties("${attr.jwt.dept}/${attr_jwt_dept}", user), equalTo("sales/sales"));
+    }
+
+    @Test
+    public void keepsUnknownPlaceholders() {
+        assertThat(UserAttributes.replaceProperties("a-${unknown}-${b", user()), equalTo("a-${unknown}-${b"));
+        assertThat(UserAttributes.replaceProperties("${a${user.name}}", user()), equalTo("${aalice}"));
+    }
+
+    @Test
+    public void doesNotRenderValuesAgain() {
+        final User user = new User("${attr.jwt.dept}");
+        user.addAttributes(Map.of("attr.jwt.dept", "sales"));
+        assertThat(UserAttributes.replaceProperties("${user.name}", user), equalTo("${attr.jwt.dept}"));
+    }
+
+    @Test
+    public void templateWithoutPlaceholdersIsReturnedAsIs() {
+        final String source = "logs-*";
+        final UserAttributes.Template template = UserAttributes.Template.compile(source);
+        assertThat(template.hasPlaceholders(), is(false));
+        assertThat(template.render(user()), sameInstance(source));
+        assertThat(UserAttributes.Template.compile("${user.name}").render(null), equalTo("${user.name}"));
+    }
+}
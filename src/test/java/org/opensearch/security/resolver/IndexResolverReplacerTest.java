@@ -0,0 +1,215 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.resolver;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.opensearch.Version;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.search.MultiSearchRequest;
+import org.opensearch.action.search.PitService;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.support.IndicesOptions;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.AliasMetadata;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.extensions.ExtensionsManager;
+import org.opensearch.indices.IndicesService;
+import org.opensearch.repositories.RepositoriesService;
+import org.opensearch.security.OpenSearchSecurityPlugin;
+import org.opensearch.security.configuration.ClusterInfoHolder;
+import org.opensearch.security.resolver.IndexResolverReplacer.Resolved;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.transport.RemoteClusterService;
+import org.opensearch.transport.TransportService;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class IndexResolverReplacerTest {
+
+    private final AtomicReference<ClusterState> state = new AtomicReference<>();
+    private IndexResolverReplacer cached;
+    private IndexResolverReplacer uncached;
+
+    @Before
+    public void setUp() {
+        final TransportService transportService = mock(TransportService.class);
+        when(transportService.getRemoteClusterService()).thenReturn(mock(RemoteClusterService.class));
+        // CS-SUPPRESS-SINGLE: RegexpSingleline Extensions manager used for creating a mock
+        new OpenSearchSecurityPlugin.GuiceHolder(
+            mock(RepositoriesService.class),
+            transportService,
+            mock(IndicesService.class),
+            mock(PitService.class),
+            mock(ExtensionsManager.class)
+        );
+        // CS-ENFORCE-SINGLE
+
+        final ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.state()).thenAnswer(invocation -> state.get());
+        final IndexNameExpressionResolver resolver = new IndexNameExpressionResolver(new ThreadContext(Settings.EMPTY));
+        final ClusterInfoHolder clusterInfoHolder = mock(ClusterInfoHolder.class);
+
+        cached = new IndexResolverReplacer(Settings.EMPTY, resolver, clusterService, clusterInfoHolder);
+        uncached = new IndexResolverReplacer(
+            Settings.builder().put(ConfigConstants.SECURITY_INDEX_RESOLUTION_CACHE_MAX_SIZE, 0).build(),
+            resolver,
+            clusterService,
+            clusterInfoHolder
+        );
+    }
+
+    @Test
+    public void metadataVersionChange() {
+        state.set(clusterState(1, index("logs-1")));
+        assertThat(assertSameResolution("logs*", IndicesOptions.strictExpandOpen()), equalTo(Set.of("logs-1")));
+
+        state.set(clusterState(2, index("logs-1"), index("logs-2")));
+        assertThat(assertSameResolution("logs*", IndicesOptions.strictExpandOpen()), equalTo(Set.of("logs-1", "logs-2")));
+
+        state.set(clusterState(3, index("logs-2")));
+        assertThat(assertSameResolution("logs*", IndicesOptions.strictExpandOpen()), equalTo(Set.of("logs-2")));
+    }
+
+    @Test
+    public void aliasAddAndRemove() {
+        state.set(clusterState(1, index("logs-1")));
+        assertSameResolution("logs", IndicesOptions.lenientExpandOpen());
+
+        state.set(clusterState(2, index("logs-1").putAlias(AliasMetadata.builder("logs"))));
+        assertThat(assertSameResolution("logs", IndicesOptions.lenientExpandOpen()), equalTo(Set.of("logs-1")));
+        assertThat(cached.resolveRequest(searchRequest("logs", IndicesOptions.lenientExpandOpen())).getAliases(), equalTo(Set.of("logs")));
+
+        state.set(clusterState(3, index("logs-1")));
+        assertThat(assertSameResolution("logs", IndicesOptions.lenientExpandOpen()), not(equalTo(Set.of("logs-1"))));
+        assertThat(cached.resolveRequest(searchRequest("logs", IndicesOptions.lenientExpandOpen())).getAliases(), equalTo(Set.of()));
+    }
+
+    @Test
+    public void dateMathExpression() {
+        final String today = DateTimeFormatter.ofPattern("yyyy.MM.dd", Locale.ROOT).format(ZonedDateTime.now(ZoneOffset.UTC));
+        state.set(clusterState(1, index("logs-" + today), index("logs-2000.01.01")));
+
+        assertThat(assertSameResolution("<logs-{now/d}>", IndicesOptions.strictExpandOpen()), equalTo(Set.of("logs-" + today)));
+    }
+
+    @Test
+    public void differentIndicesOptionsForSameExpression() {
+        state.set(
+            clusterState(
+                1,
+                index("logs-open"),
+                index("logs-closed").state(IndexMetadata.State.CLOSE),
+                index("logs-hidden").settings(indexSettings().put(IndexMetadata.SETTING_INDEX_HIDDEN, true))
+            )
+        );
+
+        final Set<String> open = assertSameResolution("logs*", IndicesOptions.strictExpandOpen());
+        final Set<String> openAndClosed = assertSameResolution("logs*", IndicesOptions.strictExpand());
+        final Set<String> openAndHidden = assertSameResolution("logs*", IndicesOptions.strictExpandHidden());
+
+        assertThat(open, equalTo(Set.of("logs-open")));
+        assertThat(openAndClosed, equalTo(Set.of("logs-open", "logs-closed")));
+        assertThat(openAndHidden, equalTo(Set.of("logs-open", "logs-closed", "logs-hidden")));
+
+        // the cached results of one indices options are never used for another one
+        assertThat(assertSameResolution("logs*", IndicesOptions.strictExpandOpen()), equalTo(open));
+    }
+
+    @Test
+    public void distinctExpressionsOfMultiRequestsAreResolvedOnce() {
+        state.set(clusterState(1, index("logs-1"), index("logs-2"), index("metrics")));
+
+        final BulkRequest bulkRequest = new BulkRequest();
+        final MultiSearchRequest multiSearchRequest = new MultiSearchRequest();
+        for (int i = 0; i < 100; i++) {
+            bulkRequest.add(new IndexRequest(i % 2 == 0 ? "logs-1" : "metrics").id(String.valueOf(i)).source(Map.of("n", i)));
+            multiSearchRequest.add(searchRequest(i % 2 == 0 ? "logs*" : "metrics", IndicesOptions.strictExpandOpen()));
+        }
+
+        final Resolved bulk = cached.resolveRequest(bulkRequest);
+        assertThat(bulk.getAllIndices(), equalTo(Set.of("logs-1", "metrics")));
+        assertThat(cached.getResolutionCacheStats().get("miss_count"), equalTo(2L));
+        assertThat(cached.getResolutionCacheStats().get("hit_count"), equalTo(0L));
+
+        final Resolved multiSearch = cached.resolveRequest(multiSearchRequest);
+        assertThat(multiSearch.getAllIndices(), equalTo(Set.of("logs-1", "logs-2", "metrics")));
+        assertThat(cached.getResolutionCacheStats().get("miss_count"), equalTo(4L));
+        assertThat(cached.getResolutionCacheStats().get("hit_count"), equalTo(0L));
+
+        // the batched resolution is the same as the one of the single items
+        assertThat(multiSearch, equalTo(uncached.resolveRequest(multiSearchRequest)));
+        assertThat(bulk, equalTo(uncached.resolveRequest(bulkRequest)));
+    }
+
+    /**
+     * Resolves the expression with and without cache, twice each, and checks that all results are the same.
+     *
+     * @return the resolved indices
+     */
+    private Set<String> assertSameResolution(String expression, IndicesOptions indicesOptions) {
+        final Resolved expected = uncached.resolveRequest(searchRequest(expression, indicesOptions));
+        final long hits = (long) cached.getResolutionCacheStats().get("hit_count");
+
+        for (int i = 0; i < 2; i++) {
+            final Resolved actual = cached.resolveRequest(searchRequest(expression, indicesOptions));
+            assertThat(actual, equalTo(expected));
+            assertThat(actual.getAliases(), equalTo(expected.getAliases()));
+            assertThat(actual.getAllIndices(), equalTo(expected.getAllIndices()));
+            assertThat(actual.getRemoteIndices(), equalTo(expected.getRemoteIndices()));
+        }
+        assertThat((long) cached.getResolutionCacheStats().get("hit_count"), greaterThan(hits));
+
+        return expected.getAllIndices();
+    }
+
+    private static SearchRequest searchRequest(String expression, IndicesOptions indicesOptions) {
+        return new SearchRequest(expression).indicesOptions(indicesOptions);
+    }
+
+    private static Settings.Builder indexSettings() {
+        return Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT);
+    }
+
+    private static IndexMetadata.Builder index(String name) {
+        return IndexMetadata.builder(name).settings(indexSettings()).numberOfShards(1).numberOfReplicas(0);
+    }
+
+    private static ClusterState clusterState(long version, IndexMetadata.Builder... indices) {
+        final Metadata.Builder metadata = Metadata.builder().clusterUUID("uuid").version(version);
+        for (IndexMetadata.Builder index : indices) {
+            metadata.put(index);
+        }
+        return ClusterState.builder(ClusterName.DEFAULT).metadata(metadata).build();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+package org.opensearch.security.securityconf;
+
+import java.net.InetAddress;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.security.securityconf.impl.CType;
+import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.ReverseDnsCache;
+import org.opensearch.security.user.User;
+
+import org.mockito.Mockito;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class ConfigModelV7RoleMappingTest {
+
+    static final String ROLES = "{"
+        + "\"_meta\": {\"type\": \"roles\", \"config_version\": 2},"
+        + "\"role_user\": {}, \"role_dev\": {}, \"role_ops\": {}, \"role_host\": {}"
+        + "}";
+
+    static final String ROLES_MAPPING = "{"
+        + "\"_meta\": {\"type\": \"rolesmapping\", \"config_version\": 2},"
+        + "\"role_user\": {\"users\": [\"alice\"]},"
+        + "\"role_dev\": {\"backend_roles\": [\"dev*\"]},"
+        + "\"role_ops\": {\"and_backend_roles\": [\"dev\", \"ops\"]},"
+        + "\"role_host\": {\"hosts\": [\"10.0.0.0/8\"]}"
+        + "}";
+
+    static final String EMPTY_ACTION_GROUPS = "{\"_meta\": {\"type\": \"actiongroups\", \"config_version\": 2}}";
+    static final String EMPTY_TENANTS = "{\"_meta\": {\"type\": \"tenants\", \"config_version\": 2}}";
+
+    final ConfigModel configModel;
+
+    public ConfigModelV7RoleMappingTest() throws Exception {
+        configModel = createConfigModel(Settings.builder().put(ConfigConstants.SECURITY_HOSTS_CIDR_MATCHING_ENABLED, true).build());
+    }
+
+    static ConfigModel createConfigModel(final Settings settings) throws Exception {
+        final DynamicConfigModel dcm = Mockito.mock(DynamicConfigModel.class);
+        Mockito.when(dcm.getHostsResolverMode()).thenReturn("ip-only");
+        return new ConfigModelV7(
+            SecurityDynamicConfiguration.fromJson(ROLES, CType.ROLES, 2, 0, 0),
+            SecurityDynamicConfiguration.fromJson(ROLES_MAPPING, CType.ROLESMAPPING, 2, 0, 0),
+            SecurityDynamicConfiguration.fromJson(EMPTY_ACTION_GROUPS, CType.ACTIONGROUPS, 2, 0, 0),
+            SecurityDynamicConfiguration.fromJson(EMPTY_TENANTS, CType.TENANTS, 2, 0, 0),
+            dcm,
+            settings,
+            new ReverseDnsCache(Settings.EMPTY)
+        );
+    }
+
+    @Test
+    public void rolesAreMapped() throws Exception {
+        final User alice = new User("alice");
+        alice.addRoles(ImmutableSet.of("dev", "ops"));
+
+        assertThat(configModel.mapSecurityRoles(alice, null), equalTo(ImmutableSet.of("role_user", "role_dev", "role_ops")));
+        assertThat(
+            configModel.mapSecurityRoles(alice, new TransportAddress(InetAddress.getByName("10.1.2.3"), 9300)),
+            equalTo(ImmutableSet.of("role_user", "role_dev", "role_ops", "role_host"))
+        );
+        assertThat(
+            configModel.mapSecurityRoles(alice, new TransportAddress(InetAddress.getByName("192.168.1.1"), 9300)),
+            equalTo(ImmutableSet.of("role_user", "role_dev", "role_ops"))
+        );
+    }
+
+    @Test
+    public void cidrHostsDoNotMatchByDefault() throws Exception {
+        final ConfigModel withoutCidrMatching = createConfigModel(Settings.EMPTY);
+        final User alice = new User("alice");
+
+        assertThat(
+            withoutCidrMatching.mapSecurityRoles(alice, new TransportAddress(InetAddress.getByName("10.1.2.3"), 9300)),
+            equalTo(ImmutableSet.of("role_user"))
+        );
+    }
+
+    @Test
+    public void resultIsCachedPerUserFingerprint() {
+        final User first = new User("bob");
+        first.addRoles(ImmutableSet.of("developer"));
+        final User second = new User("bob");
+        second.addRoles(ImmutableSet.of("developer"));
+
+        final Set<String> mapped = configModel.mapSecurityRoles(first, null);
+        assertThat(configModel.mapSecurityRoles(second, null), sameInstance(mapped));
+        assertThat(configModel.getRoleMappingCacheStats().get("hit_count"), equalTo(1L));
+
+        // other backend roles are not served from the cache
+        second.addRoles(ImmutableSet.of("ops"));
+        assertThat(configModel.mapSecurityRoles(second, null), equalTo(ImmutableSet.of("role_dev")));
+        assertThat(configModel.getRoleMappingCacheStats().get("miss_count"), equalTo(2L));
+    }
+
+    @Test
+    public void equalResultsAreInterned() {
+        final User carol = new User("carol");
+        carol.addRoles(ImmutableSet.of("dev_team_1"));
+        final User dave = new User("dave");
+        dave.addRoles(ImmutableSet.of("dev_team_2"));
+
+        assertThat(configModel.mapSecurityRoles(dave, null), sameInstance(configModel.mapSecurityRoles(carol, null)));
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+package org.opensearch.security.securityconf;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.securityconf.impl.CType;
+import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
+import org.opensearch.security.support.ReverseDnsCache;
+
+import org.mockito.Mockito;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class ConfigModelV7SecurityRolesTest {
+
+    static final String ROLES = "{"
+        + "\"_meta\": {\"type\": \"roles\", \"config_version\": 2},"
+        + "\"monitor\": {\"cluster_permissions\": [\"cluster:monitor/*\"]},"
+        + "\"all\": {\"cluster_permissions\": [\"*\"]},"
+        + "\"system_index\": {\"index_permissions\": [{\"index_patterns\": [\".system*\"], "
+        + "\"allowed_actions\": [\"system:admin/system_index\"]}]},"
+        + "\"other_index\": {\"index_permissions\": [{\"index_patterns\": [\"logs\"], \"allowed_actions\": [\"indices:data/read/*\"]}]}"
+        + "}";
+
+    static final String EMPTY_ROLES_MAPPING = "{\"_meta\": {\"type\": \"rolesmapping\", \"config_version\": 2}}";
+    static final String EMPTY_ACTION_GROUPS = "{\"_meta\": {\"type\": \"actiongroups\", \"config_version\": 2}}";
+    static final String EMPTY_TENANTS = "{\"_meta\": {\"type\": \"tenants\", \"config_version\": 2}}";
+
+    final ConfigModel configModel;
+
+    public ConfigModelV7SecurityRolesTest() throws Exception {
+        configModel = new ConfigModelV7(
+            SecurityDynamicConfiguration.fromJson(ROLES, CType.ROLES, 2, 0, 0),
+            SecurityDynamicConfiguration.fromJson(EMPTY_ROLES_MAPPING, CType.ROLESMAPPING, 2, 0, 0),
+            SecurityDynamicConfiguration.fromJson(EMPTY_ACTION_GROUPS, CType.ACTIONGROUPS, 2, 0, 0),
+            SecurityDynamicConfiguration.fromJson(EMPTY_TENANTS, CType.TENANTS, 2, 0, 0),
+            Mockito.mock(DynamicConfigModel.class),
+            Settings.EMPTY,
+            new ReverseDnsCache(Settings.EMPTY)
+        );
+    }
+
+    @Test
+    public void filteredViewsAreCachedPerRoleSet() {
+        final SecurityRoles first = configModel.getSecurityRoles().filter(ImmutableSet.of("monitor", "system_index"));
+        final SecurityRoles second = configModel.getSecurityRoles().filter(ImmutableSet.of("system_index", "monitor"));
+        assertThat(second, sameInstance(first));
+        assertThat(first.getRoleNames(), equalTo(ImmutableSet.of("monitor", "system_index")));
+
+        assertThat(configModel.getSecurityRoles().filter(ImmutableSet.of("monitor")), not(sameInstance(first)));
+    }
+
+    @Test
+    public void clusterPermissionsAreCombined() {
+        final SecurityRoles monitor = configModel.getSecurityRoles().filter(ImmutableSet.of("monitor", "other_index"));
+        assertThat(monitor.impliesClusterPermissionPermission("cluster:monitor/health"), is(true));
+        assertThat(monitor.impliesClusterPermissionPermission("cluster:admin/settings/update"), is(false));
+        assertThat(monitor.hasExplicitClusterPermissionPermission("cluster:monitor/health"), is(true));
+
+        final SecurityRoles all = configModel.getSecurityRoles().filter(ImmutableSet.of("monitor", "all"));
+        assertThat(all.impliesClusterPermissionPermission("cluster:admin/settings/update"), is(true));
+        // a wildcard does not grant permissions explicitly
+        assertThat(all.hasExplicitClusterPermissionPermission("cluster:admin/settings/update"), is(false));
+
+        final SecurityRoles none = configModel.getSecurityRoles().filter(ImmutableSet.of());
+        assertThat(none.impliesClusterPermissionPermission("cluster:monitor/health"), is(false));
+    }
+
+    @Test
+    public void systemIndexPermission() {
+        final SecurityRoles systemIndex = configModel.getSecurityRoles().filter(ImmutableSet.of("system_index", "other_index"));
+        assertThat(systemIndex.isPermittedOnSystemIndex(".system_1"), is(true));
+        // like before, any pattern of the roles counts once one of them grants the system index permission
+        assertThat(systemIndex.isPermittedOnSystemIndex("logs"), is(true));
+        assertThat(systemIndex.isPermittedOnSystemIndex("metrics"), is(false));
+
+        final SecurityRoles otherIndex = configModel.getSecurityRoles().filter(ImmutableSet.of("other_index"));
+        assertThat(otherIndex.isPermittedOnSystemIndex("logs"), is(false));
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+package org.opensearch.security.securityconf;
+
+import java.util.Map;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.securityconf.impl.CType;
+import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
+import org.opensearch.security.support.ReverseDnsCache;
+import org.opensearch.security.user.User;
+
+import org.mockito.Mockito;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class ConfigModelV7TenantsTest {
+
+    static final String ROLES = "{"
+        + "\"_meta\": {\"type\": \"roles\", \"config_version\": 2},"
+        + "\"tenant_rw\": {\"tenant_permissions\": [{\"tenant_patterns\": [\"team_*\"], \"allowed_actions\": [\"kibana_all_write\"]}]},"
+        + "\"tenant_ro\": {\"tenant_permissions\": [{\"tenant_patterns\": [\"team_a\", \"other\"], \"allowed_actions\": [\"kibana_all_read\"]}]},"
+        + "\"tenant_attr\": {\"tenant_permissions\": [{\"tenant_patterns\": [\"${attr.internal.dept}\"], \"allowed_actions\": [\"kibana_all_read\"]}]},"
+        + "\"kibana_user\": {}"
+        + "}";
+
+    static final String ACTION_GROUPS = "{"
+        + "\"_meta\": {\"type\": \"actiongroups\", \"config_version\": 2},"
+        + "\"kibana_all_write\": {\"allowed_actions\": [\"kibana:saved_objects/*/write\", \"kibana:saved_objects/*/read\"]},"
+        + "\"kibana_all_read\": {\"allowed_actions\": [\"kibana:saved_objects/*/read\"]}"
+        + "}";
+
+    static final String TENANTS = "{"
+        + "\"_meta\": {\"type\": \"tenants\", \"config_version\": 2},"
+        + "\"team_a\": {}, \"team_b\": {}, \"other\": {}, \"finance\": {}"
+        + "}";
+
+    static final String ROLES_MAPPING = "{\"_meta\": {\"type\": \"rolesmapping\", \"config_version\": 2}}";
+
+    final ConfigModel configModel;
+
+    public ConfigModelV7TenantsTest() throws Exception {
+        configModel = new ConfigModelV7(
+            SecurityDynamicConfiguration.fromJson(ROLES, CType.ROLES, 2, 0, 0),
+            SecurityDynamicConfiguration.fromJson(ROLES_MAPPING, CType.ROLESMAPPING, 2, 0, 0),
+            SecurityDynamicConfiguration.fromJson(ACTION_GROUPS, CType.ACTIONGROUPS, 2, 0, 0),
+            SecurityDynamicConfiguration.fromJson(TENANTS, CType.TENANTS, 2, 0, 0),
+            Mockito.mock(DynamicConfigModel.class),
+            Settings.EMPTY,
+            new ReverseDnsCache(Settings.EMPTY)
+        );
+    }
+
+    @Test
+    public void readWriteOutperformsReadOnly() {
+        final Map<String, Boolean> tenants = configModel.mapTenants(new User("alice"), ImmutableSet.of("tenant_rw", "tenant_ro"));
+        assertThat(tenants, equalTo(ImmutableMap.of("alice", true, "team_a", true, "team_b", true, "other", false)));
+    }
+
+    @Test
+    public void globalTenantForKibanaUser() {
+        final Map<String, Boolean> tenants = configModel.mapTenants(new User("alice"), ImmutableSet.of("KIBANA_USER"));
+        assertThat(tenants, equalTo(ImmutableMap.of("alice", true, "global_tenant", true)));
+    }
+
+    @Test
+    public void parameterizedTenantIsSubstitutedPerUser() {
+        final User financeUser = new User("bob");
+        financeUser.addAttributes(ImmutableMap.of("attr.internal.dept", "finance"));
+        final User unknownDeptUser = new User("bob");
+        unknownDeptUser.addAttributes(ImmutableMap.of("attr.internal.dept", "does_not_exist"));
+
+        assertThat(
+            configModel.mapTenants(financeUser, ImmutableSet.of("tenant_attr")),
+            equalTo(ImmutableMap.of("bob", true, "finance", false))
+        );
+        assertThat(configModel.mapTenants(unknownDeptUser, ImmutableSet.of("tenant_attr")), equalTo(ImmutableMap.of("bob", true)));
+    }
+
+    @Test
+    public void resultIsCachedPerRoleSetAndUser() {
+        final Map<String, Boolean> first = configModel.mapTenants(new User("carol"), ImmutableSet.of("tenant_rw"));
+        final Map<String, Boolean> second = configModel.mapTenants(new User("carol"), ImmutableSet.of("tenant_rw"));
+        assertThat(second, sameInstance(first));
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.securityconf;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+public class EvaluatedDlsFlsConfigTest {
+
+    private static final String DLS_A = "{\"term\":{\"dept\":\"a\"}}";
+    private static final String DLS_B = "{\"term\":{\"dept\":\"b\"}}";
+
+    @Test
+    public void fingerprintDoesNotDependOnOrder() {
+        final EvaluatedDlsFlsConfig config = new EvaluatedDlsFlsConfig(
+            ordered("logs-*", List.of(DLS_A, DLS_B), "index2", List.of(DLS_A)),
+            ordered("logs-*", List.of("~secret", "~ssn")),
+            ordered("logs-*", List.of("ip", "email"))
+        );
+        final EvaluatedDlsFlsConfig reordered = new EvaluatedDlsFlsConfig(
+            ordered("index2", List.of(DLS_A), "logs-*", List.of(DLS_B, DLS_A)),
+            ordered("logs-*", List.of("~ssn", "~secret")),
+            ordered("logs-*", List.of("email", "ip"))
+        );
+
+        assertThat(config.getFingerprint(), equalTo(reordered.getFingerprint()));
+    }
+
+    @Test
+    public void fingerprintDiffersForDifferentRestrictions() {
+        final Set<String> fingerprints = Set.of(
+            new EvaluatedDlsFlsConfig(Map.of("logs-*", Set.of(DLS_A)), Map.of(), Map.of()).getFingerprint(),
+            new EvaluatedDlsFlsConfig(Map.of("logs-*", Set.of(DLS_B)), Map.of(), Map.of()).getFingerprint(),
+            new EvaluatedDlsFlsConfig(Map.of("logs-a*", Set.of(DLS_A)), Map.of(), Map.of()).getFingerprint(),
+            new EvaluatedDlsFlsConfig(Map.of(), Map.of("logs-*", Set.of(DLS_A)), Map.of()).getFingerprint(),
+            new EvaluatedDlsFlsConfig(Map.of(), Map.of(), Map.of("logs-*", Set.of(DLS_A))).getFingerprint(),
+            EvaluatedDlsFlsConfig.EMPTY.getFingerprint()
+        );
+        assertThat(fingerprints.size(), equalTo(6));
+
+        // values are delimited, so moving characters between pattern and value changes the fingerprint
+        assertThat(
+            new EvaluatedDlsFlsConfig(Map.of("a", Set.of("bc")), Map.of(), Map.of()).getFingerprint(),
+            not(equalTo(new EvaluatedDlsFlsConfig(Map.of("ab", Set.of("c")), Map.of(), Map.of()).getFingerprint()))
+        );
+    }
+
+    private static Map<String, Set<String>> ordered(String pattern, List<String> values) {
+        final Map<String, Set<String>> result = new LinkedHashMap<>();
+        result.put(pattern, new LinkedHashSet<>(values));
+        return result;
+    }
+
+    private static Map<String, Set<String>> ordered(String pattern1, List<String> values1, String pattern2, List<String> values2) {
+        final Map<String, Set<String>> result = ordered(pattern1, values1);
+        result.put(pattern2, new LinkedHashSet<>(values2));
+        return result;
+    }
+}
@@ -48,6 +48,7 @@ import org.opensearch.security.dlic.rest.api.Endpoint;
 import org.opensearch.security.dlic.rest.api.RestApiAdminPrivilegesEvaluator.PermissionBuilder;
 import org.opensearch.security.securityconf.impl.CType;
 import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
+import org.opensearch.security.support.ReverseDnsCache;
 
 import org.mockito.Mockito;
 
@@ -116,7 +117,8 @@ public class SecurityRolesPermissionsTest {
             createActionGroupsConfig(),
             createTenantsConfig(),
             Mockito.mock(DynamicConfigModel.class),
-            Settings.EMPTY
+            Settings.EMPTY,
+            new ReverseDnsCache(Settings.EMPTY)
         );
     }
 
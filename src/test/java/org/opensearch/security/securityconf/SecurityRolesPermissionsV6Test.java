@@ -37,6 +37,7 @@ import org.opensearch.security.resolver.IndexResolverReplacer;
 import org.opensearch.security.securityconf.impl.CType;
 import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
 import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.ReverseDnsCache;
 import org.opensearch.security.user.User;
 
 import org.mockito.quality.Strictness;
@@ -94,7 +95,8 @@ public class SecurityRolesPermissionsV6Test {
             createRoleMappingsConfig(),
             createActionGroupsConfig(),
             mock(DynamicConfigModel.class),
-            Settings.EMPTY
+            Settings.EMPTY,
+            new ReverseDnsCache(Settings.EMPTY)
         );
     }
 
@@ -22,6 +22,8 @@ import org.junit.Test;
 import org.opensearch.security.DefaultObjectMapper;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
@@ -49,4 +51,24 @@ public class SecurityDynamicConfigurationTest {
         SecurityDynamicConfiguration<?> securityDeepClone = securityDynamicConfiguration.deepClone();
         assertThat(securityDeepClone, is(not(equalTo(securityDynamicConfiguration))));
     }
+
+    @Test
+    public void changedEntries_shouldReturnAddedRemovedAndModifiedEntries() throws IOException {
+        final SecurityDynamicConfiguration<?> previous = internalUsers(
+            "{\"alice\": {\"hash\": \"h1\"}, \"bob\": {\"hash\": \"h2\"}, \"carol\": {\"hash\": \"h3\"}}"
+        );
+        final SecurityDynamicConfiguration<?> current = internalUsers(
+            "{\"alice\": {\"hash\": \"h1\"}, \"bob\": {\"hash\": \"h2\", \"backend_roles\": [\"admin\"]}, \"dave\": {\"hash\": \"h4\"}}"
+        );
+
+        assertThat(current.changedEntries(previous), containsInAnyOrder("bob", "carol", "dave"));
+        assertThat(current.changedEntries(current.deepClone()), is(empty()));
+        assertThat(current.changedEntries(null), containsInAnyOrder("alice", "bob", "dave"));
+    }
+
+    private SecurityDynamicConfiguration<?> internalUsers(final String users) throws IOException {
+        final ObjectNode node = (ObjectNode) objectMapper.readTree(users);
+        node.set("_meta", objectMapper.createObjectNode().put("type", CType.INTERNALUSERS.toLCString()).put("config_version", 2));
+        return SecurityDynamicConfiguration.fromJson(objectMapper.writeValueAsString(node), CType.INTERNALUSERS, 2, 1, 1);
+    }
 }
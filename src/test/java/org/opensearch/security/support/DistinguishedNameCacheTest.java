@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.support;
+
+import java.util.List;
+import javax.naming.ldap.LdapName;
+
+import org.junit.Test;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.security.configuration.AdminDNs;
+import org.opensearch.security.http.HTTPClientCertAuthenticator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class DistinguishedNameCacheTest {
+
+    @Test
+    public void attributesAreIndexedInDnOrder() throws Exception {
+        final DistinguishedNameCache cache = new DistinguishedNameCache(Settings.EMPTY);
+
+        final DistinguishedNameCache.ParsedDn dn = cache.parse("CN=node-0,OU=ops,OU=dev,O=example,C=DE");
+
+        assertThat(dn.getLdapName(), equalTo(new LdapName("cn=node-0, ou=ops, ou=dev, o=example, c=de")));
+        assertThat(dn.getAttribute("cn"), equalTo(List.of("node-0")));
+        assertThat(dn.getAttribute("OU"), equalTo(List.of("ops", "dev")));
+        assertThat(dn.getAttribute("l"), equalTo(List.of()));
+    }
+
+    @Test
+    public void parsedDnsAreCached() {
+        final DistinguishedNameCache cache = new DistinguishedNameCache(Settings.EMPTY);
+
+        final DistinguishedNameCache.ParsedDn first = cache.parse("CN=admin,O=example");
+        assertThat(cache.parse("CN=admin,O=example"), sameInstance(first));
+        assertThat(cache.getStats().get("hit_count"), is(1L));
+    }
+
+    @Test
+    public void invalidDnsAreCached() {
+        final DistinguishedNameCache cache = new DistinguishedNameCache(Settings.EMPTY);
+
+        assertThat(cache.parse("not a dn"), nullValue());
+        assertThat(cache.parse("not a dn"), nullValue());
+        assertThat(cache.parse(null), nullValue());
+        assertThat(cache.getStats().get("miss_count"), is(1L));
+        assertThat(cache.getStats().get("hit_count"), is(1L));
+    }
+
+    @Test
+    public void adminDnsAndClientCertAuthenticatorShareTheNodeCache() {
+        final Settings settings = Settings.builder().putList(ConfigConstants.SECURITY_AUTHCZ_ADMIN_DN, "CN=kirk,O=example").build();
+        final DistinguishedNameCache cache = new DistinguishedNameCache(settings);
+
+        final AdminDNs adminDns = new AdminDNs(settings, cache);
+        assertThat(adminDns.isAdminDN("CN=spock,O=example"), is(false));
+        assertThat(cache.getStats().get("miss_count"), is(1L));
+
+        final HTTPClientCertAuthenticator authenticator = new HTTPClientCertAuthenticator(
+            Settings.builder().put("username_attribute", "cn").build(),
+            null
+        );
+        authenticator.setDistinguishedNameCache(cache);
+        final ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+        threadContext.putTransient(ConfigConstants.OPENDISTRO_SECURITY_SSL_PRINCIPAL, "CN=spock,O=example");
+
+        assertThat(authenticator.extractCredentials(null, threadContext).getUsername(), is("spock"));
+        assertThat(cache.getStats().get("miss_count"), is(1L));
+        assertThat(cache.getStats().get("hit_count"), is(1L));
+    }
+}
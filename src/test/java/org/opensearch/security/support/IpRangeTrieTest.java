@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.support;
+
+import java.net.InetAddress;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThrows;
+
+public class IpRangeTrieTest {
+
+    @Test
+    public void isCidr() {
+        assertThat(IpRangeTrie.isCidr("10.0.0.0/8"), is(true));
+        assertThat(IpRangeTrie.isCidr("10.1.2.3/32"), is(true));
+        assertThat(IpRangeTrie.isCidr("0.0.0.0/0"), is(true));
+        assertThat(IpRangeTrie.isCidr("fd00::/8"), is(true));
+        assertThat(IpRangeTrie.isCidr("::1/128"), is(true));
+
+        assertThat(IpRangeTrie.isCidr(null), is(false));
+        assertThat(IpRangeTrie.isCidr("10.0.0.1"), is(false));
+        assertThat(IpRangeTrie.isCidr("10.0.0.*"), is(false));
+        assertThat(IpRangeTrie.isCidr("10.0.0.0/33"), is(false));
+        assertThat(IpRangeTrie.isCidr("::1/129"), is(false));
+        assertThat(IpRangeTrie.isCidr("10.0.0.0/"), is(false));
+        assertThat(IpRangeTrie.isCidr("/10\\.0\\..*/"), is(false));
+        assertThat(IpRangeTrie.isCidr("example.org/8"), is(false));
+    }
+
+    @Test
+    public void returnsAllMatchingRanges() throws Exception {
+        final IpRangeTrie<String> trie = new IpRangeTrie<String>().put("10.0.0.0/8", "a")
+            .put("10.1.0.0/16", "b")
+            .put("10.1.2.3/32", "c")
+            .put("10.1.0.0/16", "d")
+            .put("192.168.0.0/16", "e");
+
+        assertThat(trie.getAll(InetAddress.getByName("10.1.2.3")), containsInAnyOrder("a", "b", "c", "d"));
+        assertThat(trie.getAll(InetAddress.getByName("10.1.2.4")), containsInAnyOrder("a", "b", "d"));
+        assertThat(trie.getAll("10.200.0.1"), containsInAnyOrder("a"));
+        assertThat(trie.getAll("192.168.255.255"), containsInAnyOrder("e"));
+        assertThat(trie.getAll("11.0.0.1"), is(empty()));
+        assertThat(trie.getAll("not-an-ip"), is(empty()));
+        assertThat(trie.matches("10.0.0.1"), is(true));
+        assertThat(trie.matches("172.16.0.1"), is(false));
+    }
+
+    @Test
+    public void ipv6Ranges() throws Exception {
+        final IpRangeTrie<String> trie = IpRangeTrie.fromCidrs(List.of("fd00::/8", "2001:db8::/32", "10.0.0.0/8", "*.example.org"));
+
+        assertThat(trie.size(), is(3));
+        assertThat(trie.getAll("fd12:3456::1"), containsInAnyOrder("fd00::/8"));
+        assertThat(trie.getAll("2001:db8:1::1"), containsInAnyOrder("2001:db8::/32"));
+        assertThat(trie.matches("2001:db9::1"), is(false));
+        // IPv4 and IPv6 ranges are kept apart
+        assertThat(trie.matches("::a00:1"), is(false));
+        // textual IPv4-mapped IPv6 addresses are no IPv4 addresses, like for wildcard patterns
+        assertThat(trie.matches("::ffff:10.0.0.1"), is(false));
+        assertThat(trie.getAll("::ffff:10.0.0.1"), is(empty()));
+        // the JDK already canonicalizes mapped addresses of connections
+        assertThat(trie.matches(InetAddress.getByName("::ffff:10.0.0.1")), is(true));
+    }
+
+    @Test
+    public void catchAllRange() {
+        final IpRangeTrie<String> trie = IpRangeTrie.fromCidrs(List.of("0.0.0.0/0"));
+        assertThat(trie.matches("1.2.3.4"), is(true));
+        assertThat(trie.matches("::1"), is(false));
+    }
+
+    @Test
+    public void invalidRange() {
+        assertThrows(IllegalArgumentException.class, () -> new IpRangeTrie<String>().put("10.0.0.1", "a"));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.support;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import org.opensearch.common.settings.Settings;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void bucketBoundsContainValues() {
+        int previous = -1;
+        for (long micros = 0; micros < 1_000_000; micros = micros < 100 ? micros + 1 : micros * 11 / 10) {
+            final int bucket = LatencyHistogram.bucket(micros);
+            assertThat(bucket, greaterThanOrEqualTo(previous));
+            assertThat(LatencyHistogram.upperBound(bucket), greaterThanOrEqualTo(micros));
+            if (bucket > 0) {
+                assertThat(LatencyHistogram.upperBound(bucket - 1), lessThanOrEqualTo(micros - 1));
+            }
+            // at most 12.5% above the value
+            assertThat((double) LatencyHistogram.upperBound(bucket), lessThanOrEqualTo(micros * 1.125d + 1));
+            previous = bucket;
+        }
+        assertThat(LatencyHistogram.bucket(Long.MAX_VALUE), equalTo(LatencyHistogram.BUCKETS - 1));
+    }
+
+    @Test
+    public void percentiles() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(i));
+        }
+
+        assertThat(histogram.getCount(), equalTo(1000L));
+        assertPercentile(histogram.getPercentileMicros(50), 500);
+        assertPercentile(histogram.getPercentileMicros(99), 990);
+        assertThat(histogram.getPercentileMicros(100), equalTo(1000L));
+
+        final Map<String, Object> stats = histogram.getStats();
+        assertThat(stats.get("count"), equalTo(1000L));
+        assertThat(stats.get("mean_micros"), equalTo(500L));
+        assertThat(stats.get("max_micros"), equalTo(1000L));
+    }
+
+    @Test
+    public void emptyHistogram() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        assertThat(histogram.getPercentileMicros(99), equalTo(0L));
+        assertThat(histogram.getStats().get("mean_micros"), equalTo(0L));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void securityStatsCountsStagesAndDenials() {
+        final SecurityStats stats = new SecurityStats(Settings.EMPTY);
+        stats.end(SecurityStats.Stage.AUTHENTICATION, stats.start());
+        stats.end(SecurityStats.Stage.AUTHENTICATION, stats.start());
+        stats.denied("missing_index_privileges");
+        stats.registerCache("test", () -> Map.of("size", 1));
+
+        final Map<String, Object> result = stats.getStats();
+        final Map<String, Object> stages = (Map<String, Object>) result.get("stages");
+        assertThat(((Map<String, Object>) stages.get("authentication")).get("count"), equalTo(2L));
+        assertThat(((Map<String, Object>) stages.get("audit")).get("count"), equalTo(0L));
+        assertThat(result.get("denials"), equalTo(Map.of("missing_index_privileges", 1L)));
+        assertThat(result.get("caches"), equalTo(Map.of("test", Map.of("size", 1))));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void disabledSecurityStatsRecordNothing() {
+        final SecurityStats stats = new SecurityStats(Settings.builder().put(ConfigConstants.SECURITY_STATS_ENABLED, false).build());
+        stats.end(SecurityStats.Stage.AUTHENTICATION, stats.start());
+        stats.denied("authentication");
+
+        final Map<String, Object> result = stats.getStats();
+        final Map<String, Object> stages = (Map<String, Object>) result.get("stages");
+        assertThat(result.get("enabled"), equalTo(false));
+        assertThat(((Map<String, Object>) stages.get("authentication")).get("count"), equalTo(0L));
+        assertThat(result.get("denials"), equalTo(Map.of()));
+    }
+
+    private static void assertPercentile(long actual, long expected) {
+        assertThat(actual, greaterThanOrEqualTo(expected));
+        assertThat((double) actual, lessThanOrEqualTo(expected * 1.125d));
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.support;
+
+import java.net.InetAddress;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.opensearch.common.settings.Settings;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+public class ReverseDnsCacheTest {
+
+    private ReverseDnsCache cache;
+
+    @After
+    public void tearDown() {
+        if (cache != null) {
+            cache.close();
+        }
+    }
+
+    @Test
+    public void knownHostNameDoesNotTriggerLookup() throws Exception {
+        cache = new ReverseDnsCache(Settings.EMPTY);
+        final InetAddress address = InetAddress.getByAddress("example.org", new byte[] { 10, 0, 0, 1 });
+
+        assertThat(cache.getHostName(address), equalTo("example.org"));
+        assertThat(cache.getStats().get("lookups"), equalTo(0L));
+        assertThat(cache.getStats().get("misses"), equalTo(0L));
+    }
+
+    @Test
+    public void nullAddress() {
+        cache = new ReverseDnsCache(Settings.EMPTY);
+        assertThat(cache.getHostName(null), is(nullValue()));
+    }
+
+    @Test
+    public void lookupIsCached() throws Exception {
+        cache = new ReverseDnsCache(Settings.EMPTY);
+        final InetAddress loopback = InetAddress.getByAddress(new byte[] { 127, 0, 0, 1 });
+
+        final String hostName = cache.getHostName(loopback);
+        assertThat(hostName, is(notNullValue()));
+        assertThat(cache.getHostName(InetAddress.getByAddress(new byte[] { 127, 0, 0, 1 })), equalTo(hostName));
+        assertThat(cache.getStats().get("misses"), equalTo(1L));
+        assertThat(cache.getStats().get("hits"), equalTo(1L));
+        assertThat(cache.getStats().get("lookups"), equalTo(1L));
+    }
+
+    @Test
+    public void firstRequestWaitsForLookupByDefault() throws Exception {
+        cache = new ReverseDnsCache(Settings.EMPTY);
+        final InetAddress loopback = InetAddress.getByAddress(new byte[] { 127, 0, 0, 1 });
+
+        // a cold cache gives the same answer as a warm one
+        assertThat(cache.getHostName(loopback), is(notNullValue()));
+        assertThat(cache.getStats().get("timeouts"), equalTo(0L));
+    }
+
+    @Test
+    public void requestDoesNotWaitWithoutTimeoutBudget() throws Exception {
+        cache = new ReverseDnsCache(
+            Settings.builder()
+                .put(ConfigConstants.SECURITY_DNS_CACHE_THREADS, 1)
+                .put(ConfigConstants.SECURITY_DNS_CACHE_TIMEOUT_MILLIS, 0)
+                .build()
+        );
+        // a documentation-only address (RFC 5737), the reverse lookup is either slow or fails
+        final InetAddress address = InetAddress.getByAddress(new byte[] { (byte) 192, 0, 2, 1 });
+
+        final long start = System.nanoTime();
+        cache.getHostName(address);
+        assertThat((System.nanoTime() - start) < 1_000_000_000L, is(true));
+    }
+
+    @Test
+    public void expiredNegativeEntryIsServedDuringRefresh() throws Exception {
+        cache = new ReverseDnsCache(
+            Settings.builder()
+                .put(ConfigConstants.SECURITY_DNS_CACHE_THREADS, 1)
+                .put(ConfigConstants.SECURITY_DNS_CACHE_NEGATIVE_TTL_SECONDS, 0)
+                .put(ConfigConstants.SECURITY_DNS_CACHE_TIMEOUT_MILLIS, 0)
+                .build()
+        );
+        final InetAddress address = InetAddress.getByAddress(new byte[] { (byte) 192, 0, 2, 1 });
+
+        assertThat(cache.getHostName(address), is(nullValue()));
+        assertThat(cache.getStats().get("timeouts"), equalTo(1L));
+        final long deadline = System.nanoTime() + 60_000_000_000L;
+        while ((Long) cache.getStats().get("lookups") == 0L && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(cache.getStats().get("lookups"), equalTo(1L));
+        // the lookup is counted right before it completes
+        Thread.sleep(100);
+
+        // the negative entry has expired, it is served while it is refreshed instead of waiting for the lookup
+        assertThat(cache.getHostName(address), is(nullValue()));
+        assertThat(cache.getStats().get("timeouts"), equalTo(1L));
+        assertThat(cache.getStats().get("negative_hits"), equalTo(1L));
+    }
+}